@@ -1,3 +1,4 @@
-module TETRIS {
-	requires java.desktop;
+module TETRIS {
+	requires java.desktop;
+	requires jdk.management; // 벤치마크 실행기의 스레드별 할당량 측정 (com.sun.management)
 }
\ No newline at end of file
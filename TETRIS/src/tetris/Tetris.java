@@ -1,25 +1,67 @@
-package tetris;
-
-import tetris.logic.TetrisEngine;
-import tetris.player.PlayerManager;
-
-/** 테트리스 게임 실행기 (Entry Point) */
-public class Tetris {
-
-	// 프로그램 시작점
-	public static void main(String[] args) throws InterruptedException {
-		// 플레이어 및 게임 엔진 관리자 생성
-		PlayerManager player = new PlayerManager();
-		// 실제 게임 로직을 처리하는 엔진 가져오기
-		TetrisEngine gameEngine = player.getGameEngine();
-
-		// 게임 실행 및 예외 처리
-		try {
-			// 게임 시작
-			gameEngine.startTetris();
-		} catch (Exception e) {
-			System.err.println("게임 실행 중 오류 발생: " + e.getMessage());
-			e.printStackTrace();
-		}
-	}
-}
\ No newline at end of file
+package tetris;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import tetris.logic.TetrisEngine;
+import tetris.logic.replay.ReplayRecorder;
+import tetris.player.PlayerManager;
+import tetris.player.bot.BeamSearchBot;
+
+/**
+ * 테트리스 게임 실행기 (Entry Point)
+ * 인자로 파일 경로를 주면 이번 실행의 모든 입력을 리플레이로 기록해, 종료할 때 그 파일에 저장.
+ * -Dtetris.bot.pps=N을 주면 빔 탐색 봇이 초당 최대 N개(0이면 제한 없음)의 속도로 대신 플레이함.
+ */
+public class Tetris {
+
+	// 프로그램 시작점
+	public static void main(String[] args) throws InterruptedException {
+		// 플레이어 및 게임 엔진 관리자 생성
+		PlayerManager player = new PlayerManager();
+		// 실제 게임 로직을 처리하는 엔진 가져오기
+		TetrisEngine gameEngine = player.getGameEngine();
+
+		// 리플레이 기록 (게임 시작 전에 연결해야 함)
+		if (args.length > 0) {
+			recordReplay(gameEngine, args[0]);
+		}
+
+		// 게임 실행 및 예외 처리
+		try {
+			// 게임 시작
+			gameEngine.startTetris();
+
+			// 봇 플레이 (게임 루프가 시작된 뒤에 붙여야 함)
+			String botPps = System.getProperty("tetris.bot.pps");
+			if (botPps != null) {
+				startBot(gameEngine, Double.parseDouble(botPps));
+			}
+		} catch (Exception e) {
+			System.err.println("게임 실행 중 오류 발생: " + e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/** 실행 중인 게임에 빔 탐색 봇을 붙임. 게임 오버가 되면 봇이 바로 재시작함. */
+	private static void startBot(TetrisEngine gameEngine, double piecesPerSecond) {
+		BeamSearchBot bot = new BeamSearchBot(gameEngine);
+		bot.setPiecesPerSecond(piecesPerSecond);
+		bot.setRestartOnGameOver(true);
+		bot.start();
+	}
+
+	/** 엔진에 리플레이 기록기를 붙이고, 프로그램이 끝날 때 게임 루프를 멈춘 뒤 파일로 저장. */
+	private static void recordReplay(TetrisEngine gameEngine, String path) {
+		ReplayRecorder recorder = ReplayRecorder.attach(gameEngine);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			gameEngine.getGameLoop().stop(); // 기록 중인 루프 스레드가 끝날 때까지 기다림
+			try {
+				recorder.finish().save(Paths.get(path));
+			} catch (IOException e) {
+				System.err.println("리플레이 저장 중 오류 발생: " + e.getMessage());
+				e.printStackTrace();
+			}
+		}, "TetrisReplaySaver"));
+	}
+}
@@ -0,0 +1,167 @@
+package tetris.bench;
+
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.SPAWN_Y;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import com.sun.management.ThreadMXBean;
+
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.TetrominoMover;
+
+/**
+ * 정상 상태(steady state) 핫 패스가 할당을 하지 않는지 확인하는 검사 도구 (회귀 검사, 할당이 있으면 종료 코드 1).
+ * 시드 고정 헤드리스 게임에서 블록마다 입력 -> 이동/회전 -> 충돌 검사 -> 화면 스냅샷 공개 -> 고정 -> 줄 제거 -> 다음 블록 생성을
+ * 한 바퀴 돌리고, 그동안 현재 스레드가 할당한 바이트를 스레드별 할당 카운터(ThreadMXBean)로 잼 (BenchmarkRunner의 B/op와 같은 값).
+ * 조작은 모두 엔진의 perform()을 거치며, 입력 하나마다 canMove(), getHardDropY()를 부르고 update()로 프레임을 진행함
+ * (update()가 스냅샷을 공개하므로 화면 스냅샷 구성도 함께 측정됨).
+ * 블록은 가장 낮게 떨어지는 자리를 골라 놓으므로 줄 제거도 섞임. 게임 오버가 된 블록과 재시작은 정상 상태가 아니므로 측정에서 뺌.
+ *
+ * 작업(op) 하나는 블록 하나. 측정 라운드 중 가장 적게 할당한 라운드의 B/op가 0이 아니면 실패로 봄.
+ * 코드가 할당하는 경로는 라운드마다 다시 지나므로 모든 라운드에 나타나지만, JIT 재컴파일 같은 JVM 내부 사건이
+ * 가끔 수십 바이트를 현재 스레드 몫으로 남기는 것은 한 라운드에만 나타나므로 최솟값으로 걸러 냄.
+ *
+ * 사용법: AllocationCheck [옵션]
+ *   -p, --pieces N     라운드 하나에 놓을 블록 수 (기본 2000)
+ *   -wi N              워밍업 라운드 수 (기본 5, 측정하지 않음)
+ *   -i N               측정 라운드 수 (기본 5)
+ *   -s, --seed N       블록 순서를 정하는 시드 (기본 1)
+ */
+public final class AllocationCheck {
+
+    // --- Constants ---
+    private static final long DEFAULT_SEED = 1L;
+    private static final int ROTATION_COUNT = 4;
+
+    // --- Instance Fields ---
+    private final TetrisEngine engine;
+    private final TetrominoState state;
+    private final CollisionChecker checker;
+    private final TetrominoMover mover;
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private long sink; // 결과 값을 모아 JIT가 검사 호출을 지우지 못하게 함
+
+    // --- Constructor ---
+    private AllocationCheck(long seed) {
+        this.engine = new TetrisEngine(new DataManager(seed));
+        DataManager data = engine.getDataManager();
+        this.state = data.getTetrominoState();
+        this.checker = engine.getCollisionChecker();
+        this.mover = engine.getTetrominoMover();
+        engine.startHeadless();
+    }
+
+    // --- Main ---
+    public static void main(String[] args) {
+        int pieces = 2_000;
+        int warmup = 5;
+        int rounds = 5;
+        long seed = DEFAULT_SEED;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-p": case "--pieces": pieces = Integer.parseInt(args[++i]); break;
+                case "-wi": warmup = Integer.parseInt(args[++i]); break;
+                case "-i": rounds = Integer.parseInt(args[++i]); break;
+                case "-s": case "--seed": seed = Long.parseLong(args[++i]); break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        if (pieces <= 0 || warmup < 0 || rounds <= 0) {
+            throw new IllegalArgumentException("pieces and rounds must be > 0, warmup must be >= 0");
+        }
+
+        AllocationCheck check = new AllocationCheck(seed);
+        System.out.printf(Locale.ROOT, "allocation check seed=%d pieces=%d warmup=%d rounds=%d%n", seed, pieces, warmup, rounds);
+        double best = Double.MAX_VALUE;
+        for (int round = 1; round <= warmup + rounds; round++) {
+            boolean measured = round > warmup;
+            long[] result = check.playRound(pieces);
+            double bytesPerOp = result[1] == 0 ? 0 : (double) result[0] / result[1];
+            if (measured) best = Math.min(best, bytesPerOp);
+            System.out.printf(Locale.ROOT, "%-7s %3d  pieces=%6d  bytes=%10d  B/op=%8.3f  topouts=%d%n",
+                    measured ? "measure" : "warmup", round, result[1], result[0], bytesPerOp, result[2]);
+        }
+        boolean passed = best == 0;
+        System.out.printf(Locale.ROOT, "%-4s B/op=%.3f after warm-up (sink %d)%n", passed ? "ok" : "FAIL", best, check.sink);
+        if (!passed) System.exit(1);
+    }
+
+    // --- Private Methods ---
+    /**
+     * 블록 pieces개를 놓고 {측정한 할당 바이트, 측정한 블록 수, 게임 오버 수}를 반환.
+     * 측정 구간에서는 결과 배열도 만들지 않도록, 배열은 구간 밖에서 만듦.
+     */
+    private long[] playRound(int pieces) {
+        long[] result = new long[3];
+        for (int i = 0; i < pieces; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            playPiece();
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            if (engine.isPlaying()) {
+                result[0] += allocated;
+                result[1]++;
+            } else {
+                // 게임 오버가 된 블록은 측정에서 빼고 재시작
+                result[2]++;
+                engine.perform(PlayerAction.RESTART);
+            }
+            while (engine.isPlaying() && engine.isSpawnDelayed()) {
+                engine.update();
+            }
+        }
+        return result;
+    }
+
+    /** 현재 블록을 목표 자리로 회전/이동시킨 뒤 하드 드롭하고, 줄 제거와 다음 블록 생성까지 진행. */
+    private void playPiece() {
+        int target = chooseTarget();
+        int rotation = TetrominoState.unpackRotation(target);
+        int x = TetrominoState.unpackX(target);
+
+        for (int r = 0; r < ROTATION_COUNT && state.getRotation().ordinal() != rotation; r++) {
+            step(PlayerAction.ROTATE_CW);
+        }
+        for (int moves = 0; moves < FIELD_X_COUNT && state.getX() != x; moves++) {
+            int before = state.getX();
+            step(before < x ? PlayerAction.MOVE_RIGHT : PlayerAction.MOVE_LEFT);
+            if (state.getX() == before) break; // 벽이나 스택에 막힘
+        }
+        engine.perform(PlayerAction.HARD_DROP);
+        engine.update();
+    }
+
+    /** 조작 하나를 처리하고, 화면이 매 프레임 묻는 충돌 검사와 고스트 위치를 계산한 뒤 프레임을 진행. */
+    private void step(PlayerAction action) {
+        engine.perform(action);
+        if (mover.canMove(0, 1)) sink++;
+        sink += mover.getHardDropY();
+        engine.update();
+    }
+
+    /** 생성 높이에서 가장 낮게 떨어지는 (회전, x)를 packed 값으로 반환 (스택이 고르게 쌓여 줄이 지워짐). */
+    private int chooseTarget() {
+        int type = state.getCurrentTetromino().ordinal();
+        int best = state.getPacked();
+        int bestY = Integer.MIN_VALUE;
+        for (int rotation = 0; rotation < ROTATION_COUNT; rotation++) {
+            for (int x = -2; x < FIELD_X_COUNT; x++) {
+                if (!checker.canPlace(TetrominoGeometry.shapeMask(type, rotation), x, SPAWN_Y)) continue;
+                int packed = TetrominoState.pack(type, rotation, x, SPAWN_Y);
+                int y = mover.getHardDropY(packed);
+                if (y > bestY) {
+                    bestY = y;
+                    best = packed;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,37 @@
+package tetris.bench;
+
+import java.util.function.Supplier;
+
+/**
+ * 측정할 작업 하나 (이름 + 상태 준비).
+ * 상태는 측정 전에 한 번 준비하고, 같은 상태로 워밍업과 측정 반복을 모두 수행함 (JMH의 Level.Trial과 같음).
+ */
+public final class Benchmark {
+
+    // --- Inner Interface ---
+    /**
+     * 준비된 상태에서 작업을 ops번 반복하는 측정 대상.
+     * 반복 루프를 구현체 안에 두므로 호출 오버헤드는 측정 반복당 한 번뿐임.
+     * 결과 값은 실행기가 모아 두므로, JIT가 작업을 지워 버리지 않도록 계산 결과를 섞어서 반환해야 함.
+     */
+    @FunctionalInterface
+    public interface Op {
+        long run(int ops);
+    }
+
+    // --- Instance Fields ---
+    private final String name;            // 결과 표와 기준값 파일에 쓰이는 이름
+    private final Supplier<Op> setup;     // 시드가 고정된 상태를 준비해 측정 대상을 만듦
+
+    // --- Constructor ---
+    public Benchmark(String name, Supplier<Op> setup) {
+        this.name = name;
+        this.setup = setup;
+    }
+
+    // --- Public Methods ---
+    public String getName() { return name; }
+
+    /** 상태를 새로 준비해 측정 대상을 반환. */
+    public Op setup() { return setup.get(); }
+}
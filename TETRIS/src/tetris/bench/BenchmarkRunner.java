@@ -0,0 +1,293 @@
+package tetris.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * 엔진 벤치마크 실행기.
+ * 벤치마크마다 새 JVM을 띄워(fork) 다른 벤치마크의 JIT 프로파일이 섞이지 않게 하고,
+ * 워밍업 반복 뒤 측정 반복마다 작업당 시간(ns/op)과 작업당 할당량(B/op)을 잼.
+ * 할당량은 스레드별 할당 카운터로 재므로 JMH GC 프로파일러의 gc.alloc.rate.norm과 같은 값.
+ *
+ * 사용법: BenchmarkRunner [옵션]
+ *   -f, --filter REGEX    이름이 REGEX에 맞는 벤치마크만 실행
+ *   -wi N                 워밍업 반복 수 (기본 5)
+ *   -i N                  측정 반복 수 (기본 5)
+ *   -r MS                 반복 하나의 길이 (기본 500ms)
+ *   --forks N             0이면 한 JVM 안에서 모두 실행 (기본 1)
+ *   --baseline FILE       기준값 파일과 비교해 변화율을 함께 출력
+ *   --save FILE           이번 결과를 기준값 파일로 저장
+ *   --list                벤치마크 이름만 출력
+ */
+public final class BenchmarkRunner {
+
+    // --- Constants ---
+    private static final String RESULT_PREFIX = "#RESULT\t";     // 자식 JVM이 결과를 넘길 때 쓰는 줄 머리
+    private static final long CALIBRATION_NANOS = 10_000_000L;  // 반복 크기를 정할 때 목표로 하는 최소 시간
+
+    // 측정 중 결과 값을 모아 두는 곳 (JIT가 계산을 지우지 못하게 함)
+    private static volatile long sink;
+
+    // --- Instance Fields ---
+    private String filter = ".*";
+    private int warmupIterations = 5;
+    private int iterations = 5;
+    private long iterationNanos = 500_000_000L;
+    private int forks = 1;
+    private Path baselineFile;
+    private Path saveFile;
+    private boolean listOnly = false;
+    private boolean child = false;
+
+    // --- Constructor ---
+    private BenchmarkRunner() {}
+
+    // --- Main ---
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parseArgs(args);
+        runner.runAll();
+    }
+
+    // --- Private Methods: Execution ---
+    /** 필터에 맞는 벤치마크를 차례로 실행하고 결과 표를 출력. */
+    private void runAll() throws IOException, InterruptedException {
+        Pattern pattern = Pattern.compile(filter);
+        List<Benchmark> selected = new ArrayList<>();
+        for (Benchmark b : EngineBenchmarks.all()) {
+            if (pattern.matcher(b.getName()).find()) selected.add(b);
+        }
+        if (listOnly) {
+            for (Benchmark b : selected) System.out.println(b.getName());
+            return;
+        }
+
+        if (child) {
+            // 부모가 넘긴 벤치마크 하나만 측정하고 결과 줄을 출력
+            for (Benchmark b : selected) System.out.println(RESULT_PREFIX + measure(b).toLine());
+            return;
+        }
+
+        Map<String, Result> baseline = baselineFile == null ? Map.of() : readResults(baselineFile);
+        List<Result> results = new ArrayList<>();
+        System.out.printf(Locale.ROOT, "%-42s %12s %10s %14s %10s%s%n", "Benchmark", "ns/op", "+- sd", "ops/s", "B/op",
+                baseline.isEmpty() ? "" : "   vs baseline");
+        for (Benchmark b : selected) {
+            Result r = forks > 0 ? measureInFork(b) : measure(b);
+            results.add(r);
+            System.out.printf(Locale.ROOT, "%-42s %12.2f %10.2f %14.0f %10.1f%s%n", r.name, r.nsPerOp, r.nsError,
+                    1e9 / r.nsPerOp, r.bytesPerOp, compare(r, baseline.get(r.name)));
+        }
+
+        if (saveFile != null) {
+            writeResults(saveFile, results);
+            System.out.println("Saved baseline to " + saveFile);
+        }
+    }
+
+    /** 현재 JVM에서 벤치마크 하나를 측정. */
+    private Result measure(Benchmark benchmark) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Benchmark.Op op = benchmark.setup();
+        int batch = calibrate(op);
+        // 반복 하나가 대략 iterationNanos가 되도록 작업 수를 정함
+        int opsPerIteration = batch;
+        long elapsed = timeBatch(op, batch);
+        if (elapsed > 0) {
+            opsPerIteration = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (double) batch * iterationNanos / elapsed));
+        }
+
+        for (int i = 0; i < warmupIterations; i++) {
+            timeBatch(op, opsPerIteration);
+        }
+
+        double[] nsPerOp = new double[iterations];
+        double bytesPerOp = 0;
+        for (int i = 0; i < iterations; i++) {
+            long allocBefore = threads.getCurrentThreadAllocatedBytes();
+            long nanos = timeBatch(op, opsPerIteration);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocBefore;
+            nsPerOp[i] = (double) nanos / opsPerIteration;
+            bytesPerOp += (double) allocated / opsPerIteration;
+        }
+        return new Result(benchmark.getName(), mean(nsPerOp), stddev(nsPerOp), bytesPerOp / iterations);
+    }
+
+    /** 벤치마크 하나를 새 JVM에서 측정하고 결과 줄을 읽어 옴. forks가 여러 번이면 평균을 냄. */
+    private Result measureInFork(Benchmark benchmark) throws IOException, InterruptedException {
+        double ns = 0, error = 0, bytes = 0;
+        for (int f = 0; f < forks; f++) {
+            List<String> command = childCommand(benchmark.getName());
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            Result result = null;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        result = Result.parse(line.substring(RESULT_PREFIX.length()));
+                    } else {
+                        System.out.println("  [fork] " + line);
+                    }
+                }
+            }
+            int exit = process.waitFor();
+            if (result == null) {
+                throw new IllegalStateException("fork for " + benchmark.getName() + " exited with " + exit + " and no result");
+            }
+            ns += result.nsPerOp;
+            error += result.nsError;
+            bytes += result.bytesPerOp;
+        }
+        return new Result(benchmark.getName(), ns / forks, error / forks, bytes / forks);
+    }
+
+    /** 같은 JVM 실행 파일과 클래스/모듈 경로로 자식 실행기를 띄우는 명령을 만듦. */
+    private List<String> childCommand(String name) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Djava.awt.headless=true");
+        Module module = BenchmarkRunner.class.getModule();
+        if (module.isNamed()) {
+            command.add("--module-path");
+            command.add(System.getProperty("jdk.module.path"));
+            command.add("--module");
+            command.add(module.getName() + "/" + BenchmarkRunner.class.getName());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(BenchmarkRunner.class.getName());
+        }
+        command.add("--child");
+        command.add("-f");
+        command.add("^" + Pattern.quote(name) + "$");
+        command.add("-wi");
+        command.add(String.valueOf(warmupIterations));
+        command.add("-i");
+        command.add(String.valueOf(iterations));
+        command.add("-r");
+        command.add(String.valueOf(iterationNanos / 1_000_000L));
+        return command;
+    }
+
+    /** 한 번 실행에 CALIBRATION_NANOS 이상 걸리는 작업 수를 찾음. */
+    private static int calibrate(Benchmark.Op op) {
+        int batch = 1;
+        while (batch < (1 << 30) && timeBatch(op, batch) < CALIBRATION_NANOS) {
+            batch <<= 1;
+        }
+        return batch;
+    }
+
+    /** 작업을 ops번 실행하는 데 걸린 시간(nanos). */
+    private static long timeBatch(Benchmark.Op op, int ops) {
+        long start = System.nanoTime();
+        long value = op.run(ops);
+        long elapsed = System.nanoTime() - start;
+        sink ^= value;
+        return elapsed;
+    }
+
+    // --- Private Methods: Options & Files ---
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-f": case "--filter": filter = args[++i]; break;
+                case "-wi": warmupIterations = Integer.parseInt(args[++i]); break;
+                case "-i": iterations = Math.max(1, Integer.parseInt(args[++i])); break;
+                case "-r": iterationNanos = Long.parseLong(args[++i]) * 1_000_000L; break;
+                case "--forks": forks = Integer.parseInt(args[++i]); break;
+                case "--baseline": baselineFile = Paths.get(args[++i]); break;
+                case "--save": saveFile = Paths.get(args[++i]); break;
+                case "--list": listOnly = true; break;
+                case "--child": child = true; break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /** 기준값 파일을 읽음. '#'으로 시작하는 줄은 주석. */
+    private static Map<String, Result> readResults(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+            Result r = Result.parse(line);
+            results.put(r.name, r);
+        }
+        return results;
+    }
+
+    private static void writeResults(Path file, List<Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# BenchmarkRunner --save " + file.getFileName() + " (compare with --baseline)");
+        lines.add("# name\tns/op\tsd\tB/op");
+        lines.add("# java " + System.getProperty("java.version") + ", " + System.getProperty("os.arch")
+                + ", " + Runtime.getRuntime().availableProcessors() + " cpu");
+        for (Result r : results) lines.add(r.toLine());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /** 기준값 대비 시간 변화율과 할당량 변화를 문자열로. */
+    private static String compare(Result r, Result base) {
+        if (base == null) return "";
+        double change = (r.nsPerOp - base.nsPerOp) / base.nsPerOp * 100;
+        return String.format(Locale.ROOT, "   %+7.1f%%  (%.2f ns, %.1f B)", change, base.nsPerOp, base.bytesPerOp);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double v : values) sum += v;
+        return sum / values.length;
+    }
+
+    private static double stddev(double[] values) {
+        if (values.length < 2) return 0;
+        double m = mean(values);
+        double sum = 0;
+        for (double v : values) sum += (v - m) * (v - m);
+        return Math.sqrt(sum / (values.length - 1));
+    }
+
+    // --- Inner Class ---
+    /** 벤치마크 하나의 측정 결과. */
+    private static final class Result {
+        final String name;
+        final double nsPerOp;    // 작업당 평균 시간
+        final double nsError;    // 측정 반복 간 표준편차
+        final double bytesPerOp; // 작업당 평균 할당량
+
+        Result(String name, double nsPerOp, double nsError, double bytesPerOp) {
+            this.name = name;
+            this.nsPerOp = nsPerOp;
+            this.nsError = nsError;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        String toLine() {
+            return String.format(Locale.ROOT, "%s\t%.3f\t%.3f\t%.2f", name, nsPerOp, nsError, bytesPerOp);
+        }
+
+        static Result parse(String line) {
+            String[] parts = line.split("\t");
+            if (parts.length < 4) {
+                throw new IllegalArgumentException("malformed result line: " + line);
+            }
+            return new Result(parts[0], Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                    Double.parseDouble(parts[3]));
+        }
+    }
+}
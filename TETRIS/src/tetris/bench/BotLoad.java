@@ -0,0 +1,86 @@
+package tetris.bench;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+import tetris.logic.scoring.ScoreManager;
+import tetris.player.PlayerManager;
+import tetris.player.bot.BeamSearchBot;
+import tetris.player.bot.HeuristicEvaluator;
+
+/**
+ * 빔 탐색 봇으로 헤드리스 게임을 시간 제한 없이 진행하는 부하 생성기 (엔진 스트레스 테스트).
+ * 봇은 InputHandler와 같은 조작을 엔진의 perform()으로 보내므로, 이동/회전/홀드/소프트 드롭/하드 드롭,
+ * 락 딜레이, 줄 제거, 게임 오버와 재시작까지 실제 게임과 같은 경로를 최대 속도로 반복해서 지남.
+ * 일정 블록 수마다 처리량(블록/초, 조작/초, 평가한 국면/초)과 게임 결과를 출력함.
+ *
+ * 사용법: BotLoad [옵션]
+ *   -p, --pieces N     놓을 블록 수 (기본 10000)
+ *   -s, --seed N       블록 순서를 정하는 가방 시드 (기본 1)
+ *   -w, --width N      빔 폭 (기본 BeamSearchBot.DEFAULT_BEAM_WIDTH)
+ *   -t, --threads N    빔 펼치기 fork-join 스레드 수 (기본 CPU 코어 수, 1 = 탐색 스레드에서 순차 실행)
+ *   -r, --report N     이 블록 수마다 중간 결과를 출력 (기본 1000)
+ */
+public final class BotLoad {
+
+    // --- Constants ---
+    private static final long DEFAULT_SEED = 1L;
+
+    // --- Constructor ---
+    private BotLoad() {}
+
+    // --- Main ---
+    public static void main(String[] args) {
+        int pieces = 10_000;
+        long seed = DEFAULT_SEED;
+        int width = BeamSearchBot.DEFAULT_BEAM_WIDTH;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int report = 1_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-p": case "--pieces": pieces = Integer.parseInt(args[++i]); break;
+                case "-s": case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "-w": case "--width": width = Integer.parseInt(args[++i]); break;
+                case "-t": case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "-r": case "--report": report = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+        if (pieces <= 0 || report <= 0) {
+            throw new IllegalArgumentException("pieces and report must be > 0");
+        }
+
+        PlayerManager player = new PlayerManager(true, seed);
+        TetrisEngine engine = player.getGameEngine();
+        LongAdder gameOvers = new LongAdder();
+        engine.setActionObserver((frame, action) -> {
+            if (action == PlayerAction.RESTART) gameOvers.increment();
+        });
+        engine.startHeadless();
+
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        try {
+            BeamSearchBot bot = new BeamSearchBot(engine, new HeuristicEvaluator(), width, pool);
+            bot.setRestartOnGameOver(true);
+            System.out.printf(Locale.ROOT, "botload seed=%d width=%d threads=%d pieces=%d%n", seed, width, threads, pieces);
+            System.out.printf(Locale.ROOT, "%10s %10s %12s %14s %8s %8s %12s %9s%n",
+                    "pieces", "pieces/s", "actions/s", "evals/s", "lines", "t-spins", "score", "topouts");
+
+            long start = System.nanoTime();
+            int played = 0;
+            while (played < pieces) {
+                played += bot.playPieces(Math.min(report, pieces - played));
+                double seconds = (System.nanoTime() - start) / 1e9;
+                ScoreManager s = engine.getScoreManager();
+                System.out.printf(Locale.ROOT, "%10d %10.1f %12.0f %14.0f %8d %8d %12d %9d%n", played,
+                        played / seconds, bot.getActionCount() / seconds, bot.getEvaluatedCount() / seconds,
+                        s.getTotalClearedLine(), s.getTSpinCount(), s.getScore(), gameOvers.sum());
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package tetris.bench;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.SPAWN_Y;
+import static tetris.data.constant.Tetromino.TETROMINO_TYPE_COUNT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoBag;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+import tetris.logic.core.WELL1024a;
+import tetris.logic.data.DataManager;
+import tetris.logic.field.CascadeHandler;
+import tetris.logic.scoring.ScoreManager;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.MoveGenerator;
+import tetris.logic.tetromino.Spin;
+import tetris.logic.tetromino.TetrominoMover;
+
+/**
+ * 엔진 핫 패스 벤치마크 모음.
+ * 모든 보드는 시드로 만든 게임에서 블록을 실제로 떨어뜨려 쌓으므로, 같은 시드면 항상 같은 보드에서 측정함.
+ * - shallow: 스택 높이 약 4줄 (게임 초중반)
+ * - tall: 스택 높이 약 14줄 (위기 상황, 줄 제거 시 옮길 줄이 많음)
+ */
+public final class EngineBenchmarks {
+
+    // --- Constants ---
+    private static final long SEED = 0x7E7215L;     // 모든 벤치마크가 공유하는 기준 시드
+    private static final int SHALLOW_HEIGHT = 4;    // 얕은 스택 높이
+    private static final int TALL_HEIGHT = 14;      // 높은 스택 높이
+    private static final int QUERY_COUNT = 1024;    // 미리 만들어 두는 질의 수 (2의 거듭제곱)
+    private static final int QUERY_MASK = QUERY_COUNT - 1;
+    private static final int TOTAL_Y_SIZE = BUFFER_ZONE + FIELD_Y_COUNT;
+    private static final int WELL_X = FIELD_X_COUNT - 1; // 줄 제거 벤치마크에서 비워 두는 열
+
+    // --- Constructor ---
+    private EngineBenchmarks() {}
+
+    // --- Public Static Methods ---
+    /** 모든 벤치마크를 실행 순서대로 반환. */
+    public static List<Benchmark> all() {
+        List<Benchmark> list = new ArrayList<>();
+        list.add(new Benchmark("CollisionChecker.canPlace:shallow", () -> canPlace(SHALLOW_HEIGHT)));
+        list.add(new Benchmark("CollisionChecker.canPlace:tall", () -> canPlace(TALL_HEIGHT)));
+        list.add(new Benchmark("TetrominoMover.getHardDropY:shallow", () -> hardDropY(SHALLOW_HEIGHT)));
+        list.add(new Benchmark("TetrominoMover.getHardDropY:tall", () -> hardDropY(TALL_HEIGHT)));
+        list.add(new Benchmark("Spin.spin:kicks", EngineBenchmarks::spinWithKicks));
+        for (int lines = 1; lines <= 4; lines++) {
+            int k = lines;
+            list.add(new Benchmark("CascadeHandler.cascade:" + k + "-lines:shallow", () -> cascade(k, SHALLOW_HEIGHT)));
+            list.add(new Benchmark("CascadeHandler.cascade:" + k + "-lines:tall", () -> cascade(k, TALL_HEIGHT)));
+        }
+        list.add(new Benchmark("TetrominoBag.advanceBag", EngineBenchmarks::advanceBag));
+        list.add(new Benchmark("ScoreManager.updateScore", EngineBenchmarks::updateScore));
+        list.add(new Benchmark("TetrisEngine.lockCycle", EngineBenchmarks::lockCycle));
+        list.add(new Benchmark("TetrisEngine.publishSnapshot:tall", EngineBenchmarks::publishSnapshot));
+        list.add(new Benchmark("MoveGenerator.generate:shallow", () -> generateMoves(SHALLOW_HEIGHT)));
+        list.add(new Benchmark("MoveGenerator.generate:tall", () -> generateMoves(TALL_HEIGHT)));
+        return list;
+    }
+
+    // --- Private Static Methods: Benchmarks ---
+    /** 스택 근처의 무작위 위치에 무작위 블록을 놓을 수 있는지 검사 (성공/실패가 섞임). */
+    private static Benchmark.Op canPlace(int height) {
+        TetrisEngine engine = buildBoard(height);
+        CollisionChecker checker = engine.getCollisionChecker();
+        WELL1024a rng = new WELL1024a(SEED);
+        int top = stackTop(engine.getDataManager().getPlayField());
+        int[] shapes = new int[QUERY_COUNT];
+        int[] xs = new int[QUERY_COUNT];
+        int[] ys = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            shapes[i] = TetrominoGeometry.shapeMask(rng.nextInt(TETROMINO_TYPE_COUNT), rng.nextInt(4));
+            xs[i] = rng.nextInt(FIELD_X_COUNT + 2) - 2;
+            ys[i] = top - 4 + rng.nextInt(TOTAL_Y_SIZE - top + 4);
+        }
+        return ops -> {
+            long placeable = 0;
+            for (int i = 0; i < ops; i++) {
+                int q = i & QUERY_MASK;
+                if (checker.canPlace(shapes[q], xs[q], ys[q])) placeable++;
+            }
+            return placeable;
+        };
+    }
+
+    /** 생성 높이에 있는 무작위 블록의 하드 드롭(고스트) 위치를 계산. */
+    private static Benchmark.Op hardDropY(int height) {
+        TetrisEngine engine = buildBoard(height);
+        CollisionChecker checker = engine.getCollisionChecker();
+        TetrominoMover mover = engine.getTetrominoMover();
+        WELL1024a rng = new WELL1024a(SEED);
+        int[] states = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; ) {
+            int type = rng.nextInt(TETROMINO_TYPE_COUNT);
+            int rotation = rng.nextInt(4);
+            int x = rng.nextInt(FIELD_X_COUNT + 2) - 2;
+            if (checker.canPlace(TetrominoGeometry.shapeMask(type, rotation), x, SPAWN_Y)) {
+                states[i++] = TetrominoState.pack(type, rotation, x, SPAWN_Y);
+            }
+        }
+        return ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                sum += mover.getHardDropY(states[i & QUERY_MASK]);
+            }
+            return sum;
+        };
+    }
+
+    /**
+     * 높은 스택 위에서 첫 번째 테스트가 실패해 월킥으로 넘어가는 회전만 골라 반복.
+     * (5번 모두 실패해 회전이 무효가 되는 경우도 포함)
+     */
+    private static Benchmark.Op spinWithKicks() {
+        TetrisEngine engine = buildBoard(TALL_HEIGHT);
+        CollisionChecker checker = engine.getCollisionChecker();
+        Spin spin = engine.getSpin();
+        TetrominoState state = engine.getDataManager().getTetrominoState();
+        int top = stackTop(engine.getDataManager().getPlayField());
+
+        List<Integer> found = new ArrayList<>();
+        boolean[] clockwise = new boolean[QUERY_COUNT];
+        WELL1024a rng = new WELL1024a(SEED);
+        while (found.size() < QUERY_COUNT) {
+            int type = rng.nextInt(TETROMINO_TYPE_COUNT);
+            if (type == Tetromino.O.ordinal()) continue;
+            int rotation = rng.nextInt(4);
+            int x = rng.nextInt(FIELD_X_COUNT + 2) - 2;
+            int y = top - 4 + rng.nextInt(TOTAL_Y_SIZE - top + 4);
+            if (!checker.canPlace(TetrominoGeometry.shapeMask(type, rotation), x, y)) continue;
+
+            boolean cw = rng.nextInt(2) == 0;
+            int packed = TetrominoState.pack(type, rotation, x, y);
+            state.setPacked(packed);
+            spin.spin(cw);
+            if (spin.getSpinPoint() > 1) {
+                clockwise[found.size()] = cw;
+                found.add(packed);
+            }
+        }
+        int[] states = found.stream().mapToInt(Integer::intValue).toArray();
+        return ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                int q = i & QUERY_MASK;
+                state.setPacked(states[q]);
+                spin.spin(clockwise[q]);
+                sum += spin.getSpinPoint();
+            }
+            return sum;
+        };
+    }
+
+    /**
+     * 스택 맨 아래의 lines개 줄을 완성시키고 지움.
+     * 맨 아래에는 한 칸(WELL_X)만 빈 쓰레기 줄이 깔려 있으며, 매 반복마다 빈 칸을 채워 지운 뒤
+     * 같은 쓰레기 줄을 다시 밀어 넣어 보드를 원래대로 되돌림 (블록 고정 -> 줄 제거 -> 쓰레기 줄 추가 한 번).
+     */
+    private static Benchmark.Op cascade(int lines, int height) {
+        TetrisEngine engine = buildBoard(height);
+        DataManager data = engine.getDataManager();
+        PlayField field = data.getPlayField();
+        CascadeHandler cascade = engine.getCascadeHandler();
+        field.insertGarbageRows(lines, WELL_X, Tetromino.Z);
+        int fromY = TOTAL_Y_SIZE - lines;
+        return ops -> {
+            long cleared = 0;
+            for (int i = 0; i < ops; i++) {
+                for (int y = fromY; y < TOTAL_Y_SIZE; y++) {
+                    data.setCell(y, WELL_X, Tetromino.I);
+                }
+                cascade.cascade(fromY, TOTAL_Y_SIZE - 1);
+                cleared += cascade.getClearedLine();
+                field.insertGarbageRows(lines, WELL_X, Tetromino.Z);
+            }
+            return cleared;
+        };
+    }
+
+    /** 다음 7-bag을 채우고 섞음. */
+    private static Benchmark.Op advanceBag() {
+        TetrominoBag bag = new TetrominoBag(SEED);
+        return ops -> {
+            for (int i = 0; i < ops; i++) {
+                bag.advanceBag();
+            }
+            return bag.hashCode();
+        };
+    }
+
+    /** 0~4줄 제거를 번갈아 점수를 갱신. 현재 블록은 T이고 절반은 회전 직후라 T-Spin 판정도 거침. */
+    private static Benchmark.Op updateScore() {
+        TetrisEngine engine = buildBoard(SHALLOW_HEIGHT);
+        ScoreManager score = engine.getScoreManager();
+        engine.getDataManager().getTetrominoState().setCurrentTetromino(Tetromino.T);
+        score.setSpinCornerStatus();
+        return ops -> {
+            for (int i = 0; i < ops; i++) {
+                if ((i & 1) == 0) score.markLastActionAsSpin();
+                score.updateScore(i % 5);
+            }
+            return score.getScore();
+        };
+    }
+
+    /**
+     * 블록 하나의 전체 주기: 좌우 이동 후 하드 드롭 -> 고정 -> 줄 제거 -> 점수 -> 다음 블록 생성.
+     * 이동 거리는 미리 뽑아 둔 시드 난수를 사용. 게임오버가 되면 재시작하므로 가끔 재시작 비용이 섞임.
+     */
+    private static Benchmark.Op lockCycle() {
+        TetrisEngine engine = buildBoard(SHALLOW_HEIGHT);
+        WELL1024a rng = new WELL1024a(SEED);
+        int[] shifts = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            shifts[i] = rng.nextInt(FIELD_X_COUNT) - FIELD_X_COUNT / 2;
+        }
+        return ops -> {
+            for (int i = 0; i < ops; i++) {
+                int shift = shifts[i & QUERY_MASK];
+                for (; shift < 0; shift++) engine.moveLeft();
+                for (; shift > 0; shift--) engine.moveRight();
+                engine.hardDrop();
+                if (!engine.isPlaying()) {
+                    engine.perform(PlayerAction.RESTART);
+                }
+            }
+            return engine.getLockedPieceCount();
+        };
+    }
+
+    /** 높은 스택에서 화면 스냅샷을 공개 (update()가 매 프레임 끝에 더하는 비용). */
+    private static Benchmark.Op publishSnapshot() {
+        TetrisEngine engine = buildBoard(TALL_HEIGHT);
+        return ops -> {
+            for (int i = 0; i < ops; i++) {
+                engine.publishSnapshot();
+            }
+            return engine.getSnapshot().getVersion();
+        };
+    }
+
+    /** 블록 7종을 번갈아 생성 위치에서 도달할 수 있는 모든 최종 위치를 찾음 (봇 탐색의 노드 하나 비용). */
+    private static Benchmark.Op generateMoves(int height) {
+        TetrisEngine engine = buildBoard(height);
+        MoveGenerator generator = new MoveGenerator(engine.getDataManager());
+        Tetromino[] types = new Tetromino[TETROMINO_TYPE_COUNT];
+        for (int i = 0; i < TETROMINO_TYPE_COUNT; i++) {
+            types[i] = Tetromino.fromOrdinal(i);
+        }
+        return ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                sum += generator.generate(types[i % TETROMINO_TYPE_COUNT]);
+            }
+            return sum;
+        };
+    }
+
+    // --- Private Static Methods: Boards ---
+    /**
+     * 시드 고정 게임에서 블록을 떨어뜨려 스택 높이가 height 이상이 될 때까지 쌓은 엔진을 반환.
+     * 대부분은 가장 낮게 떨어지는 자리를 고르고, 가끔 무작위 자리를 골라 구멍과 굴곡이 생기게 함.
+     */
+    private static TetrisEngine buildBoard(int height) {
+        TetrisEngine engine = new TetrisEngine(new DataManager(SEED));
+        engine.startHeadless();
+        DataManager data = engine.getDataManager();
+        TetrominoState state = data.getTetrominoState();
+        CollisionChecker checker = engine.getCollisionChecker();
+        TetrominoMover mover = engine.getTetrominoMover();
+        WELL1024a rng = new WELL1024a(SEED ^ height);
+
+        while (TOTAL_Y_SIZE - stackTop(data.getPlayField()) < height) {
+            int type = state.getCurrentTetromino().ordinal();
+            boolean greedy = rng.nextInt(4) != 0;
+            int best = -1;
+            int bestY = Integer.MIN_VALUE;
+            for (int rotation = 0; rotation < 4; rotation++) {
+                for (int x = -2; x < FIELD_X_COUNT; x++) {
+                    if (!checker.canPlace(TetrominoGeometry.shapeMask(type, rotation), x, SPAWN_Y)) continue;
+                    int packed = TetrominoState.pack(type, rotation, x, SPAWN_Y);
+                    int y = greedy ? mover.getHardDropY(packed) : rng.nextInt(1 << 16);
+                    if (y > bestY) {
+                        bestY = y;
+                        best = packed;
+                    }
+                }
+            }
+            state.setPacked(best);
+            engine.hardDrop();
+            if (!engine.isPlaying()) {
+                engine.perform(PlayerAction.RESTART);
+            }
+        }
+        return engine;
+    }
+
+    /** 스택의 맨 위 줄 y 좌표. 빈 필드면 TOTAL_Y_SIZE. */
+    private static int stackTop(PlayField field) {
+        int top = TOTAL_Y_SIZE;
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            top = Math.min(top, field.getColumnTop(x));
+        }
+        return top;
+    }
+}
@@ -0,0 +1,442 @@
+package tetris.bench;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.SPAWN_X;
+import static tetris.data.constant.GameConstants.SPAWN_Y;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.TetrominoBag;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.field.SearchField;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.MoveGenerator;
+
+/**
+ * 이동 생성 perft 도구. 체스 엔진의 perft처럼 정해진 깊이까지 도달할 수 있는 국면을 모두 세어,
+ * 이동 생성(MoveGenerator)과 회전/충돌 규칙의 정확성을 확인하고 속도를 잼.
+ *
+ * 시작 보드와 TetrominoBag 시드로 정해진 블록 순서에서, 블록을 d개 놓은 뒤의 서로 다른 국면 수를 셈.
+ * 국면은 필드 + 홀드 블록 + 큐에서 꺼낸 블록 수이며, 깊이마다 같은 국면을 합친 뒤 다음 깊이로 펼침
+ * (경로 수는 합쳐진 국면마다 따로 더해 두므로 체스 perft와 같은 '선택 순서' 수도 함께 나옴).
+ * 블록은 엔진과 같이 생성 위치(S0)에 나온 뒤 한 칸 떨어진 상태에서 출발하고, 생성 위치에 놓을 수 없으면(Lock Out)
+ * 그 국면은 더 펼치지 않음. 필드 밖(버퍼 존)에서만 고정된 블록(Block Out)도 국면으로는 세되 더 펼치지 않음.
+ * --hold를 주면 HoldHandler와 같이 블록마다 한 번 홀드할 수 있음 (빈 홀드면 큐에서 다음 블록을 꺼냄).
+ *
+ * 사용법: Perft [옵션]
+ *   -b, --board NAME   시작 보드 (empty, tsd, garbage, tst; 기본 empty)
+ *   -s, --seed N       블록 순서를 정하는 가방 시드 (기본 1)
+ *   -d, --depth N      놓을 블록 수 (기본 3)
+ *   --hold             홀드 사용
+ *   -t, --threads N    fork-join 병렬 스레드 수 (기본 1 = 현재 스레드에서 순차 실행)
+ *   --check            기준 국면들의 알려진 개수와 비교 (회귀 검사, 다르면 종료 코드 1)
+ */
+public final class Perft {
+
+    // --- Constants ---
+    private static final int TOTAL_Y_SIZE = BUFFER_ZONE + FIELD_Y_COUNT;
+    private static final long DEFAULT_SEED = 1L;
+    private static final int SPLIT_THRESHOLD = 16; // fork-join에서 더 나누지 않고 직접 펼치는 국면 수
+
+    // 국면 키의 첫 long: 홀드 블록(4비트), 큐를 한 칸 앞서 꺼냈는지, 더 펼치지 않는 국면인지, 줄 수
+    private static final int HELD_MASK = 0xF;
+    private static final int ADVANCED_BIT = 1 << 4;
+    private static final int TERMINAL_BIT = 1 << 5;
+    private static final int ROW_COUNT_SHIFT = 8;
+    private static final int ROWS_PER_WORD = Long.SIZE / FIELD_X_COUNT; // long 하나에 담는 필드 줄 수
+    private static final long ROW_BITS = (1L << FIELD_X_COUNT) - 1;
+
+    // 시작 보드: 위에서 아래 순서의 줄을 필드 맨 아래에 붙임 ('X' = 블록)
+    private static final String[] BOARD_NAMES = { "empty", "tsd", "garbage", "tst" };
+    private static final String[][] BOARD_ROWS = {
+        {},
+        {   // T-Spin Double 자리 모양: 위가 열려 있어 T를 아래로 향하게 떨어뜨리면 두 줄이 지워짐 (처마가 있는 자리는 tst)
+            "XX........",
+            "XXX...XXXX",
+            "XXXX.XXXXX",
+        },
+        {   // 구멍과 굴곡이 있는 쓰레기 줄 (구멍이 모두 덮여 있어 첫 블록의 자리 수는 empty와 같고, 둘째 블록부터 달라짐)
+            "X......XX.",
+            "XX.X..XXX.",
+            "XXXX.XXXX.",
+            "X.XXXXXXXX",
+            "XXXXXXX.XX",
+            "XX.XXXXXXX",
+        },
+        {   // T-Spin Triple 자리: 지붕 밑 구멍이라 떨어뜨려서는 못 넣고, 왼쪽으로 밀어 넣은 뒤 다섯 번째 월킥으로만 들어감 (FULL 판정)
+            "XXX.......",
+            "X.........",
+            "XX.XXXXXXX",
+            "X..XXXXXXX",
+            "XX.XXXXXXX",
+        },
+    };
+
+    // 회귀 기준값: 보드, 시드, 홀드 여부와 깊이 1부터의 (서로 다른 국면 수, 경로 수)
+    private static final Fixture[] FIXTURES = {
+        new Fixture("empty",   1L, false, new long[] { 34, 595, 10712 }, new long[] { 34, 595, 10712 }),
+        new Fixture("empty",   1L, true,  new long[] { 51, 2060, 90990 }, new long[] { 51, 2060, 115149 }),
+        new Fixture("tsd",     1L, false, new long[] { 34, 593, 10791 }, new long[] { 34, 593, 10791 }),
+        new Fixture("tsd",     1L, true,  new long[] { 51, 2079, 93339 }, new long[] { 51, 2079, 118618 }),
+        new Fixture("garbage", 1L, false, new long[] { 34, 596, 10832 }, new long[] { 34, 596, 10832 }),
+        new Fixture("garbage", 1L, true,  new long[] { 51, 2081, 92772 }, new long[] { 51, 2081, 118030 }),
+        // 시드 1은 J, I, Z, T 순서라 홀드 없이는 T가 나오지 않으므로, T와 S/Z/I가 첫째나 둘째로 나오는 시드를 따로 둠
+        // (시드 3: T, I, Z, J / 시드 7: S, T, L, Z / 시드 11: T, S, I, L). 같은 시드의 empty와 비교할 수 있게 함께 둠
+        new Fixture("empty",   3L, false, new long[] { 34, 598, 10673 }, new long[] { 34, 598, 10673 }),
+        new Fixture("empty",   7L, false, new long[] { 17, 591, 21145 }, new long[] { 17, 591, 21161 }),
+        new Fixture("empty",  11L, false, new long[] { 34, 591, 10545 }, new long[] { 34, 591, 10545 }),
+        new Fixture("tsd",    11L, false, new long[] { 34, 603, 10745 }, new long[] { 34, 603, 10745 }),
+        new Fixture("tsd",    11L, true,  new long[] { 51, 2096, 92952 }, new long[] { 51, 2096, 118700 }),
+        new Fixture("garbage", 3L, false, new long[] { 34, 592, 10740 }, new long[] { 34, 592, 10740 }),
+        new Fixture("garbage", 3L, true,  new long[] { 51, 2078, 92036 }, new long[] { 51, 2078, 117069 }),
+        new Fixture("garbage", 7L, false, new long[] { 17, 603, 21561 }, new long[] { 17, 603, 21567 }),
+        new Fixture("garbage", 7L, true,  new long[] { 51, 2974, 110466 }, new long[] { 51, 2974, 140475 }),
+        // 처마가 있어 밀어 넣기와 월킥 자리가 생기므로 깊이 1부터 empty와 개수가 다름 (T-Spin Triple은 다섯 번째 킥으로만 들어감)
+        new Fixture("tst",     3L, false, new long[] { 37, 702, 12943 }, new long[] { 37, 702, 12943 }),
+        new Fixture("tst",     3L, true,  new long[] { 57, 2462, 109987 }, new long[] { 57, 2462, 141907 }),
+        new Fixture("tst",     7L, false, new long[] { 18, 668, 24916 }, new long[] { 18, 668, 24925 }),
+        new Fixture("tst",     7L, true,  new long[] { 55, 3358, 126480 }, new long[] { 55, 3358, 162416 }),
+    };
+
+    // --- Instance Fields ---
+    private final SearchField board = new SearchField();
+    private final Tetromino[] sequence; // 가방에서 꺼낼 블록 순서 (깊이 + 홀드로 더 꺼낼 한 개)
+    private final boolean useHold;
+    private final ForkJoinPool pool;    // null이면 현재 스레드에서 순차 실행
+    private final LongAdder generatedNodes = new LongAdder();
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    // --- Constructor ---
+    /**
+     * @param boardRows 시작 보드 (위에서 아래 순서의 줄을 필드 맨 아래에 붙임, 'X' = 블록)
+     * @param seed 블록 순서를 정하는 TetrominoBag 시드
+     * @param maxDepth 펼칠 최대 깊이
+     * @param useHold 홀드 사용 여부
+     * @param pool 병렬 실행할 풀 (null이면 순차 실행)
+     */
+    public Perft(String[] boardRows, long seed, int maxDepth, boolean useHold, ForkJoinPool pool) {
+        if (boardRows.length > TOTAL_Y_SIZE) {
+            throw new IllegalArgumentException("board has " + boardRows.length + " rows");
+        }
+        for (int i = 0; i < boardRows.length; i++) {
+            board.setFieldRow(TOTAL_Y_SIZE - boardRows.length + i, parseRow(boardRows[i]));
+        }
+        TetrominoBag bag = new TetrominoBag(seed);
+        this.sequence = new Tetromino[maxDepth + 1];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = bag.next();
+        }
+        this.useHold = useHold;
+        this.pool = pool;
+    }
+
+    // --- Inner Class ---
+    /** 한 깊이의 결과. */
+    public static final class Count {
+        private final int depth;
+        private final long positions; // 서로 다른 국면 수
+        private final long paths;     // 시작 국면에서 이 깊이까지의 선택(홀드 여부, 최종 위치) 순서 수
+        private final long nodes;     // 이 깊이를 만들면서 생성한 자식 국면 수 (합치기 전)
+        private final long nanos;
+
+        private Count(int depth, long positions, long paths, long nodes, long nanos) {
+            this.depth = depth;
+            this.positions = positions;
+            this.paths = paths;
+            this.nodes = nodes;
+            this.nanos = nanos;
+        }
+
+        public int getDepth() { return depth; }
+        public long getPositions() { return positions; }
+        public long getPaths() { return paths; }
+        public long getNodes() { return nodes; }
+        public long getNanos() { return nanos; }
+
+        /** 초당 생성한 자식 국면 수. */
+        public double getNodesPerSecond() { return nanos == 0 ? 0 : nodes * 1e9 / nanos; }
+    }
+
+    // --- Public Methods ---
+    /**
+     * 깊이 1부터 depth까지 차례로 국면을 펼치고 깊이마다의 결과를 반환.
+     * @param depth 놓을 블록 수 (생성할 때의 maxDepth 이하)
+     */
+    public List<Count> run(int depth) {
+        if (depth < 1 || depth >= sequence.length) {
+            throw new IllegalArgumentException("depth must be in 1.." + (sequence.length - 1));
+        }
+        List<Count> counts = new ArrayList<>();
+        Map<Position, Long> layer = Map.of(Position.encode(board, Tetromino.EMPTY.ordinal(), false, false), 1L);
+        for (int d = 1; d <= depth; d++) {
+            Position[] parents = layer.keySet().toArray(new Position[0]);
+            long[] parentPaths = new long[parents.length];
+            for (int i = 0; i < parents.length; i++) {
+                parentPaths[i] = layer.get(parents[i]);
+            }
+            ConcurrentHashMap<Position, Long> next = new ConcurrentHashMap<>(Math.max(16, parents.length * 16));
+            generatedNodes.reset();
+
+            long start = System.nanoTime();
+            ExpandTask task = new ExpandTask(parents, parentPaths, 0, parents.length, d - 1, next);
+            if (pool == null) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+            long nanos = System.nanoTime() - start;
+
+            long paths = 0;
+            for (long p : next.values()) paths += p;
+            counts.add(new Count(d, next.size(), paths, generatedNodes.sum(), nanos));
+            layer = next;
+        }
+        return counts;
+    }
+
+    // --- Main ---
+    public static void main(String[] args) {
+        String boardName = BOARD_NAMES[0];
+        long seed = DEFAULT_SEED;
+        int depth = 3;
+        boolean hold = false;
+        int threads = 1;
+        boolean check = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-b": case "--board": boardName = args[++i]; break;
+                case "-s": case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "-d": case "--depth": depth = Integer.parseInt(args[++i]); break;
+                case "--hold": hold = true; break;
+                case "-t": case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--check": check = true; break;
+                default: throw new IllegalArgumentException("unknown option: " + args[i]);
+            }
+        }
+
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        try {
+            if (check) {
+                if (!checkFixtures(pool)) System.exit(1);
+                return;
+            }
+            Perft perft = new Perft(boardRows(boardName), seed, depth, hold, pool);
+            System.out.printf(Locale.ROOT, "perft board=%s seed=%d hold=%b threads=%d sequence=%s%n",
+                    boardName, seed, hold, threads, Arrays.toString(perft.sequence));
+            System.out.printf(Locale.ROOT, "%5s %14s %16s %14s %10s %14s%n", "depth", "positions", "paths", "nodes", "ms", "nodes/s");
+            for (Count c : perft.run(depth)) {
+                System.out.printf(Locale.ROOT, "%5d %14d %16d %14d %10.1f %14.0f%n", c.depth, c.positions, c.paths,
+                        c.nodes, c.nanos / 1e6, c.getNodesPerSecond());
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
+    }
+
+    // --- Private Methods ---
+    /** 국면 하나를 펼쳐 자식 국면을 다음 깊이의 맵에 경로 수와 함께 더함. */
+    private void expand(Worker worker, Position position, long paths, int depth, Map<Position, Long> next) {
+        if (position.isTerminal()) return;
+        position.decode(worker.field);
+        int index = depth + (position.isAdvanced() ? 1 : 0); // 지금 조작할 블록의 순서
+        int current = sequence[index].ordinal();
+        int held = position.getHeld();
+
+        placeAll(worker, current, held, position.isAdvanced(), paths, next);
+        if (!useHold) return;
+        if (held == Tetromino.EMPTY.ordinal()) {
+            // 빈 홀드: 현재 블록을 넣고 큐에서 다음 블록을 꺼냄
+            placeAll(worker, sequence[index + 1].ordinal(), current, true, paths, next);
+        } else {
+            placeAll(worker, held, current, position.isAdvanced(), paths, next);
+        }
+    }
+
+    /** 블록 type을 생성 위치에서 출발시켜 닿을 수 있는 모든 최종 위치에 고정한 자식 국면을 더함. */
+    private void placeAll(Worker worker, int type, int heldAfter, boolean advanced, long paths, Map<Position, Long> next) {
+        int shape = TetrominoGeometry.shapeMask(type, SpinState.S0.ordinal());
+        if (!worker.checker.canPlace(shape, SPAWN_X, SPAWN_Y)) return; // Lock Out
+        // 엔진은 블록을 생성한 뒤 바로 한 칸 떨어뜨림
+        int startY = worker.checker.canPlace(shape, SPAWN_X, SPAWN_Y + 1) ? SPAWN_Y + 1 : SPAWN_Y;
+        MoveGenerator generator = worker.generator;
+        int count = generator.generate(TetrominoState.pack(type, SpinState.S0.ordinal(), SPAWN_X, startY));
+
+        int previous = -1;
+        int children = 0;
+        for (int i = 0; i < count; i++) {
+            int placement = generator.getPlacement(i);
+            if (placement == previous) continue; // 같은 칸의 T-Spin 종류 차이는 필드 국면으로는 하나
+            previous = placement;
+            children++;
+
+            worker.child.copyFrom(worker.field);
+            worker.child.place(placement);
+            int rotation = TetrominoState.unpackRotation(placement);
+            boolean blockOut = TetrominoState.unpackY(placement) + TetrominoGeometry.maxY(type, rotation) < BUFFER_ZONE;
+            next.merge(Position.encode(worker.child, heldAfter, advanced, blockOut), paths, Long::sum);
+        }
+        generatedNodes.add(children);
+    }
+
+    /** 기준 국면들을 펼쳐 알려진 개수와 비교하고 결과를 출력. 모두 같으면 true. */
+    private static boolean checkFixtures(ForkJoinPool pool) {
+        boolean allPassed = true;
+        for (Fixture f : FIXTURES) {
+            int depth = f.positions.length;
+            List<Count> counts = new Perft(boardRows(f.board), f.seed, depth, f.hold, pool).run(depth);
+            boolean passed = true;
+            StringBuilder detail = new StringBuilder();
+            for (Count c : counts) {
+                int i = c.depth - 1;
+                boolean same = c.positions == f.positions[i] && c.paths == f.paths[i];
+                passed &= same;
+                detail.append(String.format(Locale.ROOT, " d%d=%d/%d%s", c.depth, c.positions, c.paths,
+                        same ? "" : " (expected " + f.positions[i] + "/" + f.paths[i] + ")"));
+            }
+            allPassed &= passed;
+            System.out.printf(Locale.ROOT, "%-4s %-8s seed=%d hold=%-5b%s%n", passed ? "ok" : "FAIL", f.board, f.seed, f.hold, detail);
+        }
+        return allPassed;
+    }
+
+    private static String[] boardRows(String name) {
+        for (int i = 0; i < BOARD_NAMES.length; i++) {
+            if (BOARD_NAMES[i].equals(name)) return BOARD_ROWS[i];
+        }
+        throw new IllegalArgumentException("unknown board: " + name + " (one of " + Arrays.toString(BOARD_NAMES) + ")");
+    }
+
+    /** 'X' = 블록인 줄 문자열을 필드 줄 비트(x칸 = 비트 x)로 바꿈. */
+    private static int parseRow(String row) {
+        if (row.length() != FIELD_X_COUNT) {
+            throw new IllegalArgumentException("row must have " + FIELD_X_COUNT + " cells: \"" + row + "\"");
+        }
+        int bits = 0;
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            if (row.charAt(x) == 'X') bits |= 1 << x;
+        }
+        return bits;
+    }
+
+    // --- Inner Classes ---
+    /** 스레드마다 하나씩 두는 탐색 도구 (MoveGenerator는 여러 스레드가 함께 쓸 수 없음). */
+    private static final class Worker {
+        private final SearchField field = new SearchField();  // 펼치는 국면
+        private final SearchField child = new SearchField();  // 자식 국면을 만드는 작업 공간
+        private final CollisionChecker checker = new CollisionChecker(field);
+        private final MoveGenerator generator = new MoveGenerator(field);
+    }
+
+    /** 국면 배열의 [from, to) 구간을 펼치는 fork-join 작업. 구간이 작아질 때까지 반으로 나눔. */
+    private final class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Position[] parents;
+        private final long[] paths;
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final Map<Position, Long> next;
+
+        ExpandTask(Position[] parents, long[] paths, int from, int to, int depth, Map<Position, Long> next) {
+            this.parents = parents;
+            this.paths = paths;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+            this.next = next;
+        }
+
+        @Override
+        protected void compute() {
+            if (pool == null || to - from <= SPLIT_THRESHOLD) {
+                Worker worker = workers.get();
+                for (int i = from; i < to; i++) {
+                    expand(worker, parents[i], paths[i], depth, next);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(parents, paths, from, mid, depth, next),
+                      new ExpandTask(parents, paths, mid, to, depth, next));
+        }
+    }
+
+    /**
+     * 국면 키: 첫 long은 머리(홀드, 큐 위치, 종료 여부, 줄 수), 그 뒤는 스택 맨 위 줄부터 바닥까지의 필드 줄을
+     * long 하나에 6줄씩 10비트로 담음. 필드 높이만큼만 담으므로 낮은 스택일수록 키가 작음.
+     */
+    private static final class Position {
+        private final long[] words;
+        private final int hash;
+
+        private Position(long[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        static Position encode(SearchField field, int held, boolean advanced, boolean terminal) {
+            int top = field.getStackTop();
+            int rows = TOTAL_Y_SIZE - top;
+            long[] words = new long[1 + (rows + ROWS_PER_WORD - 1) / ROWS_PER_WORD];
+            words[0] = held | (advanced ? ADVANCED_BIT : 0) | (terminal ? TERMINAL_BIT : 0) | (rows << ROW_COUNT_SHIFT);
+            for (int r = 0; r < rows; r++) {
+                words[1 + r / ROWS_PER_WORD] |= (long) field.getFieldRow(top + r) << ((r % ROWS_PER_WORD) * FIELD_X_COUNT);
+            }
+            return new Position(words);
+        }
+
+        void decode(SearchField field) {
+            int rows = (int) (words[0] >>> ROW_COUNT_SHIFT);
+            int top = TOTAL_Y_SIZE - rows;
+            field.clear();
+            for (int r = 0; r < rows; r++) {
+                field.setFieldRow(top + r, (int) ((words[1 + r / ROWS_PER_WORD] >>> ((r % ROWS_PER_WORD) * FIELD_X_COUNT)) & ROW_BITS));
+            }
+        }
+
+        int getHeld() { return (int) (words[0] & HELD_MASK); }
+
+        boolean isAdvanced() { return (words[0] & ADVANCED_BIT) != 0; }
+
+        boolean isTerminal() { return (words[0] & TERMINAL_BIT) != 0; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Position && Arrays.equals(words, ((Position) o).words);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+
+    /** 회귀 기준값 하나. */
+    private static final class Fixture {
+        private final String board;
+        private final long seed;
+        private final boolean hold;
+        private final long[] positions; // 깊이 1부터의 서로 다른 국면 수
+        private final long[] paths;     // 깊이 1부터의 경로 수
+
+        Fixture(String board, long seed, boolean hold, long[] positions, long[] paths) {
+            this.board = board;
+            this.seed = seed;
+            this.hold = hold;
+            this.positions = positions;
+            this.paths = paths;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package tetris.data.constant;
+
+import static tetris.data.constant.Tetromino.TETROMINO_TYPE_COUNT;
+
+import java.awt.Point;
+
+/**
+ * 모든 테트로미노의 회전 상태별 모양 데이터를 미리 계산해 둔 불변 테이블.
+ * 클래스 로드 시 한 번만 만들어지며, (Tetromino, SpinState) 조합으로 조회.
+ * 
+ * 각 조합마다 4개 미노의 상대 좌표(4x4 박스 기준), 4x4 모양 마스크(줄 r, 칸 c = 비트 r*4 + c),
+ * 실제 미노가 차지하는 경계 상자(bounding box), 그리고 열마다 가장 아래 미노의 위치를 원시 타입 배열로 보관.
+ * 게임 중에는 좌표를 회전하거나 Point 객체를 만들 필요 없이 이 테이블만 읽으면 됨.
+ */
+public final class TetrominoGeometry {
+    private TetrominoGeometry() {
+        throw new AssertionError("Utility class");
+    }
+
+    // --- Constants ---
+    public static final int ROTATION_COUNT = 4; // 회전 상태 수 (S0 ~ S3)
+    public static final int MINO_COUNT = 4;     // 테트로미노 하나를 이루는 미노 수
+    public static final int BOX_SIZE = 4;       // 모양을 담는 박스의 한 변 길이
+    public static final int NO_CELL = -1;       // 해당 열에 미노가 없음을 나타내는 값
+    private static final int ROW_BITS = 4;      // 모양 마스크 한 줄의 비트 수
+    private static final int ROW_MASK = (1 << ROW_BITS) - 1;
+
+    // --- Tables ---
+    // 인덱스: (type * 4 + rotation) * 4 + mino
+    private static final int[] CELL_X = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT * MINO_COUNT];
+    private static final int[] CELL_Y = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT * MINO_COUNT];
+    // 인덱스: type * 4 + rotation
+    private static final int[] SHAPE_MASKS = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] MIN_X = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] MAX_X = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] MIN_Y = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] MAX_Y = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    // 인덱스: (type * 4 + rotation) * 4 + column. 열에서 가장 아래 미노의 상대 y (없으면 NO_CELL)
+    private static final int[] COLUMN_BOTTOM = new int[TETROMINO_TYPE_COUNT * ROTATION_COUNT * BOX_SIZE];
+
+    static {
+        for (int type = 0; type < TETROMINO_TYPE_COUNT; type++) {
+            Tetromino tetromino = Tetromino.fromOrdinal(type);
+            Point[] minos = tetromino.getMinos(); // S0 상태의 초기 좌표
+            // I는 4x4, 나머지는 3x3 기준으로 회전 (Spin의 SRS 회전 규칙과 동일)
+            int size = (tetromino == Tetromino.I) ? 4 : 3;
+
+            for (int rotation = 0; rotation < ROTATION_COUNT; rotation++) {
+                fill(type, rotation, minos);
+                // O-블록은 회전하지 않으므로 모든 상태가 S0와 같음
+                if (tetromino != Tetromino.O) {
+                    minos = rotateClockwise(minos, size);
+                }
+            }
+        }
+    }
+
+    // --- Public Static Methods ---
+    /** (type, rotation)에 해당하는 4x4 모양 마스크를 반환. */
+    public static int shapeMask(int type, int rotation) {
+        return SHAPE_MASKS[type * ROTATION_COUNT + rotation];
+    }
+
+    /** (type, rotation)에 해당하는 4x4 모양 마스크를 반환. */
+    public static int shapeMask(Tetromino type, SpinState rotation) {
+        return shapeMask(type.ordinal(), rotation.ordinal());
+    }
+
+    /** 모양 마스크의 row번째 줄(0~3) 비트마스크를 반환 (비트 c = c번째 칸). */
+    public static int rowMask(Tetromino type, SpinState rotation, int row) {
+        return (shapeMask(type, rotation) >>> (row * ROW_BITS)) & ROW_MASK;
+    }
+
+    /** i번째 미노의 상대 x 좌표를 반환. */
+    public static int cellX(int type, int rotation, int i) {
+        return CELL_X[(type * ROTATION_COUNT + rotation) * MINO_COUNT + i];
+    }
+
+    /** i번째 미노의 상대 y 좌표를 반환. */
+    public static int cellY(int type, int rotation, int i) {
+        return CELL_Y[(type * ROTATION_COUNT + rotation) * MINO_COUNT + i];
+    }
+
+    /** i번째 미노의 상대 x 좌표를 반환. */
+    public static int cellX(Tetromino type, SpinState rotation, int i) {
+        return cellX(type.ordinal(), rotation.ordinal(), i);
+    }
+
+    /** i번째 미노의 상대 y 좌표를 반환. */
+    public static int cellY(Tetromino type, SpinState rotation, int i) {
+        return cellY(type.ordinal(), rotation.ordinal(), i);
+    }
+
+    /**
+     * 4x4 박스의 column번째 열에서 가장 아래 미노의 상대 y를 반환.
+     * 그 열에 미노가 없으면 NO_CELL(-1). 하드 드롭 거리를 열 높이로 계산할 때 사용.
+     */
+    public static int columnBottom(int type, int rotation, int column) {
+        return COLUMN_BOTTOM[(type * ROTATION_COUNT + rotation) * BOX_SIZE + column];
+    }
+
+    /** 경계 상자의 가장 왼쪽 칸(상대 x)을 반환. */
+    public static int minX(Tetromino type, SpinState rotation) { return MIN_X[type.ordinal() * ROTATION_COUNT + rotation.ordinal()]; }
+    /** 경계 상자의 가장 오른쪽 칸(상대 x)을 반환. */
+    public static int maxX(Tetromino type, SpinState rotation) { return MAX_X[type.ordinal() * ROTATION_COUNT + rotation.ordinal()]; }
+    /** 경계 상자의 가장 위 칸(상대 y)을 반환. */
+    public static int minY(Tetromino type, SpinState rotation) { return MIN_Y[type.ordinal() * ROTATION_COUNT + rotation.ordinal()]; }
+    /** 경계 상자의 가장 아래 칸(상대 y)을 반환. */
+    public static int maxY(Tetromino type, SpinState rotation) { return MAX_Y[type.ordinal() * ROTATION_COUNT + rotation.ordinal()]; }
+    /** 경계 상자의 가장 위 칸(상대 y)을 반환. */
+    public static int minY(int type, int rotation) { return MIN_Y[type * ROTATION_COUNT + rotation]; }
+    /** 경계 상자의 가장 아래 칸(상대 y)을 반환. */
+    public static int maxY(int type, int rotation) { return MAX_Y[type * ROTATION_COUNT + rotation]; }
+
+    // --- Private Static Methods ---
+    /** 한 (type, rotation) 조합의 좌표, 모양 마스크, 경계 상자를 테이블에 기록. */
+    private static void fill(int type, int rotation, Point[] minos) {
+        int index = type * ROTATION_COUNT + rotation;
+        int shape = 0;
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int c = 0; c < BOX_SIZE; c++) {
+            COLUMN_BOTTOM[index * BOX_SIZE + c] = NO_CELL;
+        }
+
+        for (int i = 0; i < MINO_COUNT; i++) {
+            Point p = minos[i];
+            CELL_X[index * MINO_COUNT + i] = p.x;
+            CELL_Y[index * MINO_COUNT + i] = p.y;
+            shape |= 1 << (p.y * ROW_BITS + p.x);
+            minX = Math.min(minX, p.x);
+            maxX = Math.max(maxX, p.x);
+            minY = Math.min(minY, p.y);
+            maxY = Math.max(maxY, p.y);
+            int column = index * BOX_SIZE + p.x;
+            COLUMN_BOTTOM[column] = Math.max(COLUMN_BOTTOM[column], p.y);
+        }
+        SHAPE_MASKS[index] = shape;
+        MIN_X[index] = minX;
+        MAX_X[index] = maxX;
+        MIN_Y[index] = minY;
+        MAX_Y[index] = maxY;
+    }
+
+    /** 회전 행렬을 이용해 좌표를 시계방향으로 90도 회전: (x, y) -> (size-1-y, x). */
+    private static Point[] rotateClockwise(Point[] coords, int size) {
+        Point[] rotated = new Point[coords.length];
+        for (int i = 0; i < coords.length; i++) {
+            rotated[i] = new Point(size - 1 - coords[i].y, coords[i].x);
+        }
+        return rotated;
+    }
+}
@@ -0,0 +1,130 @@
+package tetris.data.constant;
+
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.Tetromino.TETROMINO_TYPE_COUNT;
+
+/**
+ * 국면을 64비트 값 하나로 식별하는 Zobrist 해시의 키 테이블.
+ * 해시는 블록이 있는 칸, 현재 블록 종류, 홀드 블록, 홀드 사용 여부, 다음 블록 QUEUE_DEPTH개의 키를 모두 XOR한 값이며,
+ * PlayField가 상태가 바뀔 때마다 바뀐 키만 XOR해서 유지함 (현재 블록의 위치와 회전은 넣지 않음).
+ *
+ * 칸 키는 열마다의 기준 키를 줄 번호만큼 비트 회전한 값이며, 10칸을 5칸씩 나눈 두 장의 표(2 x 32개)에
+ * 기준 키의 XOR을 미리 만들어 두어 줄 하나의 키를 조회 두 번과 회전 한 번으로 얻음.
+ * 그래서 줄 제거로 줄이 내려가도 줄마다 표를 다시 찾을 필요 없이 같은 값을 다른 양만큼 회전하면 됨.
+ * 다음 블록 큐의 키도 같은 방식(블록 종류 키를 칸 번호만큼 회전)이라, 블록을 하나 꺼낼 때 회전 한 번과 XOR 두 번으로 옮겨짐.
+ * 키는 고정 시드의 SplitMix64로 만들므로 실행이나 JVM이 달라도 같은 국면은 같은 해시가 됨 (파일에 저장해 비교해도 됨).
+ */
+public final class ZobristKeys {
+    private ZobristKeys() {
+        throw new AssertionError("Utility class");
+    }
+
+    // --- Constants ---
+    /** 해시에 넣는 다음 블록 수 (미리보기 깊이 설정과 관계없이 고정, PieceQueue의 기본 미리보기 깊이). */
+    public static final int QUEUE_DEPTH = 6;
+
+    private static final long SEED = 0x5A4F425249535421L; // 키 생성 시드 (바꾸면 저장된 해시와 달라짐)
+    private static final int HALF_BITS = FIELD_X_COUNT / 2;  // 줄 키 표 한 장이 맡는 칸 수
+    private static final int HALF_SIZE = 1 << HALF_BITS;
+    private static final int HALF_MASK = HALF_SIZE - 1;
+    private static final int ROW_ROTATION = 13;              // 줄 하나마다 칸 키를 돌리는 비트 수 (64와 서로소)
+    private static final int QUEUE_ROTATION = 11;            // 큐 칸 하나마다 키를 돌리는 비트 수 (64와 서로소)
+
+    // --- Tables ---
+    // 인덱스: x. 0번 줄의 칸 키 (y번 줄은 y * ROW_ROTATION만큼 회전)
+    private static final long[] COLUMN = new long[FIELD_X_COUNT];
+    // 인덱스: 왼쪽/오른쪽 5칸 비트. 비트가 켜진 열의 COLUMN 키 XOR
+    private static final long[] ROW_LOW = new long[HALF_SIZE];
+    private static final long[] ROW_HIGH = new long[HALF_SIZE];
+    // 인덱스: Tetromino ordinal (EMPTY는 0 = 키 없음)
+    private static final long[] CURRENT = new long[TETROMINO_TYPE_COUNT + 1];
+    private static final long[] HELD = new long[TETROMINO_TYPE_COUNT + 1];
+    private static final long[] QUEUE = new long[TETROMINO_TYPE_COUNT + 1];
+    private static final long HOLD_USED;
+
+    static {
+        long[] state = { SEED };
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            COLUMN[x] = nextKey(state);
+        }
+        for (int type = 0; type < TETROMINO_TYPE_COUNT; type++) {
+            CURRENT[type] = nextKey(state);
+            HELD[type] = nextKey(state);
+            QUEUE[type] = nextKey(state);
+        }
+        HOLD_USED = nextKey(state);
+
+        for (int bits = 1; bits < HALF_SIZE; bits++) {
+            // 가장 낮은 비트를 뺀 조합에 그 열의 키를 더함
+            int x = Integer.numberOfTrailingZeros(bits);
+            int rest = bits & (bits - 1);
+            ROW_LOW[bits] = ROW_LOW[rest] ^ COLUMN[x];
+            ROW_HIGH[bits] = ROW_HIGH[rest] ^ COLUMN[HALF_BITS + x];
+        }
+    }
+
+    // --- Public Static Methods ---
+    /** (y, x) 칸에 블록이 있을 때의 키. */
+    public static long cell(int y, int x) {
+        return Long.rotateLeft(COLUMN[x], y * ROW_ROTATION);
+    }
+
+    /**
+     * y번째 줄에 bits 칸들이 차 있을 때의 키 (그 칸들의 cell() 키를 모두 XOR한 값).
+     * @param bits 필드 10칸의 점유 비트 (x칸 = 비트 x)
+     */
+    public static long row(int y, int bits) {
+        return Long.rotateLeft(rowBase(bits), y * ROW_ROTATION);
+    }
+
+    /** bits 칸들이 차 있는 줄이 fromY에서 toY로 옮겨질 때 해시에 XOR할 값. */
+    public static long moveRow(int bits, int fromY, int toY) {
+        long base = rowBase(bits);
+        return Long.rotateLeft(base, fromY * ROW_ROTATION) ^ Long.rotateLeft(base, toY * ROW_ROTATION);
+    }
+
+    /** 현재 블록 종류의 키 (EMPTY면 0). */
+    public static long current(Tetromino type) {
+        return CURRENT[type.ordinal()];
+    }
+
+    /** 홀드 블록의 키 (EMPTY면 0). */
+    public static long held(Tetromino type) {
+        return HELD[type.ordinal()];
+    }
+
+    /** 이번 블록에서 홀드를 이미 사용했을 때의 키. */
+    public static long holdUsed() {
+        return HOLD_USED;
+    }
+
+    /** 다음 블록 큐의 slot번째(0 = 바로 다음) 칸에 type이 있을 때의 키. */
+    public static long queue(int slot, Tetromino type) {
+        return Long.rotateLeft(QUEUE[type.ordinal()], slot * QUEUE_ROTATION);
+    }
+
+    /**
+     * 큐에서 블록 하나를 꺼냈을 때의 큐 키를 계산 (모든 칸이 한 칸씩 앞당겨짐).
+     * @param queueHash 꺼내기 전 QUEUE_DEPTH칸의 queue() 키 XOR
+     * @param polled 꺼낸 블록 (0번 칸)
+     * @param entering 꺼낸 뒤 마지막 칸(QUEUE_DEPTH - 1)에 새로 들어온 블록
+     */
+    public static long shiftQueue(long queueHash, Tetromino polled, Tetromino entering) {
+        long shifted = Long.rotateRight(queueHash ^ QUEUE[polled.ordinal()], QUEUE_ROTATION);
+        return shifted ^ queue(QUEUE_DEPTH - 1, entering);
+    }
+
+    // --- Private Static Methods ---
+    /** 0번 줄에 bits 칸들이 차 있을 때의 키. */
+    private static long rowBase(int bits) {
+        return ROW_LOW[bits & HALF_MASK] ^ ROW_HIGH[(bits >>> HALF_BITS) & HALF_MASK];
+    }
+
+    /** SplitMix64로 다음 키를 만듦. */
+    private static long nextKey(long[] state) {
+        long z = (state[0] += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
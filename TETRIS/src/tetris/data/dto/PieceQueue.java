@@ -0,0 +1,157 @@
+package tetris.data.dto;
+
+import java.lang.invoke.VarHandle;
+
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.ZobristKeys;
+
+/**
+ * 7-Bag 가방에서 미리 뽑아 둔 블록들을 담는 고정 크기 링 버퍼 (다음 블록 큐).
+ *
+ * 게임 루프 스레드만 쓰기(poll, reset)를 하고, 렌더러나 AI 같은 다른 스레드는 락 없이 읽기만 함.
+ * 큐는 항상 가득 채워 두므로, 읽는 쪽은 미리보기 깊이(최대 {@link #MAX_PREVIEW_DEPTH})만큼을 언제든 볼 수 있음.
+ *
+ * 쓰는 쪽은 블록을 꺼낼 때 head를 먼저 올린 뒤 빈 슬롯을 가방에서 새로 채우고 tail을 올림 (둘 다 volatile).
+ * volatile 쓰기 뒤의 일반 쓰기는 앞당겨 보일 수 있으므로, head를 올린 직후 storeStoreFence로 슬롯 쓰기를 그 뒤에 묶어 둠.
+ * 읽는 쪽은 head를 읽고 슬롯을 복사한 뒤 head를 다시 읽어, 그 사이 블록이 꺼내졌다면(= 슬롯이 덮어써졌을 수 있음)
+ * 다시 읽음 (seqlock 방식). 그래서 읽기는 할당도 블로킹도 없이 항상 한 시점의 일관된 미리보기를 얻음.
+ */
+public class PieceQueue {
+
+    // --- Constants ---
+    private static final int CAPACITY = 32;            // 링 버퍼 크기 (2의 거듭제곱)
+    private static final int MASK = CAPACITY - 1;
+    /** 설정할 수 있는 최대 미리보기 깊이. */
+    public static final int MAX_PREVIEW_DEPTH = 24;
+    /** 기본 미리보기 깊이 (다음 블록 1개 + 미리보기 5개). */
+    public static final int DEFAULT_PREVIEW_DEPTH = 6;
+
+    // --- Instance Fields ---
+    private final TetrominoBag bag;                  // 블록을 공급하는 가방
+    private final byte[] ring = new byte[CAPACITY];  // 블록 종류(ordinal) 링 버퍼
+    private final Preview preview = new Preview();   // 읽기 전용 뷰 (하나만 만들어 재사용)
+    private volatile long head = 0;                  // 다음에 꺼낼 블록의 순번 (지금까지 꺼낸 블록 수)
+    private volatile long tail = 0;                  // 다음에 채울 블록의 순번
+    private volatile int previewDepth = DEFAULT_PREVIEW_DEPTH; // 읽는 쪽에 보여줄 블록 수
+    private long hash;                               // 다음 블록 ZobristKeys.QUEUE_DEPTH개의 Zobrist 키 (쓰는 쪽 전용)
+
+    // --- Constructor ---
+    public PieceQueue(TetrominoBag bag) {
+        this.bag = bag;
+        fill();
+        hash = computeHash();
+    }
+
+    // --- Public Methods: Writer (게임 루프 스레드 전용) ---
+    /** 다음 블록을 꺼내고, 빈 자리를 가방에서 새로 채움. */
+    public Tetromino poll() {
+        long h = head;
+        Tetromino next = Tetromino.fromOrdinal(ring[(int) (h & MASK)]);
+        Tetromino entering = Tetromino.fromOrdinal(ring[(int) ((h + ZobristKeys.QUEUE_DEPTH) & MASK)]);
+        head = h + 1; // 먼저 head를 올려야 읽는 쪽이 덮어쓰기를 감지할 수 있음
+        VarHandle.storeStoreFence(); // fill()의 슬롯 쓰기가 올린 head보다 먼저 보이지 않도록
+        fill();
+        hash = ZobristKeys.shiftQueue(hash, next, entering);
+        return next;
+    }
+
+    /** 큐에 남은 블록을 버리고 새 가방부터 다시 채움 (게임 재시작 시). */
+    public void reset() {
+        head = tail; // 남은 블록을 모두 꺼낸 것으로 처리 (순번은 계속 증가)
+        VarHandle.storeStoreFence(); // 슬롯을 다시 채우는 쓰기가 올린 head보다 먼저 보이지 않도록
+        bag.startNewBag();
+        fill();
+        hash = computeHash();
+    }
+
+    /**
+     * 다음 블록 ZobristKeys.QUEUE_DEPTH개의 Zobrist 키를 반환 (게임 루프 스레드 전용).
+     * poll()할 때 비트 회전 한 번과 XOR 두 번으로 갱신되며, PlayField의 국면 해시에 바뀐 만큼 섞어 넣는 데 사용.
+     */
+    public long getHash() { return hash; }
+
+    // --- Public Methods: Reader (어느 스레드든) ---
+    /** 다음 블록들의 읽기 전용 뷰를 반환. 항상 같은 객체이므로 매 프레임 호출해도 할당이 없음. */
+    public Preview getPreview() { return preview; }
+
+    /** 지금까지 꺼낸 블록 수를 반환. 값이 바뀌었으면 미리보기도 바뀐 것. */
+    public long getSequence() { return head; }
+
+    /** 미리보기 깊이를 반환. */
+    public int getPreviewDepth() { return previewDepth; }
+
+    /** 미리보기 깊이를 설정 (1 ~ MAX_PREVIEW_DEPTH). */
+    public void setPreviewDepth(int depth) {
+        if (depth < 1 || depth > MAX_PREVIEW_DEPTH) {
+            throw new IllegalArgumentException("previewDepth must be 1.." + MAX_PREVIEW_DEPTH);
+        }
+        previewDepth = depth;
+    }
+
+    // --- Private Methods ---
+    /** 다음 블록 ZobristKeys.QUEUE_DEPTH개의 키를 처음부터 계산. */
+    private long computeHash() {
+        long h = 0;
+        for (int i = 0; i < ZobristKeys.QUEUE_DEPTH; i++) {
+            h ^= ZobristKeys.queue(i, Tetromino.fromOrdinal(ring[(int) ((head + i) & MASK)]));
+        }
+        return h;
+    }
+
+    /** 링 버퍼가 가득 찰 때까지 가방에서 블록을 채움. 슬롯을 쓴 뒤 tail을 올려 공개. */
+    private void fill() {
+        long t = tail;
+        long limit = head + CAPACITY;
+        while (t < limit) {
+            ring[(int) (t & MASK)] = (byte) bag.next().ordinal();
+            t++;
+        }
+        tail = t;
+    }
+
+    // --- Inner Class ---
+    /** 다음 블록 큐의 읽기 전용 뷰. 어느 스레드에서든 락 없이 읽을 수 있음. */
+    public final class Preview {
+
+        private Preview() {}
+
+        /** 보여줄 블록 수 (미리보기 깊이). */
+        public int size() { return previewDepth; }
+
+        /**
+         * i번째 다음 블록 (0이면 바로 다음 블록). 한 개만 읽을 때 사용.
+         * 여러 개를 읽을 때 서로 같은 시점의 값이어야 한다면 {@link #copyTo(Tetromino[])}를 사용.
+         */
+        public Tetromino get(int i) {
+            if (i < 0 || i >= MAX_PREVIEW_DEPTH) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            while (true) {
+                long h = head;
+                byte ordinal = ring[(int) ((h + i) & MASK)];
+                VarHandle.acquireFence(); // 슬롯 읽기가 아래 head 재확인보다 늦어지지 않도록
+                if (head == h) return Tetromino.fromOrdinal(ordinal);
+            }
+        }
+
+        /**
+         * 같은 시점의 다음 블록들을 dst에 복사 (최대 미리보기 깊이만큼).
+         * 복사하는 동안 블록이 꺼내지면 처음부터 다시 복사하므로 결과는 항상 일관됨.
+         * @return 복사한 블록 수
+         */
+        public int copyTo(Tetromino[] dst) {
+            int n = Math.min(dst.length, previewDepth);
+            while (true) {
+                long h = head;
+                for (int i = 0; i < n; i++) {
+                    dst[i] = Tetromino.fromOrdinal(ring[(int) ((h + i) & MASK)]);
+                }
+                VarHandle.acquireFence();
+                if (head == h) return n;
+            }
+        }
+
+        /** 이 뷰가 보여주는 블록들의 순번 (지금까지 꺼낸 블록 수). 값이 같으면 내용도 같음. */
+        public long getSequence() { return head; }
+    }
+}
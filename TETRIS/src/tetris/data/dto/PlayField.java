@@ -1,83 +1,338 @@
-package tetris.data.dto;
-
-import static tetris.data.constant.GameConstants.BUFFER_ZONE;
-import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
-import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
-
-import java.util.Arrays;
-
-import tetris.data.constant.Tetromino;
-
-/** 테트리스 게임판(Playfield)의 상태를 저장하고 관리하는 데이터 객체 */
-public class PlayField {
-
-    // --- Static Fields ---
-    // 필드에서 빈 칸을 나타내는 값 (Tetromino.EMPTY.ordinal())
-    private static final int EMPTY_CELL = Tetromino.EMPTY.ordinal();
-
-    // --- Instance Fields ---
-    // 실제 게임판 데이터. [y][x] 형태의 2차원 배열. 각 칸에는 Tetromino의 ordinal 값이 저장됨.
-    private final int[][] playfield = new int[FIELD_Y_COUNT + BUFFER_ZONE][FIELD_X_COUNT];
-    
-    // 외부에 제공될 읽기 전용 뷰. 람다식으로 구현.
-    private final PlayfieldReader readOnlyView = (y, x) -> playfield[y][x];
-    
-    // 각 가로줄(row)에 쌓여있는 블록의 개수를 저장하는 배열. 줄 제거 판정에 사용.
-    private int[] rowBlockCounts = new int[BUFFER_ZONE + FIELD_Y_COUNT];
-
-    // --- Constructor ---
-    public PlayField() {
-    	resetField();
-    }
-
-    // --- Public Methods ---
-    /** 각 줄의 블록 개수 배열을 반환 */
-    public int[] getRowBlockCount() { return rowBlockCounts; }
-    
-    /** 특정 줄(y)의 블록 개수를 1 증가시킴 (블록이 쌓일 때 호출) */
-    public void incrementRowBlockCount(int y) { rowBlockCounts[y]++; }
-    
-    /** 
-     * 줄 제거 후, 위에 있던 줄의 블록 카운트 정보를 아래로 내림.
-     * @param y 이동시킬 원본 줄 인덱스
-     * @param clearedLine 제거된 줄의 수 (아래로 얼마나 내릴지)
-     */
-    public void shiftDownRowBlockCount(int y, int clearedLine) {
-        int targetIndex = y + clearedLine;
-        if (targetIndex >= 0 && targetIndex < rowBlockCounts.length) {
-            rowBlockCounts[targetIndex] = rowBlockCounts[y];
-            rowBlockCounts[y] = 0; // 원래 위치는 0으로 초기화
-        }
-    }
-    
-    /** 지정된 좌표(y, x)에 테트로미노 블록을 설정 */
-    public void setCell(int y, int x, Tetromino tetromino) {
-        playfield[y][x] = tetromino.ordinal();
-    }
-    
-    /** 지정된 좌표(y, x)의 블록을 빈 칸으로 만듦 */
-    public void removeCell(int y, int x) {
-    	playfield[y][x] = EMPTY_CELL;
-    }
-    
-    /** 게임판과 줄 카운트를 모두 초기 상태로 리셋 */
-    public void resetField() {
-        for (int y = 0; y < playfield.length; y++)
-            Arrays.fill(playfield[y], EMPTY_CELL);
-        rowBlockCounts = new int[BUFFER_ZONE + FIELD_Y_COUNT];
-    }
-
-    /** 외부에서 게임판 데이터를 안전하게 읽을 수 있는 읽기 전용 뷰를 반환 */
-    public PlayfieldReader readFieldData() {
-        return readOnlyView;
-    }
-
-    // --- Inner Interface ---
-    /**
-     * 외부에서 게임판 데이터를 안전하게 읽기 위한 '읽기 전용' 인터페이스.
-     * 내부 배열을 직접 노출하지 않고 특정 좌표의 값만 조회하도록 함.
-     */
-    public interface PlayfieldReader {
-        int get(int y, int x);
-    }
-}
\ No newline at end of file
+package tetris.data.dto;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+
+import java.util.Arrays;
+
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.ZobristKeys;
+
+/**
+ * 테트리스 게임판(Playfield)의 상태를 저장하고 관리하는 데이터 객체.
+ * 점유 여부는 줄(row)마다 하나의 비트마스크(비트보드)로, 블록 색상은 별도의 압축된 색상 평면으로 저장.
+ * 열(column)마다 가장 위에 쌓인 블록의 y 좌표도 함께 유지하여, 하드 드롭 거리를 바로 계산할 수 있게 함.
+ * 
+ * 줄 데이터(점유, 색상, 블록 개수)는 물리 줄 번호로 저장하고, 화면상의 줄 번호(y)는 줄 포인터 배열(rowMap)로
+ * 물리 줄에 연결. 줄 제거/쓰레기 줄 추가는 칸을 복사하지 않고 포인터만 옮긴 뒤 빈 줄을 재활용함.
+ *
+ * 국면의 Zobrist 해시(ZobristKeys)도 함께 유지함. 칸이 차거나 비면 그 칸의 키를, 줄 제거로 줄이 내려가면
+ * 그 줄의 이전/새 위치 키를 XOR하고, 필드 밖 상태(현재 블록 종류, 홀드, 다음 블록 큐)는 바뀔 때 호출자가
+ * {@link #xorHash(long)}로 섞어 넣으므로, 해시는 항상 long 하나를 읽는 것으로 얻음.
+ */
+public class PlayField {
+
+    // --- Static Fields ---
+    // 필드 전체 세로 길이 (버퍼 존 포함)
+    private static final int TOTAL_Y_SIZE = FIELD_Y_COUNT + BUFFER_ZONE;
+
+    /**
+     * 줄 비트마스크에서 필드 좌우에 붙는 벽의 두께(비트 수).
+     * x칸은 비트 (x + WALL_WIDTH)에 저장되며, 좌측 0~2비트와 우측 13~15비트는 항상 1(벽).
+     */
+    public static final int WALL_WIDTH = 3;
+
+    // 빈 줄: 양쪽 벽 비트만 켜진 상태 (1110 0000 0000 0111).
+    // 최상위 비트가 1이므로 int로 확장될 때 부호 확장되어 16비트 바깥도 모두 '벽'으로 취급됨.
+    private static final short EMPTY_ROW = (short) 0xE007;
+    // 필드 밖(위/아래) 줄: 모든 칸이 막혀있는 것으로 취급
+    private static final int SOLID_ROW = -1;
+    // 필드 10칸에 해당하는 비트만 모은 마스크
+    private static final int FIELD_BITS = ((1 << FIELD_X_COUNT) - 1) << WALL_WIDTH;
+    // 꽉 찬 줄의 필드 10칸 비트 (ZobristKeys.row 형식)
+    private static final int FULL_ROW_BITS = (1 << FIELD_X_COUNT) - 1;
+
+    // 색상 평면: 칸당 3비트 (Tetromino ordinal 0~7), 한 줄 10칸 = 30비트를 int 하나에 저장
+    private static final int COLOR_BITS = 3;
+    private static final int COLOR_MASK = (1 << COLOR_BITS) - 1;
+    // 모든 칸이 EMPTY(7)인 색상 줄
+    private static final int EMPTY_COLOR_ROW = (1 << (COLOR_BITS * FIELD_X_COUNT)) - 1;
+    // 필드에서 빈 칸을 나타내는 값 (Tetromino.EMPTY.ordinal())
+    private static final int EMPTY_CELL = Tetromino.EMPTY.ordinal();
+
+    // --- Instance Fields ---
+    // 줄 포인터: 논리 줄 번호(y) -> 물리 줄 번호. 아래 세 배열은 모두 물리 줄 번호로 접근.
+    private final int[] rowMap = new int[TOTAL_Y_SIZE];
+    // 점유 평면. 줄마다 벽이 포함된 16비트 마스크 (40줄 = 80바이트).
+    private final short[] rowMasks = new short[TOTAL_Y_SIZE];
+    // 색상 평면. 줄마다 3비트 x 10칸 (40줄 = 160바이트).
+    private final int[] colorRows = new int[TOTAL_Y_SIZE];
+    // 각 가로줄(row)에 쌓여있는 블록의 개수. 줄과 함께 움직이므로 따로 옮길 필요가 없음.
+    private final int[] rowBlockCounts = new int[TOTAL_Y_SIZE];
+
+    // 열마다 가장 위에 있는 블록의 y 좌표. 빈 열은 TOTAL_Y_SIZE (바닥 바로 아래).
+    private final int[] columnTops = new int[FIELD_X_COUNT];
+    // 열 높이를 다시 계산할 때 사용하는 작업용 배열 (할당 방지)
+    private final int[] columnTopsScratch = new int[FIELD_X_COUNT];
+    // 줄 제거 시 재활용할 물리 줄 번호를 잠시 담아두는 작업용 배열 (할당 방지)
+    private final int[] recycledRows = new int[TOTAL_Y_SIZE];
+    // 국면의 Zobrist 해시: 블록이 있는 칸의 키와 필드 밖 상태의 키를 모두 XOR한 값
+    private long hash = 0;
+
+    // 외부에 제공될 읽기 전용 뷰. 람다식으로 구현.
+    private final PlayfieldReader readOnlyView = this::getCell;
+
+    // --- Constructor ---
+    public PlayField() {
+    	resetField();
+    }
+
+    // --- Public Methods ---
+    /** 특정 줄(y)에 쌓여있는 블록 개수를 반환 */
+    public int getRowBlockCount(int y) { return rowBlockCounts[rowMap[y]]; }
+
+    /** 지정된 좌표(y, x)의 블록 종류(Tetromino ordinal)를 반환 */
+    public int getCell(int y, int x) {
+        return (colorRows[rowMap[y]] >>> (x * COLOR_BITS)) & COLOR_MASK;
+    }
+
+    /**
+     * 특정 줄(y)의 블록 종류를 칸마다 3비트씩 묶은 값을 반환.
+     * 줄 하나를 int 한 번으로 읽으므로, 화면 쪽에서 줄 단위로 변경 여부를 비교하거나 일관되게 읽을 때 사용.
+     */
+    public int getColorRow(int y) { return colorRows[rowMap[y]]; }
+
+    /** getColorRow()로 읽은 줄에서 x열의 블록 종류(Tetromino ordinal)를 꺼냄. */
+    public static int cellOf(int colorRow, int x) {
+        return (colorRow >>> (x * COLOR_BITS)) & COLOR_MASK;
+    }
+
+    /**
+     * 특정 줄(y)의 점유 비트마스크를 벽 비트와 함께 반환.
+     * 필드 위/아래 바깥 줄은 모든 비트가 켜진 값(-1)을 반환하므로, 호출자는 별도 경계 검사가 필요 없음.
+     */
+    public int getRowMask(int y) {
+        if (y < 0 || y >= TOTAL_Y_SIZE) return SOLID_ROW;
+        return rowMasks[rowMap[y]];
+    }
+
+    /**
+     * x열에서 가장 위에 있는 블록의 y 좌표를 반환. 빈 열이면 전체 세로 길이(바닥 바로 아래 줄).
+     * 블록이 이 값보다 위에 있다면, 그 열에서는 (값 - 1)까지 막힘 없이 내려갈 수 있음.
+     */
+    public int getColumnTop(int x) {
+        return columnTops[x];
+    }
+
+    /**
+     * 국면의 Zobrist 해시를 반환. 필드의 점유 상태(색 제외)와 xorHash()로 섞어 넣은 현재 블록 종류, 홀드,
+     * 다음 블록 큐가 같으면 같은 값이므로, 탐색의 전치표, 데이터셋의 중복 국면 제거, 리플레이 어긋남 검사에 사용.
+     * 게임 루프 스레드(단일 작성자) 기준의 값임.
+     */
+    public long getHash() { return hash; }
+
+    /** 필드 밖 상태가 바뀔 때 그 키(ZobristKeys)를 해시에 섞음. 같은 키를 다시 섞으면 빠짐. */
+    public void xorHash(long key) { hash ^= key; }
+
+    /** 특정 줄(y)이 가로로 꽉 찼는지 확인 */
+    public boolean isRowFull(int y) {
+        return (rowMasks[rowMap[y]] & FIELD_BITS) == FIELD_BITS;
+    }
+    
+    /** 지정된 좌표(y, x)에 테트로미노 블록을 설정. 줄의 블록 개수와 열 높이도 함께 갱신. */
+    public void setCell(int y, int x, Tetromino tetromino) {
+        int row = rowMap[y];
+        int ordinal = tetromino.ordinal();
+        int shift = x * COLOR_BITS;
+        int bit = 1 << (x + WALL_WIDTH);
+        boolean wasFilled = (rowMasks[row] & bit) != 0;
+        colorRows[row] = (colorRows[row] & ~(COLOR_MASK << shift)) | (ordinal << shift);
+
+        if (ordinal == EMPTY_CELL) {
+            if (!wasFilled) return;
+            rowMasks[row] &= ~bit;
+            hash ^= ZobristKeys.cell(y, x);
+            rowBlockCounts[row]--;
+            // 맨 위 블록이 지워졌다면 그 열의 새 맨 위 블록을 찾음
+            if (columnTops[x] == y) {
+                columnTops[x] = findColumnTop(x, y + 1);
+            }
+        } else {
+            if (wasFilled) return;
+            rowMasks[row] |= bit;
+            hash ^= ZobristKeys.cell(y, x);
+            rowBlockCounts[row]++;
+            if (y < columnTops[x]) {
+                columnTops[x] = y;
+            }
+        }
+    }
+    
+    /** 지정된 좌표(y, x)의 블록을 빈 칸으로 만듦 */
+    public void removeCell(int y, int x) {
+    	setCell(y, x, Tetromino.EMPTY);
+    }
+
+    /**
+     * fromY ~ toY 줄 중 꽉 찬 줄을 모두 제거하고, 그 위의 줄들을 아래로 내림.
+     * 칸을 옮기지 않고 줄 포인터만 내리며, 제거된 물리 줄은 비운 뒤 맨 위 빈 줄로 재활용함.
+     * 포인터 이동은 '가장 아래 제거 줄 ~ 스택 맨 위' 구간에서만 일어나고, 그 위의 빈 줄은 그대로 둠.
+     * @param fromY 검사할 가장 위 줄 (필드 밖이면 잘라냄)
+     * @param toY 검사할 가장 아래 줄 (필드 밖이면 잘라냄)
+     * @return 제거된 줄 수
+     */
+    public int clearFullRows(int fromY, int toY) {
+        fromY = Math.max(fromY, 0);
+        toY = Math.min(toY, TOTAL_Y_SIZE - 1);
+
+        // 1. 가장 아래의 꽉 찬 줄을 찾음. 없으면 할 일이 없음.
+        int lowest = toY;
+        while (lowest >= fromY && !isRowFull(lowest)) {
+            lowest--;
+        }
+        if (lowest < fromY) return 0;
+
+        // 2. 아래에서 위로 올라가며 꽉 찬 줄은 재활용 목록으로, 나머지는 cleared 칸만큼 아래로 포인터 이동.
+        //    검사 범위 위쪽과 스택 맨 위 위쪽의 빈 줄은 더 내릴 필요 없이 그 자리에서 멈춤.
+        //    해시는 지운 줄의 키를 빼고, 내려간 줄마다 이전 위치와 새 위치의 줄 키를 XOR함 (빈 줄의 키는 0).
+        int stackTop = getStackTop();
+        int cleared = 0;
+        int read = lowest;
+        for (; read >= 0; read--) {
+            int row = rowMap[read];
+            if (read >= fromY && (rowMasks[row] & FIELD_BITS) == FIELD_BITS) {
+                recycledRows[cleared++] = row;
+                hash ^= ZobristKeys.row(read, FULL_ROW_BITS);
+            } else if (read < stackTop) {
+                break; // 이 위로는 모두 빈 줄이므로 그대로 둬도 됨
+            } else {
+                rowMap[read + cleared] = row;
+                int bits = (rowMasks[row] & FIELD_BITS) >>> WALL_WIDTH;
+                hash ^= ZobristKeys.moveRow(bits, read, read + cleared);
+            }
+        }
+
+        // 3. 제거된 물리 줄을 비워서, 내려온 줄들 바로 위(read+1 ~ read+cleared)에 빈 줄로 다시 연결
+        for (int i = 0; i < cleared; i++) {
+            int row = recycledRows[i];
+            clearPhysicalRow(row);
+            rowMap[read + 1 + i] = row;
+        }
+
+        recomputeColumnTops();
+        return cleared;
+    }
+
+    /**
+     * 필드 맨 아래에 쓰레기 줄(한 칸만 비어 있는 꽉 찬 줄)을 count개 밀어 넣고, 기존 줄들을 위로 올림.
+     * 맨 위 count개 물리 줄을 재활용하며 칸 복사 없이 포인터만 옮김.
+     * 맨 위로 밀려나는 줄에 블록이 있었다면 그 블록은 사라지므로, 게임오버 판정은 호출자가 해야 함.
+     * @param count 추가할 줄 수 (필드 높이를 넘으면 잘라냄)
+     * @param holeX 비워둘 칸의 x 좌표
+     * @param tetromino 쓰레기 블록에 사용할 색상
+     */
+    public void insertGarbageRows(int count, int holeX, Tetromino tetromino) {
+        count = Math.min(count, TOTAL_Y_SIZE);
+        if (count <= 0) return;
+
+        // 해시: 올라가는 줄마다 이전/새 위치의 줄 키를 XOR하고, 위로 밀려나는 줄의 키는 뺌 (빈 줄의 키는 0)
+        for (int y = getStackTop(); y < TOTAL_Y_SIZE; y++) {
+            int bits = (rowMasks[rowMap[y]] & FIELD_BITS) >>> WALL_WIDTH;
+            hash ^= y >= count ? ZobristKeys.moveRow(bits, y, y - count) : ZobristKeys.row(y, bits);
+        }
+
+        // 맨 위 count개의 물리 줄을 꺼내 두고, 나머지 포인터를 위로 올림
+        System.arraycopy(rowMap, 0, recycledRows, 0, count);
+        System.arraycopy(rowMap, count, rowMap, 0, TOTAL_Y_SIZE - count);
+
+        // 꺼낸 줄을 쓰레기 줄로 채워 맨 아래에 연결
+        int garbageMask = (EMPTY_ROW | FIELD_BITS) & ~(1 << (holeX + WALL_WIDTH));
+        int garbageColor = 0;
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            int ordinal = (x == holeX) ? EMPTY_CELL : tetromino.ordinal();
+            garbageColor |= ordinal << (x * COLOR_BITS);
+        }
+        int garbageBits = FULL_ROW_BITS & ~(1 << holeX);
+        for (int i = 0; i < count; i++) {
+            int row = recycledRows[i];
+            rowMasks[row] = (short) garbageMask;
+            colorRows[row] = garbageColor;
+            rowBlockCounts[row] = FIELD_X_COUNT - 1;
+            rowMap[TOTAL_Y_SIZE - count + i] = row;
+            hash ^= ZobristKeys.row(TOTAL_Y_SIZE - count + i, garbageBits);
+        }
+
+        recomputeColumnTops();
+    }
+    
+    /** 게임판과 줄 카운트를 모두 초기 상태로 리셋 */
+    public void resetField() {
+        hash ^= fieldHash(); // 필드 밖 상태의 키는 각 소유자가 리셋할 때 뺌
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            rowMap[y] = y;
+            clearPhysicalRow(y);
+        }
+        Arrays.fill(columnTops, TOTAL_Y_SIZE);
+    }
+
+    /**
+     * 줄 비트마스크로부터 모든 열의 높이를 다시 계산 (줄 제거 등 줄 단위 작업 후 호출).
+     * 위에서부터 줄을 내려가며 아직 블록을 못 찾은 열의 비트만 확인하므로,
+     * 모든 열을 찾는 순간 바로 끝남.
+     */
+    public void recomputeColumnTops() {
+        int[] tops = columnTopsScratch;
+        Arrays.fill(tops, TOTAL_Y_SIZE);
+        int found = 0; // 이미 맨 위 블록을 찾은 열의 비트
+        for (int y = 0; y < TOTAL_Y_SIZE && found != FIELD_BITS; y++) {
+            int bits = rowMasks[rowMap[y]] & FIELD_BITS & ~found;
+            found |= bits;
+            while (bits != 0) {
+                tops[Integer.numberOfTrailingZeros(bits) - WALL_WIDTH] = y;
+                bits &= bits - 1; // 가장 낮은 비트 제거
+            }
+        }
+        // 읽는 쪽(렌더러)이 중간 상태를 오래 보지 않도록 한 번에 복사
+        System.arraycopy(tops, 0, columnTops, 0, FIELD_X_COUNT);
+    }
+
+    /** 외부에서 게임판 데이터를 안전하게 읽을 수 있는 읽기 전용 뷰를 반환 */
+    public PlayfieldReader readFieldData() {
+        return readOnlyView;
+    }
+
+    // --- Private Methods ---
+    /** 스택의 맨 위(블록이 있는 가장 높은 줄)를 열 높이의 최솟값으로 구함. 빈 필드면 TOTAL_Y_SIZE. */
+    private int getStackTop() {
+        int top = TOTAL_Y_SIZE;
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            top = Math.min(top, columnTops[x]);
+        }
+        return top;
+    }
+
+    /** 모든 줄의 키를 XOR해 해시의 필드 부분을 처음부터 계산. */
+    private long fieldHash() {
+        long h = 0;
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            h ^= ZobristKeys.row(y, (rowMasks[rowMap[y]] & FIELD_BITS) >>> WALL_WIDTH);
+        }
+        return h;
+    }
+
+    /** 물리 줄(row)을 빈 줄로 만듦 */
+    private void clearPhysicalRow(int row) {
+        rowMasks[row] = EMPTY_ROW;
+        colorRows[row] = EMPTY_COLOR_ROW;
+        rowBlockCounts[row] = 0;
+    }
+
+    /** x열에서 fromY 줄부터 아래로 내려가며 처음 만나는 블록의 y 좌표를 찾음. 없으면 TOTAL_Y_SIZE. */
+    private int findColumnTop(int x, int fromY) {
+        int bit = 1 << (x + WALL_WIDTH);
+        for (int y = fromY; y < TOTAL_Y_SIZE; y++) {
+            if ((rowMasks[rowMap[y]] & bit) != 0) return y;
+        }
+        return TOTAL_Y_SIZE;
+    }
+
+    // --- Inner Interface ---
+    /**
+     * 외부에서 게임판 데이터를 안전하게 읽기 위한 '읽기 전용' 인터페이스.
+     * 내부 배열을 직접 노출하지 않고 특정 좌표의 값만 조회하도록 함.
+     */
+    public interface PlayfieldReader {
+        int get(int y, int x);
+    }
+}
@@ -1,81 +1,139 @@
-package tetris.data.dto;
-
-import static tetris.data.constant.Tetromino.TETROMINO_TYPE_COUNT;
-
-import tetris.data.constant.Tetromino;
-import tetris.logic.core.WELL1024a;
-
-/**
- * 7-Bag 시스템을 구현한 테트로미노 공급 객체.
- * 7개의 서로 다른 테트로미노 한 세트를 무작위 순서로 제공.
- */
-public class TetrominoBag {
-    
-    // --- Static Fields ---
-    private static final int CURRENT_BAG = 0; // 현재 사용 중인 가방 인덱스
-    private static final int NEXT_POCKET = 1; // 다음에 사용할 가방 인덱스 (원본 변수명 존중)
-
-    // --- Instance Fields ---
-    private WELL1024a wellRng = new WELL1024a(); // 난수 생성기
-    private Tetromino[][] tetrominoBag = new Tetromino[2][TETROMINO_TYPE_COUNT]; // [0]: 현재, [1]: 다음
-
-    // --- Constructor ---
-    public TetrominoBag () {
-        // 첫 시작 시, '다음 가방'을 먼저 채우고 섞어둠.
-        for (int i = 0; i < TETROMINO_TYPE_COUNT; i++) 
-            tetrominoBag[NEXT_POCKET][i] = Tetromino.fromOrdinal(i);
-        shuffleBag(tetrominoBag[NEXT_POCKET]);
-        
-        // 그 후, '다음 가방'을 '현재 가방'으로 만들고 새 '다음 가방'을 준비.
-        advanceBag();
-    }
-
-    // --- Public Methods ---
-    /**
-     * 현재 가방과 다음 가방의 상태를 복사하여 반환 (외부 조작 방지용).
-     * UI의 'Next' 블록 표시에 주로 사용됨.
-     */
-    public Tetromino[][] getBagCopy() {
-    	Tetromino[][] copy = new Tetromino[2][TETROMINO_TYPE_COUNT];
-    	
-        System.arraycopy(tetrominoBag[CURRENT_BAG], 0, 
-        				 copy[CURRENT_BAG], 0, 
-        				 tetrominoBag[CURRENT_BAG].length);
-        
-        System.arraycopy(tetrominoBag[NEXT_POCKET], 0, 
-        				 copy[NEXT_POCKET], 0, 
-        				 tetrominoBag[NEXT_POCKET].length);
-        
-        return copy;
-    }
-
-    /**
-     * '다음 가방'을 '현재 가방'으로 가져오고,
-     * 비어있는 '다음 가방'은 새로 7개의 블록을 채워 섞어둔다.
-     */
-    public void advanceBag() {
-        System.arraycopy(tetrominoBag[NEXT_POCKET], 0, 
-                         tetrominoBag[CURRENT_BAG], 0, 
-                         tetrominoBag[NEXT_POCKET].length);
-        
-        // 다음 가방 새로 채우기
-        for (int i = 0; i < TETROMINO_TYPE_COUNT; i++) {
-            tetrominoBag[NEXT_POCKET][i] = Tetromino.fromOrdinal(i);
-        }
-        shuffleBag(tetrominoBag[NEXT_POCKET]);
-    }
-
-    // --- Private Methods ---
-    /**
-     * Fisher-Yates 셔플 알고리즘을 사용하여 배열의 순서를 무작위로 섞음.
-     * @param array 섞을 테트로미노 배열
-     */
-    private void shuffleBag(Tetromino[] array) {
-        for (int i = array.length - 1; i > 0; i--) {
-            int j = (int)(wellRng.WELLRNG1024a() * (i + 1));
-            Tetromino temp = array[i];
-            array[i] = array[j];
-            array[j] = temp;
-        }
-    }
+package tetris.data.dto;
+
+import static tetris.data.constant.Tetromino.TETROMINO_TYPE_COUNT;
+
+import java.util.Random;
+
+import tetris.data.constant.Tetromino;
+import tetris.logic.core.WELL1024a;
+
+/**
+ * 7-Bag 시스템을 구현한 테트로미노 공급 객체.
+ * 7개의 서로 다른 테트로미노 한 세트를 무작위 순서로 제공.
+ * 같은 시드(또는 같은 난수 생성기 상태)로 만든 가방은 항상 같은 순서로 블록을 내놓으므로,
+ * 리플레이나 병렬 시뮬레이션에서 블록 순서를 재현할 수 있음.
+ */
+public class TetrominoBag {
+    
+    // --- Static Fields ---
+    private static final int CURRENT_BAG = 0; // 현재 사용 중인 가방 인덱스
+    private static final int NEXT_POCKET = 1; // 다음에 사용할 가방 인덱스 (원본 변수명 존중)
+
+    // --- Instance Fields ---
+    private final WELL1024a wellRng; // 난수 생성기
+    private final long seed;         // 가방을 만든 시드 (hasSeed가 false면 의미 없음)
+    private final boolean hasSeed;   // 시드로 만든 가방인지 여부 (리플레이 기록 가능 여부)
+    private Tetromino[][] tetrominoBag = new Tetromino[2][TETROMINO_TYPE_COUNT]; // [0]: 현재, [1]: 다음
+    private int cursor = TETROMINO_TYPE_COUNT; // 현재 가방에서 마지막으로 꺼낸 위치 (처음엔 다 쓴 상태)
+
+    // --- Constructor ---
+    /** 매번 다른 순서의 가방을 생성. 시드는 무작위로 정하되 기록해 두므로, 이 게임도 리플레이로 남길 수 있음. */
+    public TetrominoBag () {
+        this(new Random().nextLong());
+    }
+
+    /** 주어진 시드로 블록 순서가 결정되는 가방을 생성. */
+    public TetrominoBag(long seed) {
+        this(new WELL1024a(seed), seed, true);
+    }
+
+    /**
+     * 주어진 난수 생성기를 사용하는 가방을 생성.
+     * 병렬 시뮬레이션에서는 하나의 생성기를 split()해서 가방마다 독립된 스트림을 넘겨주면 됨.
+     * 생성기의 시드를 알 수 없으므로 이 가방으로 진행한 게임은 리플레이로 기록할 수 없음.
+     */
+    public TetrominoBag(WELL1024a rng) {
+        this(rng, 0L, false);
+    }
+
+    private TetrominoBag(WELL1024a rng, long seed, boolean hasSeed) {
+        this.wellRng = rng;
+        this.seed = seed;
+        this.hasSeed = hasSeed;
+        // 첫 시작 시, '다음 가방'을 먼저 채우고 섞어둠.
+        for (int i = 0; i < TETROMINO_TYPE_COUNT; i++) 
+            tetrominoBag[NEXT_POCKET][i] = Tetromino.fromOrdinal(i);
+        shuffleBag(tetrominoBag[NEXT_POCKET]);
+        
+        // 그 후, '다음 가방'을 '현재 가방'으로 만들고 새 '다음 가방'을 준비.
+        advanceBag();
+    }
+
+    // --- Public Methods ---
+    /** 시드로 만든 가방인지 여부를 반환. */
+    public boolean hasSeed() { return hasSeed; }
+
+    /** 가방을 만든 시드를 반환. 시드 없이 만든 가방이면 IllegalStateException. */
+    public long getSeed() {
+        if (!hasSeed) {
+            throw new IllegalStateException("bag was not created from a seed");
+        }
+        return seed;
+    }
+
+    /**
+     * 다음 블록을 하나 꺼냄. 현재 가방을 다 쓰면 다음 가방으로 넘어가고 새 가방을 섞어 둠.
+     * 할당이 없으며, PieceQueue가 미리보기 큐를 채울 때 사용.
+     */
+    public Tetromino next() {
+        if (++cursor >= TETROMINO_TYPE_COUNT) {
+            advanceBag();
+            cursor = 0;
+        }
+        return tetrominoBag[CURRENT_BAG][cursor];
+    }
+
+    /** 현재 가방의 남은 블록을 버리고, 다음 next()부터 새 가방에서 꺼내도록 함 (게임 재시작 시). */
+    public void startNewBag() {
+        cursor = TETROMINO_TYPE_COUNT;
+    }
+
+    /**
+     * 현재 가방과 다음 가방의 상태를 복사하여 반환 (외부 조작 방지용, 디버깅용).
+     * 미리보기 표시는 PieceQueue의 읽기 전용 뷰를 사용.
+     */
+    public Tetromino[][] getBagCopy() {
+    	Tetromino[][] copy = new Tetromino[2][TETROMINO_TYPE_COUNT];
+    	
+        System.arraycopy(tetrominoBag[CURRENT_BAG], 0, 
+        				 copy[CURRENT_BAG], 0, 
+        				 tetrominoBag[CURRENT_BAG].length);
+        
+        System.arraycopy(tetrominoBag[NEXT_POCKET], 0, 
+        				 copy[NEXT_POCKET], 0, 
+        				 tetrominoBag[NEXT_POCKET].length);
+        
+        return copy;
+    }
+
+    /**
+     * '다음 가방'을 '현재 가방'으로 가져오고,
+     * 비어있는 '다음 가방'은 새로 7개의 블록을 채워 섞어둔다.
+     */
+    public void advanceBag() {
+        System.arraycopy(tetrominoBag[NEXT_POCKET], 0, 
+                         tetrominoBag[CURRENT_BAG], 0, 
+                         tetrominoBag[NEXT_POCKET].length);
+        
+        // 다음 가방 새로 채우기
+        for (int i = 0; i < TETROMINO_TYPE_COUNT; i++) {
+            tetrominoBag[NEXT_POCKET][i] = Tetromino.fromOrdinal(i);
+        }
+        shuffleBag(tetrominoBag[NEXT_POCKET]);
+    }
+
+    // --- Private Methods ---
+    /**
+     * Fisher-Yates 셔플 알고리즘을 사용하여 배열의 순서를 무작위로 섞음.
+     * 인덱스는 double 변환 없이 정수 난수에서 바로 뽑음 (편향 없음).
+     * @param array 섞을 테트로미노 배열
+     */
+    private void shuffleBag(Tetromino[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = wellRng.nextInt(i + 1);
+            Tetromino temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
 }
\ No newline at end of file
@@ -1,59 +1,124 @@
-package tetris.data.dto;
-
-import java.awt.Point;
-
-import tetris.data.constant.Tetromino;
-
-/** 현재 플레이어가 조작 중인 테트로미노의 상태(종류, 위치 등)를 담는 데이터 객체 */
-public class TetrominoState {
-
-    private Tetromino currentTetromino; // 현재 블록의 종류 (I, J, L, ...)
-    private Point tetrominoOffset = new Point(); // 블록의 기준 좌표 (보통 4x4 그리드의 좌상단)
-    private Point[] tetrominoCoords = new Point[4]; // 필드 내 4개 미노의 실제 절대 좌표
-
-    public TetrominoState() {
-        // 필드들을 null이 아닌 기본값으로 초기화
-        for (int i = 0; i < tetrominoCoords.length; i++) {
-            tetrominoCoords[i] = new Point();
-        }
-        this.currentTetromino = Tetromino.EMPTY;
-    }
-
-    // --- Getters & Setters ---
-
-    /** 현재 테트로미노 종류를 반환 */
-    public Tetromino getCurrentTetromino() { return currentTetromino; }
-    /**
-     * 현재 테트로미노 종류를 설정.
-     * @param tetromino 설정할 테트로미노
-     */
-    public void setCurrentTetromino(Tetromino tetromino) {
-        // Heisenbug 주석: 이 버그는 tetromino가 null일 때 발생할 수 있습니다.
-        // tetromino == Tetromino.EMPTY 비교는 tetromino가 null이 아닐 때만 안전합니다.
-        if (tetromino == null || tetromino == Tetromino.EMPTY)
-        if (tetromino == Tetromino.EMPTY)
-            throw new IllegalStateException("Current tetromino is EMPTY. This should never happen.");
-        this.currentTetromino = tetromino;
-    }
-    
-    /** 테트로미노 기준 좌표(offset)를 복사해서 반환 */
-    public Point getTetrominoOffset() { return (Point) tetrominoOffset.clone(); }
-    /** 테트로미노 기준 좌표(offset)를 새로운 Point 객체로 설정 (깊은 복사) */
-    public void setTetrominoOffset(Point tetrominoOffset) { this.tetrominoOffset = new Point(tetrominoOffset); }
-
-    /** 4개 미노의 절대 좌표 배열을 복사해서 반환 */
-    public Point[] getTetrominoCoords() {
-        Point[] copy = new Point[tetrominoCoords.length];
-        for (int i = 0; i < tetrominoCoords.length; i++) {
-            copy[i] = new Point(tetrominoCoords[i]);
-        }
-        return copy;
-    }
-    
-    /** 4개 미노의 절대 좌표를 새로운 좌표값으로 업데이트 */
-    public void setTetrominoCoords(Point[] newCoords) {
-        for (int i = 0; i < Math.min(tetrominoCoords.length, newCoords.length); i++) {
-            tetrominoCoords[i].setLocation(newCoords[i]);
-        }
-    }
-}
\ No newline at end of file
+package tetris.data.dto;
+
+import java.awt.Point;
+
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+
+/**
+ * 현재 플레이어가 조작 중인 테트로미노의 상태(종류, 위치 등)를 담는 데이터 객체.
+ * 
+ * 종류, 회전 상태, x, y를 int 하나에 비트 단위로 압축해서 저장.
+ * 이동/회전/충돌 검사 중에 Point 같은 객체를 만들 필요가 없고, 한 번의 읽기로 일관된 상태를 얻을 수 있음.
+ * (비트 0~2: 종류, 3~4: 회전, 8~15: x, 16~23: y. x, y는 부호 있는 8비트)
+ */
+public class TetrominoState {
+
+    // --- Static Fields ---
+    private static final int TYPE_SHIFT = 0;
+    private static final int TYPE_MASK = 0x7;
+    private static final int ROTATION_SHIFT = 3;
+    private static final int ROTATION_MASK = 0x3;
+    private static final int X_SHIFT = 8;
+    private static final int Y_SHIFT = 16;
+    private static final int COORD_MASK = 0xFF;
+
+    // values()는 호출할 때마다 배열을 복사하므로 한 번만 만들어 재사용
+    private static final Tetromino[] TETROMINOES = Tetromino.values();
+    private static final SpinState[] SPIN_STATES = SpinState.values();
+
+    // --- Instance Fields ---
+    // 종류, 회전, 기준 좌표(4x4 그리드의 좌상단)를 압축한 값
+    private volatile int packed;
+
+    public TetrominoState() {
+        // 필드들을 null이 아닌 기본값으로 초기화
+        this.packed = pack(Tetromino.EMPTY.ordinal(), SpinState.S0.ordinal(), 0, 0);
+    }
+
+    // --- Static Methods (Packing) ---
+    /** 종류, 회전, x, y를 int 하나로 압축. */
+    public static int pack(int type, int rotation, int x, int y) {
+        return (type & TYPE_MASK) << TYPE_SHIFT
+             | (rotation & ROTATION_MASK) << ROTATION_SHIFT
+             | (x & COORD_MASK) << X_SHIFT
+             | (y & COORD_MASK) << Y_SHIFT;
+    }
+
+    /** 압축된 값에서 종류(Tetromino ordinal)를 꺼냄. */
+    public static int unpackType(int packed) { return (packed >>> TYPE_SHIFT) & TYPE_MASK; }
+    /** 압축된 값에서 회전 상태(SpinState ordinal)를 꺼냄. */
+    public static int unpackRotation(int packed) { return (packed >>> ROTATION_SHIFT) & ROTATION_MASK; }
+    /** 압축된 값에서 x 좌표를 꺼냄 (부호 복원). */
+    public static int unpackX(int packed) { return (byte) (packed >>> X_SHIFT); }
+    /** 압축된 값에서 y 좌표를 꺼냄 (부호 복원). */
+    public static int unpackY(int packed) { return (byte) (packed >>> Y_SHIFT); }
+
+    // --- Getters & Setters ---
+
+    /** 종류, 회전, 위치가 모두 담긴 압축 값을 반환 (스냅샷, 기록용). */
+    public int getPacked() { return packed; }
+    /** 압축 값을 통째로 설정. */
+    public void setPacked(int packed) { this.packed = packed; }
+
+    /** 현재 테트로미노 종류를 반환 */
+    public Tetromino getCurrentTetromino() { return TETROMINOES[unpackType(packed)]; }
+    /**
+     * 현재 테트로미노 종류를 설정.
+     * @param tetromino 설정할 테트로미노
+     */
+    public void setCurrentTetromino(Tetromino tetromino) {
+        // Heisenbug 주석: 이 버그는 tetromino가 null일 때 발생할 수 있습니다.
+        // tetromino == Tetromino.EMPTY 비교는 tetromino가 null이 아닐 때만 안전합니다.
+        if (tetromino == null || tetromino == Tetromino.EMPTY)
+        if (tetromino == Tetromino.EMPTY)
+            throw new IllegalStateException("Current tetromino is EMPTY. This should never happen.");
+        int p = packed;
+        packed = pack(tetromino.ordinal(), unpackRotation(p), unpackX(p), unpackY(p));
+    }
+
+    /** 현재 회전 상태를 반환 */
+    public SpinState getRotation() { return SPIN_STATES[unpackRotation(packed)]; }
+    /** 현재 회전 상태를 설정 */
+    public void setRotation(SpinState rotation) {
+        int p = packed;
+        packed = pack(unpackType(p), rotation.ordinal(), unpackX(p), unpackY(p));
+    }
+
+    /** 기준 x 좌표를 반환 */
+    public int getX() { return unpackX(packed); }
+    /** 기준 y 좌표를 반환 */
+    public int getY() { return unpackY(packed); }
+
+    /** 기준 좌표를 (x, y)로 설정 */
+    public void setPosition(int x, int y) {
+        int p = packed;
+        packed = pack(unpackType(p), unpackRotation(p), x, y);
+    }
+
+    /** 회전 상태와 기준 좌표를 한 번에 설정 (회전 + 월킥 적용 시) */
+    public void setRotationAndPosition(SpinState rotation, int x, int y) {
+        packed = pack(unpackType(packed), rotation.ordinal(), x, y);
+    }
+
+    /** 현재 종류와 회전 상태에 해당하는 4x4 모양 마스크를 반환 (미리 계산된 테이블 조회) */
+    public int getShapeMask() {
+        int p = packed;
+        return TetrominoGeometry.shapeMask(unpackType(p), unpackRotation(p));
+    }
+
+    /**
+     * 4개 미노의 상대 좌표 배열을 새로 만들어 반환 (디버그 출력용).
+     * 게임 로직은 이 메서드 대신 TetrominoGeometry 테이블을 직접 읽음.
+     */
+    public Point[] getTetrominoCoords() {
+        int p = packed;
+        Point[] copy = new Point[TetrominoGeometry.MINO_COUNT];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = new Point(TetrominoGeometry.cellX(unpackType(p), unpackRotation(p), i),
+                                TetrominoGeometry.cellY(unpackType(p), unpackRotation(p), i));
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,20 @@
+package tetris.logic;
+
+/**
+ * 엔진이 처리하는 플레이어 조작을 지켜보는 '조작 관찰자' 인터페이스.
+ * 키 입력, 봇, 컨트롤러 등 어떤 경로로 들어온 조작이든 {@link TetrisEngine#perform(PlayerAction)}을 거치므로,
+ * 리플레이 기록기가 이 한 곳만 지켜보면 게임의 모든 입력을 빠짐없이 기록할 수 있음.
+ */
+@FunctionalInterface
+public interface ActionObserver {
+
+    /** 아무것도 하지 않는 기본 관찰자. */
+    ActionObserver NONE = (frame, action) -> {};
+
+    /**
+     * 조작이 처리되기 직전에 게임 루프 스레드(또는 헤드리스 호출자)에서 호출됨.
+     * @param frame 조작이 처리되는 시점까지 진행된 프레임 수 ({@link TetrisEngine#getFrameCount()})
+     * @param action 처리할 조작
+     */
+    void onAction(long frame, PlayerAction action);
+}
@@ -0,0 +1,15 @@
+package tetris.logic;
+
+/**
+ * 엔진의 상태 변화를 화면(또는 다른 출력)에 반영하는 '프레임 출력 대상' 인터페이스.
+ * TetrisEngine은 이 인터페이스에만 의존하므로, Swing 창 없이도(헤드리스) 동작할 수 있음.
+ */
+@FunctionalInterface
+public interface FrameSink {
+
+    /** 아무것도 그리지 않는 헤드리스용 출력 대상. 봇, 시뮬레이션, 회귀 테스트 실행에 사용. */
+    FrameSink NONE = () -> {};
+
+    /** 엔진 상태가 바뀌었음을 알림. 구현체는 화면 갱신 등을 수행. */
+    void refreshScreen();
+}
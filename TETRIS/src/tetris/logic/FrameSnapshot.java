@@ -0,0 +1,169 @@
+package tetris.logic;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.constant.Tetromino;
+import tetris.data.dto.PieceQueue;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.data.DataManager;
+import tetris.logic.scoring.ScoreAction;
+import tetris.logic.scoring.ScoreManager;
+
+/**
+ * 엔진이 시뮬레이션 한 프레임을 진행할 때마다 공개하는 화면용 상태 스냅샷.
+ * 보이는 필드 줄, 현재 블록과 고스트, 홀드, 다음 블록 큐, HUD 값(점수, 레벨 등), 게임 상태를 한 시점의 값으로 담음.
+ *
+ * 엔진은 스냅샷 3개를 돌려 쓰며(triple buffering) 채운 스냅샷을 volatile 참조 하나로 공개하므로,
+ * 공개할 때 할당이 없고 읽는 쪽은 락 없이 필드를 그대로 읽음. 읽는 동안 스냅샷이 두 번 더 공개되면
+ * 그 객체가 다시 채워질 수 있으므로, 버전으로 확인함 (seqlock 방식, 쓰는 중에는 버전이 홀수):
+ * <pre>
+ * FrameSnapshot s = engine.getSnapshot();
+ * long v = s.getVersion();       // 홀수면 다시 getSnapshot()
+ * ... s의 값을 읽거나 그림 ...
+ * if (!s.isConsistent(v)) ...    // 읽는 사이 다시 채워졌으므로 처음부터 다시
+ * </pre>
+ * 한 프레임(보통 16ms) 안에 읽기를 마치는 화면 그리기에서는 다시 읽을 일이 거의 없음.
+ */
+public final class FrameSnapshot {
+
+    // --- Instance Fields ---
+    private volatile long version = 0; // 공개 순번 x 2 (채우는 중에는 홀수)
+
+    private final int[] rows = new int[FIELD_Y_COUNT]; // 보이는 줄 값 (PlayField.getColorRow 형식, 위에서부터)
+    private boolean hasPiece = false;  // 조작 중인 블록이 있는지 여부
+    private int piece;                 // 현재 블록 상태 (TetrominoState 압축 형식)
+    private int ghostY;                // 고스트(하드 드롭 위치)의 y 좌표
+    private Tetromino held = Tetromino.EMPTY; // 홀드된 블록 (없으면 EMPTY)
+    private final Tetromino[] preview = new Tetromino[PieceQueue.MAX_PREVIEW_DEPTH]; // 다음 블록들
+    private int previewCount = 0;      // 다음 블록 수 (미리보기 깊이)
+    private boolean holdAvailable = true; // 이번 블록에서 아직 홀드를 쓰지 않았는지 여부
+    private boolean controllable = false; // 플레이 중이고 생성 지연이 아니라 블록을 조작할 수 있는지 여부
+    private long lockedPieceCount;     // 엔진이 지금까지 고정한 블록 수
+
+    // HUD 값
+    private long score;
+    private int clearedLines;
+    private int level;
+    private int tetrisCount;
+    private int tSpinCount;
+    private int comboCount;
+    private ScoreAction lastAction;
+    private boolean backToBack;
+    private GameStateCode state = GameStateCode.READY;
+    private long frame;                // 엔진이 지금까지 진행한 프레임 수
+
+    // --- Constructor ---
+    FrameSnapshot() {
+        Arrays.fill(rows, -1); // 모든 칸이 EMPTY인 줄
+        Arrays.fill(preview, Tetromino.EMPTY);
+    }
+
+    // --- Public Methods ---
+    /** 이 스냅샷의 버전을 반환. 짝수면 다 채워진 상태이며, 공개될 때마다 커짐. */
+    public long getVersion() { return version; }
+
+    /** 버전 v로 읽기 시작한 뒤 지금까지 다시 채워지지 않았는지 확인. 읽기를 모두 마친 뒤 호출. */
+    public boolean isConsistent(long v) {
+        VarHandle.acquireFence(); // 앞선 읽기가 아래 버전 재확인보다 늦어지지 않도록
+        return version == v;
+    }
+
+    /** 화면 기준 r번째(0 = 맨 위) 보이는 줄 값을 반환 (PlayField.getColorRow 형식, 칸은 PlayField.cellOf로 꺼냄). */
+    public int getRow(int r) { return rows[r]; }
+
+    /** 조작 중인 블록이 있는지 여부를 반환 (첫 블록 생성 전이면 false). */
+    public boolean hasPiece() { return hasPiece; }
+
+    /** 현재 블록 상태를 반환 (TetrominoState 압축 형식). hasPiece()가 true일 때만 의미 있음. */
+    public int getPiece() { return piece; }
+
+    /** 고스트의 y 좌표를 반환. hasPiece()가 true일 때만 의미 있음. */
+    public int getGhostY() { return ghostY; }
+
+    /** 홀드된 블록을 반환 (없으면 EMPTY). */
+    public Tetromino getHeld() { return held; }
+
+    /** 이번 블록에서 아직 홀드를 쓰지 않아 홀드할 수 있는지 여부를 반환. */
+    public boolean isHoldAvailable() { return holdAvailable; }
+
+    /** 플레이 중이고 생성 지연이 아니라 현재 블록을 조작할 수 있는지 여부를 반환. */
+    public boolean isControllable() { return controllable; }
+
+    /** 엔진이 지금까지 고정한 블록 수를 반환 (재시작해도 누적). 값이 바뀌면 새 블록 차례. */
+    public long getLockedPieceCount() { return lockedPieceCount; }
+
+    /** 다음 블록 수(미리보기 깊이)를 반환. */
+    public int getPreviewCount() { return previewCount; }
+
+    /**
+     * i번째 다음 블록을 반환 (0 = 바로 다음).
+     * 미리보기 깊이를 넘는 i는 예외 대신 이전 값이나 EMPTY를 돌려주므로, 다시 채워지는 중에 읽어도 안전함.
+     */
+    public Tetromino getPreview(int i) {
+        if (i < 0 || i >= PieceQueue.MAX_PREVIEW_DEPTH) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return preview[i];
+    }
+
+    public long getScore() { return score; }
+    public int getClearedLines() { return clearedLines; }
+    public int getLevel() { return level; }
+    public int getTetrisCount() { return tetrisCount; }
+    public int getTSpinCount() { return tSpinCount; }
+    public int getComboCount() { return comboCount; }
+    public ScoreAction getLastAction() { return lastAction; }
+    public boolean isBackToBack() { return backToBack; }
+    public GameStateCode getState() { return state; }
+    public long getFrame() { return frame; }
+
+    // --- Package-Private Methods ---
+    /**
+     * 엔진의 현재 상태로 스냅샷을 채움 (게임 루프 스레드 전용).
+     * 버전을 홀수로 바꾼 뒤 채우고, 마지막에 짝수 버전으로 바꿔 완성을 알림.
+     * @param newVersion 새 버전 (짝수)
+     */
+    void capture(long newVersion, TetrisEngine engine) {
+        version = newVersion - 1;
+        VarHandle.storeStoreFence(); // 아래 쓰기가 홀수 버전보다 먼저 보이지 않도록
+
+        DataManager data = engine.getDataManager();
+        PlayField field = data.getPlayField();
+        for (int r = 0; r < FIELD_Y_COUNT; r++) {
+            rows[r] = field.getColorRow(r + BUFFER_ZONE);
+        }
+
+        int packed = data.getTetrominoState().getPacked();
+        Tetromino type = Tetromino.fromOrdinal(TetrominoState.unpackType(packed));
+        hasPiece = type != null && type != Tetromino.EMPTY;
+        piece = packed;
+        ghostY = hasPiece ? engine.getTetrominoMover().getHardDropY(packed) : 0;
+
+        Tetromino h = engine.getHoldHandler().getHeldTetromino();
+        held = h == null ? Tetromino.EMPTY : h;
+        holdAvailable = !engine.getHoldHandler().isHoldUsed();
+        previewCount = engine.getPiecePreview().copyTo(preview);
+
+        ScoreManager s = engine.getScoreManager();
+        score = s.getScore();
+        clearedLines = s.getTotalClearedLine();
+        level = s.getLevel();
+        tetrisCount = s.getTetrisCount();
+        tSpinCount = s.getTSpinCount();
+        comboCount = s.getComboCount();
+        lastAction = s.getLastAction();
+        backToBack = s.getIsB2B();
+        state = data.getGameState().getCurrentState();
+        controllable = hasPiece && state == GameStateCode.PLAYING && !engine.isSpawnDelayed();
+        lockedPieceCount = engine.getLockedPieceCount();
+        frame = engine.getFrameCount();
+
+        version = newVersion; // volatile 쓰기: 위의 모든 쓰기를 함께 공개
+    }
+}
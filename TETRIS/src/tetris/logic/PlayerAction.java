@@ -0,0 +1,18 @@
+package tetris.logic;
+
+/**
+ * 플레이어가 엔진에 요청할 수 있는 조작 목록.
+ * 입력 스레드(EDT 등)는 이 값을 엔진에 제출만 하고, 실제 처리는 게임 루프가 프레임 시작 시 수행.
+ */
+public enum PlayerAction {
+    MOVE_LEFT,        // 왼쪽 이동
+    MOVE_RIGHT,       // 오른쪽 이동
+    ROTATE_CW,        // 시계방향 회전
+    ROTATE_CCW,       // 반시계방향 회전
+    SOFT_DROP_START,  // 소프트 드롭 시작
+    SOFT_DROP_STOP,   // 소프트 드롭 종료
+    HARD_DROP,        // 하드 드롭
+    HOLD,             // 홀드
+    TOGGLE_PAUSE,     // 일시정지 토글
+    RESTART           // 재시작 (게임오버 상태에서만 유효)
+}
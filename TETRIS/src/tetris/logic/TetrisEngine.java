@@ -1,272 +1,604 @@
-package tetris.logic;
-
-import javax.swing.SwingUtilities;
-
-import tetris.data.constant.GameConstants.GameStateCode;
-import tetris.data.constant.SpinState;
-import tetris.data.constant.Tetromino;
-import tetris.logic.core.GameTimer;
-import tetris.logic.core.LockDelayTimer;
-import tetris.logic.data.DataManager;
-import tetris.logic.field.CascadeHandler;
-import tetris.logic.scoring.ScoreAction;
-import tetris.logic.scoring.ScoreManager;
-import tetris.logic.tetromino.CollisionChecker;
-import tetris.logic.tetromino.HoldHandler;
-import tetris.logic.tetromino.Spin;
-import tetris.logic.tetromino.TetrominoGenerator;
-import tetris.logic.tetromino.TetrominoMover;
-import tetris.ui.GameRenderer;
-
-/**
- * 테트리스 게임의 모든 로직을 총괄하고 조율하는 메인 엔진 클래스.
- * 각 로직 컴포넌트(이동, 회전, 점수 등)를 관리하고 게임의 흐름을 제어.
- */
-public class TetrisEngine {
-
-    // --- Static Fields ---
-    // 게임 시작 시 초기 블록 하강 속도 (1초)
-    private static final long INITIAL_DROP_INTERVAL = 1_000_000_000L;
-
-    // --- Instance Fields ---
-    // 핵심 데이터 및 로직 컴포넌트들
-    private final DataManager gameData;
-    private final ScoreManager gameScore;
-    private final CascadeHandler cascade;
-    private final CollisionChecker collisionChecker;
-    private final HoldHandler hold;
-    private final Spin spin;
-    private final TetrominoGenerator tetrominoGenerator;
-    private final TetrominoMover tetrominoMover;
-    private final GameRenderer gameRenderer;
-
-    // 타이머 관련 컴포넌트
-    private GameTimer gameTimer; // 주기적인 블록 하강을 처리하는 메인 타이머
-    private final LockDelayTimer lockDelay; // 블록 고정 지연 시간을 처리하는 타이머
-
-    // 게임 상태 변수
-    private volatile int lockDelayMoveCounter = 0; // 락 딜레이 중 이동/회전 횟수 카운터
-
-    // --- Constructor ---
-    public TetrisEngine(DataManager gameData) {
-        this.gameData = gameData;
-        
-        // 의존성 주입: 각 로직 컴포넌트들을 생성
-        this.gameScore = new ScoreManager(gameData, this);
-        this.cascade = new CascadeHandler(gameData, gameScore);
-        this.collisionChecker = new CollisionChecker(gameData);
-        this.hold = new HoldHandler(gameData, this);
-        this.spin = new Spin(gameData, this);
-        this.tetrominoGenerator = new TetrominoGenerator(gameData, this);
-        this.tetrominoMover = new TetrominoMover(gameData, this);
-        this.gameRenderer = new GameRenderer(gameData, this);
-
-        // 락 딜레이 타이머가 만료되었을 때 실행할 작업 정의
-        this.lockDelay = new LockDelayTimer(() -> {
-            // 바닥에 닿은 상태가 여전하다면 블록을 고정
-            if (!tetrominoMover.canMove(0, 1)) {
-                tetrominoMover.lockTetromino();
-                tetrominoGenerator.generateTetromino(); // 다음 블록 생성
-            }
-            gameRenderer.refreshScreen(); // 화면 갱신
-            startMainTimer(); // 메인 게임 타이머 재시작
-        });
-    }
-
-    // --- Public Methods: Game Flow Control ---
-    /** 게임을 시작. */
-    public void startTetris() {
-        gameData.getGameState().setCurrentState(GameStateCode.PLAYING);
-        tetrominoGenerator.generateTetromino();
-        // UI 관련 작업은 EDT(Event Dispatch Thread)에서 실행하도록 보장
-        SwingUtilities.invokeLater(() -> {
-            initGameTimer(INITIAL_DROP_INTERVAL);
-            startMainTimer();
-        });
-    }
-
-    /** 게임을 재시작. */
-    public synchronized void restartGame() {
-		resetGameData();
-		startTetris();
-		gameRenderer.refreshScreen();
-	}
-
-    /** 일시정지 상태를 토글. */
-    public void togglePauseState() {
-        gameData.getGameState().togglePause();
-        if (gameTimer != null) {
-            if (isPaused()) {
-                stopMainTimer();
-                stopLockDelay();
-            } else {
-                startMainTimer();
-            }
-        }
-    }
-
-    // --- Public Methods: Player Actions ---
-    /** 홀드 기능을 실행. */
-    public void hold() { hold.hold(); }
-    
-    // --- Public Methods: Timer Control ---
-    /** 메인 게임 타이머를 재시작 (정지 후 시작). */
-    public synchronized void restartMainTimer() {
-        stopMainTimer();
-        startMainTimer();
-    }
-    
-    /** 락 딜레이 타이머를 시작. */
-    public void startLockDelay() {
-        if (!lockDelay.isRunning()) {
-            lockDelay.start();
-        }
-    }
-
-    /** 락 딜레이 타이머를 정지. */
-    public void stopLockDelay() {
-        if (lockDelay.isRunning()) {
-            lockDelay.stop();
-        }
-    }
-    
-    /** 락 딜레이 타이머를 리셋 (시간 초기화). */
-    public void resetLockDelay() { lockDelay.reset(); }
-    
-    /** 메인 타이머의 간격(블록 하강 속도)을 설정. */
-    public void setIntervalNanos(long time) {
-		if (gameTimer != null) {
-			gameTimer.setIntervalNanos(time);
-		}
-	}
-    
-    // --- Public Methods: State & Data Access ---
-    /** 현재 일시정지 상태인지 확인. */
-    public boolean isPaused() { return gameData.getGameState().isPaused(); }
-    
-    /** 메인 타이머가 실행 중인지 확인. */
-    public boolean isMainTimerRunning() { return gameTimer != null && gameTimer.isRunning(); }
-
-    /** 락 딜레이 타이머가 실행 중인지 확인. */
-    public boolean isLockDelayRunning() { return lockDelay.isRunning(); }
-    
-    /** 락 딜레이 중 조작 횟수를 반환. */
-    public int getLockDelayCounter() { return lockDelayMoveCounter; }
-    /** 락 딜레이 중 조작 횟수를 1 증가. */
-    public void increaseLockDelayCounter() { lockDelayMoveCounter++; }
-    /** 락 딜레이 중 조작 횟수를 리셋. */
-    public void resetLockDelayCounter() { lockDelayMoveCounter = 0; }
-    
-    /** UI에 표시될 '다음 블록' 6개를 큐 형태로 반환. */
-    public Tetromino[] getBagPreviewQueue() {
-        Tetromino[] bagPreviewQueue = new Tetromino[6];
-        int currBagIndex = getTetrominoGenerator().getCurrentPocketIndex();
-        int bagNumber = 0; // 0: 현재 가방, 1: 다음 가방
-
-        for (int i = 0; i < 6; i++) {
-            // 현재 가방을 다 쓰면 다음 가방으로 넘어감
-            if (++currBagIndex >= 7) {
-                currBagIndex = 0;
-                bagNumber = 1;
-            }
-            bagPreviewQueue[i] = gameData.getBagCopy()[bagNumber][currBagIndex];
-        }
-        return bagPreviewQueue;
-    }
-    
-    /** 레벨에 따른 블록 하강 시간(nanos)을 계산하여 반환 (공식 기반). */
-    public long getDropTime(int level) {
-		return (long) (Math.pow(0.8 - ((level - 1) * 0.007), level - 1) * 1_000_000_000L);
-	}
-    
-    /** 현재 게임 상태 코드를 반환. */
-	public GameStateCode getCurrentState() { return gameData.getGameState().getCurrentState(); }
-
-    // --- Public Methods: Component Getters ---
-    public DataManager getDataManager() { return gameData; }
-    public CollisionChecker getCollisionChecker() { return collisionChecker; }
-    public TetrominoMover getTetrominoMover() { return tetrominoMover; }
-    public Spin getSpin() { return spin; }
-    public GameRenderer getGameRenderer() { return gameRenderer; }
-    public TetrominoGenerator getTetrominoGenerator() { return tetrominoGenerator; }
-    public HoldHandler getHoldHandler() { return hold; }
-    public CascadeHandler getCascadeHandler() { return cascade; }
-    public GameTimer getGameTimer() { return gameTimer; }
-    public ScoreManager getScoreManager() { return gameScore; }
-    
-    // --- Private Methods ---
-    /** 메인 게임 타이머를 생성하고 초기화. */
-    private void initGameTimer(long intervalNanos) {
-        if (gameTimer != null) {
-            gameTimer.stop();
-        }
-        gameTimer = new GameTimer(intervalNanos, this::tick);
-    }
-    
-    /** 메인 게임 타이머를 시작. */
-    private void startMainTimer() {
-        if (gameTimer != null && !gameTimer.isRunning()) {
-            stopLockDelay(); // 메인 타이머가 돌 때는 락 딜레이가 필요 없음
-            gameTimer.start();
-        }
-    }
-    
-    /** 메인 게임 타이머를 정지. */
-    private void stopMainTimer() {
-        if (gameTimer != null && gameTimer.isRunning()) {
-            gameTimer.stop();
-        }
-    }
-
-    /** 메인 타이머에 의해 주기적으로 호출되는 게임의 '한 틱(tick)'. */
-    private void tick() {
-        if (gameData.getGameState().getCurrentState() == GameStateCode.GAME_OVER) {
-            stopMainTimer();
-            stopLockDelay();
-            return;
-        }
-        
-        if (isPaused()) return;
-
-        // 블록이 바닥에 거의 닿았을 때 (2칸 이내), 메인 타이머를 멈추고 락 딜레이를 시작.
-        if (!tetrominoMover.canMove(0, 2)) {
-            stopMainTimer();
-            resetLockDelay();
-        }
-
-        tetrominoMover.drop(); // 블록을 한 칸 내림
-
-        // 소프트 드롭 중이면 추가 점수 획득
-        if (gameScore.isSoftDrop()) {
-            gameScore.increaseScore(ScoreAction.SOFT_DROP.getBaseScore());
-        }
-
-        gameRenderer.refreshScreen(); // 화면 갱신
-    }
-    
-    /** 모든 게임 데이터를 초기 상태로 리셋. */
-	private synchronized void resetGameData() {
-	    // 게임 상태 및 필드 초기화
-	    gameData.getGameState().setCurrentState(GameStateCode.READY);
-	    gameData.resetField();
-	    
-	    // 점수 및 스핀 상태 초기화
-	    gameScore.resetScoreData();
-	    getSpin().setSpinState(SpinState.S0);
-
-	    // 테트로미노 가방 및 생성기 상태 초기화
-	    gameData.getTetrominoBag().advanceBag();
-	    tetrominoGenerator.resetCurrentPocketIndex();
-	    gameData.getTetrominoState().setCurrentTetromino(gameData.getTetrominoBag().getBagCopy()[0][0]);
-
-	    // 홀드 상태 초기화
-	    hold.resetHeltTetromino();
-	    hold.resetIsHoldUsed();
-
-	    // 타이머 및 락 딜레이 상태 초기화
-	    lockDelayMoveCounter = 0;
-	    stopMainTimer();
-	    stopLockDelay();
-	    initGameTimer(INITIAL_DROP_INTERVAL);
-	}
-}
\ No newline at end of file
+package tetris.logic;
+
+import static tetris.data.constant.GameConstants.FRAME_RATE;
+import static tetris.data.constant.GameConstants.MAX_LOCK_RESET_COUNT;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.constant.SpinState;
+import tetris.data.dto.PieceQueue;
+import tetris.logic.core.CommandQueue;
+import tetris.logic.core.Deadline;
+import tetris.logic.core.GameLoop;
+import tetris.logic.core.TimerWheel;
+import tetris.logic.data.DataManager;
+import tetris.logic.field.CascadeHandler;
+import tetris.logic.input.InputProcessor;
+import tetris.logic.scoring.ScoreAction;
+import tetris.logic.scoring.ScoreManager;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.HoldHandler;
+import tetris.logic.tetromino.Spin;
+import tetris.logic.tetromino.TetrominoGenerator;
+import tetris.logic.tetromino.TetrominoMover;
+
+/**
+ * 테트리스 게임의 모든 로직을 총괄하고 조율하는 메인 엔진 클래스.
+ * 각 로직 컴포넌트(이동, 회전, 점수 등)를 관리하고 게임의 흐름을 제어.
+ * 중력, 락 딜레이, 입력 처리는 모두 고정 프레임 단위의 {@link #update()} 한 곳에서 진행됨.
+ *
+ * 엔진은 단일 작성자(single writer)로 동작함: 게임 상태를 바꾸는 스레드는 게임 루프 스레드
+ * (헤드리스면 update()를 호출하는 스레드) 하나뿐이므로, 로직 컴포넌트에는 락이 없음.
+ * 다른 스레드는 {@link #submit(PlayerAction)}으로 명령 큐에 넣기만 하고, 게임 루프가 프레임 시작 시 모두 꺼내 처리.
+ * 반대로 화면 등 읽는 쪽은 프레임마다 공개되는 {@link FrameSnapshot}({@link #getSnapshot()})만 읽음.
+ */
+public class TetrisEngine {
+
+    // --- Static Fields ---
+    // 게임 시작 시 초기 블록 하강 속도 (1초)
+    private static final long INITIAL_DROP_INTERVAL = 1_000_000_000L;
+    // 블록이 바닥에 닿은 후 고정되기까지의 지연 시간 (0.5초)
+    private static final long LOCK_DELAY_NANOS = 500_000_000L;
+    // 블록이 고정된 후 다음 블록이 나오기까지의 지연 시간 (ARE). 기본값은 지연 없음.
+    private static final long ENTRY_DELAY_NANOS = 0L;
+    // 줄이 지워졌을 때 추가로 기다리는 지연 시간. 기본값은 지연 없음.
+    private static final long LINE_CLEAR_DELAY_NANOS = 0L;
+    /** 소프트 드롭 시 하강 속도 배율의 기본값. */
+    public static final int DEFAULT_SOFT_DROP_FACTOR = 20;
+    // 1초 (나노초)
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // 한 프레임 사이에 쌓일 수 있는 제출된 조작의 최대 수
+    private static final int COMMAND_QUEUE_CAPACITY = 256;
+    // 돌려 쓰는 화면 스냅샷 수 (공개된 것, 다음에 채울 것, 읽는 쪽이 아직 보고 있을 수 있는 것)
+    private static final int SNAPSHOT_BUFFER_COUNT = 3;
+
+    // --- Instance Fields ---
+    // 핵심 데이터 및 로직 컴포넌트들
+    private final DataManager gameData;
+    private final ScoreManager gameScore;
+    private final CascadeHandler cascade;
+    private final CollisionChecker collisionChecker;
+    private final HoldHandler hold;
+    private final Spin spin;
+    private final TetrominoGenerator tetrominoGenerator;
+    private final TetrominoMover tetrominoMover;
+    private final InputProcessor input;
+
+    // 화면 출력 대상. 기본값은 헤드리스(NONE)이며, UI가 있을 때만 GameRenderer가 연결됨.
+    private volatile FrameSink frameSink = FrameSink.NONE;
+    // 처리하는 모든 조작을 지켜보는 관찰자 (리플레이 기록 등). 기본값은 아무것도 하지 않음.
+    private volatile ActionObserver actionObserver = ActionObserver.NONE;
+
+    // 게임 루프 관련 컴포넌트
+    private final GameLoop gameLoop; // 고정 프레임으로 update()를 호출하는 단일 시뮬레이션 스레드
+    private final int frameRate;     // 초당 프레임 수
+    // 다른 스레드가 제출한 플레이어 조작 (여러 생산자, 게임 루프 하나가 소비). 프레임 시작 시 모두 꺼내 처리.
+    private final CommandQueue<PlayerAction> pendingActions = new CommandQueue<>(COMMAND_QUEUE_CAPACITY);
+
+    // 데드라인 관련 컴포넌트. 타이머 휠은 프레임마다 한 틱씩 진행되며, 데드라인은 한 번 만들어 계속 재사용.
+    private final TimerWheel timerWheel = new TimerWheel();
+    private final Deadline lockDeadline;  // 락 딜레이 만료 시 블록 고정
+    private final Deadline spawnDeadline; // 생성 지연(ARE, 줄 제거 지연) 만료 시 다음 블록 생성
+
+    // 화면 스냅샷. 게임 루프 스레드가 돌려 가며 채우고, 다 채운 것을 volatile 참조 하나로 공개.
+    private final FrameSnapshot[] snapshotBuffers = new FrameSnapshot[SNAPSHOT_BUFFER_COUNT];
+    private volatile FrameSnapshot snapshot;
+    private long snapshotCount = 0; // 지금까지 공개한 스냅샷 수 (게임 루프 스레드 전용)
+
+    // 게임 상태 변수 (게임 루프 스레드에서만 변경)
+    // 누적 시간은 반올림 오차 없이 프레임 단위로 정확히 맞도록 '나노초 x 초당 프레임 수' 단위로 보관.
+    // (한 프레임 = NANOS_PER_SECOND, 예: 60Hz에서 1초 하강 간격은 정확히 60프레임)
+    private long dropIntervalNanos = INITIAL_DROP_INTERVAL; // 현재 레벨의 블록 하강 간격 (nanos)
+    private long gravityElapsed = 0;         // 마지막 하강 이후 누적된 시간
+    private long lockDelayFrames;            // 락 딜레이 길이 (프레임)
+    private long entryDelayFrames;           // 블록 생성 지연 길이 (프레임)
+    private long lineClearDelayFrames;       // 줄 제거 지연 길이 (프레임)
+    private int softDropFactor = DEFAULT_SOFT_DROP_FACTOR; // 소프트 드롭 시 하강 속도 배율
+    private int lockDelayMoveCounter = 0;   // 락 딜레이 중 이동/회전 횟수 카운터
+    private volatile long lockedPieceCount = 0; // 이 엔진에서 지금까지 고정된 블록 수 (재시작해도 누적, 처리량 측정용)
+    private long frameCount = 0;            // 지금까지 진행한 update() 횟수 (재시작해도 누적, 리플레이 시각 기준)
+    private boolean loopEnabled = true;     // 게임 루프 사용 여부. 헤드리스 실행 시 false.
+
+    // --- Constructor ---
+    public TetrisEngine(DataManager gameData) {
+        this(gameData, FRAME_RATE);
+    }
+
+    /**
+     * @param gameData 게임 데이터
+     * @param frameRate 시뮬레이션의 초당 프레임 수
+     */
+    public TetrisEngine(DataManager gameData, int frameRate) {
+        this.gameData = gameData;
+        
+        // 의존성 주입: 각 로직 컴포넌트들을 생성
+        this.gameScore = new ScoreManager(gameData, this);
+        this.cascade = new CascadeHandler(gameData, gameScore);
+        this.collisionChecker = new CollisionChecker(gameData);
+        this.hold = new HoldHandler(gameData, this);
+        this.spin = new Spin(gameData, this);
+        this.tetrominoGenerator = new TetrominoGenerator(gameData, this);
+        this.tetrominoMover = new TetrominoMover(gameData, this);
+        this.input = new InputProcessor(this);
+
+        // 프레임마다 시뮬레이션을 한 번 진행하고, 진행한 뒤 화면을 갱신
+        this.gameLoop = new GameLoop(frameRate, this::update, this::refreshScreen);
+        this.frameRate = frameRate;
+
+        // 데드라인 정의 및 길이(프레임) 설정
+        this.lockDeadline = timerWheel.newDeadline(this::onLockDelayExpired);
+        this.spawnDeadline = timerWheel.newDeadline(this::spawnNextTetromino);
+        this.lockDelayFrames = toFrames(LOCK_DELAY_NANOS);
+        this.entryDelayFrames = toFrames(ENTRY_DELAY_NANOS);
+        this.lineClearDelayFrames = toFrames(LINE_CLEAR_DELAY_NANOS);
+
+        for (int i = 0; i < SNAPSHOT_BUFFER_COUNT; i++) {
+            snapshotBuffers[i] = new FrameSnapshot();
+        }
+        publishSnapshot();
+    }
+
+    // --- Public Methods: Game Flow Control ---
+    /** 게임을 시작. 게임 루프가 중력과 락 딜레이를 함께 진행. */
+    public void startTetris() {
+        loopEnabled = true;
+        gameData.getGameState().setCurrentState(GameStateCode.PLAYING);
+        tetrominoGenerator.generateTetromino();
+        publishSnapshot();
+        gameLoop.start(); // 이미 실행 중이면(재시작 시) 그대로 유지
+    }
+
+    /**
+     * 게임 루프 없이 게임을 시작 (헤드리스 모드).
+     * 호출자가 플레이어 액션(hardDrop 등)을 직접 호출하거나 {@link #update()}로 프레임을 진행하므로,
+     * 봇이나 회귀 테스트가 CPU가 허용하는 최대 속도로 게임을 진행할 수 있음.
+     */
+    public void startHeadless() {
+        loopEnabled = false;
+        gameData.getGameState().setCurrentState(GameStateCode.PLAYING);
+        tetrominoGenerator.generateTetromino();
+        publishSnapshot();
+    }
+
+    /** 게임을 재시작. 마지막으로 시작했던 모드(게임 루프/헤드리스)를 그대로 유지. */
+    public void restartGame() {
+		resetGameData();
+		if (loopEnabled) {
+			startTetris();
+		} else {
+			startHeadless();
+		}
+		refreshScreen();
+	}
+
+    /** 일시정지 상태를 토글. 일시정지 중에는 update()가 중력과 데드라인을 진행하지 않음. */
+    public void togglePauseState() {
+        gameData.getGameState().togglePause();
+    }
+
+    /**
+     * 시뮬레이션을 한 프레임 진행.
+     * 대기 중인 조작과 이 프레임 시각까지 들어온 버튼 입력(DAS/ARR 포함)을 처리한 뒤, 타이머 휠을 한 틱 진행(만료된 데드라인 실행)하고 중력을 적용.
+     * 마지막으로 진행한 결과를 화면 스냅샷으로 공개함.
+     * 게임 루프가 프레임마다 호출하며, 헤드리스에서는 호출자가 직접 호출해 시간을 진행시킬 수 있음.
+     * (생성 지연을 설정한 헤드리스 호출자는 다음 블록이 나올 때까지 update()를 호출해야 함)
+     */
+    public void update() {
+        PlayerAction action;
+        while ((action = pendingActions.poll()) != null) {
+            perform(action);
+        }
+        // 게임 루프에서는 프레임의 예정 시각까지의 입력만, 헤드리스에서는 들어온 입력을 모두 처리
+        if (gameLoop.isLoopThread()) {
+            input.process(gameLoop.getFrameTime());
+        } else {
+            input.processAll();
+        }
+
+        if (isPlaying()) {
+            timerWheel.advance();
+
+            // 생성 지연 중에는 조작할 블록이 없으므로 중력을 적용하지 않음
+            if (!spawnDeadline.isPending()) {
+                applyGravity();
+            }
+        }
+        frameCount++; // 일시정지나 게임오버 중에도 프레임은 흐름 (리플레이가 같은 시각에 입력을 넣을 수 있도록)
+        publishSnapshot();
+    }
+
+    /**
+     * 현재 상태를 다음 스냅샷 버퍼에 채워 공개 (게임 루프 스레드 전용, update()가 끝날 때마다 자동으로 호출됨).
+     * update() 없이 조작을 직접 호출하는 헤드리스 호출자가 그 결과를 화면에 내보낼 때 사용.
+     * 스냅샷 3개를 돌려 쓰므로 할당이 없음.
+     */
+    public void publishSnapshot() {
+        long n = ++snapshotCount;
+        FrameSnapshot next = snapshotBuffers[(int) (n % SNAPSHOT_BUFFER_COUNT)];
+        next.capture(n * 2, this);
+        snapshot = next;
+    }
+
+    /**
+     * 마지막으로 공개된 화면 스냅샷을 반환. 어느 스레드에서든 락 없이 읽을 수 있음.
+     * 스냅샷 객체는 재사용되므로, 읽은 뒤 {@link FrameSnapshot#isConsistent(long)}로 확인할 것.
+     */
+    public FrameSnapshot getSnapshot() { return snapshot; }
+
+    /**
+     * 플레이어 조작을 제출. 어느 스레드에서든 락 없이 호출할 수 있으며,
+     * 실제 처리는 다음 update()에서 게임 루프 스레드가 수행.
+     * @return 명령 큐가 가득 차서(게임 루프가 멈춘 경우 등) 버렸으면 false
+     */
+    public boolean submit(PlayerAction action) {
+        return pendingActions.offer(action);
+    }
+
+    /** 명령 큐가 가득 차서 버린 조작 수를 반환. */
+    public long getDroppedCommandCount() { return pendingActions.getDroppedCount(); }
+
+    /**
+     * 플레이어 조작을 현재 게임 상태에 맞게 즉시 처리. 게임 루프 스레드(또는 헤드리스 호출자)에서만 호출.
+     * 모든 조작(아래의 moveLeft() 등 포함)은 이 메서드를 거치며, 처리 전에 조작 관찰자에게 알림.
+     * @throws IllegalStateException 게임 루프가 실행 중인데 다른 스레드에서 호출한 경우 (submit()을 사용할 것)
+     */
+    public void perform(PlayerAction action) {
+        if (gameLoop.isRunning() && !gameLoop.isLoopThread()) {
+            throw new IllegalStateException("perform() must run on the game loop thread; use submit()");
+        }
+        actionObserver.onAction(frameCount, action);
+        switch (action) {
+            case MOVE_LEFT:       handleMoveLeft(); break;
+            case MOVE_RIGHT:      handleMoveRight(); break;
+            case ROTATE_CW:       handleRotate(true); break;
+            case ROTATE_CCW:      handleRotate(false); break;
+            case SOFT_DROP_START: handleStartSoftDrop(); break;
+            case SOFT_DROP_STOP:  handleStopSoftDrop(); break;
+            case HARD_DROP:       handleHardDrop(); break;
+            case HOLD:            handleHold(); break;
+            case TOGGLE_PAUSE:
+                // 게임오버 상태에서는 일시정지할 수 없음
+                if (getCurrentState() != GameStateCode.GAME_OVER) {
+                    gameScore.clearLastActionSpinFlag();
+                    togglePauseState();
+                }
+                break;
+            case RESTART:
+                // 재시작은 게임오버 상태에서만 허용
+                if (getCurrentState() == GameStateCode.GAME_OVER) {
+                    restartGame();
+                }
+                break;
+        }
+    }
+
+    // --- Public Methods: Player Actions ---
+    // 모두 perform()을 거치므로 어떤 경로로 호출해도 조작 관찰자(리플레이 기록)에 남음.
+    /** 블록을 한 칸 왼쪽으로 이동. */
+    public void moveLeft() { perform(PlayerAction.MOVE_LEFT); }
+
+    /** 블록을 한 칸 오른쪽으로 이동. */
+    public void moveRight() { perform(PlayerAction.MOVE_RIGHT); }
+
+    /** 블록을 회전. @param isClockwise true면 시계방향 */
+    public void rotate(boolean isClockwise) { perform(isClockwise ? PlayerAction.ROTATE_CW : PlayerAction.ROTATE_CCW); }
+
+    /** 소프트 드롭 시작: 하강 속도를 소프트 드롭 배율만큼 올림. */
+    public void startSoftDrop() { perform(PlayerAction.SOFT_DROP_START); }
+
+    /** 소프트 드롭 종료: 하강 속도를 원래대로 복구. */
+    public void stopSoftDrop() { perform(PlayerAction.SOFT_DROP_STOP); }
+
+    /** 하드 드롭: 블록을 즉시 바닥까지 내려 고정하고 다음 블록을 생성. */
+    public void hardDrop() { perform(PlayerAction.HARD_DROP); }
+
+    /** 홀드 기능을 실행. */
+    public void hold() { perform(PlayerAction.HOLD); }
+
+    /** 출력 대상에 화면 갱신을 요청. 헤드리스 모드에서는 아무 일도 하지 않음. */
+    public void refreshScreen() { frameSink.refreshScreen(); }
+    
+    // --- Public Methods: Timing Control ---
+    /** 현재 레벨의 블록 하강 간격(nanos)을 설정. 레벨업 시 호출됨. */
+    public void setDropIntervalNanos(long time) {
+		if (time <= 0) {
+			throw new IllegalArgumentException("dropIntervalNanos must be > 0");
+		}
+		dropIntervalNanos = time;
+	}
+
+    /** 락 딜레이 길이(nanos)를 설정. 가장 가까운 프레임 수로 반올림되며 최소 1프레임. */
+    public void setLockDelayNanos(long time) { lockDelayFrames = Math.max(1, toFrames(time)); }
+
+    /** 블록 고정 후 다음 블록이 나오기까지의 지연(ARE, nanos)을 설정. 0이면 즉시 생성. */
+    public void setEntryDelayNanos(long time) { entryDelayFrames = toFrames(time); }
+
+    /** 줄이 지워졌을 때 생성 지연에 더해질 지연(nanos)을 설정. 0이면 추가 지연 없음. */
+    public void setLineClearDelayNanos(long time) { lineClearDelayFrames = toFrames(time); }
+
+    /** 락 딜레이 길이를 프레임 단위로 설정 (리플레이 재생 시 기록된 값을 그대로 복원). 최소 1프레임. */
+    public void setLockDelayFrames(long frames) { lockDelayFrames = Math.max(1, frames); }
+
+    /** 블록 생성 지연(ARE)을 프레임 단위로 설정. */
+    public void setEntryDelayFrames(long frames) { entryDelayFrames = Math.max(0, frames); }
+
+    /** 줄 제거 지연을 프레임 단위로 설정. */
+    public void setLineClearDelayFrames(long frames) { lineClearDelayFrames = Math.max(0, frames); }
+
+    /**
+     * 소프트 드롭 시 하강 속도 배율을 설정 (1 이상). 아주 큰 값이면 한 프레임에 바닥까지 내려감.
+     * 시뮬레이션 결과가 달라지므로 리플레이에 함께 기록됨.
+     */
+    public void setSoftDropFactor(int factor) {
+        if (factor < 1) {
+            throw new IllegalArgumentException("softDropFactor must be >= 1");
+        }
+        softDropFactor = factor;
+    }
+
+    /** 소프트 드롭 시 하강 속도 배율을 반환. */
+    public int getSoftDropFactor() { return softDropFactor; }
+
+    /** 락 딜레이 길이(프레임)를 반환. */
+    public long getLockDelayFrames() { return lockDelayFrames; }
+
+    /** 블록 생성 지연(프레임)을 반환. */
+    public long getEntryDelayFrames() { return entryDelayFrames; }
+
+    /** 줄 제거 지연(프레임)을 반환. */
+    public long getLineClearDelayFrames() { return lineClearDelayFrames; }
+    
+    // --- Public Methods: State & Data Access ---
+    /** 현재 일시정지 상태인지 확인. */
+    public boolean isPaused() { return gameData.getGameState().isPaused(); }
+    
+    /** 현재 플레이 중(PLAYING) 상태인지 확인. */
+    public boolean isPlaying() { return gameData.getGameState().getCurrentState() == GameStateCode.PLAYING; }
+
+    /** 게임 루프가 실행 중인지 확인. */
+    public boolean isGameLoopRunning() { return gameLoop.isRunning(); }
+
+    /** 락 딜레이가 진행 중인지 확인. */
+    public boolean isLockDelayRunning() { return lockDeadline.isPending(); }
+
+    /** 이 엔진에서 지금까지 고정된 블록 수를 반환 (재시작해도 누적). */
+    public long getLockedPieceCount() { return lockedPieceCount; }
+
+    /** 지금까지 진행한 update() 횟수를 반환 (재시작해도 누적). 게임 루프 스레드에서만 정확함. */
+    public long getFrameCount() { return frameCount; }
+
+    /** 블록 생성 지연(ARE, 줄 제거 지연) 중인지 확인. */
+    public boolean isSpawnDelayed() { return spawnDeadline.isPending(); }
+    
+    /** 락 딜레이 중 조작 횟수를 반환. */
+    public int getLockDelayCounter() { return lockDelayMoveCounter; }
+    /** 락 딜레이 중 조작 횟수를 1 증가. */
+    public void increaseLockDelayCounter() { lockDelayMoveCounter++; }
+    /** 락 딜레이 중 조작 횟수를 리셋. */
+    public void resetLockDelayCounter() { lockDelayMoveCounter = 0; }
+    
+    /**
+     * 다음 블록들의 읽기 전용 뷰를 반환 (UI의 Next/미리보기, AI의 탐색용).
+     * 게임 루프를 막지 않고 어느 스레드에서든 읽을 수 있으며, 항상 같은 객체를 돌려주므로 할당이 없음.
+     */
+    public PieceQueue.Preview getPiecePreview() { return gameData.getPieceQueue().getPreview(); }
+
+    /** 미리보기로 보여줄 다음 블록 수를 설정 (1 ~ PieceQueue.MAX_PREVIEW_DEPTH). */
+    public void setPreviewDepth(int depth) { gameData.getPieceQueue().setPreviewDepth(depth); }
+    
+    /** 레벨에 따른 블록 하강 시간(nanos)을 계산하여 반환 (공식 기반). */
+    public long getDropTime(int level) {
+		return (long) (Math.pow(0.8 - ((level - 1) * 0.007), level - 1) * 1_000_000_000L);
+	}
+
+    /** 시뮬레이션의 초당 프레임 수를 반환. */
+    public int getFrameRate() { return frameRate; }
+    
+    /** 현재 게임 상태 코드를 반환. */
+	public GameStateCode getCurrentState() { return gameData.getGameState().getCurrentState(); }
+
+    // --- Public Methods: Component Getters ---
+    public DataManager getDataManager() { return gameData; }
+    public CollisionChecker getCollisionChecker() { return collisionChecker; }
+    public TetrominoMover getTetrominoMover() { return tetrominoMover; }
+    public Spin getSpin() { return spin; }
+    public FrameSink getFrameSink() { return frameSink; }
+    public void setFrameSink(FrameSink frameSink) { this.frameSink = frameSink == null ? FrameSink.NONE : frameSink; }
+    public ActionObserver getActionObserver() { return actionObserver; }
+    public void setActionObserver(ActionObserver observer) { this.actionObserver = observer == null ? ActionObserver.NONE : observer; }
+    public TetrominoGenerator getTetrominoGenerator() { return tetrominoGenerator; }
+    public HoldHandler getHoldHandler() { return hold; }
+    public CascadeHandler getCascadeHandler() { return cascade; }
+    public GameLoop getGameLoop() { return gameLoop; }
+    public TimerWheel getTimerWheel() { return timerWheel; }
+    public ScoreManager getScoreManager() { return gameScore; }
+    /** 버튼 입력 처리기(DAS/ARR)를 반환. 입력 장치는 여기에 누르고 뗀 이벤트를 넣음. */
+    public InputProcessor getInput() { return input; }
+    
+    // --- Private Methods: Player Actions ---
+    /** 블록을 한 칸 왼쪽으로 이동. */
+    private void handleMoveLeft() {
+        if (!canControl()) return;
+        gameScore.clearLastActionSpinFlag();
+        tetrominoMover.left();
+        resetLockDelayOnManipulation();
+    }
+
+    /** 블록을 한 칸 오른쪽으로 이동. */
+    private void handleMoveRight() {
+        if (!canControl()) return;
+        gameScore.clearLastActionSpinFlag();
+        tetrominoMover.right();
+        resetLockDelayOnManipulation();
+    }
+
+    /** 블록을 회전. @param isClockwise true면 시계방향 */
+    private void handleRotate(boolean isClockwise) {
+        if (!canControl()) return;
+        gameScore.markLastActionAsSpin(); // T-Spin 판정을 위해 '회전' 액션을 기록
+        spin.spin(isClockwise);
+        resetLockDelayOnManipulation();
+    }
+
+    /** 소프트 드롭 시작: 하강 속도를 소프트 드롭 배율만큼 올리고, 다음 프레임에 바로 한 칸 내려가도록 함. */
+    private void handleStartSoftDrop() {
+        if (!isPlaying()) return;
+        gameScore.clearLastActionSpinFlag();
+        gameScore.softDropping();
+        gravityElapsed = Math.max(gravityElapsed, currentDropInterval() - NANOS_PER_SECOND);
+    }
+
+    /** 소프트 드롭 종료: 하강 속도를 원래대로 복구. */
+    private void handleStopSoftDrop() {
+        gameScore.finishSoftDropping();
+        gravityElapsed = Math.min(gravityElapsed, currentDropInterval());
+    }
+
+    /** 하드 드롭: 블록을 즉시 바닥까지 내려 고정하고 다음 블록을 생성. */
+    private void handleHardDrop() {
+        if (!canControl()) return;
+        gameScore.clearLastActionSpinFlag();
+        tetrominoMover.hardDrop();
+        gameScore.updateHardDropScore();
+        onTetrominoLocked();
+    }
+
+    /** 홀드 기능을 실행. 블록이 바뀌었다면 중력과 락 딜레이를 새 블록 기준으로 초기화. */
+    private void handleHold() {
+        if (!canControl()) return;
+        gameScore.clearLastActionSpinFlag();
+        if (hold.hold()) {
+            resetPieceTiming();
+        }
+    }
+
+    // --- Private Methods ---
+    /**
+     * 한 프레임만큼 중력을 적용.
+     * 바닥에 닿아 있으면 락 딜레이 데드라인을 걸고, 공중에 있으면 누적 시간만큼 블록을 내림.
+     */
+    private void applyGravity() {
+        // 바닥에 닿은 상태 (생성 직후, 조작으로 착지한 경우 포함): 락 딜레이가 없으면 시작
+        if (!tetrominoMover.canMove(0, 1)) {
+            gravityElapsed = 0;
+            if (!lockDeadline.isPending()) {
+                lockDeadline.schedule(lockDelayFrames);
+            }
+            return;
+        }
+
+        // 공중에 있는 상태 (조작으로 발판에서 벗어난 경우 포함): 락 딜레이를 멈추고 중력 진행
+        lockDeadline.cancel();
+        gravityElapsed += NANOS_PER_SECOND;
+        long interval = currentDropInterval();
+        while (gravityElapsed >= interval) {
+            gravityElapsed -= interval;
+            tetrominoMover.drop(); // 블록을 한 칸 내림
+
+            // 소프트 드롭 중이면 추가 점수 획득
+            if (gameScore.isSoftDrop()) {
+                gameScore.increaseScore(ScoreAction.SOFT_DROP.getBaseScore());
+            }
+
+            // 바닥에 닿으면 이번 프레임부터 락 딜레이 진행
+            if (!tetrominoMover.canMove(0, 1)) {
+                gravityElapsed = 0;
+                lockDeadline.schedule(lockDelayFrames);
+                break;
+            }
+        }
+    }
+
+    /** 락 딜레이 데드라인 만료: 여전히 바닥에 닿아 있으면 블록을 고정. */
+    private void onLockDelayExpired() {
+        if (!tetrominoMover.canMove(0, 1)) {
+            tetrominoMover.lockTetromino();
+            onTetrominoLocked();
+        }
+        // 공중에 떠 있다면 다음 applyGravity()에서 중력이 다시 적용됨
+    }
+
+    /**
+     * 블록이 고정된 후 다음 블록을 준비.
+     * 생성 지연(ARE + 줄 제거 지연)이 없으면 즉시, 있으면 데드라인이 만료될 때 다음 블록을 생성.
+     */
+    private void onTetrominoLocked() {
+        lockedPieceCount++; // 게임 루프 스레드만 쓰므로 volatile 쓰기로 충분
+        lockDeadline.cancel();
+        gravityElapsed = 0;
+
+        long delay = entryDelayFrames + (cascade.getClearedLine() > 0 ? lineClearDelayFrames : 0);
+        // 게임오버가 되면 타이머 휠이 더 진행되지 않으므로 기다리지 않음
+        if (delay <= 0 || !isPlaying()) {
+            spawnNextTetromino();
+        } else {
+            spawnDeadline.schedule(delay);
+        }
+    }
+
+    /** 플레이어가 블록을 조작할 수 있는 상태인지 확인 (플레이 중이고, 생성 지연 중이 아님). */
+    private boolean canControl() {
+        return isPlaying() && !spawnDeadline.isPending();
+    }
+
+    /** 시간(nanos)을 가장 가까운 프레임 수로 변환. */
+    private long toFrames(long nanos) {
+        return (nanos * frameRate + NANOS_PER_SECOND / 2) / NANOS_PER_SECOND;
+    }
+
+    /** 현재 적용할 블록 하강 간격 ('나노초 x 초당 프레임 수' 단위). 소프트 드롭 중이면 배율만큼 빠름. */
+    private long currentDropInterval() {
+        long interval = gameScore.isSoftDrop() ? dropIntervalNanos / softDropFactor : dropIntervalNanos;
+        return Math.max(1, interval * frameRate);
+    }
+
+    /** 다음 블록을 생성하고, 중력과 락 딜레이를 새 블록 기준으로 초기화. */
+    private void spawnNextTetromino() {
+        tetrominoGenerator.generateTetromino();
+        resetPieceTiming();
+    }
+
+    /** 새 블록이 나왔을 때 중력 누적 시간과 락 딜레이 상태를 초기화. */
+    private void resetPieceTiming() {
+        gravityElapsed = 0;
+        lockDeadline.cancel();
+    }
+
+    /**
+     * 블록이 바닥 근처일 때 조작 시, 락 딜레이를 리셋하여 더 조작할 기회를 줌.
+     * Infinity(무한 회전)을 방지하기 위해 횟수 제한.
+     * 조작으로 블록이 공중에 뜨게 되면 다음 프레임에 중력이 자연스럽게 다시 적용됨.
+     */
+    private void resetLockDelayOnManipulation() {
+        // 락 딜레이가 진행 중이고, 최대 조작 횟수를 넘지 않았다면 락 시간을 초기화
+        if (lockDeadline.isPending() && lockDelayMoveCounter < MAX_LOCK_RESET_COUNT) {
+            lockDeadline.schedule(lockDelayFrames); // O(1) 재등록
+            lockDelayMoveCounter++; // 조작 횟수 증가
+        }
+    }
+    
+    /** 모든 게임 데이터를 초기 상태로 리셋. */
+	private void resetGameData() {
+	    // 게임 상태 및 필드 초기화
+	    gameData.getGameState().setCurrentState(GameStateCode.READY);
+	    gameData.resetField();
+	    
+	    // 점수 및 스핀 상태 초기화
+	    gameScore.resetScoreData();
+	    getSpin().setSpinState(SpinState.S0);
+
+	    // 다음 블록 큐 초기화 (남은 블록을 버리고 새 가방부터 다시 채움), 국면 해시의 큐 키도 교체
+	    long queueHash = gameData.getPieceQueue().getHash();
+	    gameData.getPieceQueue().reset();
+	    gameData.getPlayField().xorHash(queueHash ^ gameData.getPieceQueue().getHash());
+
+	    // 홀드 상태 초기화
+	    hold.resetHeltTetromino();
+	    hold.resetIsHoldUsed();
+
+	    // 중력 및 데드라인 상태 초기화
+	    lockDelayMoveCounter = 0;
+	    dropIntervalNanos = INITIAL_DROP_INTERVAL;
+	    timerWheel.clear();
+	    resetPieceTiming();
+	}
+}
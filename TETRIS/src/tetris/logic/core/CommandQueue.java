@@ -0,0 +1,87 @@
+package tetris.logic.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드(게임 루프)만 꺼내는 고정 크기 명령 큐 (bounded MPSC).
+ *
+ * 슬롯마다 순번(sequence)을 두는 링 버퍼로, 넣는 쪽은 tail을 CAS로 하나 차지한 뒤 슬롯을 채우고
+ * 순번을 올려 공개하며, 꺼내는 쪽은 순번이 공개된 슬롯만 읽고 한 바퀴 뒤의 순번으로 돌려놓음.
+ * 락도, 넣을 때마다의 노드 할당도 없으므로 입력이 몰려도 게임 루프가 모니터를 기다리는 일이 없음.
+ * 큐가 가득 차면 offer()가 false를 반환하고 버린 수를 셈 (게임 루프가 멈춘 동안 무한히 쌓이지 않도록).
+ *
+ * @param <E> 명령 타입
+ */
+public final class CommandQueue<E> {
+
+    // --- Instance Fields ---
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;       // 슬롯별 순번 (== 넣을 순번이면 빈 슬롯, +1이면 채워진 슬롯)
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 순번 (넣는 스레드들이 공유)
+    private final AtomicLong dropped = new AtomicLong(); // 가득 차서 버린 명령 수
+    private long head = 0;                          // 다음에 꺼낼 순번 (꺼내는 스레드 전용)
+
+    // --- Constructor ---
+    /** @param capacity 큐 크기 (2의 거듭제곱) */
+    public CommandQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.buffer = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // --- Public Methods ---
+    /**
+     * 명령을 넣음. 어느 스레드에서든 호출할 수 있음.
+     * @return 큐가 가득 차서 버렸으면 false
+     */
+    public boolean offer(E command) {
+        long t = tail.get();
+        while (true) {
+            int slot = (int) (t & mask);
+            long diff = sequences.getAcquire(slot) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    buffer[slot] = command;
+                    sequences.setRelease(slot, t + 1); // 슬롯을 채운 뒤에 공개
+                    return true;
+                }
+                t = tail.get(); // 다른 스레드가 먼저 차지함
+            } else if (diff < 0) {
+                dropped.incrementAndGet(); // 한 바퀴 전 명령을 아직 꺼내지 않음 = 가득 참
+                return false;
+            } else {
+                t = tail.get(); // 이미 다른 스레드가 채운 슬롯
+            }
+        }
+    }
+
+    /**
+     * 다음 명령을 꺼냄 (꺼내는 스레드 전용).
+     * @return 큐가 비었거나, 다음 슬롯을 차지한 스레드가 아직 채우는 중이면 null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head;
+        int slot = (int) (h & mask);
+        if (sequences.getAcquire(slot) != h + 1) return null;
+        E command = (E) buffer[slot];
+        buffer[slot] = null;
+        sequences.setRelease(slot, h + buffer.length); // 한 바퀴 뒤에 넣을 스레드에게 슬롯을 돌려줌
+        head = h + 1;
+        return command;
+    }
+
+    /** 큐 크기를 반환. */
+    public int capacity() { return buffer.length; }
+
+    /** 가득 차서 버린 명령 수를 반환. */
+    public long getDroppedCount() { return dropped.get(); }
+}
@@ -0,0 +1,45 @@
+package tetris.logic.core;
+
+/**
+ * TimerWheel에 등록되는 취소 가능한 단발성 데드라인.
+ * 한 번 만들어 두고 schedule()/cancel()로 계속 재사용하며,
+ * 재등록(re-arm)은 슬롯 리스트의 노드를 옮기는 것뿐이라 O(1)이고 객체를 새로 만들지 않음.
+ */
+public final class Deadline {
+
+    // --- Instance Fields ---
+    private final TimerWheel wheel; // 이 데드라인이 등록되는 타이머 휠
+    private final Runnable task;    // 만료 시 실행할 작업
+
+    // 타이머 휠 슬롯의 이중 연결 리스트 노드 (TimerWheel만 접근)
+    Deadline prev;
+    Deadline next;
+    int slot = -1;      // 현재 들어 있는 슬롯 번호. 등록되어 있지 않으면 -1.
+    long expireTick;    // 만료될 틱
+
+    // --- Constructor ---
+    Deadline(TimerWheel wheel, Runnable task) {
+        this.wheel = wheel;
+        this.task = task;
+    }
+
+    // --- Public Methods ---
+    /**
+     * 지금부터 delayTicks 틱 뒤에 만료되도록 등록. 이미 등록되어 있으면 기존 예약을 대체.
+     * @param delayTicks 1 이상의 지연 틱 수 (0 이하는 다음 틱으로 취급)
+     */
+    public void schedule(long delayTicks) { wheel.schedule(this, delayTicks); }
+
+    /** 예약을 취소. 등록되어 있지 않으면 아무 작업도 하지 않음. */
+    public void cancel() { wheel.cancel(this); }
+
+    /** 만료를 기다리는 중인지 여부를 반환. */
+    public boolean isPending() { return slot >= 0; }
+
+    /** 만료까지 남은 틱 수를 반환. 등록되어 있지 않으면 0. */
+    public long getRemainingTicks() { return isPending() ? expireTick - wheel.getCurrentTick() : 0; }
+
+    // --- Package-Private Methods ---
+    /** 만료 작업을 실행 (TimerWheel이 호출). */
+    void fire() { task.run(); }
+}
@@ -0,0 +1,161 @@
+package tetris.logic.core;
+
+/**
+ * 고정 시간 간격(fixed timestep)으로 게임 시뮬레이션을 진행하는 단일 스레드 루프.
+ * 중력, 락 딜레이, 입력 처리는 모두 이 스레드의 프레임 단위 step 안에서만 일어나므로,
+ * 스레드 생성/종료나 스레드 간 핸드오프 없이 매번 같은 순서로 결정적으로 실행됨.
+ */
+public class GameLoop implements Runnable {
+
+    // --- Constants ---
+    // 한 번에 따라잡을 수 있는 최대 프레임 수. 이보다 밀리면(GC, 디버거 등) 밀린 시간을 버림.
+    private static final int MAX_CATCH_UP_FRAMES = 5;
+
+    // --- Instance Fields ---
+    private final String threadName;        // 루프 스레드 이름
+    private final long frameNanos;          // 한 프레임의 길이 (나노초)
+    private final Runnable step;            // 프레임마다 한 번 실행할 시뮬레이션 작업
+    private final Runnable render;          // 프레임을 진행한 뒤 실행할 화면 갱신 작업
+    private final Object lock = new Object(); // 대기/깨우기를 위한 락 객체
+
+    private volatile boolean running = false; // 루프의 실행 상태
+    private long frameCount = 0;              // 지금까지 진행한 프레임 수 (루프 스레드 전용)
+    private long frameTime = 0;               // 진행 중인 프레임의 예정 시각 (루프 스레드 전용)
+
+    private Thread thread; // 루프를 실행할 스레드
+
+    // --- Constructor ---
+    /**
+     * @param frameRate 초당 프레임 수 (예: 60)
+     * @param step 프레임마다 실행할 작업
+     * @param render 한 번 이상 프레임을 진행한 뒤 실행할 작업
+     */
+    public GameLoop(int frameRate, Runnable step, Runnable render) {
+        this("TetrisGameLoop", frameRate, step, render);
+    }
+
+    /**
+     * @param threadName 루프 스레드 이름 (여러 루프를 띄울 때 구분용)
+     * @param frameRate 초당 프레임 수 (예: 60)
+     * @param step 프레임마다 실행할 작업
+     * @param render 한 번 이상 프레임을 진행한 뒤 실행할 작업
+     */
+    public GameLoop(String threadName, int frameRate, Runnable step, Runnable render) {
+        if (frameRate <= 0) {
+            throw new IllegalArgumentException("frameRate must be > 0");
+        }
+        this.threadName = threadName;
+        this.frameNanos = 1_000_000_000L / frameRate;
+        this.step = step;
+        this.render = render;
+    }
+
+    // --- Public Methods ---
+    /** 루프를 시작. 이미 실행 중이면 아무 작업도 하지 않음. */
+    public synchronized void start() {
+        if (running) return;
+
+        running = true;
+        thread = new Thread(this, threadName);
+        thread.setDaemon(true); // 주 스레드 종료 시 함께 종료되도록 데몬 스레드로 설정
+        thread.start();
+    }
+
+    /**
+     * 루프를 정지. 대기 중인 스레드를 깨워 즉시 종료시킴.
+     * 루프 밖의 스레드에서 호출하면 진행 중인 프레임이 끝나 스레드가 종료될 때까지 기다리므로,
+     * 반환 후에는 step이 더 실행되지 않음이 보장됨.
+     */
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = thread;
+        }
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (current != null && current != Thread.currentThread()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 루프가 현재 실행 중인지 여부를 반환. */
+    public boolean isRunning() { return running; }
+
+    /** 현재 스레드가 루프 스레드인지 여부를 반환. */
+    public boolean isLoopThread() { return Thread.currentThread() == thread; }
+
+    /** 한 프레임의 길이(nanos)를 반환. */
+    public long getFrameNanos() { return frameNanos; }
+
+    /** 지금까지 진행한 프레임 수를 반환 (루프 스레드에서만 정확함). */
+    public long getFrameCount() { return frameCount; }
+
+    /**
+     * 진행 중인 프레임의 예정 시각(System.nanoTime 기준)을 반환 (루프 스레드의 step 안에서만 정확함).
+     * 밀린 프레임을 따라잡을 때도 프레임마다 한 주기씩 증가하므로, 입력을 실제 시각에 맞는 프레임에 넣는 데 사용.
+     */
+    public long getFrameTime() { return frameTime; }
+
+    /** 루프의 메인 로직. 밀린 만큼 프레임을 진행한 뒤, 다음 프레임 시각까지 대기. */
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+
+                // 너무 많이 밀렸으면 따라잡지 않고 현재 시각 기준으로 다시 맞춤
+                if (now - nextFrame > MAX_CATCH_UP_FRAMES * frameNanos) {
+                    nextFrame = now - frameNanos;
+                }
+
+                // 도래한 프레임을 모두 진행
+                boolean stepped = false;
+                while (running && now - nextFrame >= 0) {
+                    frameTime = nextFrame;
+                    step.run();
+                    frameCount++;
+                    nextFrame += frameNanos;
+                    stepped = true;
+                }
+                if (stepped && running) {
+                    render.run();
+                }
+
+                waitUntil(nextFrame);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("[GameLoop] Step threw exception:");
+            e.printStackTrace();
+        } finally {
+            running = false;
+        }
+    }
+
+    // --- Private Methods ---
+    /** 데드라인까지 대기. 길면(2ms 초과) wait()으로 CPU를 아끼고, 짧으면 Spin-Wait으로 정밀도 확보. */
+    private void waitUntil(long deadline) throws InterruptedException {
+        while (running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+
+            if (remaining > 2_000_000) {
+                // 마지막 1ms는 Spin-Wait으로 맞추기 위해 조금 일찍 깨어남
+                long sleep = remaining - 1_000_000;
+                synchronized (lock) {
+                    lock.wait(sleep / 1_000_000, (int) (sleep % 1_000_000));
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
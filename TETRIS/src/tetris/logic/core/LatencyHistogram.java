@@ -0,0 +1,98 @@
+package tetris.logic.core;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간(나노초)의 분포를 고정 크기 버킷에 세는 히스토그램.
+ *
+ * 마이크로초 단위 값을 2의 거듭제곱 구간마다 16개 버킷(상대 오차 약 6% 이내)으로 나누므로,
+ * 기록은 배열 한 칸을 올리는 것뿐이고 할당이 없으며 범위 제한도 없음. 최댓값은 정확히 보관.
+ * 기록과 조회가 서로 다른 스레드에서 일어날 수 있으므로 모든 메서드는 synchronized.
+ */
+public final class LatencyHistogram {
+
+    // --- Constants ---
+    private static final int SUB_BUCKET_BITS = 5;                       // 버킷 정밀도 (유효 비트 수)
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;        // 32: 이 값 미만은 1us 단위로 정확히 셈
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;        // 2배 구간마다 쓰는 버킷 수
+    private static final int BUCKET_COUNT = HALF_SUB_BUCKETS * (64 - SUB_BUCKET_BITS + 1) + SUB_BUCKETS;
+
+    // --- Instance Fields ---
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long maxNanos = 0;
+
+    // --- Public Methods ---
+    /** 지연 시간 하나를 기록. 음수는 0으로 기록. */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos / 1000)]++;
+        totalCount++;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    /** 기록을 모두 지움. */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxNanos = 0;
+    }
+
+    /** 기록한 값의 수를 반환. */
+    public synchronized long getCount() { return totalCount; }
+
+    /** 기록한 최댓값(nanos)을 반환. 기록이 없으면 0. */
+    public synchronized long getMaxNanos() { return maxNanos; }
+
+    /**
+     * 백분위 값(nanos)을 반환. 해당 버킷의 상한을 돌려주므로 실제 값보다 작게 나오지 않음 (최댓값을 넘지는 않음).
+     * @param percentile 0 ~ 100
+     * @return 기록이 없으면 0
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (totalCount == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(totalCount * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxNanos, (highestMicrosOf(i) + 1) * 1000 - 1);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * 비어 있지 않은 버킷을 "하한us 상한us 개수" 줄로 덧붙임 (파일 저장용).
+     * @param out 결과를 덧붙일 대상
+     */
+    public synchronized void appendBuckets(StringBuilder out) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] == 0) continue;
+            out.append(lowestMicrosOf(i)).append(' ').append(highestMicrosOf(i)).append(' ')
+               .append(counts[i]).append('\n');
+        }
+    }
+
+    // --- Private Methods ---
+    /** 마이크로초 값의 버킷 번호를 반환. 32 미만은 그대로, 그 이상은 2배 구간마다 16개씩. */
+    private static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) return (int) micros;
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKETS + (int) (micros >>> shift);
+    }
+
+    /** 버킷에 들어가는 가장 작은 마이크로초 값. */
+    private static long lowestMicrosOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        return (long) (index - shift * HALF_SUB_BUCKETS) << shift;
+    }
+
+    /** 버킷에 들어가는 가장 큰 마이크로초 값. */
+    private static long highestMicrosOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        return lowestMicrosOf(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,123 @@
+package tetris.logic.core;
+
+/**
+ * 게임 안의 짧은 데드라인(락 딜레이, 블록 생성 지연, 줄 제거 지연 등)을 관리하는 해시 타이머 휠.
+ * 스레드를 만들지 않고, 소유자(게임 루프)가 프레임마다 advance()를 호출해 시간을 진행시킴.
+ * 데드라인은 만료 틱을 슬롯 수로 나눈 나머지 슬롯의 이중 연결 리스트에 들어가므로
+ * 등록/취소/재등록은 모두 O(1)이며 할당이 없음. 슬롯 수보다 긴 지연은 바퀴를 여러 번 돌고 만료됨.
+ * 스레드 안전하지 않으므로 한 스레드(게임 루프)에서만 사용.
+ */
+public final class TimerWheel {
+
+    // --- Constants ---
+    private static final int DEFAULT_WHEEL_SIZE = 64; // 60Hz 기준 약 1초 분량의 슬롯
+
+    // --- Instance Fields ---
+    private final Deadline[] slots; // 슬롯별 연결 리스트의 머리
+    private final int mask;         // 슬롯 번호 계산용 마스크 (슬롯 수 - 1)
+    private long currentTick = 0;   // 현재 틱
+
+    // --- Constructor ---
+    public TimerWheel() {
+        this(DEFAULT_WHEEL_SIZE);
+    }
+
+    /** @param wheelSize 슬롯 수. 2의 거듭제곱이어야 함. */
+    public TimerWheel(int wheelSize) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.slots = new Deadline[wheelSize];
+        this.mask = wheelSize - 1;
+    }
+
+    // --- Public Methods ---
+    /** 만료 시 task를 실행하는 데드라인을 만듦. 만든 데드라인은 재사용하는 것을 전제로 함. */
+    public Deadline newDeadline(Runnable task) {
+        return new Deadline(this, task);
+    }
+
+    /**
+     * 한 틱 진행하고, 이번 틱에 만료된 데드라인을 실행.
+     * 만료 작업 안에서 데드라인을 등록하거나 취소해도 안전함.
+     */
+    public void advance() {
+        long tick = ++currentTick;
+        int slot = (int) (tick & mask);
+
+        Deadline d = slots[slot];
+        while (d != null) {
+            if (d.expireTick <= tick) {
+                unlink(d);
+                d.fire();
+                // 만료 작업이 리스트를 바꿨을 수 있으므로 슬롯 머리부터 다시 확인
+                // (새로 등록되는 데드라인은 항상 다음 틱 이후이므로 반복은 반드시 끝남)
+                d = slots[slot];
+            } else {
+                d = d.next; // 바퀴를 더 돌아야 하는 데드라인
+            }
+        }
+    }
+
+    /** 현재 틱을 반환. */
+    public long getCurrentTick() { return currentTick; }
+
+    /** 모든 데드라인을 취소하고 틱을 0으로 되돌림 (게임 재시작 시 사용). */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            Deadline d = slots[i];
+            while (d != null) {
+                Deadline next = d.next;
+                d.prev = d.next = null;
+                d.slot = -1;
+                d = next;
+            }
+            slots[i] = null;
+        }
+        currentTick = 0;
+    }
+
+    // --- Package-Private Methods ---
+    /** 데드라인을 delayTicks 뒤에 만료되도록 (다시) 등록. */
+    void schedule(Deadline d, long delayTicks) {
+        if (d.isPending()) {
+            unlink(d);
+        }
+        d.expireTick = currentTick + Math.max(1, delayTicks);
+        link(d, (int) (d.expireTick & mask));
+    }
+
+    /** 데드라인 등록을 취소. */
+    void cancel(Deadline d) {
+        if (d.isPending()) {
+            unlink(d);
+        }
+    }
+
+    // --- Private Methods ---
+    /** 슬롯 리스트의 맨 앞에 데드라인을 연결. */
+    private void link(Deadline d, int slot) {
+        Deadline head = slots[slot];
+        d.prev = null;
+        d.next = head;
+        if (head != null) {
+            head.prev = d;
+        }
+        slots[slot] = d;
+        d.slot = slot;
+    }
+
+    /** 데드라인을 슬롯 리스트에서 분리. */
+    private void unlink(Deadline d) {
+        if (d.prev != null) {
+            d.prev.next = d.next;
+        } else {
+            slots[d.slot] = d.next;
+        }
+        if (d.next != null) {
+            d.next.prev = d.prev;
+        }
+        d.prev = d.next = null;
+        d.slot = -1;
+    }
+}
@@ -1,71 +1,150 @@
-/* ***************************************************************************** */
-/* Copyright:      Francois Panneton and Pierre L'Ecuyer, University of Montreal */
-/*                 Makoto Matsumoto, Hiroshima University                        */
-/* Notice:         This code can be used freely for personal, academic,          */
-/*                 or non-commercial purposes. For commercial purposes,          */
-/*                 please contact P. L'Ecuyer at: lecuyer@iro.UMontreal.ca       */
-/* ***************************************************************************** */
-
-// Note: This is an external library for a high-quality random number generator (WELL1024a).
-// The original source code has been preserved without modification.
-// (참고: 고품질 난수 생성기(WELL1024a)를 위한 외부 라이브러리입니다.)
-
-package tetris.logic.core;
-
-import java.util.Random;
-
-@SuppressWarnings("all")
-public class WELL1024a {
-    private final int W = 32;
-    private final int R = 32;
-    private final int M1 = 3;
-    private final int M2 = 24;
-    private final int M3 = 10;
-
-    private final double FACT = 2.32830643653869628906e-10;
-
-    private int state_i = 0;
-    private int[] STATE = new int[R];
-    private int z0, z1, z2;
-    
-    public WELL1024a() {
-        Random rand = new Random();
-        int[] init = new int[R];
-        for (int i = 0; i < R; i++) {
-            int high = rand.nextInt(1 << 16);
-            int low = rand.nextInt(1 << 16);
-            init[i] = (high << 16) | low;
-        }
-        init(init);
-    }
-
-    private int MAT0POS(int t, int v) {
-        return v ^ (v >>> t);
-    }
-
-    private int MAT0NEG(int t, int v) {
-        return v ^ (v << (-t));
-    }
-
-    private int Identity(int v) {
-        return v;
-    }
-
-    private void init(int[] init) {
-        if (init.length != R) {
-            throw new IllegalArgumentException("Init array length must be " + R);
-        }
-        state_i = 0;
-        System.arraycopy(init, 0, STATE, 0, R);
-    }
-
-    public double WELLRNG1024a() {
-        z0 = STATE[(state_i + 31) & 0x1F];
-        z1 = Identity(STATE[state_i]) ^ MAT0POS(8, STATE[(state_i + M1) & 0x1F]);
-        z2 = MAT0NEG(-19, STATE[(state_i + M2) & 0x1F]) ^ MAT0NEG(-14, STATE[(state_i + M3) & 0x1F]);
-        STATE[(state_i + 31) & 0x1F] = MAT0NEG(-11, z0) ^ MAT0NEG(-7, z1) ^ MAT0NEG(-13, z2);
-        STATE[state_i] = z1 ^ z2;
-        state_i = (state_i + 31) & 0x1F;
-        return (STATE[state_i] & 0xFFFFFFFFL) * FACT;
-    }
+/* ***************************************************************************** */
+/* Copyright:      Francois Panneton and Pierre L'Ecuyer, University of Montreal */
+/*                 Makoto Matsumoto, Hiroshima University                        */
+/* Notice:         This code can be used freely for personal, academic,          */
+/*                 or non-commercial purposes. For commercial purposes,          */
+/*                 please contact P. L'Ecuyer at: lecuyer@iro.UMontreal.ca       */
+/* ***************************************************************************** */
+
+// Note: This is an external library for a high-quality random number generator (WELL1024a).
+// The original recurrence is preserved without modification. Explicit seeding, a direct int
+// output path and stream splitting were added around it for reproducible and parallel runs.
+// (참고: 고품질 난수 생성기(WELL1024a)를 위한 외부 라이브러리입니다.
+//  생성 알고리즘은 그대로이며, 시드 지정/정수 출력/스트림 분할 기능만 덧붙였습니다.)
+
+package tetris.logic.core;
+
+import java.util.Random;
+
+@SuppressWarnings("all")
+public class WELL1024a {
+    private final int W = 32;
+    private final int R = 32;
+    private final int M1 = 3;
+    private final int M2 = 24;
+    private final int M3 = 10;
+
+    private final double FACT = 2.32830643653869628906e-10;
+
+    // SplitMix64 constants, used to expand a 64-bit seed into the 1024-bit state
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private int state_i = 0;
+    private int[] STATE = new int[R];
+    private int z0, z1, z2;
+    
+    public WELL1024a() {
+        Random rand = new Random();
+        int[] init = new int[R];
+        for (int i = 0; i < R; i++) {
+            int high = rand.nextInt(1 << 16);
+            int low = rand.nextInt(1 << 16);
+            init[i] = (high << 16) | low;
+        }
+        init(init);
+    }
+
+    /**
+     * Creates a generator whose whole sequence is determined by {@code seed}.
+     * The 64-bit seed is expanded into the 32-word state with SplitMix64,
+     * so nearby seeds (0, 1, 2, ...) still give unrelated, non-zero states.
+     */
+    public WELL1024a(long seed) {
+        int[] init = new int[R];
+        long s = seed;
+        for (int i = 0; i < R; i += 2) {
+            s += GOLDEN_GAMMA;
+            long z = mix64(s);
+            init[i] = (int) (z >>> 32);
+            init[i + 1] = (int) z;
+        }
+        init(init);
+    }
+
+    /** Creates a generator from an explicit 32-word state (must not be all zero). */
+    public WELL1024a(int[] init) {
+        init(init.clone());
+    }
+
+    /**
+     * Splits off a new generator for an independent stream.
+     * The child is seeded from 64 bits of this generator's output, expanded through
+     * SplitMix64, so splitting is O(state size) and both streams can be used in parallel
+     * (e.g. one stream per simulated game). Splitting the same parent in the same order
+     * always yields the same children.
+     */
+    public WELL1024a split() {
+        return new WELL1024a(mix64(nextLong() ^ GOLDEN_GAMMA));
+    }
+
+    /** Returns the next raw 32-bit output, without the double conversion. */
+    public int nextInt() {
+        return next();
+    }
+
+    /** Returns 64 bits built from the next two raw outputs (high word first). */
+    public long nextLong() {
+        long high = next();
+        return (high << 32) | (next() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns a uniformly distributed int in [0, bound) using only integer arithmetic
+     * (Lemire's multiply-shift with rejection, so there is no modulo bias).
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be > 0");
+        }
+        long m = (next() & 0xFFFFFFFFL) * bound;
+        long low = m & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x1_0000_0000L - bound) % bound;
+            while (low < threshold) {
+                m = (next() & 0xFFFFFFFFL) * bound;
+                low = m & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int MAT0POS(int t, int v) {
+        return v ^ (v >>> t);
+    }
+
+    private int MAT0NEG(int t, int v) {
+        return v ^ (v << (-t));
+    }
+
+    private int Identity(int v) {
+        return v;
+    }
+
+    private void init(int[] init) {
+        if (init.length != R) {
+            throw new IllegalArgumentException("Init array length must be " + R);
+        }
+        state_i = 0;
+        System.arraycopy(init, 0, STATE, 0, R);
+    }
+
+    public double WELLRNG1024a() {
+        return (next() & 0xFFFFFFFFL) * FACT;
+    }
+
+    private int next() {
+        z0 = STATE[(state_i + 31) & 0x1F];
+        z1 = Identity(STATE[state_i]) ^ MAT0POS(8, STATE[(state_i + M1) & 0x1F]);
+        z2 = MAT0NEG(-19, STATE[(state_i + M2) & 0x1F]) ^ MAT0NEG(-14, STATE[(state_i + M3) & 0x1F]);
+        STATE[(state_i + 31) & 0x1F] = MAT0NEG(-11, z0) ^ MAT0NEG(-7, z1) ^ MAT0NEG(-13, z2);
+        STATE[state_i] = z1 ^ z2;
+        state_i = (state_i + 31) & 0x1F;
+        return STATE[state_i];
+    }
 }
\ No newline at end of file
@@ -1,71 +1,103 @@
-package tetris.logic.data;
-
-import tetris.data.constant.Tetromino;
-import tetris.data.dto.GameState;
-import tetris.data.dto.PlayField;
-import tetris.data.dto.TetrominoBag;
-import tetris.data.dto.TetrominoState;
-import tetris.logic.tetromino.CollisionChecker.CellReader;
-
-/**
- * 게임의 모든 핵심 데이터(필드, 테트로미노, 게임 상태 등)를 통합 관리하는 클래스.
- * 각 데이터 객체에 대한 접근을 중개하는 역할을 함 (Facade 역할).
- */
-public class DataManager implements CellReader {
-
-    // --- Instance Fields ---
-    // 게임의 모든 상태 데이터를 담는 final 필드들.
-    private final PlayField fieldData = new PlayField();          // 게임판 데이터
-    private final TetrominoBag bag = new TetrominoBag();          // 테트로미노 공급 가방
-    private final GameState gameState = new GameState();          // 게임 상태 (READY, PLAYING...)
-    private final TetrominoState tetrominoState = new TetrominoState(); // 현재 조작 중인 테트로미노 상태
-
-    // --- Public Methods (Getters for DTOs) ---
-    /** 게임 상태(GameState) 객체를 반환. */
-    public GameState getGameState() { return gameState; }
-    
-    /** 현재 조작 중인 테트로미노 상태(TetrominoState) 객체를 반환. */
-    public TetrominoState getTetrominoState() { return tetrominoState; }
-    
-    /** 게임 필드(PlayField) 객체를 반환. */
-    public PlayField getPlayField() { return fieldData; } 
-    
-    /** 테트로미노 공급 가방(TetrominoBag) 객체를 반환. */
-    public TetrominoBag getTetrominoBag() { return bag; } 
-    
-    // --- Public Methods (Delegates for PlayField) ---
-    /**
-     * 게임 필드의 특정 좌표(y, x) 값을 읽어옴. (CellReader 인터페이스 구현)
-     * CollisionChecker에서 필드 충돌 검사를 위해 사용.
-     */
-    @Override
-    public int getCell(int y, int x) { 
-        return fieldData.readFieldData().get(y, x); 
-    }
-    
-    /** 게임 필드의 특정 셀에 테트로미노 값을 설정 (fieldData에 위임). */
-    public void setCell(int y, int x, Tetromino tetromino) { 
-        fieldData.setCell(y, x, tetromino); 
-    }
-    
-    /** 게임 필드의 특정 셀을 빈 칸으로 만듦 (fieldData에 위임). */
-    public void removeCell(int y, int x) { 
-        fieldData.removeCell(y, x); 
-    }
-    
-    /** 게임 필드를 초기화 (fieldData에 위임). */
-    public void resetField() { 
-        fieldData.resetField(); 
-    }
-
-    // --- Public Methods (Delegates for TetrominoBag) ---
-    /** 현재/다음 테트로미노 가방의 복사본을 반환 (bag에 위임). */
-    public Tetromino[][] getBagCopy() { 
-        return bag.getBagCopy(); 
-    }
-    
-    /** 다음 테트로미노 가방을 준비시킴 (bag에 위임). */
-    public void advanceBag() { 
-        bag.advanceBag(); 
-    }
+package tetris.logic.data;
+
+import tetris.data.constant.Tetromino;
+import tetris.data.dto.GameState;
+import tetris.data.dto.PieceQueue;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoBag;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.core.WELL1024a;
+import tetris.logic.tetromino.CollisionChecker.CellReader;
+
+/**
+ * 게임의 모든 핵심 데이터(필드, 테트로미노, 게임 상태 등)를 통합 관리하는 클래스.
+ * 각 데이터 객체에 대한 접근을 중개하는 역할을 함 (Facade 역할).
+ */
+public class DataManager implements CellReader {
+
+    // --- Instance Fields ---
+    // 게임의 모든 상태 데이터를 담는 final 필드들.
+    private final PlayField fieldData = new PlayField();          // 게임판 데이터
+    private final TetrominoBag bag;                               // 테트로미노 공급 가방
+    private final PieceQueue pieceQueue;                          // 가방에서 미리 뽑아 둔 다음 블록 큐
+    private final GameState gameState = new GameState();          // 게임 상태 (READY, PLAYING...)
+    private final TetrominoState tetrominoState = new TetrominoState(); // 현재 조작 중인 테트로미노 상태
+
+    // --- Constructor ---
+    /** 시드를 정하지 않은 (매 게임 블록 순서가 다른) 데이터를 생성. */
+    public DataManager() {
+        this(new TetrominoBag());
+    }
+
+    /** 주어진 시드로 블록 순서가 결정되는 데이터를 생성 (리플레이, 재현 가능한 시뮬레이션용). */
+    public DataManager(long seed) {
+        this(new TetrominoBag(seed));
+    }
+
+    /** 주어진 난수 생성기로 블록 순서를 정하는 데이터를 생성 (split()한 독립 스트림 사용 시). */
+    public DataManager(WELL1024a rng) {
+        this(new TetrominoBag(rng));
+    }
+
+    private DataManager(TetrominoBag bag) {
+        this.bag = bag;
+        this.pieceQueue = new PieceQueue(bag);
+        // 국면 해시는 처음부터 다음 블록 큐의 키를 포함 (이후에는 큐가 바뀐 만큼만 섞음)
+        fieldData.xorHash(pieceQueue.getHash());
+    }
+
+    // --- Public Methods (Getters for DTOs) ---
+    /** 게임 상태(GameState) 객체를 반환. */
+    public GameState getGameState() { return gameState; }
+    
+    /** 현재 조작 중인 테트로미노 상태(TetrominoState) 객체를 반환. */
+    public TetrominoState getTetrominoState() { return tetrominoState; }
+    
+    /** 게임 필드(PlayField) 객체를 반환. */
+    public PlayField getPlayField() { return fieldData; } 
+    
+    /** 테트로미노 공급 가방(TetrominoBag) 객체를 반환. */
+    public TetrominoBag getTetrominoBag() { return bag; } 
+
+    /** 다음 블록 큐(PieceQueue) 객체를 반환. */
+    public PieceQueue getPieceQueue() { return pieceQueue; }
+    
+    // --- Public Methods (Delegates for PlayField) ---
+    /**
+     * 게임 필드의 특정 좌표(y, x) 값을 읽어옴. (CellReader 인터페이스 구현)
+     * CollisionChecker에서 필드 충돌 검사를 위해 사용.
+     */
+    @Override
+    public int getCell(int y, int x) { 
+        return fieldData.getCell(y, x); 
+    }
+
+    /**
+     * 게임 필드의 y번째 줄 점유 비트마스크를 읽어옴. (CellReader 인터페이스 구현)
+     * CollisionChecker의 비트 연산 충돌 검사에 사용.
+     */
+    @Override
+    public int getRowMask(int y) {
+        return fieldData.getRowMask(y);
+    }
+    
+    /** 게임 필드의 x열에서 가장 위 블록의 y 좌표를 반환 (fieldData에 위임). */
+    public int getColumnTop(int x) {
+        return fieldData.getColumnTop(x);
+    }
+
+    /** 게임 필드의 특정 셀에 테트로미노 값을 설정 (fieldData에 위임). */
+    public void setCell(int y, int x, Tetromino tetromino) { 
+        fieldData.setCell(y, x, tetromino); 
+    }
+    
+    /** 게임 필드의 특정 셀을 빈 칸으로 만듦 (fieldData에 위임). */
+    public void removeCell(int y, int x) { 
+        fieldData.removeCell(y, x); 
+    }
+    
+    /** 게임 필드를 초기화 (fieldData에 위임). */
+    public void resetField() { 
+        fieldData.resetField(); 
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package tetris.logic.field;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.TetrominoGeometry.BOX_SIZE;
+import static tetris.data.dto.PlayField.WALL_WIDTH;
+
+import java.util.Arrays;
+
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.CollisionChecker.CellReader;
+
+/**
+ * 탐색(봇, perft)용으로 복사해 쓰는 가벼운 필드.
+ * PlayField와 같은 형식의 줄 비트마스크(벽 포함)만 int 배열로 들고 있으며, 색상, 줄 포인터, 열 높이는 유지하지 않음.
+ * 블록 고정은 미노 비트를 OR하고, 줄 제거는 꽉 찬 줄 위의 줄만 아래로 복사하므로 국면 하나를 만드는 비용이 작음.
+ * CellReader를 구현하므로 CollisionChecker, MoveGenerator를 그대로 붙여 쓸 수 있음.
+ */
+public final class SearchField implements CellReader {
+
+    // --- Constants ---
+    private static final int TOTAL_Y_SIZE = BUFFER_ZONE + FIELD_Y_COUNT;
+    // 빈 줄: 양쪽 벽 비트만 켜진 상태 (PlayField.EMPTY_ROW를 int로 부호 확장한 값)
+    private static final int EMPTY_ROW = (short) 0xE007;
+    // 필드 밖(위/아래) 줄
+    private static final int SOLID_ROW = -1;
+    // 필드 10칸에 해당하는 비트만 모은 마스크
+    private static final int FIELD_BITS = ((1 << FIELD_X_COUNT) - 1) << WALL_WIDTH;
+    private static final int SHAPE_ROW_MASK = (1 << CollisionChecker.SHAPE_ROW_BITS) - 1;
+    // 색상을 기록하지 않으므로, 블록이 있는 칸은 getCell()에서 모두 이 값으로 읽힘
+    private static final int FILLED_CELL = Tetromino.I.ordinal();
+    private static final int EMPTY_CELL = Tetromino.EMPTY.ordinal();
+
+    // --- Instance Fields ---
+    private final int[] rowMasks = new int[TOTAL_Y_SIZE];
+
+    // --- Constructor ---
+    /** 빈 필드를 생성. */
+    public SearchField() {
+        clear();
+    }
+
+    // --- Public Methods ---
+    /** 모든 줄을 빈 줄로 만듦. */
+    public void clear() {
+        Arrays.fill(rowMasks, EMPTY_ROW);
+    }
+
+    /** 다른 탐색용 필드의 내용을 그대로 복사. */
+    public void copyFrom(SearchField other) {
+        System.arraycopy(other.rowMasks, 0, rowMasks, 0, TOTAL_Y_SIZE);
+    }
+
+    /** 게임 필드(DataManager 등)의 줄 비트마스크를 복사. */
+    public void copyFrom(CellReader reader) {
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            rowMasks[y] = reader.getRowMask(y);
+        }
+    }
+
+    /** (y, x) 칸에 블록이 있으면 FILLED_CELL, 없으면 EMPTY를 반환 (색상은 기록하지 않음). */
+    @Override
+    public int getCell(int y, int x) {
+        return (rowMasks[y] & (1 << (x + WALL_WIDTH))) != 0 ? FILLED_CELL : EMPTY_CELL;
+    }
+
+    /** y번째 줄의 점유 비트마스크를 벽 비트와 함께 반환. 필드 밖 줄은 -1. */
+    @Override
+    public int getRowMask(int y) {
+        if (y < 0 || y >= TOTAL_Y_SIZE) return SOLID_ROW;
+        return rowMasks[y];
+    }
+
+    /** y번째 줄의 필드 10칸만 비트로 반환 (x칸 = 비트 x). 국면을 압축하거나 평가할 때 사용. */
+    public int getFieldRow(int y) {
+        return (rowMasks[y] & FIELD_BITS) >>> WALL_WIDTH;
+    }
+
+    /** y번째 줄의 필드 10칸을 비트로 설정 (x칸 = 비트 x). */
+    public void setFieldRow(int y, int bits) {
+        rowMasks[y] = EMPTY_ROW | ((bits << WALL_WIDTH) & FIELD_BITS);
+    }
+
+    /** 블록이 있는 가장 위 줄의 y 좌표를 반환. 빈 필드면 TOTAL_Y_SIZE. */
+    public int getStackTop() {
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            if ((rowMasks[y] & FIELD_BITS) != 0) return y;
+        }
+        return TOTAL_Y_SIZE;
+    }
+
+    /**
+     * 블록을 주어진 상태로 고정하고, 블록이 걸친 줄 중 꽉 찬 줄을 제거.
+     * 놓을 수 있는 상태인지는 검사하지 않으므로, 호출자가 MoveGenerator 등으로 얻은 위치만 넘겨야 함.
+     * @param packed 고정할 블록 상태 (TetrominoState 압축 형식)
+     * @return 제거된 줄 수
+     */
+    public int place(int packed) {
+        int type = TetrominoState.unpackType(packed);
+        int rotation = TetrominoState.unpackRotation(packed);
+        int x = TetrominoState.unpackX(packed);
+        int y = TetrominoState.unpackY(packed);
+        int shape = TetrominoGeometry.shapeMask(type, rotation);
+        for (int r = 0; r < BOX_SIZE; r++) {
+            int bits = (shape >>> (r * CollisionChecker.SHAPE_ROW_BITS)) & SHAPE_ROW_MASK;
+            if (bits != 0) rowMasks[y + r] |= bits << (x + WALL_WIDTH);
+        }
+        return clearFullRows(y + TetrominoGeometry.minY(type, rotation), y + TetrominoGeometry.maxY(type, rotation));
+    }
+
+    /** 두 필드의 줄 내용이 같은지 비교. */
+    public boolean sameRows(SearchField other) {
+        return Arrays.equals(rowMasks, other.rowMasks);
+    }
+
+    // --- Private Methods ---
+    /** fromY ~ toY 중 꽉 찬 줄을 지우고, 그 위의 줄을 지운 줄 수만큼 아래로 내림. */
+    private int clearFullRows(int fromY, int toY) {
+        int lowest = toY;
+        while (lowest >= fromY && (rowMasks[lowest] & FIELD_BITS) != FIELD_BITS) {
+            lowest--;
+        }
+        if (lowest < fromY) return 0;
+
+        int cleared = 0;
+        for (int read = lowest; read >= 0; read--) {
+            int mask = rowMasks[read];
+            if (read >= fromY && (mask & FIELD_BITS) == FIELD_BITS) {
+                cleared++;
+            } else {
+                rowMasks[read + cleared] = mask;
+            }
+        }
+        Arrays.fill(rowMasks, 0, cleared, EMPTY_ROW);
+        return cleared;
+    }
+}
@@ -0,0 +1,39 @@
+package tetris.logic.input;
+
+import tetris.logic.PlayerAction;
+
+/**
+ * 입력 장치(키보드 등)가 누르고 뗄 수 있는 게임 버튼 목록.
+ * 입력 스레드는 버튼을 누르고 뗀 시각만 기록하고, 어떤 조작으로 바꿀지는 게임 루프의 {@link InputProcessor}가 결정.
+ */
+public enum InputKey {
+    LEFT(PlayerAction.MOVE_LEFT),        // 왼쪽 이동 (누르고 있으면 DAS/ARR로 반복)
+    RIGHT(PlayerAction.MOVE_RIGHT),      // 오른쪽 이동 (누르고 있으면 DAS/ARR로 반복)
+    SOFT_DROP(PlayerAction.SOFT_DROP_START), // 소프트 드롭 (누르고 있는 동안)
+    ROTATE_CW(PlayerAction.ROTATE_CW),   // 시계방향 회전
+    ROTATE_CCW(PlayerAction.ROTATE_CCW), // 반시계방향 회전
+    HARD_DROP(PlayerAction.HARD_DROP),   // 하드 드롭
+    HOLD(PlayerAction.HOLD),             // 홀드
+    PAUSE(PlayerAction.TOGGLE_PAUSE),    // 일시정지 토글
+    RESTART(PlayerAction.RESTART);       // 재시작 (게임오버 상태에서만 유효)
+
+    // --- Static Fields ---
+    private static final InputKey[] VALUES = values();
+
+    // --- Instance Fields ---
+    private final PlayerAction pressAction; // 버튼을 눌렀을 때 처리할 조작
+
+    // --- Constructor ---
+    InputKey(PlayerAction pressAction) {
+        this.pressAction = pressAction;
+    }
+
+    // --- Public Methods ---
+    /** 버튼을 눌렀을 때 처리할 조작을 반환. */
+    public PlayerAction getPressAction() { return pressAction; }
+
+    /** ordinal 값으로 버튼을 반환. 범위를 벗어나면 null. */
+    public static InputKey fromOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+    }
+}
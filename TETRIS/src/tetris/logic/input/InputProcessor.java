@@ -0,0 +1,225 @@
+package tetris.logic.input;
+
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+import tetris.logic.tetromino.TetrominoMover;
+
+/**
+ * 시각이 찍힌 버튼 이벤트를 게임 루프에서 조작으로 바꾸는 입력 처리기 (DAS/ARR).
+ *
+ * 입력 스레드는 {@link #press(InputKey, long)}/{@link #release(InputKey, long)}로 이벤트를 큐에 넣기만 하고,
+ * 게임 루프가 프레임마다 {@link #process(long)}로 그 프레임의 시각까지 들어온 이벤트를 꺼내 처리함.
+ * 좌우 이동 버튼을 누르고 있으면 OS의 키 반복 대신 시뮬레이션 프레임 단위로 반복:
+ * 누른 프레임에 한 칸 이동하고, DAS 프레임이 지나면 ARR 프레임마다 한 칸씩 (ARR 0이면 그 프레임에 벽까지) 이동.
+ * 그래서 이동 속도와 응답이 OS 설정이나 EDT 부하와 관계없이 항상 같은 프레임에 일어남.
+ *
+ * 만들어진 이동은 모두 {@link TetrisEngine#perform(PlayerAction)}을 거치므로 리플레이에는 조작으로 그대로 기록되며,
+ * 재생할 때는 DAS/ARR 설정이 필요 없음.
+ * 한 버튼에 키가 여럿 연결될 수 있으므로(예: 위쪽 화살표와 X) 버튼마다 누르고 있는 키 수를 세어, 누름은 키마다 따로 처리하고
+ * 연결된 키를 모두 뗐을 때 버튼을 뗀 것으로 봄. 그래서 같은 키의 키 반복은 입력 장치 쪽에서 걸러서 넣어야 함.
+ * 지연 추적기({@link LatencyTracer})가 연결되어 있으면 처리한 누름마다 두 시각을 넘겨 화면까지의 지연을 잼.
+ */
+public class InputProcessor {
+
+    // --- Constants ---
+    /** 기본 DAS (반복 이동이 시작되기까지의 프레임 수, 60Hz 기준 약 167ms). */
+    public static final int DEFAULT_DAS_FRAMES = 10;
+    /** 기본 ARR (반복 이동 사이의 프레임 수, 60Hz 기준 약 33ms). */
+    public static final int DEFAULT_ARR_FRAMES = 2;
+
+    // --- Instance Fields ---
+    private final TetrisEngine engine;
+    private volatile InputQueue queue; // 입력 스레드 -> 게임 루프 (첫 이벤트 때 만듦, 입력이 없는 헤드리스 게임은 null)
+    private volatile int dasFrames = DEFAULT_DAS_FRAMES;
+    private volatile int arrFrames = DEFAULT_ARR_FRAMES;
+    private volatile LatencyTracer latencyTracer; // 누름의 화면 반영 지연 추적 (없으면 null)
+
+    // 버튼 상태 (게임 루프 스레드 전용)
+    private final int[] pressCount = new int[InputKey.values().length]; // 버튼별로 누르고 있는 키 수
+    private int shiftDirection = 0; // 반복 이동 방향 (-1: 왼쪽, 1: 오른쪽, 0: 없음). 나중에 누른 쪽이 우선.
+    private long shiftFrames = 0;   // 이동 버튼을 누른 뒤 지난 프레임 수
+
+    // --- Constructor ---
+    public InputProcessor(TetrisEngine engine) {
+        this.engine = engine;
+    }
+
+    // --- Public Methods: Writer (입력 스레드 전용) ---
+    /**
+     * 버튼을 누른 이벤트를 넣음. 어느 스레드에서 호출해도 되지만, 입력 스레드는 하나여야 함.
+     * 누름마다 한 번씩 처리되므로, 키를 떼기 전의 키 반복은 넣지 말 것.
+     * @param key 누른 버튼
+     * @param time 누른 시각 (System.nanoTime 기준)
+     * @return 큐가 가득 차서 버렸으면 false
+     */
+    public boolean press(InputKey key, long time) { return writerQueue().offer(time, 0, key, true); }
+
+    /**
+     * 버튼을 누른 이벤트를 운영체제 이벤트 시각과 함께 넣음 (지연 측정용).
+     * @param when 운영체제 이벤트 시각 (KeyEvent.getWhen)
+     */
+    public boolean press(InputKey key, long time, long when) { return writerQueue().offer(time, when, key, true); }
+
+    /**
+     * 버튼을 뗀 이벤트를 넣음.
+     * @param key 뗀 버튼
+     * @param time 뗀 시각 (System.nanoTime 기준)
+     * @return 큐가 가득 차서 버렸으면 false
+     */
+    public boolean release(InputKey key, long time) { return writerQueue().offer(time, 0, key, false); }
+
+    /** 버튼을 뗀 이벤트를 운영체제 이벤트 시각과 함께 넣음. */
+    public boolean release(InputKey key, long time, long when) { return writerQueue().offer(time, when, key, false); }
+
+    // --- Public Methods: Game Loop ---
+    /**
+     * frameTime까지 들어온 이벤트를 처리한 뒤, 누르고 있는 이동 버튼의 반복 이동을 한 프레임 진행.
+     * 밀린 프레임을 따라잡는 중이면 각 이벤트는 그 시각 이후의 첫 프레임에서 처리됨.
+     * @param frameTime 이번 프레임의 예정 시각 (System.nanoTime 기준)
+     */
+    public void process(long frameTime) {
+        InputQueue q = queue;
+        while (q != null && q.hasNext() && q.peekTime() - frameTime <= 0) {
+            pollAndApply(q);
+        }
+        autoShift();
+    }
+
+    /** 들어온 이벤트를 시각과 관계없이 모두 처리한 뒤 반복 이동을 한 프레임 진행 (헤드리스, 게임 루프 밖). */
+    public void processAll() {
+        InputQueue q = queue;
+        while (q != null && q.hasNext()) {
+            pollAndApply(q);
+        }
+        autoShift();
+    }
+
+    // --- Public Methods: Settings ---
+    /** DAS(반복 이동이 시작되기까지의 프레임 수)를 반환. */
+    public int getDasFrames() { return dasFrames; }
+
+    /** DAS를 프레임 단위로 설정. 0이면 누른 프레임부터 반복. */
+    public void setDasFrames(int frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("dasFrames must be >= 0");
+        }
+        dasFrames = frames;
+    }
+
+    /** ARR(반복 이동 사이의 프레임 수)을 반환. */
+    public int getArrFrames() { return arrFrames; }
+
+    /** ARR을 프레임 단위로 설정. 0이면 DAS가 지난 프레임에 바로 벽까지 이동. */
+    public void setArrFrames(int frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("arrFrames must be >= 0");
+        }
+        arrFrames = frames;
+    }
+
+    /** 큐가 가득 차서 버린 이벤트 수를 반환. */
+    public long getDroppedEvents() {
+        InputQueue q = queue;
+        return q == null ? 0 : q.getDroppedCount();
+    }
+
+    /** 지연 추적기를 반환 (없으면 null). */
+    public LatencyTracer getLatencyTracer() { return latencyTracer; }
+
+    /** 처리한 누름을 넘겨줄 지연 추적기를 설정. null이면 추적하지 않음. */
+    public void setLatencyTracer(LatencyTracer tracer) { this.latencyTracer = tracer; }
+
+    // --- Private Methods ---
+    /**
+     * 입력 스레드가 쓸 큐를 반환. 처음 호출될 때 만듦 (입력 스레드는 하나뿐이므로 경쟁 없음).
+     * 큐 배열이 약 17KB이므로, 키보드가 연결되지 않은 헤드리스 세션(봇, GameSessionHost 등)은 만들지 않음.
+     */
+    private InputQueue writerQueue() {
+        InputQueue q = queue;
+        if (q == null) {
+            q = new InputQueue();
+            queue = q; // volatile 쓰기로 게임 루프에 공개
+        }
+        return q;
+    }
+
+    /** 큐에서 이벤트 하나를 꺼내 조작으로 바꿔 처리. */
+    private void pollAndApply(InputQueue queue) {
+        long time = queue.peekTime();
+        long when = queue.peekWhen();
+        int code = queue.poll();
+        InputKey key = InputQueue.keyOf(code);
+        if (key == null) return;
+        boolean down = InputQueue.isDown(code);
+        int count = pressCount[key.ordinal()];
+        if (!down && count == 0) return; // 누르지 않은 버튼의 떼기
+        pressCount[key.ordinal()] = down ? count + 1 : count - 1;
+        boolean released = !down && count == 1; // 버튼에 연결된 키를 모두 뗌
+
+        LatencyTracer tracer = latencyTracer;
+        if (tracer != null && down) {
+            tracer.inputApplied(time, when);
+        }
+
+        switch (key) {
+            case LEFT:
+            case RIGHT:
+                int direction = key == InputKey.LEFT ? -1 : 1;
+                if (down) {
+                    startShift(direction);
+                    engine.perform(key.getPressAction());
+                } else if (released && shiftDirection == direction) {
+                    // 반대쪽을 아직 누르고 있으면 그쪽으로 DAS부터 다시 시작
+                    InputKey other = key == InputKey.LEFT ? InputKey.RIGHT : InputKey.LEFT;
+                    if (pressCount[other.ordinal()] > 0) {
+                        startShift(-direction);
+                    } else {
+                        shiftDirection = 0;
+                    }
+                }
+                break;
+            case SOFT_DROP:
+                // 처음 누른 키에서 시작하고, 연결된 키를 모두 뗐을 때 멈춤
+                if (down && count == 0) {
+                    engine.perform(PlayerAction.SOFT_DROP_START);
+                } else if (released) {
+                    engine.perform(PlayerAction.SOFT_DROP_STOP);
+                }
+                break;
+            default:
+                if (down) {
+                    engine.perform(key.getPressAction());
+                }
+                break;
+        }
+    }
+
+    /** 반복 이동 방향을 정하고 DAS를 처음부터 셈. 이번 프레임의 autoShift()에서 0이 됨. */
+    private void startShift(int direction) {
+        shiftDirection = direction;
+        shiftFrames = -1;
+    }
+
+    /** 누르고 있는 이동 버튼의 DAS/ARR을 한 프레임 진행하고, 반복할 차례면 이동. */
+    private void autoShift() {
+        if (shiftDirection == 0 || !engine.isPlaying()) return; // 일시정지 중에는 DAS도 멈춤
+        long frames = ++shiftFrames;
+        int das = dasFrames;
+        if (frames < das || engine.isSpawnDelayed()) return; // 생성 지연 중에는 충전만 유지
+
+        TetrominoMover mover = engine.getTetrominoMover();
+        PlayerAction action = shiftDirection < 0 ? PlayerAction.MOVE_LEFT : PlayerAction.MOVE_RIGHT;
+        int arr = arrFrames;
+        if (arr == 0) {
+            // 벽(또는 블록)에 닿을 때까지 이번 프레임에 모두 이동
+            for (int i = 0; i < FIELD_X_COUNT && mover.canMove(shiftDirection, 0); i++) {
+                engine.perform(action);
+            }
+        } else if ((frames - das) % arr == 0 && mover.canMove(shiftDirection, 0)) {
+            // 막혀 있으면 이동하지 않음 (반복 이동이 락 딜레이를 계속 리셋하지 않도록)
+            engine.perform(action);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package tetris.logic.input;
+
+/**
+ * 버튼을 누르고 뗀 이벤트를 시각(System.nanoTime, 운영체제 이벤트 시각)과 함께 담는 고정 크기 링 버퍼.
+ *
+ * 쓰는 쪽은 입력 스레드 하나(EDT 등), 읽는 쪽은 게임 루프 스레드 하나인 단일 생산자/단일 소비자 큐로,
+ * 락도 할당도 없음. 쓰는 쪽은 슬롯을 채운 뒤 tail을, 읽는 쪽은 슬롯을 읽은 뒤 head를 올려 공개함 (둘 다 volatile).
+ * 큐가 가득 차면(게임 루프가 멈춰 있는 경우 등) 새 이벤트는 버리고 그 수를 셈.
+ */
+public final class InputQueue {
+
+    // --- Constants ---
+    private static final int CAPACITY = 1024; // 링 버퍼 크기 (2의 거듭제곱)
+    private static final int MASK = CAPACITY - 1;
+
+    // --- Instance Fields ---
+    private final long[] times = new long[CAPACITY]; // 입력 스레드가 받은 시각 (nanoTime)
+    private final long[] whens = new long[CAPACITY]; // 운영체제 이벤트 시각 (epoch 밀리초, 모르면 0)
+    private final byte[] codes = new byte[CAPACITY]; // 이벤트 코드 ((버튼 번호 << 1) | 눌림 여부)
+    private volatile long head = 0;    // 다음에 읽을 이벤트의 순번
+    private volatile long tail = 0;    // 다음에 쓸 이벤트의 순번
+    private volatile long dropped = 0; // 큐가 가득 차서 버린 이벤트 수
+
+    // --- Public Methods: Writer (입력 스레드 전용) ---
+    /**
+     * 이벤트를 넣음.
+     * @param time 입력 스레드가 받은 시각 (System.nanoTime 기준)
+     * @param when 운영체제 이벤트 시각 (KeyEvent.getWhen, 모르면 0). 지연 측정에만 사용.
+     * @param key 누르거나 뗀 버튼
+     * @param down true면 누름, false면 뗌
+     * @return 큐가 가득 차서 버렸으면 false
+     */
+    public boolean offer(long time, long when, InputKey key, boolean down) {
+        long t = tail;
+        if (t - head >= CAPACITY) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) (t & MASK);
+        times[slot] = time;
+        whens[slot] = when;
+        codes[slot] = (byte) (key.ordinal() << 1 | (down ? 1 : 0));
+        tail = t + 1; // 슬롯을 다 쓴 뒤에 올려야 읽는 쪽이 완성된 이벤트만 봄
+        return true;
+    }
+
+    // --- Public Methods: Reader (게임 루프 스레드 전용) ---
+    /** 읽을 이벤트가 있는지 여부를 반환. */
+    public boolean hasNext() { return head != tail; }
+
+    /** 다음 이벤트의 시각을 반환. hasNext()가 true일 때만 호출. */
+    public long peekTime() { return times[(int) (head & MASK)]; }
+
+    /** 다음 이벤트의 운영체제 이벤트 시각을 반환. hasNext()가 true일 때만 호출. */
+    public long peekWhen() { return whens[(int) (head & MASK)]; }
+
+    /** 다음 이벤트를 꺼내 코드를 반환. hasNext()가 true일 때만 호출. */
+    public int poll() {
+        long h = head;
+        int code = codes[(int) (h & MASK)];
+        head = h + 1;
+        return code;
+    }
+
+    /** 이벤트 코드에서 버튼을 반환. */
+    public static InputKey keyOf(int code) { return InputKey.fromOrdinal(code >>> 1); }
+
+    /** 이벤트 코드가 누름인지 여부를 반환. */
+    public static boolean isDown(int code) { return (code & 1) != 0; }
+
+    // --- Public Methods: Statistics ---
+    /** 큐가 가득 차서 버린 이벤트 수를 반환. */
+    public long getDroppedCount() { return dropped; }
+}
@@ -0,0 +1,152 @@
+package tetris.logic.input;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import tetris.logic.core.LatencyHistogram;
+
+/**
+ * 버튼을 누른 순간부터 그 결과가 처음으로 화면에 나간 프레임까지의 지연(key-to-photon)을 재는 추적기.
+ *
+ * 입력 이벤트는 두 시각을 갖고 들어옴: 운영체제가 찍은 이벤트 시각(KeyEvent.getWhen, 밀리초)과
+ * 입력 스레드가 받은 시각(System.nanoTime). 세 단계를 거쳐 측정함.
+ * <ol>
+ * <li>게임 루프가 누름을 처리하면 {@link #inputApplied(long, long)}로 두 시각을 대기 목록에 넣음.</li>
+ * <li>프레임 상태를 공개할 때 {@link #framePublished(long, boolean)}로 대기 중인 입력에 그 프레임 버전을 붙여
+ *     그리기 스레드에 넘김. 화면이 바뀌지 않았으면(막힌 이동 등) 보여줄 결과가 없으므로 버림.</li>
+ * <li>그리기 스레드가 버전 v 이상의 프레임을 내보낸 직후 {@link #framePresented(long, long, long)}를 호출하면,
+ *     v 이하의 입력을 모두 꺼내 두 히스토그램(이벤트 기준, 입력 스레드 기준)에 기록.</li>
+ * </ol>
+ * 게임 루프 스레드와 그리기 스레드 사이는 고정 크기 링 버퍼(단일 생산자/단일 소비자)로 넘기므로 락도 할당도 없음.
+ */
+public final class LatencyTracer {
+
+    // --- Constants ---
+    private static final int CAPACITY = 256;     // 공개된 뒤 아직 화면에 나가지 않은 입력의 최대 수 (2의 거듭제곱)
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_PENDING = 64;   // 한 번의 공개 사이에 처리된 입력의 최대 수
+
+    // --- Instance Fields ---
+    // 게임 루프 스레드 전용: 처리했지만 아직 공개하지 않은 입력
+    private final long[] pendingNanos = new long[MAX_PENDING];
+    private final long[] pendingWhens = new long[MAX_PENDING];
+    private int pendingCount = 0;
+
+    // 게임 루프 스레드 -> 그리기 스레드 링 버퍼
+    private final long[] versions = new long[CAPACITY]; // 입력을 처음 반영한 프레임 버전
+    private final long[] nanos = new long[CAPACITY];    // 입력 스레드가 받은 시각 (nanoTime)
+    private final long[] whens = new long[CAPACITY];    // 이벤트 시각 (epoch 밀리초, 모르면 0)
+    private volatile long head = 0;
+    private volatile long tail = 0;
+    private volatile long dropped = 0; // 대기 목록이나 링 버퍼가 가득 차서 버린 입력 수
+
+    private final LatencyHistogram fromEvent = new LatencyHistogram();   // 이벤트 시각 -> 화면 (밀리초 정밀도)
+    private final LatencyHistogram fromHandler = new LatencyHistogram(); // 입력 스레드 수신 -> 화면
+
+    // --- Public Methods: Game Loop ---
+    /**
+     * 누름 하나가 처리되었음을 기록 (게임 루프 스레드 전용).
+     * @param nanoTime 입력 스레드가 이벤트를 받은 시각 (System.nanoTime)
+     * @param whenMillis 이벤트 시각 (KeyEvent.getWhen, 모르면 0)
+     */
+    public void inputApplied(long nanoTime, long whenMillis) {
+        if (pendingCount == MAX_PENDING) {
+            dropped++;
+            return;
+        }
+        pendingNanos[pendingCount] = nanoTime;
+        pendingWhens[pendingCount] = whenMillis;
+        pendingCount++;
+    }
+
+    /**
+     * 프레임 상태를 공개한 뒤 호출 (게임 루프 스레드 전용). 대기 중인 입력을 이 버전에 묶어 그리기 스레드로 넘김.
+     * @param version 공개된 프레임 버전 (그리기 스레드가 framePresented에 넘기는 값과 같은 기준)
+     * @param visible 지난 공개 이후 화면에 보이는 변화가 있었는지 여부. false면 대기 중인 입력을 버림.
+     */
+    public void framePublished(long version, boolean visible) {
+        if (pendingCount == 0) return;
+        if (visible) {
+            long t = tail;
+            for (int i = 0; i < pendingCount; i++) {
+                if (t - head >= CAPACITY) {
+                    dropped += pendingCount - i;
+                    break;
+                }
+                int slot = (int) (t & MASK);
+                versions[slot] = version;
+                nanos[slot] = pendingNanos[i];
+                whens[slot] = pendingWhens[i];
+                t++;
+            }
+            tail = t; // 슬롯을 다 쓴 뒤에 공개
+        }
+        pendingCount = 0;
+    }
+
+    // --- Public Methods: Painter ---
+    /**
+     * 프레임을 화면에 내보낸 직후 호출 (그리기 스레드 전용). version 이하의 입력을 모두 기록.
+     * @param version 내보낸 프레임의 버전
+     * @param nowNanos 내보낸 시각 (System.nanoTime)
+     * @param nowMillis 내보낸 시각 (System.currentTimeMillis, 이벤트 시각과 비교용)
+     */
+    public void framePresented(long version, long nowNanos, long nowMillis) {
+        long h = head;
+        long t = tail;
+        while (h != t) {
+            int slot = (int) (h & MASK);
+            if (versions[slot] > version) break;
+            fromHandler.record(nowNanos - nanos[slot]);
+            if (whens[slot] != 0) {
+                fromEvent.record((nowMillis - whens[slot]) * 1_000_000L);
+            }
+            h++;
+        }
+        head = h;
+    }
+
+    // --- Public Methods: Results ---
+    /** 이벤트 시각(운영체제) 기준 지연 히스토그램을 반환. 운영체제 큐와 EDT 지연까지 포함하지만 밀리초 정밀도. */
+    public LatencyHistogram getFromEvent() { return fromEvent; }
+
+    /** 입력 스레드 수신 시각 기준 지연 히스토그램을 반환 (나노초 정밀도). */
+    public LatencyHistogram getFromHandler() { return fromHandler; }
+
+    /** 대기 목록이나 링 버퍼가 가득 차서 버린 입력 수를 반환. */
+    public long getDroppedCount() { return dropped; }
+
+    /** 측정 결과를 지움 (그리기 스레드와 동시에 호출해도 됨). */
+    public void reset() {
+        fromEvent.reset();
+        fromHandler.reset();
+    }
+
+    /** 오버레이용 한 줄 요약 (이벤트 기준 p50/p99/max, 밀리초). */
+    public String summary() {
+        LatencyHistogram h = fromEvent.getCount() > 0 ? fromEvent : fromHandler;
+        return String.format("key %4.1f p99 %4.1f max %4.1f", h.getPercentileNanos(50) / 1e6,
+                h.getPercentileNanos(99) / 1e6, h.getMaxNanos() / 1e6);
+    }
+
+    /** 두 히스토그램의 요약과 버킷별 개수를 텍스트 파일로 저장. */
+    public void writeReport(Path path) throws IOException {
+        StringBuilder out = new StringBuilder();
+        out.append("# key-to-photon latency (ms); dropped inputs: ").append(dropped).append('\n');
+        appendHistogram(out, "event", fromEvent);
+        appendHistogram(out, "handler", fromHandler);
+        Files.write(path, out.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // --- Private Methods ---
+    /** 히스토그램 하나의 요약과 버킷을 덧붙임. */
+    private static void appendHistogram(StringBuilder out, String name, LatencyHistogram h) {
+        out.append(String.format("%s count=%d p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n", name, h.getCount(),
+                h.getPercentileNanos(50) / 1e6, h.getPercentileNanos(90) / 1e6, h.getPercentileNanos(99) / 1e6,
+                h.getPercentileNanos(99.9) / 1e6, h.getMaxNanos() / 1e6));
+        out.append("# ").append(name).append(" buckets: lowUs highUs count\n");
+        h.appendBuckets(out);
+    }
+}
@@ -0,0 +1,250 @@
+package tetris.logic.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+
+/**
+ * 기록된 게임 한 판 (가방 시드, 타이밍 설정, 프레임 단위로 시각이 찍힌 입력, 기대 결과).
+ * 불변 객체이므로 여러 스레드에서 동시에 재생해도 안전함.
+ *
+ * 바이너리 형식 (정수는 모두 부호 없는 LEB128 varint, 시드와 해시만 8바이트 big-endian):
+ * <pre>
+ * "TRPL" version seed(8) frameRate lockDelayFrames entryDelayFrames lineClearDelayFrames softDropFactor
+ * inputCount inputBytes inputs...
+ * frames score clearedLines lockedPieces fieldHash(8)
+ * </pre>
+ * 입력 하나는 varint((직전 입력과의 프레임 차이 &lt;&lt; 4) | PlayerAction 번호)이므로,
+ * 8프레임 안에 이어지는 입력은 1바이트, 약 2초 안이면 2바이트로 기록됨.
+ * 버전 1에는 softDropFactor가 없으며, 읽을 때 기본값(TetrisEngine.DEFAULT_SOFT_DROP_FACTOR)으로 채움.
+ */
+public final class Replay {
+
+    // --- Constants ---
+    private static final int MAGIC = 0x5452504C; // "TRPL"
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_SOFT_DROP_FACTOR = 1;
+    static final int ACTION_BITS = 4;             // 입력 하나에서 조작 번호가 차지하는 비트 수
+    static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+    static final PlayerAction[] ACTIONS = PlayerAction.values();
+
+    static {
+        if (ACTIONS.length > ACTION_MASK + 1) {
+            throw new AssertionError("PlayerAction no longer fits in " + ACTION_BITS + " bits");
+        }
+    }
+
+    // --- Instance Fields ---
+    private final long seed;               // 테트로미노 가방 시드
+    private final int frameRate;           // 기록 당시 초당 프레임 수
+    private final long lockDelayFrames;    // 기록 당시 락 딜레이 (프레임)
+    private final long entryDelayFrames;   // 기록 당시 생성 지연 (프레임)
+    private final long lineClearDelayFrames; // 기록 당시 줄 제거 지연 (프레임)
+    private final int softDropFactor;      // 기록 당시 소프트 드롭 배율
+    private final byte[] inputs;           // varint로 인코딩된 입력들
+    private final int inputCount;          // 입력 개수
+    private final ReplayResult expected;   // 기록을 마쳤을 때의 결과
+
+    // --- Constructor ---
+    Replay(long seed, int frameRate, long lockDelayFrames, long entryDelayFrames, long lineClearDelayFrames,
+           int softDropFactor, byte[] inputs, int inputCount, ReplayResult expected) {
+        this.seed = seed;
+        this.frameRate = frameRate;
+        this.lockDelayFrames = lockDelayFrames;
+        this.entryDelayFrames = entryDelayFrames;
+        this.lineClearDelayFrames = lineClearDelayFrames;
+        this.softDropFactor = softDropFactor;
+        this.inputs = inputs;
+        this.inputCount = inputCount;
+        this.expected = expected;
+    }
+
+    // --- Public Methods: Serialization ---
+    /** 리플레이를 바이너리 형식으로 인코딩. */
+    public byte[] toBytes() {
+        ByteWriter out = new ByteWriter(inputs.length + 64);
+        out.writeInt(MAGIC);
+        out.writeVarLong(VERSION);
+        out.writeLong(seed);
+        out.writeVarLong(frameRate);
+        out.writeVarLong(lockDelayFrames);
+        out.writeVarLong(entryDelayFrames);
+        out.writeVarLong(lineClearDelayFrames);
+        out.writeVarLong(softDropFactor);
+        out.writeVarLong(inputCount);
+        out.writeVarLong(inputs.length);
+        out.writeBytes(inputs, inputs.length);
+        out.writeVarLong(expected.getFrames());
+        out.writeVarLong(expected.getScore());
+        out.writeVarLong(expected.getClearedLines());
+        out.writeVarLong(expected.getLockedPieces());
+        out.writeLong(expected.getFieldHash());
+        return out.toByteArray();
+    }
+
+    /**
+     * 바이너리 형식의 리플레이를 읽음.
+     * @throws IllegalArgumentException 형식이 맞지 않거나 데이터가 잘린 경우
+     */
+    public static Replay fromBytes(byte[] data) {
+        ByteReader in = new ByteReader(data, 0, data.length);
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("not a replay file");
+        }
+        long version = in.readVarLong();
+        if (version != VERSION && version != VERSION_WITHOUT_SOFT_DROP_FACTOR) {
+            throw new IllegalArgumentException("unsupported replay version: " + version);
+        }
+        long seed = in.readLong();
+        int frameRate = (int) in.readVarLong();
+        long lockDelayFrames = in.readVarLong();
+        long entryDelayFrames = in.readVarLong();
+        long lineClearDelayFrames = in.readVarLong();
+        int softDropFactor = version == VERSION_WITHOUT_SOFT_DROP_FACTOR
+                ? TetrisEngine.DEFAULT_SOFT_DROP_FACTOR : (int) in.readVarLong();
+        int inputCount = (int) in.readVarLong();
+        int inputLength = (int) in.readVarLong();
+        byte[] inputs = in.readBytes(inputLength);
+        ReplayResult expected = new ReplayResult(in.readVarLong(), in.readVarLong(), (int) in.readVarLong(),
+                in.readVarLong(), in.readLong());
+        return new Replay(seed, frameRate, lockDelayFrames, entryDelayFrames, lineClearDelayFrames,
+                softDropFactor, inputs, inputCount, expected);
+    }
+
+    /** 리플레이를 파일로 저장. */
+    public void save(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    /** 파일에서 리플레이를 읽음. */
+    public static Replay load(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    // --- Public Methods: Getters ---
+    public long getSeed() { return seed; }
+    public int getFrameRate() { return frameRate; }
+    public long getLockDelayFrames() { return lockDelayFrames; }
+    public long getEntryDelayFrames() { return entryDelayFrames; }
+    public long getLineClearDelayFrames() { return lineClearDelayFrames; }
+    public int getSoftDropFactor() { return softDropFactor; }
+    public int getInputCount() { return inputCount; }
+    /** 인코딩된 입력의 바이트 수를 반환. */
+    public int getInputByteCount() { return inputs.length; }
+    /** 기록을 마쳤을 때의 결과를 반환. */
+    public ReplayResult getExpected() { return expected; }
+
+    @Override
+    public String toString() {
+        return String.format("replay seed=%016x inputs=%d (%d bytes) %s",
+                seed, inputCount, inputs.length, expected);
+    }
+
+    // --- Package-Private Methods ---
+    /** 인코딩된 입력을 읽는 리더를 반환 (재생기용). */
+    ByteReader openInputs() { return new ByteReader(inputs, 0, inputs.length); }
+
+    // --- Inner Class ---
+    /** 할당 없이 varint를 이어 쓰는 가변 길이 바이트 버퍼. */
+    static final class ByteWriter {
+        private byte[] buf;
+        private int size = 0;
+
+        ByteWriter(int capacity) {
+            buf = new byte[Math.max(16, capacity)];
+        }
+
+        /** 부호 없는 LEB128 varint (7비트씩, 최상위 비트는 '다음 바이트 있음'). */
+        void writeVarLong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void writeInt(int v) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) buf[size++] = (byte) (v >>> shift);
+        }
+
+        void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) buf[size++] = (byte) (v >>> shift);
+        }
+
+        void writeBytes(byte[] src, int length) {
+            ensure(length);
+            System.arraycopy(src, 0, buf, size, length);
+            size += length;
+        }
+
+        int size() { return size; }
+
+        byte[] toByteArray() { return Arrays.copyOf(buf, size); }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+    }
+
+    /** 바이트 배열에서 varint를 차례로 읽는 리더. */
+    static final class ByteReader {
+        private final byte[] buf;
+        private final int end;
+        private int pos;
+
+        ByteReader(byte[] buf, int offset, int length) {
+            this.buf = buf;
+            this.pos = offset;
+            this.end = offset + length;
+        }
+
+        boolean hasMore() { return pos < end; }
+
+        long readVarLong() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return v;
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        int readInt() {
+            int v = 0;
+            for (int i = 0; i < 4; i++) v = (v << 8) | (next() & 0xFF);
+            return v;
+        }
+
+        long readLong() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) v = (v << 8) | (next() & 0xFF);
+            return v;
+        }
+
+        byte[] readBytes(int length) {
+            if (length < 0 || length > end - pos) {
+                throw new IllegalArgumentException("truncated replay data");
+            }
+            byte[] out = Arrays.copyOfRange(buf, pos, pos + length);
+            pos += length;
+            return out;
+        }
+
+        private byte next() {
+            if (pos >= end) {
+                throw new IllegalArgumentException("truncated replay data");
+            }
+            return buf[pos++];
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package tetris.logic.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+
+/**
+ * 리플레이를 헤드리스 엔진에 그대로 다시 넣어 CPU가 허용하는 최대 속도로 재생하는 재생기.
+ * 같은 시드와 타이밍으로 엔진을 만들고, 기록된 프레임에 맞춰 update()와 perform()을 호출하므로
+ * 기록 당시와 같은 필드와 점수가 나옴. 재생 결과는 리플레이에 저장된 기대 결과와 비교해 회귀 검사에 사용.
+ *
+ * 상태를 갖지 않으므로 여러 스레드에서 서로 다른 리플레이를 동시에 재생해도 안전함.
+ */
+public final class ReplayPlayer {
+
+    // --- Constants ---
+    private static final String FILE_EXTENSION = ".trp"; // 리플레이 파일 확장자
+
+    // --- Constructor ---
+    private ReplayPlayer() {}
+
+    // --- Public Static Methods ---
+    /** 리플레이와 같은 시드와 타이밍을 가진, 아직 시작하지 않은 헤드리스 엔진을 생성. */
+    public static TetrisEngine createEngine(Replay replay) {
+        TetrisEngine engine = new TetrisEngine(new DataManager(replay.getSeed()), replay.getFrameRate());
+        engine.setLockDelayFrames(replay.getLockDelayFrames());
+        engine.setEntryDelayFrames(replay.getEntryDelayFrames());
+        engine.setLineClearDelayFrames(replay.getLineClearDelayFrames());
+        engine.setSoftDropFactor(replay.getSoftDropFactor());
+        return engine;
+    }
+
+    /** 리플레이를 끝까지 재생하고 결과를 반환. */
+    public static ReplayResult play(Replay replay) {
+        TetrisEngine engine = createEngine(replay);
+        engine.startHeadless();
+        play(replay, engine);
+        return ReplayResult.capture(engine);
+    }
+
+    /**
+     * 이미 시작한(startHeadless) 엔진에 리플레이의 입력을 넣으며 기록된 마지막 프레임까지 진행.
+     * @throws IllegalArgumentException 입력 데이터가 잘렸거나 알 수 없는 조작이 들어 있는 경우
+     */
+    public static void play(Replay replay, TetrisEngine engine) {
+        Replay.ByteReader in = replay.openInputs();
+        long frame = 0;
+        for (int i = 0; i < replay.getInputCount(); i++) {
+            long code = in.readVarLong();
+            frame += code >>> Replay.ACTION_BITS;
+            int ordinal = (int) (code & Replay.ACTION_MASK);
+            if (ordinal >= Replay.ACTIONS.length) {
+                throw new IllegalArgumentException("unknown action code: " + ordinal);
+            }
+            while (engine.getFrameCount() < frame) {
+                engine.update();
+            }
+            engine.perform(Replay.ACTIONS[ordinal]);
+        }
+        long end = replay.getExpected().getFrames();
+        while (engine.getFrameCount() < end) {
+            engine.update();
+        }
+    }
+
+    /** 리플레이를 재생한 결과가 기록 당시의 결과와 같은지 확인. */
+    public static boolean verify(Replay replay) {
+        return play(replay).equals(replay.getExpected());
+    }
+
+    /**
+     * 주어진 리플레이 파일(또는 디렉터리 안의 모든 .trp 파일)을 병렬로 재생해 검증하고 처리량을 출력.
+     * 하나라도 결과가 다르면 종료 코드 1로 끝남.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: ReplayPlayer <replay file or directory>...");
+            System.exit(2);
+        }
+        List<Replay> replays = new ArrayList<>();
+        for (String arg : args) {
+            for (Path path : collectFiles(Paths.get(arg))) {
+                replays.add(Replay.load(path));
+            }
+        }
+
+        AtomicInteger mismatches = new AtomicInteger();
+        long start = System.nanoTime();
+        replays.parallelStream().forEach(replay -> {
+            ReplayResult actual = play(replay);
+            if (!actual.equals(replay.getExpected())) {
+                mismatches.incrementAndGet();
+                System.err.println("[ReplayPlayer] Mismatch for seed " + Long.toHexString(replay.getSeed())
+                        + ": expected " + replay.getExpected() + ", got " + actual);
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long frames = 0;
+        for (Replay replay : replays) frames += replay.getExpected().getFrames();
+        System.out.printf("replays=%d mismatches=%d frames=%d %.2fs => %.0f games/s, %.0f frames/s%n",
+                replays.size(), mismatches.get(), frames, seconds,
+                replays.size() / seconds, frames / seconds);
+        if (mismatches.get() > 0) {
+            System.exit(1);
+        }
+    }
+
+    // --- Private Static Methods ---
+    /** 파일이면 그대로, 디렉터리면 그 아래의 모든 리플레이 파일을 이름 순으로 반환. */
+    private static List<Path> collectFiles(Path path) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> walk = Files.walk(path)) {
+                walk.filter(p -> p.toString().endsWith(FILE_EXTENSION)).sorted().forEach(files::add);
+            }
+        } else {
+            files.add(path);
+        }
+        return files;
+    }
+}
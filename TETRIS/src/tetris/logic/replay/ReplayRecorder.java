@@ -0,0 +1,93 @@
+package tetris.logic.replay;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.dto.TetrominoBag;
+import tetris.logic.ActionObserver;
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+
+/**
+ * 엔진이 처리하는 모든 플레이어 조작을 프레임 시각과 함께 기록하는 리플레이 기록기.
+ * 키 입력(InputHandler), 컨트롤러, 봇이 호출하는 이동/회전/드롭/홀드는 모두 {@link TetrisEngine#perform(PlayerAction)}을
+ * 거치므로, 조작 관찰자로 붙어 있기만 하면 빠짐없이 기록됨.
+ *
+ * 기록은 게임 루프 스레드에서만 일어나며, 입력 하나당 할당 없이 1~2바이트만 버퍼에 덧붙임.
+ * 가방 시드와 타이밍 설정은 기록을 시작할 때 저장하므로, 기록 중에 타이밍을 바꾸면 재생 결과가 달라짐.
+ */
+public final class ReplayRecorder implements ActionObserver {
+
+    // --- Instance Fields ---
+    private final TetrisEngine engine;
+    private final long seed;                 // 가방 시드
+    private final int frameRate;             // 초당 프레임 수
+    private final long lockDelayFrames;      // 락 딜레이 (프레임)
+    private final long entryDelayFrames;     // 생성 지연 (프레임)
+    private final long lineClearDelayFrames; // 줄 제거 지연 (프레임)
+    private final int softDropFactor;        // 소프트 드롭 배율
+    private final Replay.ByteWriter inputs = new Replay.ByteWriter(1024); // 인코딩된 입력
+
+    private long lastFrame = 0;  // 직전 입력의 프레임 시각
+    private int inputCount = 0;  // 기록한 입력 수
+    private Replay finished;     // 기록을 마친 결과 (마치기 전에는 null)
+
+    // --- Constructor ---
+    /**
+     * 아직 시작하지 않은 게임의 기록기를 생성. 엔진에 붙이려면 {@link #attach(TetrisEngine)}를 사용.
+     * @throws IllegalStateException 가방에 시드가 없거나, 게임이 이미 시작된 경우
+     */
+    public ReplayRecorder(TetrisEngine engine) {
+        TetrominoBag bag = engine.getDataManager().getTetrominoBag();
+        if (!bag.hasSeed()) {
+            throw new IllegalStateException("cannot record a game whose bag was not created from a seed");
+        }
+        if (engine.getFrameCount() != 0 || engine.getCurrentState() != GameStateCode.READY) {
+            throw new IllegalStateException("recording must start before the game starts");
+        }
+        this.engine = engine;
+        this.seed = bag.getSeed();
+        this.frameRate = engine.getFrameRate();
+        this.lockDelayFrames = engine.getLockDelayFrames();
+        this.entryDelayFrames = engine.getEntryDelayFrames();
+        this.lineClearDelayFrames = engine.getLineClearDelayFrames();
+        this.softDropFactor = engine.getSoftDropFactor();
+    }
+
+    // --- Public Methods ---
+    /** 기록기를 만들어 엔진의 조작 관찰자로 연결. 게임을 시작하기 전에 호출해야 함. */
+    public static ReplayRecorder attach(TetrisEngine engine) {
+        ReplayRecorder recorder = new ReplayRecorder(engine);
+        engine.setActionObserver(recorder);
+        return recorder;
+    }
+
+    /** 조작 하나를 직전 입력과의 프레임 차이와 함께 기록 (엔진이 호출). */
+    @Override
+    public void onAction(long frame, PlayerAction action) {
+        if (finished != null) return;
+        long delta = frame - lastFrame;
+        lastFrame = frame;
+        inputs.writeVarLong((delta << Replay.ACTION_BITS) | action.ordinal());
+        inputCount++;
+    }
+
+    /**
+     * 기록을 마치고 엔진에서 분리한 뒤, 지금까지의 입력과 현재 결과를 담은 리플레이를 반환.
+     * 게임 루프 스레드에서 호출하거나, 게임 루프를 멈춘 뒤 호출해야 함. 두 번째 호출부터는 같은 리플레이를 반환.
+     */
+    public Replay finish() {
+        if (finished == null) {
+            if (engine.getActionObserver() == this) {
+                engine.setActionObserver(null);
+            }
+            finished = new Replay(seed, frameRate, lockDelayFrames, entryDelayFrames, lineClearDelayFrames,
+                    softDropFactor, inputs.toByteArray(), inputCount, ReplayResult.capture(engine));
+        }
+        return finished;
+    }
+
+    /** 지금까지 기록한 입력 수를 반환. */
+    public int getInputCount() { return inputCount; }
+
+    /** 지금까지 기록한 입력의 바이트 수를 반환. */
+    public int getInputByteCount() { return inputs.size(); }
+}
@@ -0,0 +1,82 @@
+package tetris.logic.replay;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+
+import tetris.data.dto.PlayField;
+import tetris.logic.TetrisEngine;
+import tetris.logic.scoring.ScoreManager;
+
+/**
+ * 한 게임이 끝난 시점의 결과 요약 (점수, 지운 줄 수, 고정한 블록 수, 필드 해시).
+ * 기록할 때 리플레이에 함께 저장해 두고, 재생 결과와 비교해 같은 게임이 재현되었는지 확인하는 데 사용.
+ */
+public final class ReplayResult {
+
+    // --- Constants ---
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L; // FNV-1a 64비트 초기값
+    private static final long FNV_PRIME = 0x100000001B3L;       // FNV-1a 64비트 곱수
+
+    // --- Instance Fields ---
+    private final long frames;       // 진행한 프레임 수
+    private final long score;        // 최종 점수
+    private final int clearedLines;  // 지운 줄 수
+    private final long lockedPieces; // 고정한 블록 수
+    private final long fieldHash;    // 필드의 모든 칸(색 포함)의 해시
+
+    // --- Constructor ---
+    public ReplayResult(long frames, long score, int clearedLines, long lockedPieces, long fieldHash) {
+        this.frames = frames;
+        this.score = score;
+        this.clearedLines = clearedLines;
+        this.lockedPieces = lockedPieces;
+        this.fieldHash = fieldHash;
+    }
+
+    // --- Public Static Methods ---
+    /** 엔진의 현재 상태를 요약. 게임 루프 스레드(또는 루프를 멈춘 뒤)에서 호출. */
+    public static ReplayResult capture(TetrisEngine engine) {
+        ScoreManager score = engine.getScoreManager();
+        return new ReplayResult(engine.getFrameCount(), score.getScore(), score.getTotalClearedLine(),
+                engine.getLockedPieceCount(), hashField(engine.getDataManager().getPlayField()));
+    }
+
+    /** 필드의 모든 칸을 위에서부터 FNV-1a로 해시. 블록 종류(색)까지 같아야 같은 값이 나옴. */
+    public static long hashField(PlayField field) {
+        long h = FNV_OFFSET;
+        for (int y = 0; y < BUFFER_ZONE + FIELD_Y_COUNT; y++) {
+            for (int x = 0; x < FIELD_X_COUNT; x++) {
+                h = (h ^ field.getCell(y, x)) * FNV_PRIME;
+            }
+        }
+        return h;
+    }
+
+    // --- Public Methods: Getters ---
+    public long getFrames() { return frames; }
+    public long getScore() { return score; }
+    public int getClearedLines() { return clearedLines; }
+    public long getLockedPieces() { return lockedPieces; }
+    public long getFieldHash() { return fieldHash; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReplayResult)) return false;
+        ReplayResult r = (ReplayResult) o;
+        return frames == r.frames && score == r.score && clearedLines == r.clearedLines
+                && lockedPieces == r.lockedPieces && fieldHash == r.fieldHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fieldHash * 31 + score);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("frames=%d score=%d lines=%d pieces=%d field=%016x",
+                frames, score, clearedLines, lockedPieces, fieldHash);
+    }
+}
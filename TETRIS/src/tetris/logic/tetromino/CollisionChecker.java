@@ -1,67 +1,114 @@
-package tetris.logic.tetromino;
-
-import static tetris.data.constant.Tetromino.EMPTY;
-
-import java.awt.Point;
-
-import tetris.data.constant.GameConstants;
-
-/**
- * 테트로미노의 충돌 여부(벽, 다른 블록)를 판단하는 역할.
- * CellReader 인터페이스를 통해 실제 필드 데이터와 분리되어 독립적으로 동작.
- */
-public class CollisionChecker {
-    
-    // --- Inner Interface ---
-    /**
-     * 필드 데이터를 읽어오는 기능을 추상화한 인터페이스.
-     * 이를 통해 CollisionChecker는 PlayField에 직접 의존하지 않고,
-     * 유연한 테스트와 확장이 가능해짐 (의존성 역전 원칙).
-     */
-    public interface CellReader {
-        int getCell(int y, int x);
-    }
-
-    // --- Instance Fields ---
-    private final CellReader reader; // 필드 데이터를 읽어올 reader 객체
-
-    // --- Constructor ---
-    public CollisionChecker(CellReader reader) {
-        this.reader = reader;
-    }
-
-    // --- Public Methods ---
-    /**
-     * 주어진 좌표 배열(coords)을 특정 오프셋(offset)에 배치할 수 있는지 검사.
-     * @param coords 테트로미노를 구성하는 4개 미노의 상대 좌표
-     * @param offset 블록의 현재 기준 위치
-     * @return 배치 가능하면 true, 불가능하면 false
-     */
-    public boolean canPlace(Point[] coords, Point offset) {
-        for (Point p : coords) {
-            int y = p.y + offset.y;
-            int x = p.x + offset.x;
-
-            // 필드 경계를 벗어나거나, 해당 셀이 비어있지 않으면 충돌로 간주
-            if (!isInBounds(y, x) || !isCellFree(y, x)) {
-                return false;
-            }
-        }
-        return true; // 모든 셀이 유효한 위치에 있으면 배치 가능
-    }
-    
-    // --- Private Methods ---
-    /** 좌표가 게임 필드 경계 내에 있는지 확인. */
-    private boolean isInBounds(int y, int x) {
-        return y >= 0 &&
-               y < GameConstants.FIELD_Y_COUNT + GameConstants.BUFFER_ZONE &&
-               x >= 0 &&
-               x < GameConstants.FIELD_X_COUNT;
-    }
-
-    /** 해당 좌표의 셀이 비어있는지 확인. */
-    private boolean isCellFree(int y, int x) {
-        // reader를 통해 필드 데이터를 읽어와 EMPTY 블록인지 비교
-        return reader.getCell(y, x) == EMPTY.ordinal();
-    }
-}
\ No newline at end of file
+package tetris.logic.tetromino;
+
+import static tetris.data.dto.PlayField.WALL_WIDTH;
+
+import java.awt.Point;
+
+/**
+ * 테트로미노의 충돌 여부(벽, 다른 블록)를 판단하는 역할.
+ * CellReader 인터페이스를 통해 실제 필드 데이터와 분리되어 독립적으로 동작.
+ * 
+ * 블록 모양은 4x4 박스를 16비트로 압축한 '모양 마스크(shape mask)'로 표현.
+ * (r번째 줄의 c번째 칸 = 비트 r*4 + c)
+ * 충돌 검사는 줄마다 모양 마스크의 한 줄을 필드의 줄 비트마스크와 AND 연산하는 것으로 끝남.
+ */
+public class CollisionChecker {
+    
+    // --- Constants ---
+    /** 모양 마스크 한 줄의 비트 수 (4x4 박스의 가로 길이) */
+    public static final int SHAPE_ROW_BITS = 4;
+    private static final int SHAPE_ROW_MASK = (1 << SHAPE_ROW_BITS) - 1;
+    // 줄 마스크를 왼쪽으로 밀 수 있는 최대 거리. 이보다 오른쪽은 int 범위를 넘어 항상 충돌로 처리.
+    private static final int MAX_SHIFT = Integer.SIZE - SHAPE_ROW_BITS;
+
+    // --- Inner Interface ---
+    /**
+     * 필드 데이터를 읽어오는 기능을 추상화한 인터페이스.
+     * 이를 통해 CollisionChecker는 PlayField에 직접 의존하지 않고,
+     * 유연한 테스트와 확장이 가능해짐 (의존성 역전 원칙).
+     */
+    public interface CellReader {
+        int getCell(int y, int x);
+
+        /**
+         * y번째 줄의 점유 비트마스크를 반환. x칸은 비트 (x + WALL_WIDTH)이며,
+         * 벽과 필드 바깥 줄은 모두 1로 채워져 있어야 함.
+         */
+        int getRowMask(int y);
+    }
+
+    // --- Instance Fields ---
+    private final CellReader reader; // 필드 데이터를 읽어올 reader 객체
+
+    // --- Constructor ---
+    public CollisionChecker(CellReader reader) {
+        this.reader = reader;
+    }
+
+    // --- Public Methods ---
+    /**
+     * 주어진 좌표 배열(coords)을 특정 오프셋(offset)에 배치할 수 있는지 검사.
+     * @param coords 테트로미노를 구성하는 4개 미노의 상대 좌표
+     * @param offset 블록의 현재 기준 위치
+     * @return 배치 가능하면 true, 불가능하면 false
+     */
+    public boolean canPlace(Point[] coords, Point offset) {
+        return canPlace(toShapeMask(coords), offset.x, offset.y);
+    }
+
+    /**
+     * 모양 마스크(shape)를 기준 위치 (x, y)에 배치할 수 있는지 검사.
+     * 4x4 박스의 각 줄을 필드 줄 비트마스크와 AND 하여, 하나라도 겹치면 충돌.
+     * @param shape 4x4 모양 마스크
+     * @param x 4x4 박스의 좌상단 x 좌표
+     * @param y 4x4 박스의 좌상단 y 좌표
+     * @return 배치 가능하면 true, 불가능하면 false
+     */
+    public boolean canPlace(int shape, int x, int y) {
+        int shift = x + WALL_WIDTH;
+        // 박스가 왼쪽 벽보다 더 바깥이면 어떤 칸이든 필드를 벗어남
+        if (shift < 0 || shift > MAX_SHIFT) return false;
+
+        for (int r = 0; r < SHAPE_ROW_BITS; r++) {
+            int rowBits = (shape >>> (r * SHAPE_ROW_BITS)) & SHAPE_ROW_MASK;
+            // 필드 바깥 줄과 벽은 reader가 모두 1로 돌려주므로 경계 검사가 따로 필요 없음
+            if (rowBits != 0 && (reader.getRowMask(y + r) & (rowBits << shift)) != 0) {
+                return false;
+            }
+        }
+        return true; // 모든 줄이 겹치지 않으면 배치 가능
+    }
+
+    /**
+     * 미리 읽어 둔 줄 비트마스크 배열에 대해 canPlace(shape, x, y)와 같은 검사를 함.
+     * 같은 필드에서 검사를 아주 많이 하는 탐색(MoveGenerator 등)이 reader 호출 없이 쓰기 위한 용도.
+     * @param rowMasks 줄 비트마스크 (y번째 줄 = rowMasks[y + rowOffset], 검사하는 모든 줄을 포함해야 함)
+     * @param rowOffset 줄 번호에 더할 배열 인덱스 오프셋
+     */
+    public static boolean canPlace(int shape, int x, int y, int[] rowMasks, int rowOffset) {
+        int shift = x + WALL_WIDTH;
+        if (shift < 0 || shift > MAX_SHIFT) return false;
+
+        int base = y + rowOffset;
+        for (int r = 0; r < SHAPE_ROW_BITS; r++) {
+            int rowBits = (shape >>> (r * SHAPE_ROW_BITS)) & SHAPE_ROW_MASK;
+            if (rowBits != 0 && (rowMasks[base + r] & (rowBits << shift)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 4x4 박스 안의 상대 좌표 배열을 모양 마스크로 변환.
+     * @param coords 0~3 범위의 상대 좌표 배열
+     * @return 4x4 모양 마스크
+     */
+    public static int toShapeMask(Point[] coords) {
+        int shape = 0;
+        for (Point p : coords) {
+            shape |= 1 << (p.y * SHAPE_ROW_BITS + p.x);
+        }
+        return shape;
+    }
+}
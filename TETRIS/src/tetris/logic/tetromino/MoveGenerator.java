@@ -0,0 +1,637 @@
+package tetris.logic.tetromino;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.SPAWN_X;
+import static tetris.data.constant.GameConstants.SPAWN_Y;
+import static tetris.data.constant.TetrominoGeometry.BOX_SIZE;
+import static tetris.data.constant.TetrominoGeometry.MINO_COUNT;
+import static tetris.data.constant.TetrominoGeometry.ROTATION_COUNT;
+import static tetris.data.dto.PlayField.WALL_WIDTH;
+
+import java.util.Arrays;
+
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.constant.WallKickData;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.PlayerAction;
+import tetris.logic.tetromino.CollisionChecker.CellReader;
+
+/**
+ * 현재 필드에서 블록 하나가 도달할 수 있는 모든 최종 위치(placement)를 찾는 이동 생성기 (봇, 분석 도구용).
+ *
+ * 이동은 좌/우 한 칸, 시계/반시계 회전(Spin과 같은 SRS 월킥 순서), 소프트 드롭 한 칸이며,
+ * (회전, y) 줄마다 x 12칸을 int 하나의 비트로 묶어 한 줄의 모든 x를 한 번에 옮기는 비트 병렬 탐색(flood fill)으로 찾음.
+ * 놓을 수 있는 x는 미노마다 필드의 줄 비트마스크를 밀어 OR한 값으로 미리 계산하고, 좌우 이동은 로그 단계 채우기,
+ * 회전은 월킥마다 아직 성공하지 못한 x만 옮겨 보는 방식이므로, 월킥으로만 들어가는 스핀이나
+ * 처마 밑으로 밀어 넣는 턱처럼 엔진에서 조작으로 만들 수 있는 위치는 모두 찾음.
+ * 쌓인 블록보다 충분히 위(빈 줄만 지나는 곳)에서는 높이와 관계없이 같은 이동이 가능하므로,
+ * 그 영역의 소프트 드롭은 스택 바로 위까지 한 번에 내려 탐색할 줄 수를 줄임.
+ *
+ * 더 내려갈 수 없는 상태가 최종 위치이며, 차지하는 칸이 같은 위치(S, Z, I의 대칭 회전 등)는 하나로 합침.
+ * T 블록은 ScoreManager와 같은 코너 규칙으로 T-Spin 여부를 판정하며, 같은 칸이라도 T-Spin 종류가 다르면 따로 돌려줌.
+ * 각 위치까지의 경로(조작 순서)는 처음 요청할 때 (회전, x, y) 상태 단위 BFS를 한 번 돌려 부모 링크로 만들어 냄
+ * (최종 위치만 필요한 탐색은 이 비용을 내지 않음).
+ *
+ * 탐색을 시작할 때 필드의 줄 비트마스크를 한 번 복사해 두고 그 배열로 충돌을 검사하며,
+ * 탐색에 쓰는 배열은 모두 생성 시 한 번만 만들어 재사용하므로 generate()는 할당이 없음.
+ * 한 객체를 여러 스레드가 동시에 쓰면 안 되며, 병렬 탐색은 스레드마다 객체를 따로 만들 것.
+ */
+public class MoveGenerator {
+
+    // --- Inner Enum ---
+    /** 경로를 이루는 조작 한 단계. */
+    public enum Step {
+        MOVE_LEFT(PlayerAction.MOVE_LEFT),
+        MOVE_RIGHT(PlayerAction.MOVE_RIGHT),
+        ROTATE_CW(PlayerAction.ROTATE_CW),
+        ROTATE_CCW(PlayerAction.ROTATE_CCW),
+        /** 다음 상태의 높이까지 소프트 드롭 (보통 한 칸, 스택 위 빈 영역에서는 여러 칸). */
+        SOFT_DROP(PlayerAction.SOFT_DROP_START);
+
+        private static final Step[] VALUES = values();
+
+        private final PlayerAction action;
+
+        Step(PlayerAction action) {
+            this.action = action;
+        }
+
+        /** 이 단계를 시작하는 엔진 조작을 반환 (SOFT_DROP은 목표 높이에 닿으면 SOFT_DROP_STOP으로 끝냄). */
+        public PlayerAction getAction() { return action; }
+    }
+
+    /** 최종 위치에서 고정했을 때의 T-Spin 판정 (ScoreManager의 코너 규칙). */
+    public enum TSpin {
+        NONE,
+        MINI,
+        FULL;
+
+        private static final TSpin[] VALUES = values();
+    }
+
+    // --- Constants ---
+    private static final int TOTAL_Y_SIZE = BUFFER_ZONE + FIELD_Y_COUNT;
+    // 필드 10칸에 해당하는 줄 비트마스크 (벽 제외)
+    private static final int FIELD_BITS = ((1 << FIELD_X_COUNT) - 1) << WALL_WIDTH;
+    // 월킥으로 한 번에 올라갈 수 있는 최대 줄 수 (빈 영역을 건너뛸 때 이만큼 여유를 둠)
+    private static final int MAX_KICK_RISE = 2;
+    private static final int NO_PARENT = -1;
+    private static final int T_SPIN_POINT = 5; // ScoreManager가 T-Spin(FULL)으로 인정하는 월킥 순서
+
+    // 상태 번호: (회전 * X_RANGE + (x - X_MIN)) * Y_RANGE + (y - Y_MIN).
+    // 박스 안의 미노는 0~2열 / 0~3줄에서 시작하므로, 필드 안에 놓일 수 있는 박스 좌표는 이 범위를 넘지 않음.
+    private static final int X_MIN = -2;
+    private static final int X_RANGE = FIELD_X_COUNT - X_MIN;
+    private static final int X_ALL = (1 << X_RANGE) - 1; // 한 줄의 모든 x 비트
+    private static final int Y_MIN = -3;
+    private static final int Y_RANGE = TOTAL_Y_SIZE - Y_MIN;
+    private static final int ROW_COUNT = ROTATION_COUNT * Y_RANGE; // (회전, y) 줄 수
+    private static final int NODE_COUNT = ROTATION_COUNT * X_RANGE * Y_RANGE;
+    private static final int VARIANT_COUNT = NODE_COUNT * 3; // 상태 x T-Spin 종류
+
+    // 블록 종류/회전별로, 같은 칸을 차지하는 가장 작은 회전과 그 회전에서의 박스 좌표 차이
+    private static final int[] CANONICAL_ROTATION = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] CANONICAL_DX = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] CANONICAL_DY = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+
+    // 블록 종류/회전별 미노 4개의 박스 안 y, 그리고 x비트 줄을 만들 때 줄 비트마스크를 미는 거리 (열 + WALL_WIDTH + X_MIN)
+    private static final int[] MINO_DY = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT * MINO_COUNT];
+    private static final int[] MINO_SHIFT = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT * MINO_COUNT];
+
+    // 블록 종류/회전 전 상태별 월킥 (WallKickData를 int 배열로 펼친 것)
+    private static final int[] KICK_COUNT = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT];
+    private static final int[] KICK_X = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT * WallKickData.MAX_KICK_COUNT];
+    private static final int[] KICK_Y = new int[Tetromino.TETROMINO_TYPE_COUNT * ROTATION_COUNT * WallKickData.MAX_KICK_COUNT];
+
+    static {
+        for (int type = 0; type < Tetromino.TETROMINO_TYPE_COUNT; type++) {
+            Tetromino tetromino = Tetromino.fromOrdinal(type);
+            for (int rotation = 0; rotation < ROTATION_COUNT; rotation++) {
+                int index = type * ROTATION_COUNT + rotation;
+                CANONICAL_ROTATION[index] = rotation;
+                for (int other = 0; other < rotation; other++) {
+                    if (normalizedShape(type, other) == normalizedShape(type, rotation)) {
+                        CANONICAL_ROTATION[index] = other;
+                        CANONICAL_DX[index] = minCell(type, rotation, true) - minCell(type, other, true);
+                        CANONICAL_DY[index] = minCell(type, rotation, false) - minCell(type, other, false);
+                        break;
+                    }
+                }
+                for (int i = 0; i < MINO_COUNT; i++) {
+                    MINO_DY[index * MINO_COUNT + i] = TetrominoGeometry.cellY(type, rotation, i);
+                    MINO_SHIFT[index * MINO_COUNT + i] = TetrominoGeometry.cellX(type, rotation, i) + WALL_WIDTH + X_MIN;
+                }
+                SpinState before = SpinState.fromOrdinal(rotation);
+                KICK_COUNT[index] = WallKickData.getKickCount(tetromino, before);
+                for (int i = 0; i < KICK_COUNT[index]; i++) {
+                    KICK_X[index * WallKickData.MAX_KICK_COUNT + i] = WallKickData.getKickX(tetromino, before, i);
+                    KICK_Y[index * WallKickData.MAX_KICK_COUNT + i] = WallKickData.getKickY(tetromino, before, i);
+                }
+            }
+        }
+    }
+
+    // --- Instance Fields ---
+    private final CellReader reader;
+    // 탐색 시작 시 복사한 줄 비트마스크 (y번째 줄 = rowMasks[y - Y_MIN], 상태 범위 아래로 박스 높이만큼 더 포함)
+    private final int[] rowMasks = new int[Y_RANGE + BOX_SIZE];
+
+    // 최종 위치 탐색 상태: (회전, y) 줄마다 x를 비트로 담은 마스크 (generate()마다 재사용)
+    private final int[] fits = new int[ROW_COUNT];       // 놓을 수 있는 x
+    private final int[] reach = new int[ROW_COUNT];      // 도달할 수 있는 x
+    private final int[] expanded = new int[ROW_COUNT];   // 이웃 줄로 이미 넘긴 x
+    private final int[] spinFull = new int[ROW_COUNT];   // 5번째 월킥 회전으로 도착하는 x (T 블록만)
+    private final int[] spinOther = new int[ROW_COUNT];  // 그 외 회전으로 도착하는 x (T 블록만)
+    private final int[] rowQueue = new int[ROW_COUNT];
+    private final boolean[] queued = new boolean[ROW_COUNT];
+    private final long[] placed = new long[(VARIANT_COUNT + 63) >>> 6]; // 결과에 넣은 (같은 칸 기준 상태, T-Spin 종류)
+
+    // 경로 탐색 상태: (회전, x, y) 상태 단위 BFS (경로를 처음 요청할 때만 실행)
+    private final long[] visited = new long[(NODE_COUNT + 63) >>> 6];     // 큐에 넣은 상태
+    private final long[] grounded = new long[(NODE_COUNT + 63) >>> 6];    // 더 내려갈 수 없는 상태
+    private final long[] recorded = new long[(VARIANT_COUNT + 63) >>> 6]; // 경로를 기록한 (상태, T-Spin 종류)
+    private final int[] queue = new int[NODE_COUNT];
+    private final int[] parent = new int[NODE_COUNT];       // 처음 도착할 때의 이전 상태 (시작 상태는 NO_PARENT)
+    private final byte[] parentStep = new byte[NODE_COUNT]; // 처음 도착할 때의 조작 (Step ordinal)
+    private final int[] variantParent = new int[VARIANT_COUNT];   // (상태, T-Spin 종류)에 처음 도착할 때의 이전 상태
+    private final byte[] variantStep = new byte[VARIANT_COUNT];   // 그때의 마지막 조작 (시작 상태는 -1)
+    private boolean pathsReady = false;
+
+    // 결과: 최종 위치마다 상태와 T-Spin 종류
+    private final int[] placementNode = new int[VARIANT_COUNT];
+    private final byte[] placementSpin = new byte[VARIANT_COUNT];
+    private int placementCount = 0;
+
+    private int startNode; // 탐색 시작 상태 번호
+    private int type;    // 탐색 중인 블록 종류 (ordinal)
+    private int airRow;  // 쌓인 블록이 있는 가장 위 줄 (빈 필드면 TOTAL_Y_SIZE)
+    private int airBase; // 이보다 위의 상태는 소프트 드롭으로 이 높이까지 한 번에 내려감
+    private int queueSize;
+
+    // --- Constructor ---
+    /**
+     * @param reader 탐색할 필드 (DataManager, 또는 탐색용으로 복사한 필드)
+     */
+    public MoveGenerator(CellReader reader) {
+        this.reader = reader;
+    }
+
+    // --- Public Methods ---
+    /**
+     * 블록 종류의 생성 위치(SPAWN_X, SPAWN_Y, S0)에서 시작해 도달할 수 있는 최종 위치를 모두 찾음.
+     * @return 찾은 최종 위치 수 (생성 위치부터 막혀 있으면 0)
+     */
+    public int generate(Tetromino type) {
+        return generate(TetrominoState.pack(type.ordinal(), SpinState.S0.ordinal(), SPAWN_X, SPAWN_Y));
+    }
+
+    /**
+     * 주어진 블록 상태에서 시작해 도달할 수 있는 최종 위치를 모두 찾음. 이전 결과는 지워짐.
+     * @param start 시작 상태 (TetrominoState 압축 형식, 보통 현재 조작 중인 블록)
+     * @return 찾은 최종 위치 수 (시작 상태부터 놓을 수 없으면 0)
+     */
+    public int generate(int start) {
+        int startType = TetrominoState.unpackType(start);
+        if (startType >= Tetromino.TETROMINO_TYPE_COUNT) {
+            throw new IllegalArgumentException("start must hold a tetromino, not " + Tetromino.fromOrdinal(startType));
+        }
+        type = startType;
+        placementCount = 0;
+        pathsReady = false;
+
+        int rotation = TetrominoState.unpackRotation(start);
+        int x = TetrominoState.unpackX(start);
+        int y = TetrominoState.unpackY(start);
+        for (int i = 0; i < rowMasks.length; i++) {
+            rowMasks[i] = reader.getRowMask(i + Y_MIN);
+        }
+        if (!canPlace(rotation, x, y)) return 0;
+        startNode = nodeOf(rotation, x, y);
+
+        airRow = findAirRow();
+        airBase = airRow - BOX_SIZE - MAX_KICK_RISE;
+        computeFits();
+        Arrays.fill(placed, 0L);
+        Arrays.fill(reach, 0);
+        Arrays.fill(expanded, 0);
+        if (type == Tetromino.T.ordinal()) {
+            Arrays.fill(spinFull, 0);
+            Arrays.fill(spinOther, 0);
+        }
+
+        queueSize = 0;
+        add(rotation, y - Y_MIN, 1 << (x - X_MIN));
+        while (queueSize > 0) {
+            int row = rowQueue[--queueSize];
+            queued[row] = false;
+            expand(row);
+        }
+        collect();
+        return placementCount;
+    }
+
+    /** 마지막 generate()에서 찾은 최종 위치 수를 반환. */
+    public int getPlacementCount() { return placementCount; }
+
+    /** i번째 최종 위치의 블록 상태를 반환 (TetrominoState 압축 형식). 회전, 높이(위부터) 순서. */
+    public int getPlacement(int i) {
+        checkIndex(i);
+        return packedOf(placementNode[i]);
+    }
+
+    /** i번째 최종 위치에서 고정했을 때의 T-Spin 판정을 반환 (T 블록이 아니면 항상 NONE). */
+    public TSpin getTSpin(int i) {
+        checkIndex(i);
+        return TSpin.VALUES[placementSpin[i]];
+    }
+
+    /** i번째 최종 위치까지의 가장 짧은 경로 길이(조작 수)를 반환. 처음 요청할 때 경로 탐색을 한 번 실행함. */
+    public int getPathLength(int i) {
+        int variant = variantOf(i);
+        if (variantStep[variant] < 0) return 0;
+        int length = 1;
+        for (int n = variantParent[variant]; parent[n] != NO_PARENT; n = parent[n]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * i번째 최종 위치까지의 가장 짧은 경로를 채움. 경로를 따라 조작한 뒤 그 자리에서 고정하면 됨.
+     * T-Spin으로 판정된 위치는 마지막 회전 뒤 다른 조작 없이 락 딜레이로 고정해야 점수가 인정됨
+     * (엔진의 하드 드롭과 소프트 드롭 시작은 ScoreManager의 회전 기록을 지움).
+     * @param steps 조작을 받을 배열 (길이 getPathLength(i) 이상)
+     * @param states 각 조작 뒤의 블록 상태를 받을 배열 (TetrominoState 압축 형식, 필요 없으면 null)
+     * @return 경로 길이
+     */
+    public int getPath(int i, Step[] steps, int[] states) {
+        int length = getPathLength(i);
+        if (steps.length < length || (states != null && states.length < length)) {
+            throw new IllegalArgumentException("path of length " + length + " does not fit");
+        }
+        if (length == 0) return 0;
+        int variant = variantOf(i);
+        int k = length - 1;
+        steps[k] = Step.VALUES[variantStep[variant]];
+        if (states != null) states[k] = packedOf(placementNode[i]);
+        for (int n = variantParent[variant]; parent[n] != NO_PARENT; n = parent[n]) {
+            k--;
+            steps[k] = Step.VALUES[parentStep[n]];
+            if (states != null) states[k] = packedOf(n);
+        }
+        return length;
+    }
+
+    // --- Private Methods: Placement Search ---
+    /** 모든 (회전, y) 줄에 대해, 블록을 놓을 수 있는 x를 비트로 계산 (미노마다 줄 비트마스크를 밀어 OR). */
+    private void computeFits() {
+        for (int rotation = 0; rotation < ROTATION_COUNT; rotation++) {
+            int minos = (type * ROTATION_COUNT + rotation) * MINO_COUNT;
+            int base = rotation * Y_RANGE;
+            for (int row = 0; row < Y_RANGE; row++) {
+                int blocked = 0;
+                for (int i = minos; i < minos + MINO_COUNT; i++) {
+                    blocked |= rowMasks[row + MINO_DY[i]] >>> MINO_SHIFT[i];
+                }
+                fits[base + row] = ~blocked & X_ALL;
+            }
+        }
+    }
+
+    /** (회전, 줄)에 도달할 수 있는 x를 추가하고, 새로 늘었으면 처리할 줄로 등록. */
+    private void add(int rotation, int row, int bits) {
+        int index = rotation * Y_RANGE + row;
+        if ((bits & ~reach[index]) == 0) return;
+        reach[index] |= bits;
+        if (!queued[index]) {
+            queued[index] = true;
+            rowQueue[queueSize++] = index;
+        }
+    }
+
+    /** 한 줄을 처리: 좌우 이동으로 닿는 x를 채운 뒤, 새로 도달한 x만 아래 줄과 회전한 줄로 넘김. */
+    private void expand(int index) {
+        int rotation = index / Y_RANGE;
+        int row = index - rotation * Y_RANGE;
+        int all = spread(reach[index], fits[index]);
+        reach[index] = all;
+        int fresh = all & ~expanded[index];
+        if (fresh == 0) return;
+        expanded[index] = all;
+
+        // 스택보다 충분히 위라면 그 사이는 모두 빈 줄이므로 검사 없이 내려감
+        int y = row + Y_MIN;
+        int below = (y < airBase ? airBase : y + 1) - Y_MIN;
+        if (below < Y_RANGE) {
+            add(rotation, below, fresh & fits[rotation * Y_RANGE + below]);
+        }
+        // O 블록은 Spin과 마찬가지로 회전하지 않음
+        if (type != Tetromino.O.ordinal()) {
+            kick(rotation, row, fresh, (rotation + 1) % ROTATION_COUNT);
+            kick(rotation, row, fresh, (rotation + ROTATION_COUNT - 1) % ROTATION_COUNT);
+        }
+    }
+
+    /** Spin.applySRSRotation과 같은 순서로 월킥을 시험: 월킥마다 아직 성공하지 못한 x만 옮겨 봄. */
+    private void kick(int rotation, int row, int bits, int to) {
+        int table = type * ROTATION_COUNT + rotation;
+        int kicks = table * WallKickData.MAX_KICK_COUNT;
+        boolean tracksSpin = type == Tetromino.T.ordinal();
+        int remaining = bits;
+        for (int i = 0; i < KICK_COUNT[table]; i++) {
+            int targetRow = row + KICK_Y[kicks + i];
+            if (targetRow < 0 || targetRow >= Y_RANGE) continue;
+            int dx = KICK_X[kicks + i];
+            int moved = dx >= 0 ? remaining << dx : remaining >>> -dx;
+            int hit = moved & fits[to * Y_RANGE + targetRow];
+            if (hit == 0) continue;
+            add(to, targetRow, hit);
+            if (tracksSpin) {
+                if (i + 1 == T_SPIN_POINT) spinFull[to * Y_RANGE + targetRow] |= hit;
+                else spinOther[to * Y_RANGE + targetRow] |= hit;
+            }
+            remaining &= ~(dx >= 0 ? hit >>> dx : hit << -dx);
+            if (remaining == 0) return;
+        }
+    }
+
+    /** 바닥에 닿은 (더 내려갈 수 없는) 도달 상태를 최종 위치로 모음. 빈 영역의 줄은 바닥에 닿을 수 없으므로 건너뜀. */
+    private void collect() {
+        boolean tPiece = type == Tetromino.T.ordinal();
+        int firstRow = Math.max(airBase - Y_MIN, 0);
+        for (int rotation = 0; rotation < ROTATION_COUNT; rotation++) {
+            int base = rotation * Y_RANGE;
+            for (int row = firstRow; row < Y_RANGE; row++) {
+                int bits = reach[base + row];
+                if (bits == 0) continue;
+                int below = row + 1 < Y_RANGE ? fits[base + row + 1] : 0;
+                for (int ground = bits & ~below; ground != 0; ground &= ground - 1) {
+                    int bit = ground & -ground;
+                    int x = Integer.numberOfTrailingZeros(bit) + X_MIN;
+                    int y = row + Y_MIN;
+                    int node = nodeOf(rotation, x, y);
+                    if (!tPiece) {
+                        record(node, TSpin.NONE);
+                        continue;
+                    }
+                    // 회전이 아닌 조작으로도 도착할 수 있으면 T-Spin이 아닌 고정도 가능
+                    if (arrivesWithoutRotation(rotation, row, bit)) record(node, TSpin.NONE);
+                    if ((spinFull[base + row] & bit) != 0) record(node, classifyTSpin(rotation, x, y, T_SPIN_POINT));
+                    if ((spinOther[base + row] & bit) != 0) record(node, classifyTSpin(rotation, x, y, 0));
+                }
+            }
+        }
+    }
+
+    /** 시작 상태이거나, 같은 줄의 옆 칸 또는 위에서 내려와 도착할 수 있는지 확인. */
+    private boolean arrivesWithoutRotation(int rotation, int row, int bit) {
+        int base = rotation * Y_RANGE;
+        int bits = reach[base + row];
+        if (((bits << 1 | bits >>> 1) & bit) != 0) return true;
+        if (startNode == nodeOf(rotation, Integer.numberOfTrailingZeros(bit) + X_MIN, row + Y_MIN)) return true;
+        // 빈 영역에서 한 번에 내려오는 airBase 줄은 그 위의 모든 줄에서 올 수 있음
+        int top = row + Y_MIN == airBase ? 0 : row - 1;
+        for (int r = Math.max(top, 0); r < row; r++) {
+            if ((reach[base + r] & bit) != 0) return true;
+        }
+        return false;
+    }
+
+    /** 같은 칸 + 같은 T-Spin 종류가 처음일 때만 최종 위치로 기록. */
+    private void record(int node, TSpin spin) {
+        int variant = canonicalNode(node) * 3 + spin.ordinal();
+        if (isSet(placed, variant)) return;
+        set(placed, variant);
+        int i = placementCount++;
+        placementNode[i] = node;
+        placementSpin[i] = (byte) spin.ordinal();
+    }
+
+    /** 좌우 이동으로 닿는 x를 채움: 시작 비트에서 놓을 수 있는 비트가 이어지는 동안 양쪽으로 번짐 (로그 단계 채우기). */
+    private static int spread(int bits, int fit) {
+        int left = bits;
+        int right = bits;
+        int leftOpen = fit;
+        int rightOpen = fit;
+        for (int step = 1; step < X_RANGE; step <<= 1) {
+            left |= leftOpen & (left << step);
+            right |= rightOpen & (right >>> step);
+            leftOpen &= leftOpen << step;
+            rightOpen &= rightOpen >>> step;
+        }
+        return left | right;
+    }
+
+    // --- Private Methods: Path Search ---
+    /** 결과 i의 (상태, T-Spin 종류) 번호를 반환. 아직 경로 탐색을 하지 않았으면 실행. */
+    private int variantOf(int i) {
+        checkIndex(i);
+        if (!pathsReady) {
+            searchPaths();
+            pathsReady = true;
+        }
+        int variant = placementNode[i] * 3 + placementSpin[i];
+        if (!isSet(recorded, variant)) {
+            throw new IllegalStateException("no path to placement " + i);
+        }
+        return variant;
+    }
+
+    /** 시작 상태에서 (회전, x, y) 상태 단위로 BFS하며, 바닥에 닿은 상태마다 처음 도착한 경로를 T-Spin 종류별로 기록. */
+    private void searchPaths() {
+        Arrays.fill(visited, 0L);
+        Arrays.fill(grounded, 0L);
+        Arrays.fill(recorded, 0L);
+
+        int head = 0;
+        int tail = 0;
+        int node = startNode;
+        queue[tail++] = node;
+        visit(node, NO_PARENT, -1);
+        arrive(node, NO_PARENT, -1, TSpin.NONE);
+
+        boolean rotates = type != Tetromino.O.ordinal();
+        while (head < tail) {
+            node = queue[head++];
+            int rotation = node / (X_RANGE * Y_RANGE);
+            int x = (node / Y_RANGE) % X_RANGE + X_MIN;
+            int y = node % Y_RANGE + Y_MIN;
+
+            tail = shift(node, rotation, x - 1, y, Step.MOVE_LEFT, tail);
+            tail = shift(node, rotation, x + 1, y, Step.MOVE_RIGHT, tail);
+            if (rotates) {
+                tail = rotate(node, rotation, x, y, true, tail);
+                tail = rotate(node, rotation, x, y, false, tail);
+            }
+            if (!isSet(grounded, node)) {
+                int dropY = y < airBase ? airBase : y + 1;
+                tail = reach(node, nodeOf(rotation, x, dropY), Step.SOFT_DROP.ordinal(), TSpin.NONE, tail);
+            }
+        }
+    }
+
+    /** 좌우 이동: 놓을 수 있으면 도착 처리. */
+    private int shift(int from, int rotation, int x, int y, Step step, int tail) {
+        if (!canEnter(rotation, x, y)) return tail;
+        return reach(from, nodeOf(rotation, x, y), step.ordinal(), TSpin.NONE, tail);
+    }
+
+    /** 월킥을 순서대로 시험해 처음 성공한 위치로 회전. */
+    private int rotate(int from, int rotation, int x, int y, boolean clockwise, int tail) {
+        int to = clockwise ? (rotation + 1) % ROTATION_COUNT : (rotation + ROTATION_COUNT - 1) % ROTATION_COUNT;
+        int table = type * ROTATION_COUNT + rotation;
+        int kicks = table * WallKickData.MAX_KICK_COUNT;
+        for (int i = 0; i < KICK_COUNT[table]; i++) {
+            int testX = x + KICK_X[kicks + i];
+            int testY = y + KICK_Y[kicks + i];
+            if (canEnter(to, testX, testY)) {
+                int node = nodeOf(to, testX, testY);
+                Step step = clockwise ? Step.ROTATE_CW : Step.ROTATE_CCW;
+                // T-Spin 판정은 고정할 위치에서만 의미가 있으므로, 도착한 상태가 바닥에 닿아 있을 때만 계산
+                TSpin spin = TSpin.NONE;
+                if (type == Tetromino.T.ordinal() && isGrounded(node, to, testX, testY)) {
+                    spin = classifyTSpin(to, testX, testY, i + 1);
+                }
+                return reach(from, node, step.ordinal(), spin, tail);
+            }
+        }
+        return tail;
+    }
+
+    /** 상태에 도착: 처음이면 큐에 넣고, 바닥에 닿아 있으면 경로를 기록. */
+    private int reach(int from, int node, int step, TSpin spin, int tail) {
+        if (!isSet(visited, node)) {
+            queue[tail++] = node;
+            visit(node, from, step);
+        }
+        arrive(node, from, step, spin);
+        return tail;
+    }
+
+    /** 상태를 방문 처리하고 부모 링크와 바닥 여부를 기록. */
+    private void visit(int node, int from, int step) {
+        set(visited, node);
+        parent[node] = from;
+        parentStep[node] = (byte) step;
+        int rotation = node / (X_RANGE * Y_RANGE);
+        int x = (node / Y_RANGE) % X_RANGE + X_MIN;
+        int y = node % Y_RANGE + Y_MIN;
+        // 빈 영역(airBase 위)에서는 항상 더 내려갈 수 있음
+        if (y >= airBase && !canPlace(rotation, x, y + 1)) {
+            set(grounded, node);
+        }
+    }
+
+    /** 바닥에 닿은 상태에 같은 T-Spin 종류로 처음 도착했으면 그 경로를 기록. */
+    private void arrive(int node, int from, int step, TSpin spin) {
+        if (!isSet(grounded, node)) return;
+        int variant = node * 3 + spin.ordinal();
+        if (isSet(recorded, variant)) return;
+        set(recorded, variant);
+        variantParent[variant] = from;
+        variantStep[variant] = (byte) step;
+    }
+
+    /** 아직 방문하지 않은 상태라면 직접 바닥 여부를 검사 (회전으로 도착하는 T 블록용). */
+    private boolean isGrounded(int node, int rotation, int x, int y) {
+        if (isSet(visited, node)) return isSet(grounded, node);
+        return y >= airBase && !canPlace(rotation, x, y + 1);
+    }
+
+    /** 이동할 상태에 놓을 수 있는지 확인. 이미 방문한 상태는 놓을 수 있음이 확인된 것이므로 검사를 생략. */
+    private boolean canEnter(int rotation, int x, int y) {
+        if (x < X_MIN || x >= X_MIN + X_RANGE || y < Y_MIN || y >= Y_MIN + Y_RANGE) return false;
+        return isSet(visited, nodeOf(rotation, x, y)) || canPlace(rotation, x, y);
+    }
+
+    // --- Private Methods: Field ---
+    /**
+     * ScoreManager.checkTSpin과 같은 규칙으로 T-Spin 종류를 판정.
+     * 코너는 필드 밖이거나 블록이 있으면 막힌 것으로 보며, 월킥 순서(spinPoint)가 5일 때만 FULL이 될 수 있음.
+     */
+    private TSpin classifyTSpin(int rotation, int x, int y, int spinPoint) {
+        SpinState state = SpinState.fromOrdinal(rotation);
+        boolean a = isBlocked(x + state.getCornerX(0), y + state.getCornerY(0));
+        boolean b = isBlocked(x + state.getCornerX(1), y + state.getCornerY(1));
+        boolean c = isBlocked(x + state.getCornerX(2), y + state.getCornerY(2));
+        boolean d = isBlocked(x + state.getCornerX(3), y + state.getCornerY(3));
+        if (spinPoint == T_SPIN_POINT && a && b && (c || d)) return TSpin.FULL;
+        if (c && d && (a || b)) return TSpin.MINI;
+        return TSpin.NONE;
+    }
+
+    /** 칸이 필드 밖이거나 블록이 있는지 확인 (필드 밖 줄과 벽은 줄 비트마스크에서 모두 1). */
+    private boolean isBlocked(int x, int y) {
+        return (rowMasks[y - Y_MIN] & (1 << (x + WALL_WIDTH))) != 0;
+    }
+
+    /** 블록이 있는 가장 위 줄을 찾음. 빈 필드면 TOTAL_Y_SIZE. */
+    private int findAirRow() {
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            if ((rowMasks[y - Y_MIN] & FIELD_BITS) != 0) return y;
+        }
+        return TOTAL_Y_SIZE;
+    }
+
+    /** 상태 번호 범위 안이고 충돌하지 않으면 true. */
+    private boolean canPlace(int rotation, int x, int y) {
+        if (x < X_MIN || x >= X_MIN + X_RANGE || y < Y_MIN || y >= Y_MIN + Y_RANGE) return false;
+        return CollisionChecker.canPlace(TetrominoGeometry.shapeMask(type, rotation), x, y, rowMasks, -Y_MIN);
+    }
+
+    // --- Private Methods: Encoding ---
+    private static int nodeOf(int rotation, int x, int y) {
+        return (rotation * X_RANGE + (x - X_MIN)) * Y_RANGE + (y - Y_MIN);
+    }
+
+    private int packedOf(int node) {
+        return TetrominoState.pack(type, node / (X_RANGE * Y_RANGE), (node / Y_RANGE) % X_RANGE + X_MIN, node % Y_RANGE + Y_MIN);
+    }
+
+    /** 같은 칸을 차지하는 상태 중 회전이 가장 작은 상태의 번호 (최종 위치 중복 제거용). */
+    private int canonicalNode(int node) {
+        int rotation = node / (X_RANGE * Y_RANGE);
+        int index = type * ROTATION_COUNT + rotation;
+        if (CANONICAL_ROTATION[index] == rotation) return node;
+        int x = (node / Y_RANGE) % X_RANGE + X_MIN;
+        int y = node % Y_RANGE + Y_MIN;
+        return nodeOf(CANONICAL_ROTATION[index], x + CANONICAL_DX[index], y + CANONICAL_DY[index]);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= placementCount) {
+            throw new IndexOutOfBoundsException(i);
+        }
+    }
+
+    private static boolean isSet(long[] bits, int i) { return (bits[i >>> 6] & (1L << i)) != 0; }
+
+    private static void set(long[] bits, int i) { bits[i >>> 6] |= 1L << i; }
+
+    // --- Private Static Methods: Tables ---
+    /** 미노 좌표를 왼쪽 위로 붙여 만든 모양 마스크 (회전끼리 같은 칸 모양인지 비교용). */
+    private static int normalizedShape(int type, int rotation) {
+        int minX = minCell(type, rotation, true);
+        int minY = minCell(type, rotation, false);
+        int shape = 0;
+        for (int i = 0; i < MINO_COUNT; i++) {
+            int cx = TetrominoGeometry.cellX(type, rotation, i) - minX;
+            int cy = TetrominoGeometry.cellY(type, rotation, i) - minY;
+            shape |= 1 << (cy * BOX_SIZE + cx);
+        }
+        return shape;
+    }
+
+    /** 미노 좌표의 최솟값 (x면 true). */
+    private static int minCell(int type, int rotation, boolean x) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < MINO_COUNT; i++) {
+            min = Math.min(min, x ? TetrominoGeometry.cellX(type, rotation, i) : TetrominoGeometry.cellY(type, rotation, i));
+        }
+        return min;
+    }
+}
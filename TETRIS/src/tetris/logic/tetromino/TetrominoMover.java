@@ -1,139 +1,155 @@
-package tetris.logic.tetromino;
-
-import static tetris.data.constant.GameConstants.BUFFER_ZONE;
-
-import java.awt.Point;
-
-import tetris.data.constant.GameConstants.GameStateCode;
-import tetris.data.constant.Tetromino;
-import tetris.logic.TetrisEngine;
-import tetris.logic.data.DataManager;
-
-/** 테트로미노의 이동(좌, 우, 하강) 및 필드에 고정(Lock)하는 로직을 담당. */
-public class TetrominoMover {
-
-    // --- Instance Fields ---
-	private final DataManager gameData;
-	private final TetrisEngine gameEngine;
-	private final CollisionChecker checker;
-	
-	// 하드 드롭 시 이동한 칸 수 (점수 계산용)
-	private int droppedCells = 0;
-
-    // --- Constructor ---
-	public TetrominoMover(DataManager gameData, TetrisEngine gameEngine) {
-		this.gameData = gameData;
-		this.gameEngine = gameEngine;
-		this.checker = gameEngine.getCollisionChecker();
-	}
-
-    // --- Public Methods ---
-	/** 한 칸 아래로 이동. */
-	public synchronized void drop() { move(0, 1); }
-	/** 한 칸 왼쪽으로 이동. */
-	public synchronized void left() { move(-1, 0); }
-	/** 한 칸 오른쪽으로 이동. */
-	public synchronized void right() { move(1, 0); }
-
-	/** 블록을 가능한 가장 아래까지 즉시 내리고 고정. */
-	public synchronized void hardDrop() {
-		Point dropOffset = getHardDropOffset();
-		gameData.getTetrominoState().setTetrominoOffset(dropOffset);
-		// 블록을 필드에 즉시 고정
-		lockTetromino();
-	}
-
-	/** 현재 테트로미노를 필드에 영구적으로 고정. 후속 처리(줄 제거, 점수 계산 등)를 트리거. */
-	public synchronized void lockTetromino() {
-		var cascadeHandler = gameEngine.getCascadeHandler();
-		var scoreManager = gameEngine.getScoreManager();
-		Point[] coords = gameData.getTetrominoState().getTetrominoCoords();
-		Point offset = gameData.getTetrominoState().getTetrominoOffset();
-		
-		// 1. 블록을 필드 배열에 기록
-		placeTetrominoOnField(coords, offset);
-		updateRowBlockCounts(coords, offset);
-		
-		// 2. 점수 및 필드 관련 후속 로직 실행
-		scoreManager.setSpinCornerStatus(); // T-Spin 판정을 위한 코너 상태 기록
-		cascadeHandler.cascade();           // 줄 제거 및 중력 적용
-		scoreManager.updateScore(cascadeHandler.getClearedLine()); // 점수 갱신
-		
-		// 3. 타이머 리셋 및 다음 턴 준비
-		gameEngine.resetLockDelayCounter(); // 락 딜레이 타이머 중지/리셋
-		// (참고) 보통 이 시점에서 다음 블록을 생성하는 gameEngine.getTetrominoGenerator().generateTetromino() 호출이 필요.
-
-		// 4. 게임 오버(Block Out) 판정: 블록이 완전히 필드 밖에서 고정되면 게임 종료
-		int countLockOutMino = 0;
-		for (Point p : coords) {
-			if (p.y + offset.y < BUFFER_ZONE) countLockOutMino++;
-		}
-		if (countLockOutMino == 4) {
-			gameData.getGameState().setCurrentState(GameStateCode.GAME_OVER);
-		}
-	}
-
-	/** 하드 드롭 시 최종적으로 도착할 위치를 계산하여 반환. */
-	public Point getHardDropOffset() {
-		Point[] coords = gameData.getTetrominoState().getTetrominoCoords();
-		Point offset = gameData.getTetrominoState().getTetrominoOffset();
-		Point testOffset = new Point(offset);
-		droppedCells = 0;
-
-		// 한 칸씩 아래로 내리면서 충돌 지점을 찾음
-		while (true) {
-			testOffset.y++;
-			if (!checker.canPlace(coords, testOffset)) {
-				testOffset.y--; // 충돌 직전 위치로 복원
-				break;
-			}
-			droppedCells++;
-		}
-		return testOffset;
-	}
-
-	/** 특정 방향으로 이동이 가능한지 확인. */
-	public boolean canMove(int dx, int dy) {
-		Point[] coords = gameData.getTetrominoState().getTetrominoCoords();
-		Point offset = gameData.getTetrominoState().getTetrominoOffset();
-		Point testOffset = new Point(offset.x + dx, offset.y + dy);
-
-		return checker.canPlace(coords, testOffset);
-	}
-	
-	/** 마지막 하드드롭 시 이동한 칸 수를 반환. */
-	public int getHardDroppedCells() { return droppedCells; }
-
-    // --- Private Methods ---
-	/** 블록의 기준 좌표(offset)를 dx, dy만큼 이동 (충돌 검사 없음). */
-	private void translateOffset(int dx, int dy) {
-		var state = gameData.getTetrominoState();
-		Point offset = state.getTetrominoOffset();
-		state.setTetrominoOffset(new Point(offset.x + dx, offset.y + dy));
-	}
-
-	/** 충돌 검사 후 안전하게 블록을 이동시키는 범용 메서드. */
-	private void move(int dx, int dy) {
-		if (canMove(dx, dy)) {
-			translateOffset(dx, dy);
-		}
-	}
-
-	/** 테트로미노의 4개 미노를 실제 필드 배열에 기록(burn). */
-	private void placeTetrominoOnField(Point[] coords, Point offset) {
-		Tetromino current = gameData.getTetrominoState().getCurrentTetromino();
-		for (Point coord : coords) {
-			int y = coord.y + offset.y;
-			int x = coord.x + offset.x;
-			gameData.setCell(y, x, current);
-		}
-	}
-
-	/** 블록이 놓인 각 줄의 블록 카운트를 증가시켜, 줄 완성 검사를 용이하게 함. */
-	private void updateRowBlockCounts(Point[] coords, Point offset) {
-		for (Point coord : coords) {
-			int y = coord.y + offset.y;
-			gameData.getPlayField().incrementRowBlockCount(y);
-		}
-	}
-}
\ No newline at end of file
+package tetris.logic.tetromino;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+
+/**
+ * 테트로미노의 이동(좌, 우, 하강) 및 필드에 고정(Lock)하는 로직을 담당.
+ * 상태를 바꾸는 메서드는 게임 루프 스레드(엔진의 단일 작성자)에서만 호출되므로 락이 없음.
+ */
+public class TetrominoMover {
+
+    // --- Instance Fields ---
+	private final DataManager gameData;
+	private final TetrisEngine gameEngine;
+	private final CollisionChecker checker;
+	
+	// 하드 드롭 시 이동한 칸 수 (점수 계산용)
+	private int droppedCells = 0;
+
+    // --- Constructor ---
+	public TetrominoMover(DataManager gameData, TetrisEngine gameEngine) {
+		this.gameData = gameData;
+		this.gameEngine = gameEngine;
+		this.checker = gameEngine.getCollisionChecker();
+	}
+
+    // --- Public Methods ---
+	/** 한 칸 아래로 이동. */
+	public void drop() { move(0, 1); }
+	/** 한 칸 왼쪽으로 이동. */
+	public void left() { move(-1, 0); }
+	/** 한 칸 오른쪽으로 이동. */
+	public void right() { move(1, 0); }
+
+	/** 블록을 가능한 가장 아래까지 즉시 내리고 고정. */
+	public void hardDrop() {
+		var state = gameData.getTetrominoState();
+		int dropY = getHardDropY();
+		droppedCells = dropY - state.getY();
+		state.setPosition(state.getX(), dropY);
+		// 블록을 필드에 즉시 고정
+		lockTetromino();
+	}
+
+	/** 현재 테트로미노를 필드에 영구적으로 고정. 후속 처리(줄 제거, 점수 계산 등)를 트리거. */
+	public void lockTetromino() {
+		var cascadeHandler = gameEngine.getCascadeHandler();
+		var scoreManager = gameEngine.getScoreManager();
+		var state = gameData.getTetrominoState();
+		Tetromino type = state.getCurrentTetromino();
+		SpinState rotation = state.getRotation();
+		int x = state.getX();
+		int y = state.getY();
+		
+		// 1. 블록을 필드 배열에 기록 (줄별 블록 개수는 필드가 함께 갱신)
+		placeTetrominoOnField(type, rotation, x, y);
+		
+		// 2. 점수 및 필드 관련 후속 로직 실행
+		scoreManager.setSpinCornerStatus(); // T-Spin 판정을 위한 코너 상태 기록
+		// 줄 제거 및 중력 적용. 방금 놓은 블록이 걸친 줄만 완성될 수 있으므로 그 줄만 검사.
+		cascadeHandler.cascade(y + TetrominoGeometry.minY(type, rotation), y + TetrominoGeometry.maxY(type, rotation));
+		scoreManager.updateScore(cascadeHandler.getClearedLine()); // 점수 갱신
+		
+		// 3. 락 딜레이 조작 횟수 리셋 및 다음 턴 준비
+		gameEngine.resetLockDelayCounter(); // 새 블록은 다시 최대 횟수만큼 락 딜레이를 리셋할 수 있음
+		// (참고) 보통 이 시점에서 다음 블록을 생성하는 gameEngine.getTetrominoGenerator().generateTetromino() 호출이 필요.
+
+		// 4. 게임 오버(Block Out) 판정: 블록이 완전히 필드 밖에서 고정되면 게임 종료
+		// (블록의 가장 아래 미노조차 버퍼 존에 있다면 4개 미노 모두 필드 밖)
+		if (y + TetrominoGeometry.maxY(type, rotation) < BUFFER_ZONE) {
+			gameData.getGameState().setCurrentState(GameStateCode.GAME_OVER);
+		}
+	}
+
+	/**
+	 * 하드 드롭 시 최종적으로 도착할 y 좌표를 계산하여 반환 (고스트 위치와 동일).
+	 * 상태를 바꾸지 않으므로 렌더러가 매 프레임 호출해도 안전.
+	 */
+	public int getHardDropY() {
+		return getHardDropY(gameData.getTetrominoState().getPacked());
+	}
+
+	/**
+	 * 압축된 블록 상태(packed)를 기준으로 하드 드롭 도착 y 좌표를 계산.
+	 * 호출자가 한 번 읽은 상태를 그대로 넘기면, 그 사이 블록이 움직여도 일관된 결과를 얻음.
+	 * 
+	 * 블록의 각 열에서 가장 아래 미노와 필드 열 높이(맨 위 블록) 사이의 빈 칸 수를 구하고,
+	 * 그중 최솟값만큼 내려가면 됨. 블록과 스택의 거리와 상관없이 최대 4열만 확인.
+	 * 블록이 어떤 열의 맨 위 블록보다 아래에 있다면(처마 밑으로 밀어 넣은 경우) 한 줄씩 검사로 대체.
+	 */
+	public int getHardDropY(int packed) {
+		int type = TetrominoState.unpackType(packed);
+		int rotation = TetrominoState.unpackRotation(packed);
+		int x = TetrominoState.unpackX(packed);
+		int y = TetrominoState.unpackY(packed);
+
+		int distance = Integer.MAX_VALUE;
+		for (int c = 0; c < TetrominoGeometry.BOX_SIZE; c++) {
+			int bottom = TetrominoGeometry.columnBottom(type, rotation, c);
+			if (bottom == TetrominoGeometry.NO_CELL) continue;
+
+			// 이 열에서 블록 아래로 비어 있는 칸 수
+			int gap = gameData.getColumnTop(x + c) - (y + bottom) - 1;
+			if (gap < 0) {
+				return scanHardDropY(TetrominoGeometry.shapeMask(type, rotation), x, y);
+			}
+			distance = Math.min(distance, gap);
+		}
+		return y + distance;
+	}
+
+	/** 특정 방향으로 이동이 가능한지 확인. */
+	public boolean canMove(int dx, int dy) {
+		var state = gameData.getTetrominoState();
+		return checker.canPlace(state.getShapeMask(), state.getX() + dx, state.getY() + dy);
+	}
+	
+	/** 마지막 하드드롭 시 이동한 칸 수를 반환. */
+	public int getHardDroppedCells() { return droppedCells; }
+
+    // --- Private Methods ---
+	/** 충돌 검사 후 안전하게 블록을 이동시키는 범용 메서드. */
+	private void move(int dx, int dy) {
+		var state = gameData.getTetrominoState();
+		int x = state.getX() + dx;
+		int y = state.getY() + dy;
+		if (checker.canPlace(state.getShapeMask(), x, y)) {
+			state.setPosition(x, y);
+		}
+	}
+
+	/** 한 줄씩 아래로 내리면서 충돌 지점을 찾는 방식으로 하드 드롭 도착 y 좌표를 계산. */
+	private int scanHardDropY(int shape, int x, int y) {
+		while (checker.canPlace(shape, x, y + 1)) {
+			y++;
+		}
+		return y;
+	}
+
+	/** 테트로미노의 4개 미노를 실제 필드 배열에 기록(burn). */
+	private void placeTetrominoOnField(Tetromino type, SpinState rotation, int offsetX, int offsetY) {
+		for (int i = 0; i < TetrominoGeometry.MINO_COUNT; i++) {
+			int y = TetrominoGeometry.cellY(type, rotation, i) + offsetY;
+			int x = TetrominoGeometry.cellX(type, rotation, i) + offsetX;
+			gameData.setCell(y, x, type);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package tetris.player;
+
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+
+/**
+ * GameSessionHost가 관리하는 헤드리스 게임 하나.
+ * 자체 스레드 없이, 자신이 배정된 호스트 워커 스레드에서만 프레임이 진행되므로 세션 안에서는 항상 직렬로 실행됨.
+ */
+public class GameSession {
+
+    // --- Inner Interface ---
+    /**
+     * 프레임마다 엔진을 조작하는 컨트롤러 (봇, 리플레이 재생기 등).
+     * 세션의 워커 스레드에서 update() 직전에 호출되므로, 엔진의 액션 메서드를 직접 호출해도 안전함.
+     */
+    @FunctionalInterface
+    public interface Controller {
+        void onFrame(TetrisEngine engine);
+    }
+
+    // --- Instance Fields ---
+    private final long id;                 // 호스트 안에서 고유한 세션 번호
+    private final PlayerManager player;    // 이 세션이 소유한 게임 (DataManager + TetrisEngine)
+    private final TetrisEngine engine;
+    private final long createdNanos;       // 세션 생성 시각 (처리량 계산용)
+    private volatile Controller controller; // 프레임마다 호출될 컨트롤러 (없으면 null)
+
+    // 통계 (워커 스레드만 쓰고, 다른 스레드는 읽기만 함)
+    private volatile long frameCount = 0;  // 진행한 프레임 수
+    private volatile long busyNanos = 0;   // 프레임 진행에 실제로 쓴 시간
+    private volatile boolean disposed = false; // 폐기 요청 여부
+
+    // --- Constructor ---
+    GameSession(long id, PlayerManager player, Controller controller) {
+        this.id = id;
+        this.player = player;
+        this.engine = player.getGameEngine();
+        this.controller = controller;
+        this.createdNanos = System.nanoTime();
+        engine.startHeadless(); // 호스트가 update()로 프레임을 진행하므로 게임 루프 스레드는 띄우지 않음
+    }
+
+    // --- Public Methods ---
+    /**
+     * 플레이어 조작을 제출. 어느 스레드에서든 호출할 수 있으며, 다음 프레임에 처리됨.
+     * @return 엔진의 명령 큐가 가득 차서 버렸으면 false ({@link TetrisEngine#submit(PlayerAction)}와 같음)
+     */
+    public boolean submit(PlayerAction action) { return engine.submit(action); }
+
+    /** 세션 폐기를 요청. 워커가 다음 프레임에 호스트에서 제거함. */
+    public void dispose() { disposed = true; }
+
+    /** 폐기 요청되었는지 여부를 반환. */
+    public boolean isDisposed() { return disposed; }
+
+    /** 컨트롤러를 교체. null이면 컨트롤러 없이 입력 큐만 처리. */
+    public void setController(Controller controller) { this.controller = controller; }
+
+    /** 세션 번호를 반환. */
+    public long getId() { return id; }
+
+    /** 이 세션의 엔진을 반환. 상태 변경은 컨트롤러나 submit()을 통해서만 해야 함. */
+    public TetrisEngine getEngine() { return engine; }
+
+    /** 이 세션의 PlayerManager를 반환. */
+    public PlayerManager getPlayer() { return player; }
+
+    /** 진행한 프레임 수를 반환. */
+    public long getFrameCount() { return frameCount; }
+
+    /** 지금까지 고정된 블록 수를 반환. */
+    public long getLockedPieceCount() { return engine.getLockedPieceCount(); }
+
+    /** 프레임 진행에 실제로 쓴 누적 시간(nanos)을 반환. */
+    public long getBusyNanos() { return busyNanos; }
+
+    /** 생성 이후 초당 진행한 프레임 수를 반환. */
+    public double getFramesPerSecond() { return perSecond(frameCount); }
+
+    /** 생성 이후 초당 고정한 블록 수를 반환. */
+    public double getPiecesPerSecond() { return perSecond(getLockedPieceCount()); }
+
+    /** 한 프레임 진행에 평균적으로 쓴 시간(nanos)을 반환. */
+    public double getAverageFrameNanos() {
+        long frames = frameCount;
+        return frames == 0 ? 0 : (double) busyNanos / frames;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("session#%d frames=%d pieces=%d fps=%.1f pps=%.1f avgFrame=%.0fns state=%s",
+                id, frameCount, getLockedPieceCount(), getFramesPerSecond(), getPiecesPerSecond(),
+                getAverageFrameNanos(), engine.getCurrentState());
+    }
+
+    // --- Package-Private Methods ---
+    /** 한 프레임 진행 (배정된 워커 스레드에서만 호출). */
+    void step() {
+        long start = System.nanoTime();
+        Controller c = controller;
+        if (c != null) {
+            c.onFrame(engine);
+        }
+        engine.update();
+        busyNanos += System.nanoTime() - start;
+        frameCount++;
+    }
+
+    // --- Private Methods ---
+    /** 생성 이후 경과 시간 기준으로 초당 값을 계산. */
+    private double perSecond(long count) {
+        long elapsed = System.nanoTime() - createdNanos;
+        return elapsed <= 0 ? 0 : count * 1_000_000_000.0 / elapsed;
+    }
+}
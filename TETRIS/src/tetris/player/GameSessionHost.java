@@ -0,0 +1,291 @@
+package tetris.player;
+
+import static tetris.data.constant.GameConstants.FRAME_RATE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tetris.logic.core.GameLoop;
+import tetris.logic.core.WELL1024a;
+
+/**
+ * 한 JVM 안에서 많은 헤드리스 게임(봇 대전, 서버 검증, 부하 테스트 등)을 동시에 돌리는 세션 호스트.
+ *
+ * 세션은 만들 때 고정된 수의 워커(샤드) 중 하나에 배정되고, 그 워커 스레드만 세션의 프레임을 진행함.
+ * 따라서 세션 하나는 항상 직렬로 실행되며 락이 필요 없고, 세션 수와 상관없이 스레드 수는 워커 수로 고정됨.
+ * 세션마다 스레드를 만들지 않으므로, 세션당 메모리는 게임 데이터(필드, 가방, 엔진 컴포넌트)만큼만 듦
+ * (세션 10,000개에서 세션당 약 7KB. 키보드 입력 큐는 키 입력이 들어온 엔진에만 만들어짐).
+ *
+ * 실행 방식은 두 가지:
+ * - start(): 워커마다 GameLoop를 띄워 실제 시간(frameRate)에 맞춰 진행 (봇 대전, 서버).
+ * - runFrames(n): 시간 제한 없이 모든 세션을 n 프레임씩 최대 속도로 진행 (부하 테스트, 검증).
+ *
+ * 호스트에 시드를 주면 세션마다 하나의 기준 난수 생성기에서 뽑은 시드를 배정하므로,
+ * 같은 시드로 같은 순서대로 세션을 만들면 배치 실행 전체가 재현됨 (세션마다 리플레이 기록도 가능).
+ */
+public class GameSessionHost {
+
+    // --- Instance Fields ---
+    private final Shard[] shards;          // 세션을 나눠 맡는 워커들
+    private final int frameRate;           // 실시간 실행 시 초당 프레임 수
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>(); // 살아있는 모든 세션
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final AtomicLong nextShard = new AtomicLong(); // 라운드 로빈 배정용
+    private final WELL1024a seedStream;   // 세션별 시드를 뽑아 줄 생성기 (시드가 없으면 null)
+
+    private volatile boolean started = false; // 실시간 실행 중인지 여부
+    // 처리량 계산 기준 시각과 그 시점의 누적값 (report()는 기준 시각 이후의 증가분으로 계산)
+    private volatile long startedNanos = System.nanoTime();
+    private volatile long baseFrames = 0;
+    private volatile long basePieces = 0;
+
+    // --- Constructor ---
+    /** CPU 코어 수만큼의 워커로, 기본 프레임 속도(60Hz)로 동작하는 호스트를 생성. */
+    public GameSessionHost() {
+        this(Runtime.getRuntime().availableProcessors(), FRAME_RATE);
+    }
+
+    /**
+     * @param workerCount 워커(스레드) 수
+     * @param frameRate 실시간 실행 시 초당 프레임 수
+     */
+    public GameSessionHost(int workerCount, int frameRate) {
+        this(workerCount, frameRate, null);
+    }
+
+    /**
+     * 세션들의 블록 순서가 시드로 결정되는 호스트를 생성.
+     * @param workerCount 워커(스레드) 수
+     * @param frameRate 실시간 실행 시 초당 프레임 수
+     * @param seed 세션별 난수 스트림을 만들 기준 시드
+     */
+    public GameSessionHost(int workerCount, int frameRate, long seed) {
+        this(workerCount, frameRate, new WELL1024a(seed));
+    }
+
+    private GameSessionHost(int workerCount, int frameRate, WELL1024a seedStream) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be > 0");
+        }
+        this.seedStream = seedStream;
+        this.frameRate = frameRate;
+        this.shards = new Shard[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    // --- Public Methods: Session Lifecycle ---
+    /** 컨트롤러 없는 새 세션을 만들어 워커에 배정. */
+    public GameSession createSession() {
+        return createSession(null);
+    }
+
+    /**
+     * 새 세션을 만들어 워커에 배정. 세션은 다음 프레임부터 진행됨.
+     * 호스트에 시드가 있으면 기준 생성기에서 뽑은 시드를, 없으면 무작위 시드를 사용.
+     * @param controller 프레임마다 세션의 워커 스레드에서 호출될 컨트롤러 (없으면 null)
+     */
+    public GameSession createSession(GameSession.Controller controller) {
+        if (seedStream == null) {
+            return register(new PlayerManager(true), controller);
+        }
+        long seed;
+        synchronized (seedStream) {
+            seed = seedStream.nextLong();
+        }
+        return createSession(seed, controller);
+    }
+
+    /**
+     * 지정한 시드로 새 세션을 만들어 워커에 배정 (특정 게임을 재현하거나 A/B 비교할 때).
+     * @param seed 이 세션의 테트로미노 가방 시드
+     * @param controller 프레임마다 세션의 워커 스레드에서 호출될 컨트롤러 (없으면 null)
+     */
+    public GameSession createSession(long seed, GameSession.Controller controller) {
+        return register(new PlayerManager(true, seed), controller);
+    }
+
+    /** 세션을 폐기. 워커가 다음 프레임에 제거하며, 이후 통계에서도 빠짐. */
+    public void disposeSession(GameSession session) {
+        session.dispose();
+        sessions.remove(session.getId());
+    }
+
+    /** 세션 번호로 세션을 찾음. 없으면 null. */
+    public GameSession getSession(long id) { return sessions.get(id); }
+
+    /** 살아있는 모든 세션을 읽기 전용으로 반환. */
+    public Collection<GameSession> getSessions() { return Collections.unmodifiableCollection(sessions.values()); }
+
+    /** 살아있는 세션 수를 반환. */
+    public int getSessionCount() { return sessions.size(); }
+
+    // --- Public Methods: Execution ---
+    /** 워커마다 게임 루프를 띄워 실제 시간에 맞춰 모든 세션을 진행. */
+    public synchronized void start() {
+        if (started) return;
+        started = true;
+        resetClock();
+        for (Shard shard : shards) {
+            shard.loop.start();
+        }
+    }
+
+    /** 실시간 실행을 멈춤. 세션은 그대로 남아 있음. */
+    public synchronized void stop() {
+        if (!started) return;
+        for (Shard shard : shards) {
+            shard.loop.stop();
+        }
+        started = false;
+    }
+
+    /** 실시간 실행 중인지 여부를 반환. */
+    public boolean isStarted() { return started; }
+
+    /**
+     * 시간 제한 없이 모든 세션을 frames 프레임씩 최대 속도로 진행하고, 끝날 때까지 기다림.
+     * 워커 스레드를 그대로 쓰지 않고 호출 동안만 워커 수만큼의 스레드를 사용. 실시간 실행 중에는 호출할 수 없음.
+     */
+    public synchronized void runFrames(int frames) throws InterruptedException {
+        if (started) {
+            throw new IllegalStateException("host is running in real time");
+        }
+        CountDownLatch done = new CountDownLatch(shards.length);
+        for (Shard shard : shards) {
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int f = 0; f < frames; f++) {
+                        shard.step();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "TetrisSessionBatch-" + shard.index);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+    }
+
+    // --- Public Methods: Statistics ---
+    /** 살아있는 세션들이 지금까지 진행한 프레임 수의 합. */
+    public long getTotalFrames() {
+        long total = 0;
+        for (GameSession s : sessions.values()) total += s.getFrameCount();
+        return total;
+    }
+
+    /** 살아있는 세션들이 지금까지 고정한 블록 수의 합. */
+    public long getTotalLockedPieces() {
+        long total = 0;
+        for (GameSession s : sessions.values()) total += s.getLockedPieceCount();
+        return total;
+    }
+
+    /** 살아있는 세션들이 프레임 진행에 쓴 시간의 합 (nanos). */
+    public long getTotalBusyNanos() {
+        long total = 0;
+        for (GameSession s : sessions.values()) total += s.getBusyNanos();
+        return total;
+    }
+
+    /**
+     * 세션 전체의 통계와 처리량을 한 줄로 요약.
+     * frames/pieces/avgFrame은 누적값이고, fps/pps는 마지막 start() 또는 resetClock() 이후의 초당 증가분.
+     */
+    public String report() {
+        long frames = getTotalFrames();
+        long pieces = getTotalLockedPieces();
+        long busy = getTotalBusyNanos();
+        double elapsed = (System.nanoTime() - startedNanos) / 1e9;
+        // 그 사이 폐기된 세션 때문에 합계가 줄 수 있으므로 음수는 0으로 처리
+        long framesSince = Math.max(0, frames - baseFrames);
+        long piecesSince = Math.max(0, pieces - basePieces);
+        return String.format("sessions=%d workers=%d frames=%d pieces=%d fps=%.0f pps=%.0f avgFrame=%.0fns",
+                getSessionCount(), shards.length, frames, pieces,
+                elapsed > 0 ? framesSince / elapsed : 0, elapsed > 0 ? piecesSince / elapsed : 0,
+                frames == 0 ? 0.0 : (double) busy / frames);
+    }
+
+    /** 세션별 통계를 세션 번호 순으로 반환. */
+    public List<String> reportSessions() {
+        List<GameSession> list = new ArrayList<>(sessions.values());
+        list.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        List<String> lines = new ArrayList<>(list.size());
+        for (GameSession s : list) lines.add(s.toString());
+        return lines;
+    }
+
+    /** 처리량 계산 기준을 지금으로 되돌림 (워밍업 후 측정 시작 등). */
+    public void resetClock() {
+        baseFrames = getTotalFrames();
+        basePieces = getTotalLockedPieces();
+        startedNanos = System.nanoTime();
+    }
+
+    // --- Private Methods ---
+    /** 만든 게임을 세션으로 감싸 라운드 로빈으로 워커에 배정. */
+    private GameSession register(PlayerManager player, GameSession.Controller controller) {
+        GameSession session = new GameSession(nextSessionId.incrementAndGet(), player, controller);
+        sessions.put(session.getId(), session);
+        Shard shard = shards[(int) (nextShard.getAndIncrement() % shards.length)];
+        shard.pending.offer(session);
+        return session;
+    }
+
+    // --- Inner Class ---
+    /** 세션 묶음을 맡아 직렬로 진행하는 워커. 세션 목록은 이 워커 스레드만 건드림. */
+    private final class Shard {
+        final int index;
+        final Queue<GameSession> pending = new ConcurrentLinkedQueue<>(); // 새로 배정된 세션
+        final List<GameSession> owned = new ArrayList<>();                // 이 워커가 진행하는 세션
+        final GameLoop loop;
+
+        Shard(int index) {
+            this.index = index;
+            this.loop = new GameLoop("TetrisSessionWorker-" + index, frameRate, this::step, () -> {});
+        }
+
+        /** 맡은 모든 세션을 한 프레임 진행. 폐기된 세션은 목록에서 제거. */
+        void step() {
+            GameSession added;
+            while ((added = pending.poll()) != null) {
+                owned.add(added);
+            }
+
+            for (int i = owned.size() - 1; i >= 0; i--) {
+                GameSession session = owned.get(i);
+                if (session.isDisposed()) {
+                    removeAt(i);
+                    continue;
+                }
+                try {
+                    session.step();
+                } catch (RuntimeException e) {
+                    // 한 세션의 오류가 같은 워커의 다른 세션을 멈추지 않도록 해당 세션만 폐기
+                    System.err.println("[GameSessionHost] Session " + session.getId() + " threw exception, disposing:");
+                    e.printStackTrace();
+                    disposeSession(session);
+                    removeAt(i);
+                }
+            }
+        }
+
+        /** 순서를 유지할 필요가 없으므로 마지막 원소와 바꿔서 O(1)로 제거. */
+        private void removeAt(int i) {
+            int last = owned.size() - 1;
+            owned.set(i, owned.get(last));
+            owned.remove(last);
+        }
+    }
+}
@@ -1,32 +1,76 @@
-package tetris.player;
-
-import tetris.logic.TetrisEngine;
-import tetris.logic.data.DataManager;
-
-/**
- * 게임의 핵심 컴포넌트인 DataManager와 TetrisEngine을 생성하고 관리하는 클래스.
- * 이 클래스는 전체 게임 시스템의 소유자(Owner) 역할을 합니다.
- */
-public class PlayerManager {
-
-    // --- Instance Fields ---
-    // 게임의 모든 데이터를 관리하는 객체
-    private final DataManager gameData;
-    // 게임의 모든 로직을 총괄하는 엔진 객체
-    private final TetrisEngine gameEngine;
-
-    // --- Constructor ---
-    public PlayerManager() {
-        // DataManager와 TetrisEngine 인스턴스를 생성.
-        // TetrisEngine은 DataManager에 의존하므로, DataManager를 먼저 생성하여 주입.
-        gameData = new DataManager();
-        gameEngine = new TetrisEngine(gameData);
-    }
-
-    // --- Public Methods: Getters ---
-    /** DataManager 인스턴스를 반환. */
-    public DataManager getDataManager() { return gameData; }
-    
-    /** TetrisEngine 인스턴스를 반환. */
-    public TetrisEngine getGameEngine() { return gameEngine; }
-}
\ No newline at end of file
+package tetris.player;
+
+import tetris.logic.TetrisEngine;
+import tetris.logic.core.WELL1024a;
+import tetris.logic.data.DataManager;
+import tetris.ui.GameRenderer;
+
+/**
+ * 게임의 핵심 컴포넌트인 DataManager와 TetrisEngine을 생성하고 관리하는 클래스.
+ * 이 클래스는 전체 게임 시스템의 소유자(Owner) 역할을 합니다.
+ */
+public class PlayerManager {
+
+    // --- Instance Fields ---
+    // 게임의 모든 데이터를 관리하는 객체
+    private final DataManager gameData;
+    // 게임의 모든 로직을 총괄하는 엔진 객체
+    private final TetrisEngine gameEngine;
+    // 창(GameRenderer) 없이 동작하는 헤드리스 게임인지 여부
+    private final boolean headless;
+
+    // --- Constructor ---
+    /** 게임 창(GameRenderer)이 있는 일반 게임을 생성. */
+    public PlayerManager() {
+        this(false);
+    }
+
+    /**
+     * 게임을 생성.
+     * @param headless true면 Swing 창을 만들지 않음. 봇, 시뮬레이션 서버 등 화면이 없는 환경용.
+     */
+    public PlayerManager(boolean headless) {
+        this(headless, new DataManager());
+    }
+
+    /**
+     * 블록 순서가 시드로 결정되는 게임을 생성. 같은 시드와 같은 입력이면 항상 같은 게임이 진행됨.
+     * @param headless true면 Swing 창을 만들지 않음
+     * @param seed 테트로미노 가방의 난수 시드
+     */
+    public PlayerManager(boolean headless, long seed) {
+        this(headless, new DataManager(seed));
+    }
+
+    /**
+     * 주어진 난수 생성기로 블록 순서를 정하는 게임을 생성.
+     * 여러 게임을 병렬로 돌릴 때, 하나의 생성기를 split()해서 게임마다 독립된 스트림을 넘겨주는 용도.
+     */
+    public PlayerManager(boolean headless, WELL1024a rng) {
+        this(headless, new DataManager(rng));
+    }
+
+    private PlayerManager(boolean headless, DataManager gameData) {
+        // DataManager와 TetrisEngine 인스턴스를 생성.
+        // TetrisEngine은 DataManager에 의존하므로, DataManager를 먼저 생성하여 주입.
+        this.headless = headless;
+        this.gameData = gameData;
+        gameEngine = new TetrisEngine(gameData);
+
+        // UI가 필요한 경우에만 렌더러를 만들어 엔진의 출력 대상으로 연결.
+        // (헤드리스에서는 GameRenderer 클래스 자체가 로드되지 않음)
+        if (!headless) {
+            gameEngine.setFrameSink(new GameRenderer(gameData, gameEngine));
+        }
+    }
+
+    // --- Public Methods: Getters ---
+    /** DataManager 인스턴스를 반환. */
+    public DataManager getDataManager() { return gameData; }
+    
+    /** TetrisEngine 인스턴스를 반환. */
+    public TetrisEngine getGameEngine() { return gameEngine; }
+
+    /** 헤드리스 게임인지 여부를 반환. */
+    public boolean isHeadless() { return headless; }
+}
@@ -0,0 +1,674 @@
+package tetris.player.bot;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.SPAWN_X;
+import static tetris.data.constant.GameConstants.SPAWN_Y;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.constant.TetrominoGeometry;
+import tetris.data.dto.PieceQueue;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.FrameSnapshot;
+import tetris.logic.PlayerAction;
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+import tetris.logic.field.SearchField;
+import tetris.logic.tetromino.CollisionChecker;
+import tetris.logic.tetromino.MoveGenerator;
+import tetris.logic.tetromino.MoveGenerator.Step;
+import tetris.logic.tetromino.MoveGenerator.TSpin;
+
+/**
+ * 엔진의 공개 조작(PlayerAction)만으로 게임을 진행하는 빔 탐색 봇.
+ *
+ * 블록마다 필드, 현재 블록, 홀드, 다음 블록 큐(미리보기)를 읽고, 큐가 보여 주는 블록까지 빔 탐색으로 내다본 뒤 첫 수를 고름.
+ * 한 층에서는 빔의 국면마다 놓을 수 있는 위치(홀드를 쓰는 경우 포함)를 MoveGenerator로 모두 만들어
+ * 누적 보상 + 필드 평가(BoardEvaluator)가 높은 beamWidth개만 다음 층으로 넘김.
+ * 국면 펼치기는 ForkJoinPool에서 빔을 나눠 병렬로 처리하고, 결과는 국면 순서대로 모아 안정 정렬하므로
+ * 스레드 수와 관계없이 같은 입력이면 항상 같은 수를 고름.
+ *
+ * 고른 위치까지는 MoveGenerator의 경로를 InputHandler와 같은 PlayerAction으로 보내 조작함
+ * (소프트 드롭은 SOFT_DROP_START/STOP, 마지막 낙하는 HARD_DROP, T-Spin 위치는 마지막 회전 뒤 락 딜레이로 고정).
+ * 소프트 드롭 구간이 끝날 때마다 실제 블록 상태에서 경로를 다시 찾으므로, 중력 때문에 어긋나도 목표 위치로 돌아감.
+ *
+ * 실행 방식은 두 가지:
+ * - 헤드리스: startHeadless()로 시작한 엔진에서 호출 스레드가 {@link #playPieces(int)}를 부름.
+ *   조작은 perform()으로 바로 처리되고 블록마다 한 프레임만 진행하므로, 시간 제한 없이 최대 속도로 둠 (부하 생성, 엔진 스트레스 테스트).
+ * - 실시간: 게임 루프가 돌고 있는 엔진(Swing 게임 등)에 {@link #start()}로 봇 스레드를 붙임.
+ *   상태는 FrameSnapshot으로 읽고 조작은 submit()으로 보내며, 초당 블록 수(pps)를 넘지 않도록 블록 사이를 기다림.
+ *   스냅샷에는 보이는 줄만 있으므로, 버퍼 존에 걸친 블록은 탐색에서 빈 칸으로 보임.
+ */
+public class BeamSearchBot {
+
+    // --- Constants ---
+    /** 기본 빔 폭 (층마다 남기는 국면 수). */
+    public static final int DEFAULT_BEAM_WIDTH = 48;
+    /** 속도 제한 없음 (setPiecesPerSecond에 주는 값). */
+    public static final double UNLIMITED = 0;
+
+    private static final int NONE = -1;                 // 블록 없음 (ordinal 자리)
+    private static final int SPLIT_THRESHOLD = 4;       // 이 수 이하의 국면은 나누지 않고 한 스레드에서 펼침
+    private static final int MAX_REPLANS = 8;           // 한 블록에서 경로를 다시 찾는 최대 횟수
+    private static final long WAIT_TIMEOUT_FRAMES = 600; // 블록이 고정되기를 기다리는 최대 프레임 수 (넘으면 하드 드롭)
+    private static final long POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(500); // 실시간 모드에서 스냅샷을 다시 읽는 간격
+    private static final Comparator<Candidate> BY_SCORE = (a, b) -> Double.compare(b.score, a.score);
+
+    // --- Instance Fields ---
+    private final TetrisEngine engine;
+    private final BoardEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final int beamWidth;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    // 빔 두 개를 번갈아 씀 (현재 층, 다음 층)
+    private Node[] beam;
+    private Node[] nextBeam;
+    private final List<Candidate> layer = new ArrayList<>();     // 한 층에서 만든 모든 후보
+    private final List<Candidate> firstMoves = new ArrayList<>(); // 첫 층의 후보 (고른 수를 되찾는 용도)
+
+    // 현재 블록의 탐색 입력 (봇 스레드 전용)
+    private final SearchField rootField = new SearchField();
+    private final Tetromino[] preview = new Tetromino[PieceQueue.MAX_PREVIEW_DEPTH];
+    private int previewCount;
+    private int rootPiece;           // 현재 블록 상태 (TetrominoState 압축 형식)
+    private int rootHeld;            // 홀드된 블록 (ordinal, 없으면 NONE)
+    private boolean rootHoldAvailable;
+    private long rootLockedCount;    // 탐색을 시작할 때 엔진이 고정한 블록 수 (값이 바뀌면 이 블록은 끝난 것)
+
+    // 경로 실행용
+    private final MoveGenerator pathGenerator = new MoveGenerator(rootField);
+    private Step[] steps = new Step[64];
+    private int[] states = new int[64];
+
+    private volatile double piecesPerSecond = UNLIMITED;
+    private volatile boolean restartOnGameOver = false;
+    private volatile boolean running = false; // 실시간 봇 스레드가 실행 중인지 여부
+    private boolean live = false;             // 실시간 모드로 조작하는지 여부
+    private Thread thread;
+
+    // 통계
+    private volatile long piecesPlayed = 0;
+    private volatile long actionCount = 0;
+    private volatile long lastSearchNanos = 0;
+    private final LongAdder evaluatedCount = new LongAdder();
+
+    // --- Constructor ---
+    /** 기본 평가 함수(HeuristicEvaluator), 기본 빔 폭, 공용 ForkJoinPool로 봇을 생성. */
+    public BeamSearchBot(TetrisEngine engine) {
+        this(engine, new HeuristicEvaluator(), DEFAULT_BEAM_WIDTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param engine 봇이 조작할 엔진
+     * @param evaluator 잎 국면을 평가할 함수 (여러 스레드에서 동시에 호출됨)
+     * @param beamWidth 층마다 남기는 국면 수
+     * @param pool 빔 펼치기를 나눠 실행할 풀 (null이면 탐색 스레드에서 순차 실행)
+     */
+    public BeamSearchBot(TetrisEngine engine, BoardEvaluator evaluator, int beamWidth, ForkJoinPool pool) {
+        if (engine == null || evaluator == null) {
+            throw new IllegalArgumentException("engine and evaluator must not be null");
+        }
+        if (beamWidth <= 0) {
+            throw new IllegalArgumentException("beamWidth must be > 0");
+        }
+        this.engine = engine;
+        this.evaluator = evaluator;
+        this.beamWidth = beamWidth;
+        this.pool = pool;
+        this.beam = newBeam(beamWidth);
+        this.nextBeam = newBeam(beamWidth);
+    }
+
+    // --- Public Methods: Control ---
+    /**
+     * 헤드리스 엔진에서 블록을 count개 놓음 (호출 스레드가 엔진의 유일한 쓰기 스레드여야 함).
+     * 블록마다 탐색과 조작을 마친 뒤 한 프레임을 진행하며, 생성 지연이 있으면 다음 블록이 나올 때까지 프레임을 진행함.
+     * @return 실제로 놓은 블록 수 (게임 오버가 되고 재시작을 켜지 않았으면 count보다 작음)
+     * @throws IllegalStateException 엔진의 게임 루프가 실행 중인 경우 (start()를 사용할 것)
+     */
+    public int playPieces(int count) {
+        if (engine.isGameLoopRunning()) {
+            throw new IllegalStateException("the game loop is running; use start() instead");
+        }
+        live = false;
+        int played = 0;
+        while (played < count) {
+            GameStateCode state = engine.getCurrentState();
+            if (state == GameStateCode.GAME_OVER && restartOnGameOver) {
+                act(PlayerAction.RESTART);
+                continue;
+            }
+            if (state != GameStateCode.PLAYING) break;
+            if (!readRoot()) {
+                engine.update(); // 생성 지연 중
+                continue;
+            }
+            playPiece();
+            engine.update();
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * 게임 루프가 실행 중인 엔진을 조작하는 봇 스레드를 시작. 이미 실행 중이면 아무것도 하지 않음.
+     * @throws IllegalStateException 엔진의 게임 루프가 실행 중이 아닌 경우 (playPieces()를 사용할 것)
+     */
+    public synchronized void start() {
+        if (running) return;
+        if (!engine.isGameLoopRunning()) {
+            throw new IllegalStateException("the game loop is not running; use playPieces() instead");
+        }
+        live = true;
+        running = true;
+        thread = new Thread(this::runLive, "TetrisBot");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 봇 스레드를 멈추고 끝날 때까지 기다림. */
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = thread;
+            thread = null;
+        }
+        if (current != null && current != Thread.currentThread()) {
+            LockSupport.unpark(current);
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 실시간 모드의 초당 블록 수 상한을 설정 (UNLIMITED(0) 이하면 제한 없음). 헤드리스 모드에는 적용되지 않음. */
+    public void setPiecesPerSecond(double pps) { this.piecesPerSecond = pps; }
+
+    /** 게임 오버가 되면 RESTART로 바로 다시 시작할지 설정 (부하 생성용, 기본 false). */
+    public void setRestartOnGameOver(boolean restart) { this.restartOnGameOver = restart; }
+
+    // --- Public Methods: Getters ---
+    public double getPiecesPerSecond() { return piecesPerSecond; }
+    public boolean isRestartOnGameOver() { return restartOnGameOver; }
+    public boolean isRunning() { return running; }
+    public int getBeamWidth() { return beamWidth; }
+
+    /** 지금까지 놓은 블록 수를 반환. */
+    public long getPiecesPlayed() { return piecesPlayed; }
+
+    /** 지금까지 엔진에 보낸 조작 수를 반환. */
+    public long getActionCount() { return actionCount; }
+
+    /** 지금까지 평가한 국면 수를 반환. */
+    public long getEvaluatedCount() { return evaluatedCount.sum(); }
+
+    /** 마지막 블록의 탐색에 걸린 시간(ns)을 반환. */
+    public long getLastSearchNanos() { return lastSearchNanos; }
+
+    // --- Private Methods: Live Mode ---
+    /** 봇 스레드 본체: 조작할 블록이 나올 때마다 탐색해서 놓고, pps에 맞춰 기다림. */
+    private void runLive() {
+        long nextPieceNanos = System.nanoTime();
+        try {
+            while (running) {
+                FrameSnapshot s = engine.getSnapshot();
+                GameStateCode state = s.getState();
+                if (state == GameStateCode.GAME_OVER && restartOnGameOver) {
+                    act(PlayerAction.RESTART);
+                    awaitFrames(2);
+                    continue;
+                }
+                if (state != GameStateCode.PLAYING || !readRoot()) {
+                    LockSupport.parkNanos(POLL_NANOS);
+                    continue;
+                }
+
+                double pps = piecesPerSecond;
+                if (pps > 0) {
+                    long wait;
+                    while (running && (wait = nextPieceNanos - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    nextPieceNanos = Math.max(nextPieceNanos, System.nanoTime() - (long) (1e9 / pps))
+                            + (long) (1e9 / pps);
+                }
+                if (running) playPiece();
+            }
+        } catch (RuntimeException e) {
+            System.err.println("봇 실행 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+            running = false;
+        }
+    }
+
+    // --- Private Methods: Piece ---
+    /** readRoot()로 읽은 현재 블록 하나를 탐색해서 놓음. */
+    private void playPiece() {
+        long t0 = System.nanoTime();
+        Candidate move = search();
+        lastSearchNanos = System.nanoTime() - t0;
+
+        if (move == null) {
+            act(PlayerAction.HARD_DROP); // 놓을 곳이 없음 (게임 오버 직전)
+        } else {
+            if (move.hold) {
+                act(PlayerAction.HOLD);
+                sync();
+            }
+            moveTo(move.placement, TSpin.values()[move.spin]);
+        }
+        awaitNextPiece();
+        piecesPlayed++;
+    }
+
+    /**
+     * 현재 블록을 목표 위치까지 조작해서 고정.
+     * 소프트 드롭 구간(공중에서의 이동 뒤 처마 밑으로 밀어 넣기 등)이 끝날 때마다 실제 상태에서 경로를 다시 찾음.
+     */
+    private void moveTo(int target, TSpin spin) {
+        for (int attempt = 0; attempt < MAX_REPLANS; attempt++) {
+            int piece = currentPiece();
+            if (piece == NONE) return; // 이미 고정됨
+            int i = findPlacement(piece, target, spin);
+            if (i < 0) break;
+
+            int length = pathGenerator.getPathLength(i);
+            if (length > steps.length) {
+                steps = new Step[length * 2];
+                states = new int[length * 2];
+            }
+            pathGenerator.getPath(i, steps, states);
+
+            // T-Spin이 아니면 끝의 소프트 드롭은 하드 드롭 한 번으로 대신함
+            int end = length;
+            if (spin == TSpin.NONE) {
+                while (end > 0 && steps[end - 1] == Step.SOFT_DROP) end--;
+            }
+            int k = 0;
+            while (k < end && steps[k] != Step.SOFT_DROP) {
+                act(steps[k++].getAction());
+            }
+            if (k == end) {
+                // T-Spin은 하드 드롭이 회전 기록을 지우므로 락 딜레이로 고정되기를 기다림 (awaitNextPiece)
+                if (spin == TSpin.NONE) act(PlayerAction.HARD_DROP);
+                return;
+            }
+            act(PlayerAction.SOFT_DROP_START);
+            softDropTo(TetrominoState.unpackY(states[k]));
+            act(PlayerAction.SOFT_DROP_STOP);
+            sync();
+        }
+        act(PlayerAction.HARD_DROP); // 목표에 닿을 수 없게 됨: 지금 자리에서 내림
+    }
+
+    /** 현재 필드에서 piece로 시작해 target(같은 T-Spin 판정 우선)에 해당하는 위치 번호를 찾음. 없으면 -1. */
+    private int findPlacement(int piece, int target, TSpin spin) {
+        int count = pathGenerator.generate(piece);
+        int fallback = -1;
+        for (int i = 0; i < count; i++) {
+            if (pathGenerator.getPlacement(i) != target) continue;
+            if (pathGenerator.getTSpin(i) == spin) return i;
+            fallback = i;
+        }
+        return fallback;
+    }
+
+    // --- Private Methods: Engine Access ---
+    /**
+     * 탐색 입력(필드, 현재 블록, 홀드, 미리보기)을 읽음.
+     * @return 지금 조작할 수 있는 블록이 있으면 true
+     */
+    private boolean readRoot() {
+        if (!live) {
+            DataManager data = engine.getDataManager();
+            rootField.copyFrom(data);
+            rootPiece = data.getTetrominoState().getPacked();
+            Tetromino held = engine.getHoldHandler().getHeldTetromino();
+            rootHeld = held == null || held == Tetromino.EMPTY ? NONE : held.ordinal();
+            rootHoldAvailable = !engine.getHoldHandler().isHoldUsed();
+            previewCount = engine.getPiecePreview().copyTo(preview);
+            rootLockedCount = engine.getLockedPieceCount();
+            return engine.isPlaying() && !engine.isSpawnDelayed();
+        }
+        while (true) {
+            FrameSnapshot s = engine.getSnapshot();
+            long v = s.getVersion();
+            if ((v & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            rootField.clear();
+            for (int r = 0; r < FIELD_Y_COUNT; r++) {
+                int row = s.getRow(r);
+                int bits = 0;
+                for (int x = 0; x < FIELD_X_COUNT; x++) {
+                    if (PlayField.cellOf(row, x) != Tetromino.EMPTY.ordinal()) bits |= 1 << x;
+                }
+                rootField.setFieldRow(r + BUFFER_ZONE, bits);
+            }
+            rootPiece = s.getPiece();
+            Tetromino held = s.getHeld();
+            rootHeld = held == Tetromino.EMPTY ? NONE : held.ordinal();
+            rootHoldAvailable = s.isHoldAvailable();
+            previewCount = s.getPreviewCount();
+            for (int i = 0; i < previewCount; i++) {
+                preview[i] = s.getPreview(i);
+            }
+            rootLockedCount = s.getLockedPieceCount();
+            boolean controllable = s.isControllable();
+            if (s.isConsistent(v)) return controllable;
+        }
+    }
+
+    /** 탐색을 시작한 블록의 현재 상태를 반환. 이미 고정되었거나 조작할 수 없으면 NONE. */
+    private int currentPiece() {
+        if (!live) {
+            if (!engine.isPlaying() || engine.isSpawnDelayed() || engine.getLockedPieceCount() != rootLockedCount) {
+                return NONE;
+            }
+            return engine.getDataManager().getTetrominoState().getPacked();
+        }
+        while (true) {
+            FrameSnapshot s = engine.getSnapshot();
+            long v = s.getVersion();
+            if ((v & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            boolean current = s.isControllable() && s.getLockedPieceCount() == rootLockedCount;
+            int piece = s.getPiece();
+            if (s.isConsistent(v)) return current ? piece : NONE;
+        }
+    }
+
+    /** 조작 하나를 엔진에 보냄. 헤드리스는 바로 처리하고, 실시간은 명령 큐에 넣음 (큐가 차 있으면 빌 때까지 기다림). */
+    private void act(PlayerAction action) {
+        if (live) {
+            while (!engine.submit(action)) {
+                if (!running) return;
+                LockSupport.parkNanos(POLL_NANOS);
+            }
+        } else {
+            engine.perform(action);
+        }
+        actionCount++;
+    }
+
+    /** 보낸 조작이 반영된 상태를 읽을 수 있을 때까지 기다림 (헤드리스는 perform()이 바로 처리하므로 할 일 없음). */
+    private void sync() {
+        if (live) awaitFrames(2); // 진행 중인 프레임은 이미 큐를 비웠을 수 있으므로 두 프레임
+    }
+
+    /** 엔진이 n 프레임을 더 진행할 때까지 기다림 (헤드리스는 직접 진행). */
+    private void awaitFrames(int n) {
+        if (!live) {
+            for (int i = 0; i < n; i++) engine.update();
+            return;
+        }
+        long target = frame() + n;
+        while (running && frame() < target) {
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+    }
+
+    /** 엔진이 지금까지 진행한 프레임 수. 실시간 모드는 게임 루프 스레드가 공개한 스냅샷에서 읽음. */
+    private long frame() {
+        return live ? engine.getSnapshot().getFrame() : engine.getFrameCount();
+    }
+
+    /** 소프트 드롭 중인 블록이 높이 y에 닿을 때까지 프레임을 진행(헤드리스)하거나 기다림(실시간). */
+    private void softDropTo(int y) {
+        long deadline = frame() + WAIT_TIMEOUT_FRAMES;
+        int piece;
+        while ((piece = currentPiece()) != NONE && TetrominoState.unpackY(piece) < y && frame() < deadline) {
+            if (live) {
+                if (!running) return;
+                LockSupport.parkNanos(POLL_NANOS);
+            } else {
+                engine.update();
+            }
+        }
+    }
+
+    /** 탐색한 블록이 고정되고 다음 블록을 조작할 수 있을 때까지 기다림. 너무 오래 걸리면 하드 드롭. */
+    private void awaitNextPiece() {
+        long deadline = frame() + WAIT_TIMEOUT_FRAMES;
+        boolean forced = false;
+        while (true) {
+            GameStateCode state = live ? engine.getSnapshot().getState() : engine.getCurrentState();
+            if (state != GameStateCode.PLAYING) return;
+            long locked = live ? engine.getSnapshot().getLockedPieceCount() : engine.getLockedPieceCount();
+            if (locked != rootLockedCount) {
+                boolean ready = live ? engine.getSnapshot().isControllable() : !engine.isSpawnDelayed();
+                if (ready) return;
+            } else if (!forced && frame() >= deadline) {
+                act(PlayerAction.HARD_DROP);
+                forced = true;
+            }
+            if (live) {
+                if (!running) return;
+                LockSupport.parkNanos(POLL_NANOS);
+            } else {
+                engine.update();
+            }
+        }
+    }
+
+    // --- Private Methods: Beam Search ---
+    /**
+     * readRoot()로 읽은 상태에서 빔 탐색을 실행하고, 가장 좋은 잎 국면으로 이어지는 첫 수를 반환.
+     * @return 첫 수 (놓을 곳이 하나도 없으면 null)
+     */
+    private Candidate search() {
+        Node root = beam[0];
+        root.field.copyFrom(rootField);
+        root.current = TetrominoState.unpackType(rootPiece);
+        root.start = rootPiece;
+        root.held = rootHeld;
+        root.holdAvailable = rootHoldAvailable;
+        root.nextPreview = 0;
+        root.reward = 0;
+        root.firstMove = NONE;
+        int beamSize = 1;
+
+        firstMoves.clear();
+        Candidate best = null;
+        for (int depth = 0; depth <= previewCount && beamSize > 0; depth++) {
+            expandBeam(beamSize);
+            layer.clear();
+            for (int i = 0; i < beamSize; i++) {
+                layer.addAll(beam[i].children);
+            }
+            if (layer.isEmpty()) break; // 모든 국면이 막힘: 이전 층의 결과를 씀
+            layer.sort(BY_SCORE); // 안정 정렬: 점수가 같으면 만든 순서대로
+
+            if (depth == 0) {
+                firstMoves.addAll(layer);
+                best = layer.get(0);
+            } else {
+                best = firstMoves.get(beam[layer.get(0).parent].firstMove);
+            }
+
+            // 상위 beamWidth개만 다음 층의 국면으로 만듦
+            int nextSize = Math.min(beamWidth, layer.size());
+            for (int i = 0; i < nextSize; i++) {
+                Candidate c = layer.get(i);
+                Node parent = beam[c.parent];
+                Node child = nextBeam[i];
+                child.field.copyFrom(parent.field);
+                child.field.place(c.placement);
+                child.held = c.held;
+                child.holdAvailable = true;
+                child.current = c.nextPreview < previewCount ? preview[c.nextPreview].ordinal() : NONE;
+                child.nextPreview = c.nextPreview + 1;
+                child.start = NONE;
+                child.reward = c.reward;
+                child.firstMove = depth == 0 ? i : parent.firstMove;
+            }
+            Node[] swap = beam;
+            beam = nextBeam;
+            nextBeam = swap;
+            beamSize = nextSize;
+        }
+        return best;
+    }
+
+    /** 빔의 국면 0 ~ size-1을 펼쳐 각 국면의 children을 채움. */
+    private void expandBeam(int size) {
+        ExpandTask task = new ExpandTask(0, size);
+        if (pool == null || size <= SPLIT_THRESHOLD) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /** 국면 하나에서 둘 수 있는 모든 수(현재 블록, 홀드 후 블록)를 후보로 만듦. */
+    private void expand(Worker worker, Node node, int index) {
+        node.children.clear();
+        if (node.current == NONE) return;
+        placeAll(worker, node, index, node.current, node.start, false, node.held, node.nextPreview);
+
+        if (!node.holdAvailable) return;
+        if (node.held == NONE) {
+            // 빈 홀드: 현재 블록을 넣고 큐에서 다음 블록을 꺼냄
+            if (node.nextPreview < previewCount) {
+                placeAll(worker, node, index, preview[node.nextPreview].ordinal(), NONE, true,
+                         node.current, node.nextPreview + 1);
+            }
+        } else if (node.held != node.current) {
+            placeAll(worker, node, index, node.held, NONE, true, node.current, node.nextPreview);
+        }
+    }
+
+    /**
+     * 블록 type을 start(NONE이면 생성 위치)에서 출발시켜 닿을 수 있는 모든 위치를 후보로 더함.
+     * @param heldAfter 이 수를 둔 뒤의 홀드 블록
+     * @param nextAfter 이 수를 둔 뒤 다음으로 꺼낼 미리보기 번호
+     */
+    private void placeAll(Worker worker, Node node, int index, int type, int start,
+                          boolean hold, int heldAfter, int nextAfter) {
+        worker.field.copyFrom(node.field);
+        if (start == NONE) {
+            int shape = TetrominoGeometry.shapeMask(type, SpinState.S0.ordinal());
+            if (!worker.checker.canPlace(shape, SPAWN_X, SPAWN_Y)) return; // Lock Out
+            // 엔진은 블록을 생성하거나 홀드로 꺼낸 뒤 바로 한 칸 떨어뜨림
+            int startY = worker.checker.canPlace(shape, SPAWN_X, SPAWN_Y + 1) ? SPAWN_Y + 1 : SPAWN_Y;
+            start = TetrominoState.pack(type, SpinState.S0.ordinal(), SPAWN_X, startY);
+        }
+
+        MoveGenerator generator = worker.generator;
+        int count = generator.generate(start);
+        for (int i = 0; i < count; i++) {
+            int placement = generator.getPlacement(i);
+            int rotation = TetrominoState.unpackRotation(placement);
+            if (TetrominoState.unpackY(placement) + TetrominoGeometry.maxY(type, rotation) < BUFFER_ZONE) {
+                continue; // Block Out: 게임 오버가 되는 수
+            }
+            TSpin spin = generator.getTSpin(i);
+            worker.child.copyFrom(node.field);
+            int cleared = worker.child.place(placement);
+            double reward = node.reward + evaluator.reward(cleared, spin);
+            double score = reward + evaluator.evaluate(worker.child);
+            node.children.add(new Candidate(index, hold, placement, spin.ordinal(), heldAfter, nextAfter, reward, score));
+        }
+        evaluatedCount.add(count);
+    }
+
+    private static Node[] newBeam(int size) {
+        Node[] nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = new Node();
+        }
+        return nodes;
+    }
+
+    // --- Inner Classes ---
+    /** 빔에 남은 국면 하나. 배열로 미리 만들어 두고 층마다 다시 채워 씀. */
+    private static final class Node {
+        private final SearchField field = new SearchField();
+        private final List<Candidate> children = new ArrayList<>(); // 펼친 결과
+        private int current;           // 놓을 블록 (ordinal, 미리보기가 끝났으면 NONE)
+        private int start;             // 현재 블록의 시작 상태 (루트만 실제 상태, 그 외 NONE = 생성 위치)
+        private int held;              // 홀드된 블록 (ordinal, 없으면 NONE)
+        private boolean holdAvailable; // 이번 블록에서 홀드할 수 있는지 여부
+        private int nextPreview;       // 다음으로 꺼낼 미리보기 번호
+        private double reward;         // 루트부터 누적한 보상
+        private int firstMove;         // 이 국면으로 이어지는 첫 층 후보의 번호
+    }
+
+    /** 펼치기로 만든 수 하나. 빔에 뽑힌 것만 국면(Node)으로 만듦. */
+    private static final class Candidate {
+        private final int parent;      // 부모 국면의 빔 번호
+        private final boolean hold;    // 홀드한 뒤 놓는 수인지 여부
+        private final int placement;   // 고정 위치 (TetrominoState 압축 형식)
+        private final int spin;        // T-Spin 판정 (ordinal)
+        private final int held;        // 둔 뒤의 홀드 블록
+        private final int nextPreview; // 둔 뒤 다음 블록의 미리보기 번호
+        private final double reward;
+        private final double score;
+
+        Candidate(int parent, boolean hold, int placement, int spin, int held, int nextPreview,
+                  double reward, double score) {
+            this.parent = parent;
+            this.hold = hold;
+            this.placement = placement;
+            this.spin = spin;
+            this.held = held;
+            this.nextPreview = nextPreview;
+            this.reward = reward;
+            this.score = score;
+        }
+    }
+
+    /** 스레드마다 하나씩 쓰는 탐색 작업 공간. */
+    private static final class Worker {
+        private final SearchField field = new SearchField();  // 펼치는 국면
+        private final SearchField child = new SearchField();  // 후보 국면을 평가하는 작업 공간
+        private final CollisionChecker checker = new CollisionChecker(field);
+        private final MoveGenerator generator = new MoveGenerator(field);
+    }
+
+    /** 빔의 국면 구간 [from, to)를 반으로 나눠 가며 펼치는 작업. */
+    private final class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        ExpandTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (pool == null || to - from <= SPLIT_THRESHOLD) {
+                Worker worker = workers.get();
+                for (int i = from; i < to; i++) {
+                    expand(worker, beam[i], i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(from, mid), new ExpandTask(mid, to));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package tetris.player.bot;
+
+import tetris.logic.field.SearchField;
+import tetris.logic.tetromino.MoveGenerator.TSpin;
+
+/**
+ * 빔 탐색 봇이 국면의 좋고 나쁨을 매기는 평가 함수. 값이 클수록 좋은 국면.
+ *
+ * 탐색 중의 국면 점수는 경로를 따라 누적한 {@link #reward(int, TSpin)}에 마지막 필드의 {@link #evaluate(SearchField)}를 더한 값.
+ * 봇이 여러 스레드에서 동시에 호출하므로, 구현은 상태가 없거나 스레드에 안전해야 함.
+ */
+public interface BoardEvaluator {
+
+    /** 블록을 놓고 줄을 지운 뒤의 필드 모양을 평가. */
+    double evaluate(SearchField field);
+
+    /**
+     * 블록 하나를 고정한 결과에 주는 보상. 탐색 경로를 따라 누적됨. 기본은 보상 없음.
+     * @param clearedLines 이 블록으로 지운 줄 수
+     * @param spin 고정한 위치의 T-Spin 판정 (T 블록이 아니면 NONE)
+     */
+    default double reward(int clearedLines, TSpin spin) {
+        return 0;
+    }
+}
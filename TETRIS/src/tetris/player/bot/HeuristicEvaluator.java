@@ -0,0 +1,104 @@
+package tetris.player.bot;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+
+import tetris.logic.field.SearchField;
+import tetris.logic.tetromino.MoveGenerator.TSpin;
+
+/**
+ * 열 높이 합, 구멍 수, 울퉁불퉁함(이웃 열 높이 차), 지운 줄 수로 국면을 매기는 기본 평가 함수.
+ * 가중치의 기본값은 널리 알려진 4요소 휴리스틱(유전 알고리즘으로 맞춘 값)이며, 여기에 T-Spin 보상과
+ * 스택이 버퍼 존 근처까지 올라온 국면의 벌점을 더함.
+ * 필드를 위에서부터 한 줄씩 훑으며 줄 비트 연산으로 계산하므로 국면 하나에 40줄 순회 한 번이면 됨.
+ */
+public class HeuristicEvaluator implements BoardEvaluator {
+
+    // --- Constants ---
+    public static final double DEFAULT_HEIGHT_WEIGHT = -0.510066;
+    public static final double DEFAULT_HOLE_WEIGHT = -0.35663;
+    public static final double DEFAULT_BUMPINESS_WEIGHT = -0.184483;
+    public static final double DEFAULT_LINE_WEIGHT = 0.760666;
+    public static final double DEFAULT_T_SPIN_WEIGHT = 1.0;
+
+    private static final int TOTAL_Y_SIZE = BUFFER_ZONE + FIELD_Y_COUNT;
+    private static final int COLUMN_BITS = (1 << FIELD_X_COUNT) - 1;
+    // 열 높이가 이 값을 넘으면 생성 위치가 막힐 위험이 있으므로 넘는 만큼 크게 벌점
+    private static final int DANGER_HEIGHT = FIELD_Y_COUNT - 4;
+    private static final double DANGER_WEIGHT = -10.0;
+
+    // --- Instance Fields ---
+    private final double heightWeight;    // 열 높이 합의 가중치
+    private final double holeWeight;      // 구멍(위가 막힌 빈 칸) 수의 가중치
+    private final double bumpinessWeight; // 이웃한 열 높이 차 합의 가중치
+    private final double lineWeight;      // 지운 줄 하나당 보상
+    private final double tSpinWeight;     // T-Spin으로 지운 줄 하나당 추가 보상 (Mini는 절반)
+
+    // --- Constructor ---
+    /** 기본 가중치로 생성. */
+    public HeuristicEvaluator() {
+        this(DEFAULT_HEIGHT_WEIGHT, DEFAULT_HOLE_WEIGHT, DEFAULT_BUMPINESS_WEIGHT, DEFAULT_LINE_WEIGHT, DEFAULT_T_SPIN_WEIGHT);
+    }
+
+    /**
+     * @param heightWeight 열 높이 합의 가중치 (보통 음수)
+     * @param holeWeight 구멍 수의 가중치 (보통 음수)
+     * @param bumpinessWeight 이웃한 열 높이 차 합의 가중치 (보통 음수)
+     * @param lineWeight 지운 줄 하나당 보상
+     * @param tSpinWeight T-Spin으로 지운 줄 하나당 추가 보상
+     */
+    public HeuristicEvaluator(double heightWeight, double holeWeight, double bumpinessWeight,
+                              double lineWeight, double tSpinWeight) {
+        this.heightWeight = heightWeight;
+        this.holeWeight = holeWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.lineWeight = lineWeight;
+        this.tSpinWeight = tSpinWeight;
+    }
+
+    // --- Public Methods ---
+    @Override
+    public double evaluate(SearchField field) {
+        int covered = 0;  // 위쪽에 블록이 있는 열
+        int holes = 0;
+        int aggregateHeight = 0;
+        int maxHeight = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+        int[] heights = new int[FIELD_X_COUNT];
+
+        for (int y = 0; y < TOTAL_Y_SIZE; y++) {
+            int row = field.getFieldRow(y);
+            holes += Integer.bitCount(~row & covered & COLUMN_BITS);
+            // 이 줄이 가장 위 블록인 열의 높이를 기록
+            for (int top = row & ~covered; top != 0; top &= top - 1) {
+                heights[Integer.numberOfTrailingZeros(top)] = TOTAL_Y_SIZE - y;
+            }
+            covered |= row;
+        }
+        for (int x = 0; x < FIELD_X_COUNT; x++) {
+            int h = heights[x];
+            aggregateHeight += h;
+            maxHeight = Math.max(maxHeight, h);
+            if (previousHeight >= 0) bumpiness += Math.abs(h - previousHeight);
+            previousHeight = h;
+        }
+
+        return heightWeight * aggregateHeight
+             + holeWeight * holes
+             + bumpinessWeight * bumpiness
+             + DANGER_WEIGHT * Math.max(0, maxHeight - DANGER_HEIGHT);
+    }
+
+    @Override
+    public double reward(int clearedLines, TSpin spin) {
+        double r = lineWeight * clearedLines;
+        if (spin == TSpin.FULL) {
+            r += tSpinWeight * clearedLines;
+        } else if (spin == TSpin.MINI) {
+            r += tSpinWeight * clearedLines / 2;
+        }
+        return r;
+    }
+}
@@ -0,0 +1,220 @@
+package tetris.ui;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.DisplayMode;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import tetris.logic.core.GameLoop;
+import tetris.logic.input.LatencyTracer;
+
+/**
+ * BufferStrategy 캔버스에 전용 렌더 스레드에서 직접 그리는 능동 렌더러 (active rendering).
+ *
+ * Swing의 RepaintManager를 거치지 않고 디스플레이 주사율에 맞춘 일정한 간격으로 한 프레임을 합성해 바로 내보내므로,
+ * 상태 변화가 화면에 보이기까지의 지연이 한 주기 안으로 일정하게 묶임. 주기 유지는 게임 루프와 같은 GameLoop를 사용.
+ * 그리는 내용은 엔진이 프레임마다 공개한 스냅샷(FrameSnapshot)뿐이므로, 매 프레임 일관된 상태를 그림.
+ *
+ * 프레임 시간(1초 구간의 평균/최대)과 fps, 놓친 프레임 수(렌더가 한 주기 이상 늦어진 횟수)를 집계하며,
+ * 화면 오른쪽 아래에 오버레이로 표시할 수 있음. 합성기에 지연 추적기가 있으면 키 입력의 화면 반영 지연도 함께 표시.
+ */
+public class ActiveRenderer {
+
+    // --- Constants ---
+	private static final int DEFAULT_REFRESH_RATE = 60; // 주사율을 알 수 없을 때 사용할 값
+	private static final int BUFFER_COUNT = 2;          // 백 버퍼를 포함한 버퍼 수
+	private static final long STATS_WINDOW_NANOS = 1_000_000_000L; // 통계를 갱신하는 구간 (1초)
+
+	// 통계 오버레이 위치와 글꼴
+	private static final int STATS_X = 510;
+	private static final int STATS_Y = 500;
+	private static final int STATS_LINE_HEIGHT = 14;
+	private static final Font STATS_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+	/** 통계 오버레이가 차지하는 영역 (세 줄). */
+	static final Rectangle STATS_AREA = new Rectangle(STATS_X, STATS_Y - STATS_LINE_HEIGHT, 190, STATS_LINE_HEIGHT * 3 + 4);
+
+    // --- Instance Fields ---
+	private final Canvas canvas;          // 그릴 대상 캔버스
+	private final FrameComposer composer; // 프레임 합성 담당
+	private final int refreshRate;        // 목표 프레임 속도 (디스플레이 주사율)
+	private final long periodNanos;       // 한 프레임 주기
+	private final GameLoop loop;          // 렌더 스레드
+
+	private BufferStrategy strategy; // 캔버스의 버퍼 (렌더 스레드만 사용)
+
+	// 1초 구간 집계 (렌더 스레드 전용)
+	private long lastFrameStart = 0;
+	private long windowStart = 0;
+	private int windowFrames = 0;
+	private long windowBusyNanos = 0;
+	private long windowMaxNanos = 0;
+
+	// 공개 통계 (렌더 스레드만 쓰고, 다른 스레드는 읽기만 함)
+	private volatile long frameCount = 0;         // 내보낸 프레임 수
+	private volatile long droppedFrames = 0;      // 놓친 프레임 수
+	private volatile double framesPerSecond = 0;  // 마지막 구간의 fps
+	private volatile long averageFrameNanos = 0;  // 마지막 구간의 평균 프레임 시간 (합성 + 내보내기)
+	private volatile long maxFrameNanos = 0;      // 마지막 구간의 최대 프레임 시간
+	private volatile String[] statsText = { "", "", "" }; // 오버레이 문자열 (구간마다 한 번만 만듦)
+	private volatile boolean statsVisible = true; // 오버레이 표시 여부
+
+    // --- Constructor ---
+	/**
+	 * 캔버스가 놓일 화면의 주사율에 맞춰 그리는 렌더러를 생성. 캔버스는 start() 전에 화면에 표시되어 있어야 함.
+	 * @param canvas 그릴 캔버스 (setIgnoreRepaint(true)로 Swing/AWT의 다시 그리기를 끈 상태여야 함)
+	 * @param composer 프레임을 합성할 FrameComposer
+	 */
+	public ActiveRenderer(Canvas canvas, FrameComposer composer) {
+		this(canvas, composer, detectRefreshRate(canvas.getGraphicsConfiguration()));
+	}
+
+	/**
+	 * @param canvas 그릴 캔버스
+	 * @param composer 프레임을 합성할 FrameComposer
+	 * @param refreshRate 초당 그릴 프레임 수
+	 */
+	public ActiveRenderer(Canvas canvas, FrameComposer composer, int refreshRate) {
+		if (refreshRate <= 0) {
+			throw new IllegalArgumentException("refreshRate must be > 0");
+		}
+		this.canvas = canvas;
+		this.composer = composer;
+		this.refreshRate = refreshRate;
+		this.periodNanos = 1_000_000_000L / refreshRate;
+		this.loop = new GameLoop("TetrisRenderLoop", refreshRate, () -> {}, this::renderFrame);
+	}
+
+    // --- Public Methods ---
+	/** 캔버스의 버퍼를 만들고 렌더 스레드를 시작. 캔버스가 화면에 표시된 뒤에 호출. */
+	public synchronized void start() {
+		if (loop.isRunning()) return;
+		if (strategy == null) {
+			canvas.createBufferStrategy(BUFFER_COUNT);
+			strategy = canvas.getBufferStrategy();
+		}
+		loop.start();
+	}
+
+	/** 렌더 스레드를 멈춤. 반환 후에는 더 이상 그리지 않음. */
+	public void stop() { loop.stop(); }
+
+	/** 목표 프레임 속도(디스플레이 주사율)를 반환. */
+	public int getRefreshRate() { return refreshRate; }
+
+	/** 지금까지 내보낸 프레임 수를 반환. */
+	public long getFrameCount() { return frameCount; }
+
+	/** 지금까지 놓친 프레임 수를 반환. */
+	public long getDroppedFrames() { return droppedFrames; }
+
+	/** 마지막 1초 구간의 fps를 반환. */
+	public double getFramesPerSecond() { return framesPerSecond; }
+
+	/** 마지막 1초 구간의 평균 프레임 시간(nanos)을 반환. */
+	public long getAverageFrameNanos() { return averageFrameNanos; }
+
+	/** 마지막 1초 구간의 최대 프레임 시간(nanos)을 반환. */
+	public long getMaxFrameNanos() { return maxFrameNanos; }
+
+	/** 통계 오버레이를 표시하는지 여부를 반환. */
+	public boolean isStatsVisible() { return statsVisible; }
+
+	/** 통계 오버레이 표시 여부를 설정. */
+	public void setStatsVisible(boolean visible) { this.statsVisible = visible; }
+
+	/**
+	 * 화면의 주사율을 반환. 알 수 없으면 기본값(60Hz).
+	 * @param config 캔버스가 놓인 화면 설정 (null이면 기본 화면)
+	 */
+	public static int detectRefreshRate(GraphicsConfiguration config) {
+		if (GraphicsEnvironment.isHeadless()) return DEFAULT_REFRESH_RATE;
+		GraphicsDevice device = config != null ? config.getDevice()
+				: GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+		int rate = device.getDisplayMode().getRefreshRate();
+		return rate == DisplayMode.REFRESH_RATE_UNKNOWN || rate <= 0 ? DEFAULT_REFRESH_RATE : rate;
+	}
+
+    // --- Private Methods ---
+	/** 한 프레임을 합성해 내보내고 통계를 갱신 (렌더 스레드에서 주기마다 호출). */
+	private void renderFrame() {
+		long start = System.nanoTime();
+		// 지난 프레임 이후 한 주기보다 훨씬 늦게 왔다면, 그 사이의 주기만큼 프레임을 놓친 것
+		if (lastFrameStart != 0) {
+			long missed = (start - lastFrameStart + periodNanos / 2) / periodNanos - 1;
+			if (missed > 0) droppedFrames += missed;
+		} else {
+			windowStart = start;
+		}
+		lastFrameStart = start;
+
+		int width = canvas.getWidth();
+		int height = canvas.getHeight();
+		if (width <= 0 || height <= 0) return;
+
+		// 버퍼 내용이 유실/복구되면 같은 프레임을 다시 그림
+		do {
+			do {
+				Graphics g = strategy.getDrawGraphics();
+				try {
+					composer.paint(g, width, height);
+					if (statsVisible) {
+						drawStats(g);
+					}
+				} finally {
+					g.dispose();
+				}
+			} while (strategy.contentsRestored());
+			strategy.show();
+		} while (strategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync(); // 일부 플랫폼(X11)에서 내보낸 프레임이 바로 반영되도록
+		composer.framePresented();
+
+		long end = System.nanoTime();
+		recordFrame(start, end - start);
+	}
+
+	/** 프레임 시간을 구간 통계에 더하고, 구간이 끝났으면 공개 통계와 오버레이 문자열을 갱신. */
+	private void recordFrame(long start, long elapsed) {
+		frameCount++;
+		windowFrames++;
+		windowBusyNanos += elapsed;
+		windowMaxNanos = Math.max(windowMaxNanos, elapsed);
+
+		long windowNanos = start - windowStart;
+		if (windowNanos < STATS_WINDOW_NANOS) return;
+		framesPerSecond = windowFrames * 1e9 / windowNanos;
+		averageFrameNanos = windowBusyNanos / windowFrames;
+		maxFrameNanos = windowMaxNanos;
+		LatencyTracer tracer = composer.getLatencyTracer();
+		statsText = new String[] {
+				String.format("%5.1f fps  drop %d", framesPerSecond, droppedFrames),
+				String.format("%5.2f ms  max %.2f", averageFrameNanos / 1e6, maxFrameNanos / 1e6),
+				tracer != null ? tracer.summary() : "",
+		};
+		windowStart = start;
+		windowFrames = 0;
+		windowBusyNanos = 0;
+		windowMaxNanos = 0;
+	}
+
+	/** 통계 오버레이를 그림. */
+	private void drawStats(Graphics g) {
+		drawOverlay(g, statsText);
+	}
+
+	/** 오버레이 문자열을 STATS_AREA에 한 줄씩 그림 (수동 렌더링의 오버레이도 같은 위치와 글꼴을 사용). */
+	static void drawOverlay(Graphics g, String... lines) {
+		g.setFont(STATS_FONT);
+		g.setColor(Color.DARK_GRAY);
+		for (int i = 0; i < lines.length; i++) {
+			g.drawString(lines[i], STATS_X, STATS_Y + STATS_LINE_HEIGHT * i);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package tetris.ui;
+
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.TETROMINO_SIZE;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import tetris.logic.FrameSnapshot;
+import tetris.logic.TetrisEngine;
+
+/**
+ * 여러 게임의 필드를 한 장의 공유 래스터(TYPE_INT_RGB)에 격자로 그리는 관전 화면 / 프레임 내보내기용 이미지.
+ *
+ * 보드마다 {@link RasterFieldRenderer}로 픽셀을 직접 쓰므로, 보드가 수백 개여도 Java2D 호출은
+ * 완성된 이미지를 화면에 그리거나 파일로 저장할 때 한 번뿐임. 헤드리스 환경에서도 그대로 동작함.
+ * 보드 칸(slot)마다 쓰는 픽셀 영역이 겹치지 않으므로, 서로 다른 칸은 여러 스레드에서 동시에 그려도 됨.
+ * 게임 상태는 엔진이 공개한 {@link FrameSnapshot}에서 읽고 버전을 확인하므로,
+ * 게임을 진행하는 스레드와 관계없이 어느 스레드에서 그려도 각 보드는 한 프레임의 일관된 상태가 됨.
+ */
+public class BoardWall {
+
+    // --- Instance Fields ---
+	private final RasterFieldRenderer renderer; // 보드 하나를 그리는 렌더러
+	private final int boardCount;              // 보드 칸 수
+	private final int columns;                 // 가로로 놓는 보드 수
+	private final int gap;                     // 보드 사이 간격 (픽셀)
+	private final int background;              // 간격과 빈 칸을 채울 배경색 (RGB)
+	private final BufferedImage image;         // 공유 래스터
+	private final int[] pixels;                // image의 픽셀 배열
+	private final int stride;                  // 래스터 한 줄의 픽셀 수
+
+    // --- Constructor ---
+	/** 기본 블록 크기(TETROMINO_SIZE)와 8픽셀 간격으로 보드 칸들을 만듦. */
+	public BoardWall(int boardCount, int columns) {
+		this(boardCount, columns, TETROMINO_SIZE, 8, Color.DARK_GRAY);
+	}
+
+	/**
+	 * @param boardCount 보드 칸 수
+	 * @param columns 가로로 놓는 보드 수
+	 * @param cellSize 블록 하나의 픽셀 크기 (관전 화면은 보통 작게)
+	 * @param gap 보드 사이 간격 (픽셀)
+	 * @param background 간격을 채울 배경색
+	 */
+	public BoardWall(int boardCount, int columns, int cellSize, int gap, Color background) {
+		if (boardCount <= 0 || columns <= 0 || gap < 0) {
+			throw new IllegalArgumentException("boardCount and columns must be > 0, gap must be >= 0");
+		}
+		this.renderer = new RasterFieldRenderer(cellSize, background);
+		this.boardCount = boardCount;
+		this.columns = Math.min(columns, boardCount);
+		this.gap = gap;
+		this.background = background.getRGB();
+
+		int rows = (boardCount + this.columns - 1) / this.columns;
+		int width = this.columns * renderer.getFieldWidth() + (this.columns + 1) * gap;
+		int height = rows * renderer.getFieldHeight() + (rows + 1) * gap;
+		this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		this.pixels = RasterFieldRenderer.pixelsOf(image);
+		this.stride = width;
+		clear();
+	}
+
+    // --- Public Methods ---
+	/** 모든 보드 칸을 배경색으로 지움. */
+	public void clear() {
+		Arrays.fill(pixels, background);
+	}
+
+	/**
+	 * slot번째 칸에 게임 하나의 필드와 현재 블록, 고스트를 엔진의 마지막 스냅샷으로 그림.
+	 * 그리는 사이 스냅샷이 다시 채워지면 새 스냅샷으로 다시 그림.
+	 * @param slot 보드 칸 번호 (왼쪽 위부터 가로 순서)
+	 * @param gameEngine 그릴 게임의 엔진
+	 */
+	public void drawBoard(int slot, TetrisEngine gameEngine) {
+		int offset = slotOffset(slot);
+		while (true) {
+			FrameSnapshot snapshot = gameEngine.getSnapshot();
+			long version = snapshot.getVersion();
+			if ((version & 1) != 0) {
+				Thread.onSpinWait();
+				continue;
+			}
+			for (int r = 0; r < FIELD_Y_COUNT; r++) {
+				renderer.renderRow(r, snapshot.getRow(r), pixels, offset, stride);
+			}
+			if (snapshot.hasPiece()) {
+				renderer.renderPiece(snapshot.getPiece(), snapshot.getGhostY(), pixels, offset, stride);
+			}
+			if (snapshot.isConsistent(version)) return;
+		}
+	}
+
+	/** 엔진들을 앞에서부터 차례로 각 칸에 그림. 남는 칸은 그대로 둠. */
+	public void drawBoards(Iterable<TetrisEngine> gameEngines) {
+		int slot = 0;
+		for (TetrisEngine gameEngine : gameEngines) {
+			if (slot >= boardCount) break;
+			drawBoard(slot++, gameEngine);
+		}
+	}
+
+	/** 공유 래스터 이미지를 반환. 화면에는 drawImage 한 번으로 그리면 됨. */
+	public BufferedImage getImage() { return image; }
+
+	/** 보드 칸 수를 반환. */
+	public int getBoardCount() { return boardCount; }
+
+	/** 현재 래스터를 PNG 파일로 저장 (헤드리스 프레임 내보내기). */
+	public void writePng(Path path) throws IOException {
+		ImageIO.write(image, "png", path.toFile());
+	}
+
+    // --- Private Methods ---
+	/** slot번째 칸의 왼쪽 위 픽셀 인덱스를 계산. */
+	private int slotOffset(int slot) {
+		if (slot < 0 || slot >= boardCount) {
+			throw new IndexOutOfBoundsException(slot);
+		}
+		int x = gap + (slot % columns) * (renderer.getFieldWidth() + gap);
+		int y = gap + (slot / columns) * (renderer.getFieldHeight() + gap);
+		return y * stride + x;
+	}
+}
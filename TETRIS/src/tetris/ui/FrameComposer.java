@@ -0,0 +1,659 @@
+package tetris.ui;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.TETROMINO_PREVIEW_SIZE;
+import static tetris.data.constant.GameConstants.TETROMINO_SIZE;
+import static tetris.data.constant.TetrominoGeometry.MINO_COUNT;
+import static tetris.data.constant.TetrominoGeometry.cellX;
+import static tetris.data.constant.TetrominoGeometry.cellY;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import tetris.data.constant.GameConstants.GameStateCode;
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoState;
+import tetris.logic.FrameSnapshot;
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+import tetris.logic.input.LatencyTracer;
+import tetris.logic.scoring.ScoreAction;
+
+/**
+ * 게임 화면을 레이어별 오프스크린 이미지로 캐시해 두고 합성하는 클래스.
+ *
+ * 고정된 블록(필드), UI 배경(크롬), 홀드/다음 블록(큐), 점수 등 텍스트(HUD)는 각자의 이미지에 그려 두고
+ * 해당 데이터가 바뀌었을 때만 다시 그림. 매 프레임 새로 그리는 것은 현재 블록과 고스트뿐이며,
+ * 화면에는 바뀐 영역(dirty region)만 다시 합성하므로 프레임당 비용은 바뀐 양에 비례함.
+ *
+ * 그리는 내용은 모두 엔진이 프레임마다 공개하는 {@link FrameSnapshot}에서 읽음.
+ * 변경 감지({@link #collectDirty(Rectangle)})는 스냅샷을 공개하는 게임 루프 스레드에서 하고,
+ * 레이어 갱신과 합성({@link #paint(Graphics, int, int)})은 그리기 스레드(EDT 또는 렌더 스레드) 하나에서
+ * 스냅샷을 복사하지 않고 바로 읽어 그림. 그리는 사이 스냅샷이 다시 채워졌으면(버전이 바뀌면) 새 스냅샷으로 다시 그리므로,
+ * 락 없이 항상 한 프레임의 일관된 상태를 그림.
+ *
+ * 블록은 화면 설정에 맞춰 미리 확대해 둔 SpriteAtlas에서 복사하고, 레이어도 같은 화면 설정과 호환되는
+ * 장치 해상도 이미지로 만들어 두므로 합성은 확대 없는 복사가 됨. 화면 배율(HiDPI)이나 화면 설정이 바뀌면
+ * (창을 다른 모니터로 옮기는 등) 다음 paint()에서 아틀라스와 레이어를 자동으로 다시 만듦.
+ * 필드 레이어는 {@link #setRasterField(boolean)}로 RasterFieldRenderer가 픽셀 배열에 직접 쓰는 방식으로 바꿀 수 있음.
+ */
+public class FrameComposer {
+
+    // --- Static Fields ---
+	private static final boolean DEBUG = false;
+	static final int FIELD_UI_PADDING = 200; // 필드 왼쪽의 UI 영역 폭 (필드의 화면 x 좌표)
+
+	// UI 컴포넌트 위치 상수
+	private static final Point POCKET_POS = new Point(533, 50);
+	private static final Point PREVIEW_POS = new Point(553, 120);
+	private static final int PREVIEW_VERTICAL_SPACING = 50;
+	private static final Point HOLD_POS = new Point(41, 50);
+
+	// UI 배경 사각형 크기 상수
+	private static final int HOLD_BG_WIDTH = 140;
+	private static final int HOLD_BG_HEIGHT = 80;
+	private static final int POCKET_BG_WIDTH = 140;
+	private static final int POCKET_BG_HEIGHT = 80;
+	private static final int PREVIEW_BG_WIDTH = 100;
+	private static final int PREVIEW_BG_HEIGHT = PREVIEW_VERTICAL_SPACING * 5 + 10;
+	// 화면에 그릴 수 있는 다음 블록 수 (Next 1개 + 미리보기 5개). 큐의 미리보기 깊이가 더 커도 여기까지만 그림.
+	private static final int MAX_DRAWN_PREVIEW = 6;
+
+	// 좌측 정보 텍스트의 시작 X 좌표
+	private static final int INFO_Y_POS = 20;
+
+	// 매 프레임 새로 만들지 않도록 한 번만 만들어 두는 그리기 자원
+	private static final Color UI_BG_COLOR = new Color(255, 182, 193);
+	private static final Font PAUSE_FONT = new Font("Consolas", Font.BOLD, 37);
+	private static final Font INFO_FONT = new Font("Consolas", Font.BOLD, 18);
+	private static final Font GAME_OVER_FONT = new Font("Consolas", Font.BOLD, 30);
+
+	// 레이어별로 다시 그릴 때 지우고, 바뀌면 화면에서 다시 합성할 영역.
+	// 큐 영역은 배경 사각형과 4x4 블록 상자를 모두 덮고, 텍스트는 각 영역 안으로 잘라서 그림.
+	private static final Rectangle HOLD_AREA = new Rectangle(HOLD_POS.x - 10, HOLD_POS.y - 10, HOLD_BG_WIDTH, HOLD_BG_HEIGHT)
+			.union(new Rectangle(HOLD_POS.x, HOLD_POS.y, TETROMINO_SIZE * 4, TETROMINO_SIZE * 4));
+	private static final Rectangle POCKET_AREA = new Rectangle(POCKET_POS.x - 10, POCKET_POS.y - 10, POCKET_BG_WIDTH, POCKET_BG_HEIGHT)
+			.union(new Rectangle(POCKET_POS.x, POCKET_POS.y, TETROMINO_SIZE * 4, TETROMINO_SIZE * 4));
+	private static final Rectangle PREVIEW_AREA = new Rectangle(PREVIEW_POS.x - 10, PREVIEW_POS.y + 40, PREVIEW_BG_WIDTH, PREVIEW_BG_HEIGHT)
+			.union(new Rectangle(PREVIEW_POS.x, PREVIEW_POS.y + PREVIEW_VERTICAL_SPACING,
+					TETROMINO_PREVIEW_SIZE * 4, PREVIEW_VERTICAL_SPACING * (MAX_DRAWN_PREVIEW - 2) + TETROMINO_PREVIEW_SIZE * 4));
+	private static final Rectangle INFO_AREA = new Rectangle(0, 125, FIELD_UI_PADDING, 435);      // 좌측 정보 텍스트
+	private static final Rectangle MESSAGE_AREA = new Rectangle(100, 60, 500, 100);               // PAUSE / GAME OVER 메시지
+
+	// 큐 상태를 long 하나로 묶는 비트 배치 (블록 종류는 ordinal 3비트, 홀드가 없으면 EMPTY)
+	private static final int QUEUE_BITS = 3;
+	private static final long QUEUE_MASK = (1L << QUEUE_BITS) - 1;
+	private static final int QUEUE_COUNT_SHIFT = QUEUE_BITS;      // 미리보기 블록 수
+	private static final int QUEUE_PREVIEW_SHIFT = QUEUE_BITS * 2; // i번째 미리보기 블록
+	private static final long HOLD_BITS = QUEUE_MASK;
+	private static final long EMPTY_QUEUE = Tetromino.EMPTY.ordinal(); // 홀드 없음, 미리보기 0개
+
+	// HUD에 표시하는 값의 순서 (변경 비교용)
+	private static final int HUD_SCORE = 0, HUD_LINES = 1, HUD_LEVEL = 2, HUD_TETRISES = 3, HUD_T_SPINS = 4,
+			HUD_COMBOS = 5, HUD_LAST_ACTION = 6, HUD_B2B = 7, HUD_STATE = 8, HUD_VALUE_COUNT = 9;
+
+	// HUD 값(ordinal)을 다시 상수로 바꿀 때 쓰는 표 (values()는 호출마다 배열을 복사하므로 한 번만 만들어 둠)
+	private static final GameStateCode[] GAME_STATES = GameStateCode.values();
+	private static final ScoreAction[] SCORE_ACTIONS = ScoreAction.values();
+
+	// 현재 블록이 없음을 나타내는 값 (고스트 y는 음수가 될 수 없으므로 실제 값과 겹치지 않음)
+	private static final long NO_PIECE = -1L;
+
+    // --- Instance Fields ---
+	private final DataManager gameData;
+	private final TetrisEngine gameEngine;
+	private final Color background; // 필드와 UI 바깥의 배경색
+
+	// 게임 루프 스레드만 쓰는 '마지막으로 본 상태' (변경 감지용)
+	private final int[] seenRows = new int[FIELD_Y_COUNT];
+	private long seenPiece = NO_PIECE; // 현재 블록 상태(하위 32비트)와 고스트 y(상위 32비트)
+	private long seenQueue = -1L;      // 홀드와 미리보기 (queueOf 형식)
+	private final long[] seenHud = new long[HUD_VALUE_COUNT];
+	private final long[] hudScratch = new long[HUD_VALUE_COUNT];
+	private int seenMessage = -1;
+
+	// 그리기 스레드만 쓰는 값: 레이어에 그려져 있는 상태, 레이어 이미지
+	private final long[] frameHud = new long[HUD_VALUE_COUNT]; // 이번에 그릴 스냅샷의 HUD 값
+	private final int[] drawnRows = new int[FIELD_Y_COUNT];
+	private long drawnQueue = EMPTY_QUEUE;
+	private final long[] drawnHud = new long[HUD_VALUE_COUNT];
+	private long frameVersion = 0;     // 마지막으로 그린 스냅샷의 버전
+	private volatile boolean rasterField = false; // 필드 레이어를 직접 래스터 방식으로 그릴지 여부
+	private volatile LatencyTracer latencyTracer; // 입력의 화면 반영 지연 추적 (없으면 null)
+	private SpriteAtlas atlas;         // 현재 화면 설정/배율의 스프라이트
+	private double layerScale = 1.0;   // 레이어 이미지의 배율 (사용자 공간 1픽셀당 장치 픽셀 수)
+	private int layerWidth = -1;       // 레이어를 만들 때의 그릴 영역 크기 (사용자 공간)
+	private int layerHeight = -1;
+	private BufferedImage chromeLayer; // 배경 + UI 배경 사각형 (창 크기나 화면 설정이 바뀔 때만 다시 그림)
+	private BufferedImage fieldLayer;  // 고정된 블록 (바뀐 줄만 다시 그림)
+	private boolean layerRasterField;  // 필드 레이어를 만들 때의 직접 래스터 사용 여부
+	private RasterFieldRenderer rasterRenderer; // 직접 래스터 방식의 필드 렌더러 (칸 크기가 바뀔 때만 새로 만듦)
+	private int[] fieldPixels;         // 직접 래스터 방식일 때 필드 레이어의 픽셀 배열
+	private BufferedImage queueLayer;  // 홀드 / 다음 블록 / 미리보기
+	private BufferedImage hudLayer;    // 점수 등 텍스트와 메시지
+
+    // --- Constructor ---
+	/**
+	 * @param gameData 화면에 그릴 게임 데이터
+	 * @param gameEngine 홀드, 미리보기, 점수 등을 읽을 엔진
+	 * @param background 필드와 UI 바깥을 채울 배경색
+	 */
+	public FrameComposer(DataManager gameData, TetrisEngine gameEngine, Color background) {
+		this.gameData = gameData;
+		this.gameEngine = gameEngine;
+		this.background = background;
+		// 줄 값은 30비트이므로 -1과 겹치지 않음. -1은 모든 칸이 EMPTY(7)인 줄로 읽힘.
+		Arrays.fill(seenRows, -1);
+		Arrays.fill(seenHud, Long.MIN_VALUE);
+	}
+
+    // --- Public Methods ---
+	/**
+	 * 필드 레이어를 그리는 방식을 설정. true면 칸마다 drawImage를 호출하는 대신
+	 * RasterFieldRenderer가 필드 레이어의 픽셀 배열에 블록 픽셀을 직접 복사함. 다음 paint()부터 적용.
+	 */
+	public void setRasterField(boolean rasterField) { this.rasterField = rasterField; }
+
+	/** 필드 레이어를 직접 래스터 방식으로 그리는지 여부를 반환. */
+	public boolean isRasterField() { return rasterField; }
+
+	/**
+	 * 입력 지연 추적기를 설정. 변경을 확인한 스냅샷마다 그 사이에 처리된 입력을 스냅샷 버전에 묶어 넘기며,
+	 * 그리는 쪽이 프레임을 내보낸 뒤 {@link #framePresented()}를 호출하면 지연이 기록됨. null이면 추적하지 않음.
+	 */
+	public void setLatencyTracer(LatencyTracer tracer) { this.latencyTracer = tracer; }
+
+	/** 입력 지연 추적기를 반환 (없으면 null). */
+	public LatencyTracer getLatencyTracer() { return latencyTracer; }
+
+	/**
+	 * 엔진이 마지막으로 공개한 스냅샷을 이전 호출 때 본 상태와 비교해, 화면에서 다시 합성할 영역을 계산.
+	 * 게임 루프 스레드(스냅샷을 공개하는 스레드)에서 한 프레임을 진행한 뒤에만 호출.
+	 * @param dirty 다시 합성할 영역을 받을 사각형 (바뀐 곳이 없으면 빈 사각형)
+	 * @return 바뀐 곳이 있으면 true
+	 */
+	public boolean collectDirty(Rectangle dirty) {
+		dirty.setBounds(0, 0, 0, 0);
+		boolean changed = false;
+		// 스냅샷을 채우는 스레드에서 읽으므로 버전 확인이 필요 없음
+		FrameSnapshot snapshot = gameEngine.getSnapshot();
+
+		// 1. 고정된 블록: 줄 단위로 비교
+		int rows = 0;
+		for (int r = 0; r < FIELD_Y_COUNT; r++) {
+			int row = snapshot.getRow(r);
+			if (row != seenRows[r]) {
+				seenRows[r] = row;
+				rows |= 1 << r;
+			}
+		}
+		if (rows != 0) {
+			changed = true;
+			int top = Integer.numberOfTrailingZeros(rows);
+			int bottom = 31 - Integer.numberOfLeadingZeros(rows);
+			addArea(dirty, FIELD_UI_PADDING, top * TETROMINO_SIZE, FIELD_X_COUNT * TETROMINO_SIZE, (bottom - top + 1) * TETROMINO_SIZE);
+		}
+
+		// 2. 현재 블록과 고스트: 이전 위치와 새 위치를 모두 다시 그림
+		long piece = pieceOf(snapshot);
+		if (piece != seenPiece) {
+			changed = true;
+			addPieceArea(dirty, seenPiece);
+			addPieceArea(dirty, piece);
+			seenPiece = piece;
+			debugPrint(piece);
+		}
+
+		// 3. 홀드 / 다음 블록 / 미리보기
+		long queue = queueOf(snapshot);
+		if (queue != seenQueue) {
+			changed = true;
+			long diff = queue ^ seenQueue;
+			if ((diff & HOLD_BITS) != 0) {
+				addArea(dirty, HOLD_AREA);
+			}
+			if ((diff & ~HOLD_BITS) != 0) {
+				addArea(dirty, POCKET_AREA);
+				addArea(dirty, PREVIEW_AREA);
+			}
+			seenQueue = queue;
+		}
+
+		// 4. 텍스트: 값이 하나라도 바뀌면 HUD 레이어 전체를 다시 그림
+		readHudValues(snapshot, hudScratch);
+		if (!Arrays.equals(hudScratch, seenHud)) {
+			changed = true;
+			System.arraycopy(hudScratch, 0, seenHud, 0, HUD_VALUE_COUNT);
+			addArea(dirty, INFO_AREA);
+		}
+		int message = messageOf(snapshot.getState());
+		boolean messageChanged = message != seenMessage;
+		if (messageChanged) {
+			seenMessage = message;
+			addArea(dirty, MESSAGE_AREA);
+		}
+
+		// 이번 프레임까지 처리된 입력은 이 버전 이상이 화면에 나갈 때 반영된 것 (보이는 변화가 없으면 버림)
+		LatencyTracer tracer = latencyTracer;
+		if (tracer != null) {
+			tracer.framePublished(snapshot.getVersion(), changed || messageChanged);
+		}
+		return changed;
+	}
+
+	/**
+	 * 바뀐 레이어를 갱신한 뒤, 모든 레이어와 현재 블록을 합성해서 그림.
+	 * 그리기 스레드에서만 호출하며, Graphics의 클립 영역 밖은 건드리지 않음.
+	 * 화면 설정과 배율은 Graphics에서 읽으므로, 다른 모니터로 옮겨 그려도 알아서 맞춤.
+	 * @param width 그릴 영역의 폭
+	 * @param height 그릴 영역의 높이
+	 */
+	public void paint(Graphics g, int width, int height) {
+		Graphics2D g2 = (Graphics2D) g;
+		boolean redrawAll = ensureLayers(g2.getDeviceConfiguration(), g2.getTransform().getScaleX(), width, height);
+		while (true) {
+			FrameSnapshot snapshot = gameEngine.getSnapshot();
+			long version = snapshot.getVersion();
+			if ((version & 1) != 0) {
+				// 읽으려던 스냅샷이 다시 채워지는 중이면 그 사이 공개된 새 스냅샷을 읽음
+				Thread.onSpinWait();
+				continue;
+			}
+			compose(g, snapshot, redrawAll);
+			if (snapshot.isConsistent(version)) {
+				frameVersion = version;
+				return;
+			}
+			// 그리는 사이 스냅샷이 다시 채워졌으면 레이어까지 모두 새 스냅샷으로 다시 그림
+			redrawAll = true;
+		}
+	}
+
+	/**
+	 * 마지막으로 paint()한 프레임이 화면에 나갔음을 알림 (그리기 스레드에서, 버퍼를 내보낸 직후 호출).
+	 * 지연 추적기가 있으면 그 프레임에 반영된 입력들의 지연을 기록.
+	 */
+	public void framePresented() {
+		LatencyTracer tracer = latencyTracer;
+		if (tracer != null) {
+			tracer.framePresented(frameVersion, System.nanoTime(), System.currentTimeMillis());
+		}
+	}
+
+    // --- Private Methods: Snapshot ---
+	/** 스냅샷의 현재 블록 상태와 고스트 y를 long 하나로 묶음. 그릴 블록이 없으면 NO_PIECE. */
+	private static long pieceOf(FrameSnapshot snapshot) {
+		// 첫 블록이 생성되기 전(EMPTY)에는 그릴 것이 없음
+		if (!snapshot.hasPiece()) {
+			return NO_PIECE;
+		}
+		return (snapshot.getPiece() & 0xFFFFFFFFL) | ((long) snapshot.getGhostY() << 32);
+	}
+
+	/** 스냅샷의 홀드된 블록과 다음 블록들을 long 하나로 묶음 (하위 3비트부터 홀드, 미리보기 수, 미리보기 블록들). */
+	private static long queueOf(FrameSnapshot snapshot) {
+		int count = Math.min(snapshot.getPreviewCount(), MAX_DRAWN_PREVIEW);
+		long queue = snapshot.getHeld().ordinal() | ((long) count << QUEUE_COUNT_SHIFT);
+		for (int i = 0; i < count; i++) {
+			queue |= (long) snapshot.getPreview(i).ordinal() << (QUEUE_PREVIEW_SHIFT + i * QUEUE_BITS);
+		}
+		return queue;
+	}
+
+	/** 스냅샷에서 HUD에 표시하는 값들을 순서대로 읽음. */
+	private static void readHudValues(FrameSnapshot snapshot, long[] out) {
+		ScoreAction lastAction = snapshot.getLastAction();
+		out[HUD_SCORE] = snapshot.getScore();
+		out[HUD_LINES] = snapshot.getClearedLines();
+		out[HUD_LEVEL] = snapshot.getLevel();
+		out[HUD_TETRISES] = snapshot.getTetrisCount();
+		out[HUD_T_SPINS] = snapshot.getTSpinCount();
+		out[HUD_COMBOS] = snapshot.getComboCount();
+		out[HUD_LAST_ACTION] = lastAction == null ? -1 : lastAction.ordinal();
+		out[HUD_B2B] = snapshot.isBackToBack() ? 1 : 0;
+		out[HUD_STATE] = snapshot.getState().ordinal();
+	}
+
+    // --- Private Methods: Change Detection ---
+
+	/** 필드 위에 띄우는 메시지 종류 (0: 없음, 1: 일시정지, 2: 게임 오버). */
+	private static int messageOf(GameStateCode state) {
+		if (state == GameStateCode.PAUSED) return 1;
+		if (state == GameStateCode.GAME_OVER) return 2;
+		return 0;
+	}
+
+	/** 블록과 고스트가 차지하는 화면 영역(버퍼 존 제외)을 더함. */
+	private static void addPieceArea(Rectangle dirty, long piece) {
+		if (piece == NO_PIECE) return;
+		int packed = (int) piece;
+		Tetromino type = Tetromino.fromOrdinal(TetrominoState.unpackType(packed));
+		SpinState rotation = SpinState.fromOrdinal(TetrominoState.unpackRotation(packed));
+		int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < MINO_COUNT; i++) {
+			int cx = cellX(type, rotation, i);
+			int cy = cellY(type, rotation, i);
+			minX = Math.min(minX, cx);
+			maxX = Math.max(maxX, cx);
+			minY = Math.min(minY, cy);
+			maxY = Math.max(maxY, cy);
+		}
+		int x = TetrominoState.unpackX(packed);
+		int y = TetrominoState.unpackY(packed);
+		int ghostY = (int) (piece >> 32);
+		// 고스트는 항상 블록과 같은 열, 같거나 아래에 있으므로 둘을 한 사각형으로 묶음
+		int top = Math.max(Math.min(y, ghostY) + minY, BUFFER_ZONE);
+		int bottom = Math.max(y, ghostY) + maxY;
+		if (bottom < top) return;
+		addArea(dirty, (x + minX) * TETROMINO_SIZE + FIELD_UI_PADDING, (top - BUFFER_ZONE) * TETROMINO_SIZE,
+				(maxX - minX + 1) * TETROMINO_SIZE, (bottom - top + 1) * TETROMINO_SIZE);
+	}
+
+	/** 다시 합성할 영역에 사각형을 더함 (할당 없이 합집합의 경계 사각형으로 넓힘). */
+	private static void addArea(Rectangle dirty, int x, int y, int width, int height) {
+		if (dirty.isEmpty()) {
+			dirty.setBounds(x, y, width, height);
+		} else {
+			dirty.add(x, y);
+			dirty.add(x + width, y + height);
+		}
+	}
+
+	private static void addArea(Rectangle dirty, Rectangle area) {
+		addArea(dirty, area.x, area.y, area.width, area.height);
+	}
+
+    // --- Private Methods: Layers ---
+	/**
+	 * 스냅샷과 레이어에 그려져 있는 상태를 비교해 바뀐 레이어만 갱신한 뒤 모든 레이어와 현재 블록을 합성.
+	 * 스냅샷이 도중에 다시 채워지면 섞인 값을 그릴 수 있으나, paint()가 버전을 확인해 모두 다시 그림.
+	 * @param redrawAll true면 바뀌지 않은 레이어도 모두 다시 그림
+	 */
+	private void compose(Graphics g, FrameSnapshot snapshot, boolean redrawAll) {
+		int rows = 0;
+		for (int r = 0; r < FIELD_Y_COUNT; r++) {
+			int row = snapshot.getRow(r);
+			if (redrawAll || row != drawnRows[r]) {
+				rows |= 1 << r;
+				drawnRows[r] = row;
+			}
+		}
+		if (rows != 0) {
+			renderFieldRows(snapshot, rows);
+		}
+		long queue = queueOf(snapshot);
+		if (redrawAll || queue != drawnQueue) {
+			renderQueueLayer(queue);
+			drawnQueue = queue;
+		}
+		readHudValues(snapshot, frameHud);
+		if (redrawAll || !Arrays.equals(frameHud, drawnHud)) {
+			renderHudLayer(frameHud);
+			System.arraycopy(frameHud, 0, drawnHud, 0, HUD_VALUE_COUNT);
+		}
+
+		// 배경 -> 쌓인 블록 -> 고스트 -> 현재 블록 -> UI 정보 순으로 합성
+		drawLayer(g, chromeLayer, 0, 0, layerWidth, layerHeight);
+		drawLayer(g, fieldLayer, FIELD_UI_PADDING, 0, FIELD_X_COUNT * TETROMINO_SIZE, FIELD_Y_COUNT * TETROMINO_SIZE);
+		long piece = pieceOf(snapshot);
+		if (piece != NO_PIECE) {
+			int packed = (int) piece;
+			Tetromino current = Tetromino.fromOrdinal(TetrominoState.unpackType(packed));
+			SpinState rotation = SpinState.fromOrdinal(TetrominoState.unpackRotation(packed));
+			int x = TetrominoState.unpackX(packed);
+			drawBlocks(g, current, rotation, x, (int) (piece >> 32), true);
+			drawBlocks(g, current, rotation, x, TetrominoState.unpackY(packed), false);
+		}
+		drawLayer(g, queueLayer, 0, 0, layerWidth, layerHeight);
+		drawLayer(g, hudLayer, 0, 0, layerWidth, layerHeight);
+	}
+
+	/**
+	 * 레이어가 없거나, 그릴 영역 크기나 화면 설정/배율이 바뀌었으면 아틀라스와 모든 레이어를 새로 만듦.
+	 * 레이어는 화면 설정과 호환되는 장치 해상도 이미지이므로 합성할 때 확대나 형식 변환이 없음.
+	 * @return 레이어를 새로 만들어 전부 다시 그려야 하면 true
+	 */
+	private boolean ensureLayers(GraphicsConfiguration config, double scale, int width, int height) {
+		width = Math.max(width, 1);
+		height = Math.max(height, 1);
+		boolean raster = rasterField;
+		if (atlas != null && atlas.matches(config, scale) && width == layerWidth && height == layerHeight
+				&& raster == layerRasterField) return false;
+
+		atlas = ImageLoader.getSpriteAtlas(config, scale);
+		layerScale = scale;
+		layerWidth = width;
+		layerHeight = height;
+		chromeLayer = createLayer(config, width, height, Transparency.OPAQUE);
+		layerRasterField = raster;
+		if (raster) {
+			// 픽셀 배열을 직접 쓰므로 호환 이미지 대신 TYPE_INT_RGB를 장치 해상도의 칸 크기로 만듦
+			int cellPixels = (int) Math.round(TETROMINO_SIZE * scale);
+			if (rasterRenderer == null || rasterRenderer.getCellSize() != cellPixels) {
+				rasterRenderer = new RasterFieldRenderer(cellPixels, background);
+			}
+			fieldLayer = new BufferedImage(rasterRenderer.getFieldWidth(), rasterRenderer.getFieldHeight(), BufferedImage.TYPE_INT_RGB);
+			fieldPixels = RasterFieldRenderer.pixelsOf(fieldLayer);
+		} else {
+			fieldLayer = createLayer(config, FIELD_X_COUNT * TETROMINO_SIZE, FIELD_Y_COUNT * TETROMINO_SIZE, Transparency.OPAQUE);
+			fieldPixels = null;
+		}
+		queueLayer = createLayer(config, width, height, Transparency.TRANSLUCENT);
+		hudLayer = createLayer(config, width, height, Transparency.TRANSLUCENT);
+		renderChromeLayer();
+		return true;
+	}
+
+	/** 사용자 공간 크기에 화면 배율을 곱한 장치 해상도의 호환 이미지를 만듦. */
+	private BufferedImage createLayer(GraphicsConfiguration config, int width, int height, int transparency) {
+		return config.createCompatibleImage((int) Math.ceil(width * layerScale), (int) Math.ceil(height * layerScale), transparency);
+	}
+
+	/** 레이어에 사용자 공간 좌표로 그릴 Graphics를 만듦 (배율을 미리 적용). */
+	private Graphics2D layerGraphics(BufferedImage layer) {
+		Graphics2D g = layer.createGraphics();
+		if (layerScale != 1.0) {
+			g.scale(layerScale, layerScale);
+		}
+		return g;
+	}
+
+	/** 장치 해상도 레이어를 사용자 공간 (x, y, width, height)에 그림. 배율이 같으면 확대 없는 복사가 됨. */
+	private static void drawLayer(Graphics g, BufferedImage layer, int x, int y, int width, int height) {
+		g.drawImage(layer, x, y, width, height, null);
+	}
+
+	/** 배경과 Next, Preview, Hold UI 영역의 배경을 그림. */
+	private void renderChromeLayer() {
+		Graphics2D g = layerGraphics(chromeLayer);
+		g.setColor(background);
+		g.fillRect(0, 0, layerWidth, layerHeight);
+		g.setColor(UI_BG_COLOR);
+		g.fillRoundRect(HOLD_POS.x - 10, HOLD_POS.y - 10, HOLD_BG_WIDTH, HOLD_BG_HEIGHT, 20, 20);
+		g.fillRoundRect(POCKET_POS.x - 10, POCKET_POS.y - 10, POCKET_BG_WIDTH, POCKET_BG_HEIGHT, 20, 20);
+		g.fillRoundRect(PREVIEW_POS.x - 10, PREVIEW_POS.y + 40, PREVIEW_BG_WIDTH, PREVIEW_BG_HEIGHT, 20, 20);
+		g.dispose();
+	}
+
+	/** 필드 레이어에서 표시된 줄(비트 r = 화면 기준 r번째 줄)만 스냅샷의 줄 값으로 다시 그림. */
+	private void renderFieldRows(FrameSnapshot snapshot, int rows) {
+		if (fieldPixels != null) {
+			while (rows != 0) {
+				int r = Integer.numberOfTrailingZeros(rows);
+				rows &= rows - 1;
+				rasterRenderer.renderRow(r, snapshot.getRow(r), fieldPixels, 0, fieldLayer.getWidth());
+			}
+			return;
+		}
+		Graphics2D g = layerGraphics(fieldLayer);
+		while (rows != 0) {
+			int r = Integer.numberOfTrailingZeros(rows);
+			rows &= rows - 1;
+			int colorRow = snapshot.getRow(r);
+			int drawY = r * TETROMINO_SIZE;
+			g.setColor(background);
+			g.fillRect(0, drawY, FIELD_X_COUNT * TETROMINO_SIZE, TETROMINO_SIZE);
+			for (int x = 0; x < FIELD_X_COUNT; x++) {
+				int blockType = PlayField.cellOf(colorRow, x);
+				// 빈 칸도 빈 칸 스프라이트로 그림
+				atlas.drawBlock(g, blockType, x * TETROMINO_SIZE, drawY, TETROMINO_SIZE);
+			}
+		}
+		g.dispose();
+	}
+
+	/** 큐 레이어를 지우고 '다음 블록', '미리보기 큐', 홀드된 블록을 다시 그림. */
+	private void renderQueueLayer(long queue) {
+		Graphics2D g = layerGraphics(queueLayer);
+		clearAreas(g, HOLD_AREA, POCKET_AREA, PREVIEW_AREA);
+
+		int count = (int) ((queue >>> QUEUE_COUNT_SHIFT) & QUEUE_MASK);
+		for (int i = 0; i < count; i++) {
+			Tetromino next = Tetromino.fromOrdinal((int) ((queue >>> (QUEUE_PREVIEW_SHIFT + i * QUEUE_BITS)) & QUEUE_MASK));
+			if (i == 0) {
+				// '다음 블록' (Pocket) 그리기 (큰 사이즈)
+				drawBlocks(g, next, POCKET_POS.x, POCKET_POS.y, TETROMINO_SIZE);
+			} else {
+				// '미리보기 큐' (최대 5개 블록) 그리기 (작은 사이즈)
+				drawBlocks(g, next, PREVIEW_POS.x, PREVIEW_POS.y + PREVIEW_VERTICAL_SPACING * i, TETROMINO_PREVIEW_SIZE);
+			}
+		}
+
+		// 홀드된 블록이 있을 때만 그림
+		Tetromino held = Tetromino.fromOrdinal((int) (queue & HOLD_BITS));
+		if (held != null && held != Tetromino.EMPTY) {
+			drawBlocks(g, held, HOLD_POS.x, HOLD_POS.y, TETROMINO_SIZE);
+		}
+		g.dispose();
+	}
+
+	/** HUD 레이어를 지우고 점수, 레벨, 시간 등 모든 텍스트 정보를 다시 그림. */
+	private void renderHudLayer(long[] hud) {
+		Graphics2D g = layerGraphics(hudLayer);
+		clearAreas(g, INFO_AREA, MESSAGE_AREA);
+		g.setColor(Color.BLACK);
+
+		// PAUSED / GAME_OVER 메시지 (메시지 영역 밖으로는 그리지 않음)
+		GameStateCode state = GAME_STATES[(int) hud[HUD_STATE]];
+		g.setClip(MESSAGE_AREA);
+		if (state == GameStateCode.PAUSED) {
+			g.setFont(PAUSE_FONT);
+			g.drawString("-- PAUSE --", 254, 100);
+		} else if (state == GameStateCode.GAME_OVER) {
+			g.setFont(GAME_OVER_FONT);
+			g.drawString("Press R to Restart Game", 150, 145);
+		}
+
+		// 필요한 정보들을 공개된 HUD 값에서 꺼냄
+		long score = hud[HUD_SCORE];
+		long playTime = 0; // TODO: 플레이 시간 구현 필요
+		long linesCleared = hud[HUD_LINES];
+		long level = hud[HUD_LEVEL];
+		long goal = 10 - (linesCleared % 10);
+		long tetrinCount = hud[HUD_TETRISES];
+		long tSpinCount = hud[HUD_T_SPINS];
+		long comboCount = hud[HUD_COMBOS];
+		ScoreAction lastAction = hud[HUD_LAST_ACTION] < 0 ? null : SCORE_ACTIONS[(int) hud[HUD_LAST_ACTION]];
+		boolean isB2B = hud[HUD_B2B] != 0;
+
+		// 각 정보를 화면에 그림 (정보 영역 밖으로는 그리지 않음)
+		g.setClip(INFO_AREA);
+		g.setFont(INFO_FONT);
+		g.drawString("SCORE:", INFO_Y_POS, 150);
+		g.drawString(String.valueOf(score), 20, 175);
+		g.drawString("TIME:", INFO_Y_POS, 200);
+		g.drawString("testtesttest" + playTime, INFO_Y_POS, 225); // TODO
+		g.drawString("LINES:      " + linesCleared, INFO_Y_POS, 260);
+		g.drawString("LEVEL:      " + level, INFO_Y_POS, 280);
+		g.drawString("GOAL:       " + goal, INFO_Y_POS, 300);
+		g.drawString("TETRISES:   " + tetrinCount, INFO_Y_POS, 340);
+		g.drawString("T-SPINS:    " + tSpinCount, INFO_Y_POS, 360);
+		g.drawString("COMBOS:     " + comboCount, INFO_Y_POS, 380);
+		g.drawString("LastAction: ", INFO_Y_POS, 420);
+		g.drawString("" + lastAction, INFO_Y_POS, 440);
+		g.drawString("B2B Combo: " + isB2B, INFO_Y_POS, 465);
+
+		g.drawString("GAMESTATE: ", INFO_Y_POS - 10, 520);
+		g.drawString("" + state, 20, 545);
+		g.dispose();
+	}
+
+	/** 투명 레이어의 지정 영역들을 완전히 투명하게 지움. */
+	private static void clearAreas(Graphics2D g, Rectangle... areas) {
+		g.setComposite(AlphaComposite.Clear);
+		for (Rectangle area : areas) {
+			g.fillRect(area.x, area.y, area.width, area.height);
+		}
+		g.setComposite(AlphaComposite.SrcOver);
+	}
+
+    // --- Private Methods: Drawing ---
+	/**
+	 * 게임 필드 내에 테트로미노 하나를 그리는 범용 메서드 (버퍼 존은 제외).
+	 * 미노 좌표는 미리 계산된 TetrominoGeometry 테이블에서 읽으므로 객체를 만들지 않음.
+	 * @param ghost true면 고스트 스프라이트로 그림
+	 */
+	private void drawBlocks(Graphics g, Tetromino type, SpinState rotation, int offsetX, int offsetY, boolean ghost) {
+		int imageIndex = type.ordinal();
+		for (int i = 0; i < MINO_COUNT; i++) {
+			int y = cellY(type, rotation, i) + offsetY;
+			// 버퍼 존(y < 20)에 있는 블록은 화면에 그리지 않음
+			if (y >= BUFFER_ZONE) {
+				int drawX = (cellX(type, rotation, i) + offsetX) * TETROMINO_SIZE + FIELD_UI_PADDING;
+				// 필드 y좌표를 화면 y좌표로 변환 (버퍼 존만큼 빼줌)
+				int drawY = (y - BUFFER_ZONE) * TETROMINO_SIZE;
+				if (ghost) {
+					atlas.drawGhost(g, imageIndex, drawX, drawY, TETROMINO_SIZE);
+				} else {
+					atlas.drawBlock(g, imageIndex, drawX, drawY, TETROMINO_SIZE);
+				}
+			}
+		}
+	}
+
+	/** UI 영역(Next, Hold 등)에 테트로미노를 초기 형태(S0)로 그리는 범용 메서드 (화면 절대 좌표와 크기 지정). */
+	private void drawBlocks(Graphics g, Tetromino type, int offsetX, int offsetY, int size) {
+		int imageIndex = type.ordinal();
+		for (int i = 0; i < MINO_COUNT; i++) {
+			int drawX = offsetX + cellX(type, SpinState.S0, i) * size;
+			int drawY = offsetY + cellY(type, SpinState.S0, i) * size;
+			atlas.drawBlock(g, imageIndex, drawX, drawY, size);
+		}
+	}
+
+	/** 디버깅 정보를 콘솔에 출력 (DEBUG 플래그가 true일 때만). */
+	private void debugPrint(long piece) {
+		if (!DEBUG || piece == NO_PIECE) return;
+		int packed = (int) piece;
+		Tetromino current = Tetromino.fromOrdinal(TetrominoState.unpackType(packed));
+		SpinState rotation = SpinState.fromOrdinal(TetrominoState.unpackRotation(packed));
+
+		System.out.println("===== Debug Info =====");
+		System.out.println("Current Tetromino: " + current);
+		System.out.println("Ghost Offset: (" + TetrominoState.unpackX(packed) + ", " + (int) (piece >> 32) + ")");
+		System.out.println("Current Offset: (" + TetrominoState.unpackX(packed) + ", " + TetrominoState.unpackY(packed) + ")");
+
+		for (int y = BUFFER_ZONE; y < FIELD_Y_COUNT + BUFFER_ZONE; y++) {
+			System.out.print(gameData.getPlayField().getRowBlockCount(y));
+		}
+		System.out.println();
+
+		for (int i = 0; i < MINO_COUNT; i++) {
+			System.out.printf("Block coord: (%d, %d)%n", cellX(current, rotation, i), cellY(current, rotation, i));
+		}
+		System.out.println("======================");
+	}
+}
@@ -1,317 +1,208 @@
-package tetris.ui;
-
-import static tetris.data.constant.GameConstants.BUFFER_ZONE;
-import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
-import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
-import static tetris.data.constant.GameConstants.TETROMINO_PREVIEW_SIZE;
-import static tetris.data.constant.GameConstants.TETROMINO_SIZE;
-
-import java.awt.Color;
-import java.awt.Font;
-import java.awt.Graphics;
-import java.awt.Image;
-import java.awt.Point;
-import java.awt.image.BufferedImage;
-
-import javax.swing.ImageIcon;
-import javax.swing.JFrame;
-import javax.swing.JPanel;
-
-import tetris.data.constant.GameConstants.GameStateCode;
-import tetris.data.constant.Tetromino;
-import tetris.logic.TetrisEngine;
-import tetris.logic.data.DataManager;
-import tetris.logic.scoring.ScoreAction;
-
-/**
- * 게임의 모든 그래픽 요소를 화면에 그리고, 창과 입력을 관리하는 메인 UI 클래스.
- * JFrame을 상속받아 게임 창의 역할을 함.
- */
-public class GameRenderer extends JFrame {
-	
-    // --- Static Fields ---
-	private static final long serialVersionUID = 1L;
-	private static final boolean DEBUG = false;
-	private static final int FIELD_UI_PADDING = 200;
-
-	// UI 컴포넌트 위치 상수
-	private static final Point POCKET_POS = new Point(533, 50);
-	private static final Point PREVIEW_POS = new Point(553, 120);
-	private static final int PREVIEW_VERTICAL_SPACING = 50;
-	private static final Point HOLD_POS = new Point(41, 50);
-
-	// UI 배경 사각형 크기 상수
-	private static final int HOLD_BG_WIDTH = 140;
-	private static final int HOLD_BG_HEIGHT = 80;
-	private static final int POCKET_BG_WIDTH = 140;
-	private static final int POCKET_BG_HEIGHT = 80;
-	private static final int PREVIEW_BG_WIDTH = 100;
-	private static final int PREVIEW_BG_HEIGHT = PREVIEW_VERTICAL_SPACING * 5 + 10;
-	
-	// 좌측 정보 텍스트의 시작 X 좌표
-	private static final int INFO_Y_POS = 20;
-
-    // --- Instance Fields ---
-	private final DataManager gameData;
-	private final TetrisEngine gameEngine;
-
-	// 이미지 리소스
-	private final Image[] tetImages;
-	private final BufferedImage[] ghostImages;
-
-	// UI 컴포넌트
-	private final ImagePanel imagePanel;
-
-    // --- Constructor ---
-	public GameRenderer(DataManager gameData, TetrisEngine gameEngine) {
-		super("TETRIS");
-
-		this.gameData = gameData;
-		this.gameEngine = gameEngine;
-
-		this.tetImages = loadTetrominoImages();
-		this.ghostImages = ImageLoader.getGhostImages();
-
-		this.imagePanel = new ImagePanel();
-		this.imagePanel.setDoubleBuffered(true);
-		this.imagePanel.setFocusable(true);
-		this.imagePanel.addKeyListener(new InputHandler(gameEngine));
-
-		setUpFrame();
-	}
-
-    // --- Public Methods ---
-	/**
-	 * 화면을 다시 그리도록 요청.
-	 * Swing의 이벤트 스레드에 의해 안전하게 처리됨.
-	 */
-	public void refreshScreen() {
-		imagePanel.repaint();
-	}
-
-    // --- Private Methods ---
-	/** JFrame(게임 창)의 기본 속성을 설정하고 화면에 표시. */
-	private void setUpFrame() {
-		this.getContentPane().add(imagePanel);
-		this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-		this.setSize(TETROMINO_SIZE * FIELD_X_COUNT + FIELD_UI_PADDING * 2, TETROMINO_SIZE * FIELD_Y_COUNT + 40);
-		this.setLocationRelativeTo(null);
-		this.setVisible(true);
-	}
-
-	/** 테트로미노 ImageIcon을 실제 그리기에 사용할 Image 객체로 변환. */
-	private Image[] loadTetrominoImages() {
-		ImageIcon[] icons = ImageLoader.getTetrominoImages();
-		Image[] images = new Image[icons.length];
-		for (int i = 0; i < icons.length; i++) {
-			if (icons[i] != null) {
-				images[i] = icons[i].getImage();
-			} else {
-				System.err.println("이미지 로딩 실패: 인덱스 " + i);
-			}
-		}
-		return images;
-	}
-
-	/** 블록의 상대 좌표를 실제 필드 좌표로 변환하는 헬퍼 메서드. */
-	private Point[] translateCoords(Point[] coords, Point offset) {
-		Point[] translated = new Point[coords.length];
-		for (int i = 0; i < coords.length; i++) {
-			translated[i] = new Point(coords[i].x + offset.x, coords[i].y + offset.y);
-		}
-		return translated;
-	}
-
-	/** 게임 필드 내에 블록들을 그리는 범용 메서드 (버퍼 존은 제외). */
-	private void drawBlocks(Graphics g, Point[] blocks, Image[] images, int imageIndex) {
-		if (imageIndex >= images.length) return;
-		for (Point p : blocks) {
-			// 버퍼 존(y < 20)에 있는 블록은 화면에 그리지 않음
-			if (p.y >= BUFFER_ZONE) {
-				int drawX = p.x * TETROMINO_SIZE + FIELD_UI_PADDING;
-				// 필드 y좌표를 화면 y좌표로 변환 (버퍼 존만큼 빼줌)
-				int drawY = (p.y - BUFFER_ZONE) * TETROMINO_SIZE;
-				g.drawImage(images[imageIndex], drawX, drawY, TETROMINO_SIZE, TETROMINO_SIZE, this);
-			}
-		}
-	}
-
-	/** UI 영역(Next, Hold 등)에 블록들을 그리는 범용 메서드 (화면 절대 좌표와 크기 지정). */
-	private void drawBlocks(Graphics g, Point[] blocks, int offsetX, int offsetY, int size, Image[] images, int imageIndex) {
-		if (imageIndex >= images.length) return;
-		for (Point p : blocks) {
-			g.drawImage(images[imageIndex], offsetX + p.x * size, offsetY + p.y * size, size, size, this);
-		}
-	}
-
-	/** 필드에 쌓여있는 모든 블록(고정된 블록)을 그림. */
-	private void drawFieldBlocks(Graphics g) {
-		for (int y = BUFFER_ZONE; y < FIELD_Y_COUNT + BUFFER_ZONE; y++) {
-			for (int x = 0; x < FIELD_X_COUNT; x++) {
-				int blockType = gameData.getCell(y, x); // TODO
-				// 필드 데이터가 유효한 블록 타입일 때만 그림
-				if (blockType >= 0 && blockType < tetImages.length) {
-					int drawX = x * TETROMINO_SIZE + FIELD_UI_PADDING;
-					int drawY = (y - BUFFER_ZONE) * TETROMINO_SIZE;
-					g.drawImage(tetImages[blockType], drawX, drawY, TETROMINO_SIZE, TETROMINO_SIZE, this);
-				}
-			}
-		}
-	}
-
-	/** 고스트 블록(블록이 떨어질 위치 미리보기)을 그림. */
-	private void drawGhostBlock(Graphics g, Point[] coords, Point ghostOffset, int tetIndex) {
-		Point[] ghostBlocks = translateCoords(coords, ghostOffset);
-		drawBlocks(g, ghostBlocks, ghostImages, tetIndex);
-	}
-
-	/** 현재 조작 중인 블록을 그림. */
-	private void drawCurrentBlock(Graphics g, Point[] coords, Point currentOffset, int tetIndex) {
-		Point[] currentBlocks = translateCoords(coords, currentOffset);
-		drawBlocks(g, currentBlocks, tetImages, tetIndex);
-	}
-
-	/** Next, Preview, Hold UI 영역의 배경을 그림. */
-	private void drawUIBackgrounds(Graphics g) {
-		Color pink = new Color(255, 182, 193);
-		g.setColor(pink);
-		g.fillRoundRect(HOLD_POS.x - 10, HOLD_POS.y - 10, HOLD_BG_WIDTH, HOLD_BG_HEIGHT, 20, 20);
-		g.fillRoundRect(POCKET_POS.x - 10, POCKET_POS.y - 10, POCKET_BG_WIDTH, POCKET_BG_HEIGHT, 20, 20);
-		g.fillRoundRect(PREVIEW_POS.x - 10, PREVIEW_POS.y + 40, PREVIEW_BG_WIDTH, PREVIEW_BG_HEIGHT, 20, 20);
-	}
-
-	/** '다음 블록'과 '미리보기 큐'의 블록들을 그림. */
-	private void drawNextAndPreview(Graphics g) {
-		Tetromino[] previewQueue = gameEngine.getBagPreviewQueue();
-		if (previewQueue == null || previewQueue.length < 6) return;
-
-		// '다음 블록' (Pocket) 그리기 (큰 사이즈)
-		Tetromino next = previewQueue[0];
-		drawBlocks(g, next.getMinos(), POCKET_POS.x, POCKET_POS.y, TETROMINO_SIZE, tetImages, next.ordinal());
-
-		// '미리보기 큐' (5개 블록) 그리기 (작은 사이즈)
-		for (int i = 1; i < 6; i++) {
-			Tetromino preview = previewQueue[i];
-			drawBlocks(g, preview.getMinos(), PREVIEW_POS.x, PREVIEW_POS.y + PREVIEW_VERTICAL_SPACING * i,
-					TETROMINO_PREVIEW_SIZE, tetImages, preview.ordinal());
-		}
-	}
-
-	/** 홀드된 블록을 그림. */
-	private void drawHoldBlock(Graphics g) {
-		Tetromino held = gameEngine.getHoldHandler().getHeldTetromino();
-		// 홀드된 블록이 있을 때만 그림
-		if (held != null) {
-			drawBlocks(g, held.getMinos(), HOLD_POS.x, HOLD_POS.y, TETROMINO_SIZE, tetImages, held.ordinal());
-		}
-	}
-
-	/** 점수, 레벨, 시간 등 모든 텍스트 정보를 그림. */
-	private void drawGameInfo(Graphics g) {
-		g.setFont(new Font("Consolas", Font.BOLD, 37));
-		g.setColor(Color.BLACK);
-
-		// PAUSED 상태일 때 메시지 표시
-		if (gameData.getGameState().isPaused()) {
-			g.drawString("-- PAUSE --", 254, 100);
-		}
-
-		// 상세 정보 폰트 설정
-		g.setFont(new Font("Consolas", Font.BOLD, 18));
-		
-		// 필요한 정보들을 ScoreManager 등에서 가져옴
-		long score = gameEngine.getScoreManager().getScore();
-		long playTime = 0; // TODO: 플레이 시간 구현 필요
-		int linesCleared = gameEngine.getScoreManager().getTotalClearedLine();
-		int level = gameEngine.getScoreManager().getLevel();
-		int goal = 10 - (linesCleared % 10);
-		int tetrinCount = gameEngine.getScoreManager().getTetrisCount();
-		int tSpinCount = gameEngine.getScoreManager().getTSpinCount();
-		int comboCount = gameEngine.getScoreManager().getComboCount();
-		ScoreAction lastAction = gameEngine.getScoreManager().getLastAction();
-		boolean isB2B = gameEngine.getScoreManager().getIsB2B();
-
-		// 각 정보를 화면에 그림
-		g.drawString("SCORE:", INFO_Y_POS, 150);
-		g.drawString(String.valueOf(score), 20, 175);
-		g.drawString("TIME:", INFO_Y_POS, 200);
-		g.drawString("testtesttest" + playTime, INFO_Y_POS, 225); // TODO
-		g.drawString("LINES:      " + linesCleared, INFO_Y_POS, 260);
-		g.drawString("LEVEL:      " + level, INFO_Y_POS, 280);
-		g.drawString("GOAL:       " + goal, INFO_Y_POS, 300);
-		g.drawString("TETRISES:   " + tetrinCount, INFO_Y_POS, 340);
-		g.drawString("T-SPINS:    " + tSpinCount, INFO_Y_POS, 360);
-		g.drawString("COMBOS:     " + comboCount, INFO_Y_POS, 380);
-		g.drawString("LastAction: ", INFO_Y_POS, 420);
-		g.drawString("" + lastAction, INFO_Y_POS, 440);
-		g.drawString("B2B Combo: " + isB2B, INFO_Y_POS, 465);
-		
-		g.drawString("GAMESTATE: ", INFO_Y_POS - 10, 520);
-		g.drawString("" + gameData.getGameState().getCurrentState(), 20, 545);
-		
-		// GAME_OVER 상태일 때 메시지 표시
-		g.setFont(new Font("Consolas", Font.BOLD, 30));
-		if (gameData.getGameState().getCurrentState() == GameStateCode.GAME_OVER)
-			g.drawString("Press R to Restart Game", 150, 145);
-	}
-
-	/** 디버깅 정보를 콘솔에 출력 (DEBUG 플래그가 true일 때만). */
-	private void debugPrint(Point[] coords, Tetromino current, Point ghostOffset, Point currentOffset) {
-		if (!DEBUG) return;
-		
-		System.out.println("===== Debug Info =====");
-		System.out.println("Current Tetromino: " + current);
-		System.out.println("Ghost Offset: " + ghostOffset);
-		System.out.println("Current Offset: " + currentOffset);
-
-		for (int y = BUFFER_ZONE; y < FIELD_Y_COUNT + BUFFER_ZONE; y++) {
-			System.out.print(gameData.getPlayField().getRowBlockCount()[y]);
-		}
-		System.out.println();
-
-		for (Point p : coords) {
-			System.out.printf("Block coord: (%d, %d)%n", p.x, p.y);
-		}
-		System.out.println("======================");
-	}
-
-    // --- Inner Class ---
-	/**
-	 * 실제 모든 그래픽 요소를 그리는 작업을 담당하는 내부 패널 클래스.
-	 * paintComponent 메서드 오버라이드를 통해 커스텀 그리기를 구현.
-	 */
-	private class ImagePanel extends JPanel {
-		private static final long serialVersionUID = 1L;
-
-		@Override
-		protected void paintComponent(Graphics g) {
-			super.paintComponent(g);
-
-			// --- 1. 그리기 위한 데이터 준비 ---
-			Tetromino current = gameData.getTetrominoState().getCurrentTetromino();
-			if (current == null) return;
-
-			int tetIndex = current.ordinal();
-			// 안전장치: 올바르지 않은 인덱스면 중단
-			if (tetIndex >= tetImages.length) {
-				System.err.println("Bag Index error!");
-				return;
-			}
-			Point[] coords = gameData.getTetrominoState().getTetrominoCoords();
-			Point ghostOffset = gameEngine.getTetrominoMover().getHardDropOffset();
-			Point currentOffset = gameData.getTetrominoState().getTetrominoOffset();
-			
-			debugPrint(coords, current, ghostOffset, currentOffset);
-
-			// --- 2. 그리기 순서 (레이어를 고려) ---
-			// 배경 -> 쌓인 블록 -> 고스트 -> 현재 블록 -> UI 정보 순으로 그려야 올바르게 보임.
-			drawFieldBlocks(g);
-			drawGhostBlock(g, coords, ghostOffset, tetIndex);
-			drawCurrentBlock(g, coords, currentOffset, tetIndex);
-			drawUIBackgrounds(g);
-			drawNextAndPreview(g);
-			drawHoldBlock(g);
-			drawGameInfo(g);
-		}
-	}
-}
\ No newline at end of file
+package tetris.ui;
+
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.GameConstants.TETROMINO_SIZE;
+import static tetris.ui.FrameComposer.FIELD_UI_PADDING;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.UIManager;
+
+import tetris.logic.FrameSink;
+import tetris.logic.TetrisEngine;
+import tetris.logic.data.DataManager;
+import tetris.logic.input.LatencyTracer;
+
+/**
+ * 게임의 모든 그래픽 요소를 화면에 그리고, 창과 입력을 관리하는 메인 UI 클래스.
+ * JFrame을 상속받아 게임 창의 역할을 함.
+ *
+ * 그리기 방식은 두 가지:
+ * - 수동(기본): 바뀐 영역만 Swing에 다시 그리도록 요청하고, EDT가 그림.
+ * - 능동(-Dtetris.activeRendering=true): BufferStrategy 캔버스에 전용 렌더 스레드가 주사율에 맞춰 직접 그림.
+ *   F3으로 프레임 시간/놓친 프레임 오버레이를 켜고 끌 수 있음.
+ * 어느 방식이든 -Dtetris.rasterField=true면 필드를 픽셀 배열에 직접 쓰는 렌더러(RasterFieldRenderer)로 그림.
+ * 키를 누른 뒤 그 결과가 처음 화면에 나가기까지의 지연을 항상 재며(LatencyTracer),
+ * F3 오버레이에 p50/p99/max를 표시하고 F4로 히스토그램을 파일(latency-날짜-시각.txt)에 저장함.
+ */
+public class GameRenderer extends JFrame implements FrameSink {
+	
+    // --- Static Fields ---
+	private static final long serialVersionUID = 1L;
+	// 능동 렌더링 사용 여부 (시스템 속성 tetris.activeRendering)
+	private static final boolean ACTIVE_RENDERING = Boolean.getBoolean("tetris.activeRendering");
+	// 필드를 직접 래스터 방식으로 그릴지 여부 (시스템 속성 tetris.rasterField)
+	private static final boolean RASTER_FIELD = Boolean.getBoolean("tetris.rasterField");
+	// 수동 모드에서 지연 오버레이를 다시 그리는 간격 (1초)
+	private static final long OVERLAY_REFRESH_NANOS = 1_000_000_000L;
+	// 지연 보고서 파일 이름의 시각 형식
+	private static final DateTimeFormatter REPORT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // --- Instance Fields ---
+	// 레이어 캐시와 합성 담당 (변경 감지는 게임 루프 스레드, 합성은 EDT)
+	private final FrameComposer composer;
+	// 다시 그릴 영역 (refreshScreen을 호출하는 게임 루프 스레드만 사용, 매 프레임 재사용)
+	private final Rectangle dirtyRegion = new Rectangle();
+	// 키 입력의 화면 반영 지연 측정 (입력 처리기와 합성기가 공유)
+	private final LatencyTracer latencyTracer = new LatencyTracer();
+	// 수동 모드의 지연 오버레이 표시 여부와 마지막으로 다시 그린 시각 (시각은 게임 루프 스레드 전용)
+	private volatile boolean overlayVisible = false;
+	private long overlayRefreshedAt = 0;
+
+	// UI 컴포넌트 (수동 모드면 imagePanel, 능동 모드면 activeRenderer만 있음)
+	private final ImagePanel imagePanel;
+	private final ActiveRenderer activeRenderer;
+
+    // --- Constructor ---
+	/** 시스템 속성(tetris.activeRendering)에 따라 수동 또는 능동 렌더링으로 게임 창을 생성. */
+	public GameRenderer(DataManager gameData, TetrisEngine gameEngine) {
+		this(gameData, gameEngine, ACTIVE_RENDERING);
+	}
+
+	/**
+	 * @param gameData 화면에 그릴 게임 데이터
+	 * @param gameEngine 입력을 전달하고 상태를 읽을 엔진
+	 * @param activeRendering true면 전용 렌더 스레드가 BufferStrategy 캔버스에 직접 그림
+	 */
+	public GameRenderer(DataManager gameData, TetrisEngine gameEngine, boolean activeRendering) {
+		super("TETRIS");
+
+		Component view;
+		if (activeRendering) {
+			Canvas canvas = new Canvas();
+			canvas.setIgnoreRepaint(true); // 렌더 스레드만 그리도록 AWT의 다시 그리기를 끔
+			this.composer = new FrameComposer(gameData, gameEngine, UIManager.getColor("Panel.background"));
+			this.imagePanel = null;
+			this.activeRenderer = new ActiveRenderer(canvas, composer);
+			view = canvas;
+		} else {
+			this.imagePanel = new ImagePanel();
+			this.imagePanel.setDoubleBuffered(true);
+			this.composer = new FrameComposer(gameData, gameEngine, imagePanel.getBackground());
+			this.activeRenderer = null;
+			view = imagePanel;
+		}
+		composer.setRasterField(RASTER_FIELD);
+		composer.setLatencyTracer(latencyTracer);
+		gameEngine.getInput().setLatencyTracer(latencyTracer);
+		view.setFocusable(true);
+		InputHandler inputHandler = new InputHandler(gameEngine);
+		view.addKeyListener(inputHandler);
+		view.addFocusListener(inputHandler); // 포커스를 잃으면 누르고 있던 키를 뗌
+		view.addKeyListener(new KeyAdapter() {
+			@Override
+			public void keyPressed(KeyEvent e) {
+				switch (e.getKeyCode()) {
+					case KeyEvent.VK_F3: // 통계/지연 오버레이 토글
+						toggleOverlay();
+						break;
+					case KeyEvent.VK_F4: // 지연 히스토그램 저장
+						writeLatencyReport();
+						break;
+				}
+			}
+		});
+
+		setUpFrame(view);
+		if (activeRenderer != null) {
+			view.requestFocus();
+			activeRenderer.start(); // 캔버스가 화면에 표시된 뒤에 버퍼를 만들어야 함
+		}
+	}
+
+    // --- Public Methods ---
+	/**
+	 * 엔진이 공개한 스냅샷에서 지난 프레임 이후 바뀐 영역을 찾고, 수동 모드면 바뀐 영역만 다시 그리도록 요청 (게임 루프 스레드에서 호출).
+	 * 바뀐 레이어는 그리는 스레드(EDT 또는 렌더 스레드)가 그릴 때 갱신되고, 바뀐 곳이 없으면 아무것도 요청하지 않음.
+	 */
+	@Override
+	public void refreshScreen() {
+		if (composer.collectDirty(dirtyRegion) && imagePanel != null) {
+			imagePanel.repaint(dirtyRegion);
+		}
+		// 수동 모드의 지연 오버레이는 바뀐 영역과 관계없이 1초마다 다시 그림
+		if (overlayVisible && imagePanel != null) {
+			long now = System.nanoTime();
+			if (now - overlayRefreshedAt >= OVERLAY_REFRESH_NANOS) {
+				overlayRefreshedAt = now;
+				imagePanel.repaint(ActiveRenderer.STATS_AREA);
+			}
+		}
+	}
+
+	/** 능동 렌더러를 반환 (프레임 통계 확인용). 수동 모드면 null. */
+	public ActiveRenderer getActiveRenderer() { return activeRenderer; }
+
+	/** 키 입력의 화면 반영 지연 추적기를 반환. */
+	public LatencyTracer getLatencyTracer() { return latencyTracer; }
+
+	/**
+	 * 지연 히스토그램을 작업 디렉터리의 latency-날짜-시각.txt 파일로 저장하고 경로를 반환.
+	 * 저장에 실패하면 오류를 출력하고 null을 반환.
+	 */
+	public Path writeLatencyReport() {
+		Path path = Paths.get("latency-" + LocalDateTime.now().format(REPORT_TIME_FORMAT) + ".txt");
+		try {
+			latencyTracer.writeReport(path);
+			System.out.println("[GameRenderer] Latency report written to " + path.toAbsolutePath());
+			return path;
+		} catch (IOException e) {
+			System.err.println("[GameRenderer] Failed to write latency report:");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+    // --- Private Methods ---
+	/** 통계/지연 오버레이를 켜거나 끔. 능동 모드는 렌더러의 오버레이를, 수동 모드는 패널의 지연 오버레이를 토글. */
+	private void toggleOverlay() {
+		if (activeRenderer != null) {
+			activeRenderer.setStatsVisible(!activeRenderer.isStatsVisible());
+		} else {
+			overlayVisible = !overlayVisible;
+			imagePanel.repaint(ActiveRenderer.STATS_AREA);
+		}
+	}
+
+	/** JFrame(게임 창)의 기본 속성을 설정하고 화면에 표시. */
+	private void setUpFrame(Component view) {
+		this.getContentPane().add(view);
+		this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		this.setSize(TETROMINO_SIZE * FIELD_X_COUNT + FIELD_UI_PADDING * 2, TETROMINO_SIZE * FIELD_Y_COUNT + 40);
+		this.setLocationRelativeTo(null);
+		this.setVisible(true);
+	}
+
+    // --- Inner Class ---
+	/**
+	 * 실제 모든 그래픽 요소를 그리는 작업을 담당하는 내부 패널 클래스.
+	 * paintComponent 메서드 오버라이드를 통해 커스텀 그리기를 구현.
+	 */
+	private class ImagePanel extends JPanel {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void paintComponent(Graphics g) {
+			// 배경까지 레이어가 모두 채우므로 super.paintComponent()로 지울 필요 없음
+			composer.paint(g, getWidth(), getHeight());
+			if (overlayVisible) {
+				ActiveRenderer.drawOverlay(g, latencyTracer.summary());
+			}
+			// Swing이 백 버퍼를 화면에 복사하기 직전이므로, 여기를 화면에 나간 시각으로 봄
+			composer.framePresented();
+		}
+	}
+}
@@ -1,139 +1,115 @@
-package tetris.ui;
-
-import java.awt.event.KeyAdapter;
-import java.awt.event.KeyEvent;
-
-import tetris.data.constant.GameConstants.GameStateCode;
-import tetris.logic.TetrisEngine;
-
-/**
- * 키보드 입력을 받아 TetrisEngine에 전달하는 역할을 하는 클래스.
- * KeyAdapter를 상속받아 필요한 메서드만 오버라이드.
- */
-public class InputHandler extends KeyAdapter {
-
-    // --- Instance Fields ---
-	private final TetrisEngine gameEngine;
-	private boolean isDownPressed = false; // Down 키가 계속 눌려있는지 추적
-
-    // --- Constructor ---
-	public InputHandler(TetrisEngine gameEngine) {
-		this.gameEngine = gameEngine;
-	}
-    
-    // --- Public Methods (from KeyAdapter) ---
-	@Override
-	public void keyPressed(KeyEvent e) {
-		int keyCode = e.getKeyCode();
-
-		// Case 1: 게임오버 상태 - R(재시작) 키 외에 모두 무시
-		if (gameEngine.getCurrentState() == GameStateCode.GAME_OVER) {
-			if (keyCode == KeyEvent.VK_R) {
-				gameEngine.restartGame();
-			}
-			return;
-		}
-		
-		// Case 2: 일시정지 상태 - ESC, F1(일시정지 해제) 키 외에 모두 무시
-		if (gameEngine.isPaused()) {
-			if (keyCode == KeyEvent.VK_ESCAPE || keyCode == KeyEvent.VK_F1) {
-				gameEngine.togglePauseState();
-				gameEngine.getGameRenderer().refreshScreen();
-			}
-			return;
-		}
-
-		// 회전 키(UP, X, CTRL, Z)를 눌렀다면, T-Spin 판정을 위해 '회전' 액션을 기록
-		if (keyCode == KeyEvent.VK_UP || keyCode == KeyEvent.VK_X || keyCode == KeyEvent.VK_CONTROL
-				|| keyCode == KeyEvent.VK_Z) {
-			gameEngine.getScoreManager().markLastActionAsSpin();
-		} else {
-			gameEngine.getScoreManager().clearLastActionSpinFlag();
-		}
-		
-		// Case 3: 플레이 중 상태
-		switch (keyCode) {
-			// 이동
-			case KeyEvent.VK_LEFT:
-				gameEngine.getTetrominoMover().left();
-				resetLockDelayCounter();
-				break;
-			case KeyEvent.VK_RIGHT:
-				gameEngine.getTetrominoMover().right();
-				resetLockDelayCounter();
-				break;
-
-			// 회전
-			case KeyEvent.VK_UP:
-			case KeyEvent.VK_X: // 시계방향 회전
-				gameEngine.getSpin().spin(true);
-				resetLockDelayCounter();
-				break;
-			case KeyEvent.VK_CONTROL:
-			case KeyEvent.VK_Z: // 반시계방향 회전
-				gameEngine.getSpin().spin(false);
-				resetLockDelayCounter();
-				break;
-
-			// 드롭
-			case KeyEvent.VK_DOWN: // 소프트 드롭
-				// 키를 계속 누르고 있을 때, 이벤트가 중복 발생하는 것을 방지
-				if (isDownPressed) break;
-				isDownPressed = true;
-				gameEngine.setIntervalNanos(gameEngine.getDropTime(gameEngine.getScoreManager().getLevel()) / 20);
-				gameEngine.getScoreManager().softDropping();
-				break;
-			case KeyEvent.VK_SPACE: // 하드 드롭
-				gameEngine.stopLockDelay(); // 하드 드롭은 즉시 고정이므로 락 딜레이를 멈춤
-				gameEngine.getTetrominoMover().hardDrop();
-				gameEngine.getScoreManager().updateHardDropScore();
-				gameEngine.getTetrominoGenerator().generateTetromino();
-				gameEngine.restartMainTimer();
-				break;
-				
-			// 기타
-			case KeyEvent.VK_C:
-			case KeyEvent.VK_SHIFT: // 홀드
-				gameEngine.hold();
-				break;
-			case KeyEvent.VK_ESCAPE:
-			case KeyEvent.VK_F1: // 일시정지
-				gameEngine.togglePauseState();
-				break;
-		}
-
-		// 모든 키 입력 후 화면을 즉시 갱신하여 빠른 반응성을 제공
-		gameEngine.getGameRenderer().refreshScreen();
-	}
-
-	@Override
-	public void keyReleased(KeyEvent e) {
-		// Down 키에서 손을 떼면, 소프트 드롭 상태를 해제하고 타이머 속도를 원상복구
-		if (e.getKeyCode() == KeyEvent.VK_DOWN) {
-			isDownPressed = false;
-			gameEngine.setIntervalNanos(gameEngine.getDropTime(gameEngine.getScoreManager().getLevel()));
-			gameEngine.getScoreManager().finishSoftDropping();
-		}
-	}
-    
-    // --- Public Methods (Helper) ---
-	/**
-	 * 블록이 바닥 근처일 때 조작 시, 락 딜레이를 리셋하여 더 조작할 기회를 줌.
-	 * Infinity(무한 회전)을 방지하기 위해 횟수 제한.
-	 */
-	public void resetLockDelayCounter() {
-		boolean canFall = gameEngine.getTetrominoMover().canMove(0, 1);
-		
-		// 락 딜레이가 실행 중이고, 최대 조작 횟수를 넘지 않았다면
-		if (gameEngine.isLockDelayRunning() && gameEngine.getLockDelayCounter() < 15) {
-			// 바닥에 닿은 상태(더 못내려감)라면 락 타이머 시간만 초기화
-			if (!canFall) {
-				gameEngine.resetLockDelay();
-			} else {
-				// 아직 공중에 떠있는 상태(잘못된 조작으로 딜레이가 걸린 경우)면 메인 타이머 재시작
-				gameEngine.restartMainTimer();
-			}
-			gameEngine.increaseLockDelayCounter(); // 조작 횟수 증가
-		}
-	}
-}
\ No newline at end of file
+package tetris.ui;
+
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.BitSet;
+
+import tetris.logic.TetrisEngine;
+import tetris.logic.input.InputKey;
+import tetris.logic.input.InputProcessor;
+
+/**
+ * 키보드 입력을 받아 TetrisEngine에 전달하는 역할을 하는 클래스.
+ * KeyAdapter를 상속받아 필요한 메서드만 오버라이드.
+ * 키를 누르고 뗀 시각(받은 시각과 운영체제 이벤트 시각)만 엔진의 입력 큐에 넣고, 좌우 이동의 반복(DAS/ARR)과 조작 처리는 게임 루프가 담당.
+ * 그래서 OS의 키 반복 설정이나 EDT 부하가 이동 속도와 응답에 영향을 주지 않음.
+ * 키 반복은 키 코드별로 걸러 내므로, 같은 버튼에 연결된 두 키(예: 위쪽 화살표와 X)는 서로 따로 눌리고 떼짐.
+ * 창이 포커스를 잃으면 떼기 이벤트가 오지 않으므로, 게임 화면에 포커스 리스너로도 등록해 누르고 있던 키를 모두 뗀 것으로 처리함.
+ *
+ * 시스템 속성 tetris.das, tetris.arr(프레임), tetris.softDropFactor(배율)로 기본 설정을 바꿀 수 있음.
+ */
+public class InputHandler extends KeyAdapter implements FocusListener {
+
+    // --- Static Fields ---
+	private static final int DAS_FRAMES = Integer.getInteger("tetris.das", InputProcessor.DEFAULT_DAS_FRAMES);
+	private static final int ARR_FRAMES = Integer.getInteger("tetris.arr", InputProcessor.DEFAULT_ARR_FRAMES);
+	private static final int SOFT_DROP_FACTOR = Integer.getInteger("tetris.softDropFactor",
+			TetrisEngine.DEFAULT_SOFT_DROP_FACTOR);
+
+    // --- Instance Fields ---
+	private final InputProcessor input;
+	private final BitSet pressedKeys = new BitSet(); // 누르고 있는 키 코드 (EDT 전용, 키 반복을 걸러 냄)
+
+    // --- Constructor ---
+	public InputHandler(TetrisEngine gameEngine) {
+		this.input = gameEngine.getInput();
+		input.setDasFrames(DAS_FRAMES);
+		input.setArrFrames(ARR_FRAMES);
+		gameEngine.setSoftDropFactor(SOFT_DROP_FACTOR);
+	}
+    
+    // --- Public Methods (from KeyAdapter) ---
+	@Override
+	public void keyPressed(KeyEvent e) {
+		int keyCode = e.getKeyCode();
+		InputKey key = toInputKey(keyCode);
+		if (key != null && !pressedKeys.get(keyCode)) { // 떼기 전에 다시 오는 누름은 키 반복
+			pressedKeys.set(keyCode);
+			input.press(key, System.nanoTime(), e.getWhen());
+		}
+	}
+
+	@Override
+	public void keyReleased(KeyEvent e) {
+		int keyCode = e.getKeyCode();
+		InputKey key = toInputKey(keyCode);
+		if (key != null && pressedKeys.get(keyCode)) {
+			pressedKeys.clear(keyCode);
+			input.release(key, System.nanoTime(), e.getWhen());
+		}
+	}
+
+    // --- Public Methods (from FocusListener) ---
+	@Override
+	public void focusGained(FocusEvent e) {}
+
+	/** 포커스를 잃으면 누르고 있던 키를 모두 뗌 (계속 이동하거나 소프트 드롭하지 않도록, 다음 누름이 키 반복으로 무시되지 않도록). */
+	@Override
+	public void focusLost(FocusEvent e) {
+		long now = System.nanoTime();
+		for (int keyCode = pressedKeys.nextSetBit(0); keyCode >= 0; keyCode = pressedKeys.nextSetBit(keyCode + 1)) {
+			input.release(toInputKey(keyCode), now);
+		}
+		pressedKeys.clear();
+	}
+
+    // --- Private Methods ---
+	/** 키 코드를 게임 버튼으로 바꿈. 게임에 쓰지 않는 키면 null. */
+	private static InputKey toInputKey(int keyCode) {
+		switch (keyCode) {
+			// 이동
+			case KeyEvent.VK_LEFT:
+				return InputKey.LEFT;
+			case KeyEvent.VK_RIGHT:
+				return InputKey.RIGHT;
+
+			// 회전
+			case KeyEvent.VK_UP:
+			case KeyEvent.VK_X: // 시계방향 회전
+				return InputKey.ROTATE_CW;
+			case KeyEvent.VK_CONTROL:
+			case KeyEvent.VK_Z: // 반시계방향 회전
+				return InputKey.ROTATE_CCW;
+
+			// 드롭
+			case KeyEvent.VK_DOWN: // 소프트 드롭
+				return InputKey.SOFT_DROP;
+			case KeyEvent.VK_SPACE: // 하드 드롭
+				return InputKey.HARD_DROP;
+
+			// 기타
+			case KeyEvent.VK_C:
+			case KeyEvent.VK_SHIFT: // 홀드
+				return InputKey.HOLD;
+			case KeyEvent.VK_ESCAPE:
+			case KeyEvent.VK_F1: // 일시정지
+				return InputKey.PAUSE;
+			case KeyEvent.VK_R: // 재시작 (게임오버 상태에서만 처리됨)
+				return InputKey.RESTART;
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package tetris.ui;
+
+import static tetris.data.constant.GameConstants.BUFFER_ZONE;
+import static tetris.data.constant.GameConstants.FIELD_X_COUNT;
+import static tetris.data.constant.GameConstants.FIELD_Y_COUNT;
+import static tetris.data.constant.TetrominoGeometry.MINO_COUNT;
+import static tetris.data.constant.TetrominoGeometry.cellX;
+import static tetris.data.constant.TetrominoGeometry.cellY;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.swing.ImageIcon;
+
+import tetris.data.constant.SpinState;
+import tetris.data.constant.Tetromino;
+import tetris.data.dto.PlayField;
+import tetris.data.dto.TetrominoState;
+
+/**
+ * 필드의 블록을 Java2D 호출 없이 int[] 픽셀 버퍼(DataBufferInt)에 직접 쓰는 렌더러.
+ *
+ * 블록 스프라이트를 만들 때 한 번 칸 크기의 불투명 RGB 픽셀 배열로 풀어 두고(빈 칸 포함, 고스트는 빈 칸 위에 합성),
+ * 칸의 픽셀 줄마다 System.arraycopy로 복사함. 필드 한 장에 drawImage 호출이 하나도 없으므로
+ * 화면에는 완성된 이미지를 한 번만 그리면 되고, 여러 보드를 한 장의 공유 래스터에 그리는 관전 화면이나
+ * 헤드리스 프레임 저장({@link BoardWall})에도 그대로 쓸 수 있음.
+ * 만든 뒤에는 상태가 바뀌지 않으므로, 여러 스레드가 각자 다른 버퍼(또는 같은 버퍼의 다른 영역)에 동시에 그려도 됨.
+ */
+public final class RasterFieldRenderer {
+
+    // --- Instance Fields ---
+	private final int cellSize;      // 칸 하나의 픽셀 크기
+	private final int[][] blockTiles; // 블록 종류(ordinal)별 칸 픽셀 (cellSize * cellSize, 빈 칸 포함)
+	private final int[][] ghostTiles; // 블록 종류별 고스트 칸 픽셀 (빈 칸 위에 합성된 값)
+
+    // --- Constructor ---
+	/**
+	 * @param cellSize 칸 하나의 픽셀 크기
+	 * @param background 스프라이트의 투명한 부분을 채울 배경색
+	 */
+	public RasterFieldRenderer(int cellSize, Color background) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("cellSize must be > 0");
+		}
+		this.cellSize = cellSize;
+
+		ImageIcon[] icons = ImageLoader.getTetrominoImages();
+		BufferedImage[] ghosts = ImageLoader.getGhostImages();
+		int emptyIndex = Tetromino.EMPTY.ordinal();
+		Image empty = emptyIndex < icons.length && icons[emptyIndex] != null ? icons[emptyIndex].getImage() : null;
+
+		this.blockTiles = new int[icons.length][];
+		for (int i = 0; i < icons.length; i++) {
+			blockTiles[i] = decodeTile(background, icons[i] != null ? icons[i].getImage() : null, null);
+		}
+		this.ghostTiles = new int[ghosts.length][];
+		for (int i = 0; i < ghosts.length; i++) {
+			ghostTiles[i] = decodeTile(background, empty, ghosts[i]);
+		}
+	}
+
+    // --- Public Methods ---
+	/** 칸 하나의 픽셀 크기를 반환. */
+	public int getCellSize() { return cellSize; }
+
+	/** 필드(보이는 영역) 전체의 픽셀 폭을 반환. */
+	public int getFieldWidth() { return FIELD_X_COUNT * cellSize; }
+
+	/** 필드(보이는 영역) 전체의 픽셀 높이를 반환. */
+	public int getFieldHeight() { return FIELD_Y_COUNT * cellSize; }
+
+	/**
+	 * 필드의 보이는 줄 전체를 그림.
+	 * @param field 그릴 필드
+	 * @param pixels 대상 픽셀 버퍼 (TYPE_INT_RGB/ARGB 이미지의 데이터)
+	 * @param offset 필드 왼쪽 위 픽셀의 인덱스
+	 * @param stride 버퍼 한 줄의 픽셀 수 (이미지 폭)
+	 */
+	public void renderField(PlayField field, int[] pixels, int offset, int stride) {
+		for (int r = 0; r < FIELD_Y_COUNT; r++) {
+			renderRow(r, field.getColorRow(r + BUFFER_ZONE), pixels, offset, stride);
+		}
+	}
+
+	/**
+	 * 화면 기준 줄 번호(0~19)별로 묶인 줄 값 중, rowMask에 표시된 줄만 그림.
+	 * @param colorRows 보이는 줄들의 값 (PlayField.getColorRow 형식, 길이 FIELD_Y_COUNT)
+	 * @param rowMask 그릴 줄의 비트마스크 (비트 r = 화면 기준 r번째 줄)
+	 */
+	public void renderRows(int[] colorRows, int rowMask, int[] pixels, int offset, int stride) {
+		while (rowMask != 0) {
+			int r = Integer.numberOfTrailingZeros(rowMask);
+			rowMask &= rowMask - 1;
+			renderRow(r, colorRows[r], pixels, offset, stride);
+		}
+	}
+
+	/**
+	 * 화면 기준 r번째 줄 하나를 그림. 픽셀 줄 순서로 열마다 칸 한 줄씩 복사하므로 대상 버퍼를 순서대로 씀.
+	 * @param colorRow 줄 값 (PlayField.getColorRow 형식)
+	 */
+	public void renderRow(int r, int colorRow, int[] pixels, int offset, int stride) {
+		int base = offset + r * cellSize * stride;
+		for (int line = 0; line < cellSize; line++) {
+			int dst = base + line * stride;
+			int src = line * cellSize;
+			for (int x = 0; x < FIELD_X_COUNT; x++) {
+				int type = PlayField.cellOf(colorRow, x);
+				if (type < blockTiles.length) {
+					System.arraycopy(blockTiles[type], src, pixels, dst + x * cellSize, cellSize);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 현재 블록과 고스트를 그림 (버퍼 존은 제외). 고스트를 먼저 그리므로 겹치면 블록이 위에 보임.
+	 * @param packed 블록 상태 (TetrominoState 압축 형식)
+	 * @param ghostY 고스트의 y 좌표
+	 */
+	public void renderPiece(int packed, int ghostY, int[] pixels, int offset, int stride) {
+		Tetromino type = Tetromino.fromOrdinal(TetrominoState.unpackType(packed));
+		if (type == null || type == Tetromino.EMPTY) return;
+		SpinState rotation = SpinState.fromOrdinal(TetrominoState.unpackRotation(packed));
+		int x = TetrominoState.unpackX(packed);
+		if (type.ordinal() < ghostTiles.length) {
+			renderMinos(type, rotation, x, ghostY, ghostTiles[type.ordinal()], pixels, offset, stride);
+		}
+		renderMinos(type, rotation, x, TetrominoState.unpackY(packed), blockTiles[type.ordinal()], pixels, offset, stride);
+	}
+
+	/**
+	 * TYPE_INT_RGB/ARGB 이미지의 픽셀 배열을 반환.
+	 * 배열을 직접 꺼낸 이미지는 Java2D가 VRAM에 캐시하지 않으므로, 매 프레임 새로 쓰는 래스터에만 사용.
+	 */
+	public static int[] pixelsOf(BufferedImage image) {
+		if (!(image.getRaster().getDataBuffer() instanceof DataBufferInt)) {
+			throw new IllegalArgumentException("image must be backed by a DataBufferInt");
+		}
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+    // --- Private Methods ---
+	/** 미노 4칸에 같은 칸 픽셀을 복사. 필드 밖이나 버퍼 존의 칸은 건너뜀. */
+	private void renderMinos(Tetromino type, SpinState rotation, int offsetX, int offsetY, int[] tile,
+			int[] pixels, int offset, int stride) {
+		for (int i = 0; i < MINO_COUNT; i++) {
+			int x = cellX(type, rotation, i) + offsetX;
+			int y = cellY(type, rotation, i) + offsetY - BUFFER_ZONE;
+			if (x < 0 || x >= FIELD_X_COUNT || y < 0 || y >= FIELD_Y_COUNT) continue;
+			int dst = offset + y * cellSize * stride + x * cellSize;
+			for (int line = 0; line < cellSize; line++) {
+				System.arraycopy(tile, line * cellSize, pixels, dst + line * stride, cellSize);
+			}
+		}
+	}
+
+	/** 배경 위에 base와 overlay를 차례로 칸 크기로 그린 뒤 픽셀 배열로 풀어냄 (스프라이트는 기본 보간으로 확대). */
+	private int[] decodeTile(Color background, Image base, Image overlay) {
+		BufferedImage tile = new BufferedImage(cellSize, cellSize, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = tile.createGraphics();
+		g.setColor(background);
+		g.fillRect(0, 0, cellSize, cellSize);
+		if (base != null) {
+			g.drawImage(base, 0, 0, cellSize, cellSize, null);
+		}
+		if (overlay != null) {
+			g.drawImage(overlay, 0, 0, cellSize, cellSize, null);
+		}
+		g.dispose();
+		return tile.getRGB(0, 0, cellSize, cellSize, null, 0, cellSize);
+	}
+}
@@ -0,0 +1,123 @@
+package tetris.ui;
+
+import static tetris.data.constant.GameConstants.TETROMINO_PREVIEW_SIZE;
+import static tetris.data.constant.GameConstants.TETROMINO_SIZE;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+/**
+ * 블록 스프라이트를 화면 배율에 맞춰 미리 확대해 둔 아틀라스 이미지.
+ *
+ * 블록 크기(TETROMINO_SIZE, TETROMINO_PREVIEW_SIZE)마다 일반 블록 8종(빈 칸 포함)과 고스트 7종을
+ * 화면의 GraphicsConfiguration과 호환되는 이미지 한 장에 장치 픽셀 크기로 그려 둠.
+ * 호환 이미지는 Java2D가 가능하면 VRAM에 캐시(managed image)하므로, 그리기는 확대 없는 가속 복사가 됨.
+ * 배율(HiDPI)이나 색 모델이 다른 화면에서는 {@link #matches(GraphicsConfiguration, double)}가 false가 되므로
+ * 그리는 쪽에서 새 아틀라스를 받아야 함 (ImageLoader가 배율/색 모델별로 캐시).
+ */
+public final class SpriteAtlas {
+
+    // --- Constants ---
+	/** 아틀라스에 미리 만들어 두는 블록 크기 (사용자 공간 픽셀). */
+	private static final int[] TILE_SIZES = { TETROMINO_SIZE, TETROMINO_PREVIEW_SIZE };
+	private static final float GHOST_ALPHA = 0.3f; // 고스트 블록의 불투명도
+
+    // --- Instance Fields ---
+	private final ColorModel colorModel; // 만들 때 사용한 화면의 색 모델
+	private final double scale;          // 만들 때 사용한 화면 배율 (사용자 공간 1픽셀당 장치 픽셀 수)
+	private final BufferedImage image;   // 모든 스프라이트를 담은 호환 이미지
+	private final int blockCount;        // 일반 블록 종류 수 (빈 칸 포함)
+	private final int ghostCount;        // 고스트 블록 종류 수
+	private final int[] tileRowY = new int[TILE_SIZES.length];   // 크기별 일반 블록 줄의 y 좌표 (고스트는 바로 아래 줄)
+	private final int[] tilePixels = new int[TILE_SIZES.length]; // 크기별 스프라이트 한 칸의 장치 픽셀 크기
+
+    // --- Constructor ---
+	/**
+	 * @param config 스프라이트를 그릴 화면 설정
+	 * @param scale 화면 배율 (Graphics2D 변환의 배율, 일반 화면은 1.0)
+	 * @param blocks 원본 블록 이미지 (인덱스 = Tetromino ordinal, null이면 비워 둠)
+	 * @param ghostCount 고스트를 만들 블록 수 (앞에서부터)
+	 */
+	SpriteAtlas(GraphicsConfiguration config, double scale, Image[] blocks, int ghostCount) {
+		this.colorModel = config.getColorModel(Transparency.TRANSLUCENT);
+		this.scale = scale;
+		this.blockCount = blocks.length;
+		this.ghostCount = ghostCount;
+
+		int width = 0;
+		int height = 0;
+		for (int i = 0; i < TILE_SIZES.length; i++) {
+			tilePixels[i] = (int) Math.round(TILE_SIZES[i] * scale);
+			tileRowY[i] = height;
+			height += tilePixels[i] * 2;
+			width = Math.max(width, tilePixels[i] * Math.max(blockCount, ghostCount));
+		}
+		this.image = config.createCompatibleImage(Math.max(width, 1), Math.max(height, 1), Transparency.TRANSLUCENT);
+
+		// 원본은 작은 도트 이미지이므로 기본(최근접) 보간으로 한 번만 확대해 둠
+		Graphics2D g = image.createGraphics();
+		for (int s = 0; s < TILE_SIZES.length; s++) {
+			int px = tilePixels[s];
+			for (int i = 0; i < blockCount; i++) {
+				if (blocks[i] == null) continue;
+				g.setComposite(AlphaComposite.Src);
+				g.drawImage(blocks[i], i * px, tileRowY[s], px, px, null);
+				if (i < ghostCount) {
+					g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, GHOST_ALPHA));
+					g.drawImage(blocks[i], i * px, tileRowY[s] + px, px, px, null);
+				}
+			}
+		}
+		g.dispose();
+	}
+
+    // --- Public Methods ---
+	/** 이 아틀라스가 주어진 화면 설정과 배율에서 그대로 쓸 수 있는지 여부를 반환. */
+	public boolean matches(GraphicsConfiguration config, double scale) {
+		return this.scale == scale && colorModel.equals(config.getColorModel(Transparency.TRANSLUCENT));
+	}
+
+	/** 만들 때 사용한 화면 배율을 반환. */
+	public double getScale() { return scale; }
+
+	/**
+	 * 블록 하나를 (x, y)에 size 크기로 그림. 아틀라스에 미리 만들어 둔 크기만 사용할 수 있음.
+	 * @param type 블록 종류 (Tetromino ordinal, 빈 칸 포함)
+	 */
+	public void drawBlock(Graphics g, int type, int x, int y, int size) {
+		if (type < 0 || type >= blockCount) return;
+		int s = sizeIndex(size);
+		drawTile(g, type, tileRowY[s], tilePixels[s], x, y, size);
+	}
+
+	/**
+	 * 고스트 블록 하나를 (x, y)에 size 크기로 그림.
+	 * @param type 블록 종류 (Tetromino ordinal, 빈 칸 제외)
+	 */
+	public void drawGhost(Graphics g, int type, int x, int y, int size) {
+		if (type < 0 || type >= ghostCount) return;
+		int s = sizeIndex(size);
+		drawTile(g, type, tileRowY[s] + tilePixels[s], tilePixels[s], x, y, size);
+	}
+
+    // --- Private Methods ---
+	/** 아틀라스의 한 칸을 그대로 복사. 대상 Graphics의 배율이 아틀라스와 같으면 장치 픽셀 기준으로 확대가 없음. */
+	private void drawTile(Graphics g, int column, int rowY, int px, int x, int y, int size) {
+		int sx = column * px;
+		g.drawImage(image, x, y, x + size, y + size, sx, rowY, sx + px, rowY + px, null);
+	}
+
+	/** 블록 크기에 해당하는 아틀라스 줄 번호를 반환. */
+	private static int sizeIndex(int size) {
+		for (int i = 0; i < TILE_SIZES.length; i++) {
+			if (TILE_SIZES[i] == size) return i;
+		}
+		throw new IllegalArgumentException("no sprites of size " + size);
+	}
+}